@@ -0,0 +1,447 @@
+package de.tischner.nashfinder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+import de.tischner.nashfinder.game.util.PlayerAction;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.metrics.EPhase;
+import de.tischner.nashfinder.metrics.ESupportOutcome;
+import de.tischner.nashfinder.metrics.SolverMetrics;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.DenseLpSolver;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.solver.LpSolveSupportContext;
+import de.tischner.nashfinder.support.ConditionalDominancePruner;
+import de.tischner.nashfinder.support.InfeasibleSupportCache;
+import de.tischner.nashfinder.util.EExpectedUtilty;
+
+/**
+ * Solver for single support set constellations of a game with two players,
+ * as used by the searches of a {@link NashFinder} that enumerate
+ * constellations. It solves the LCP of a constellation with the selected
+ * solver backend, after skipping it if it can be pruned. Every worker thread
+ * has solvers of its own, which stay alive between computations.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class ConstellationSolver {
+
+	/**
+	 * Maximal amount of infeasible constellations that every worker thread
+	 * remembers per player, if the compact results are used.
+	 */
+	private static final int INFEASIBLE_SUPPORTS_CAPACITY = 64;
+
+	/**
+	 * Index of every action of the game, in the order the actions were added
+	 * to the game. It is used to build the bitmasks of support sets.
+	 */
+	private final Map<PlayerAction<String, String>, Integer> mActionIndices;
+	/**
+	 * Dense solver of every worker thread, used by the
+	 * {@link ESolverBackend#DENSE} backend.
+	 */
+	private final ThreadLocal<DenseLpSolver> mDenseSolvers;
+	/**
+	 * The game whose constellations to solve.
+	 */
+	private final StrategicGame<String, String> mGame;
+	/**
+	 * Infeasible constellations that every worker thread remembers, if the
+	 * compact results are used with the {@link ESolverBackend#DENSE} backend.
+	 */
+	private final ThreadLocal<InfeasibleSupportCache> mInfeasibleSupports;
+	/**
+	 * Context of every worker thread, used by the
+	 * {@link ESolverBackend#LP_SOLVE} backend. A context is configured once
+	 * and holds the model of the whole game.
+	 */
+	private final ThreadLocal<LpSolveSupportContext<String, String>> mLpSolveContexts;
+	/**
+	 * Metrics that the support enumeration records, {@link SolverMetrics#none()}
+	 * if no metrics are recorded.
+	 */
+	private SolverMetrics mMetrics;
+	/**
+	 * Pruner that discards support set constellations with conditionally
+	 * dominated actions or <tt>null</tt> if pruning is not used.
+	 */
+	private ConditionalDominancePruner mPruner;
+	/**
+	 * Backend to use for solving the LP of support set constellations.
+	 */
+	private ESolverBackend mSolverBackend;
+	/**
+	 * Whether infeasible constellations are remembered, such that
+	 * constellations that contain them are skipped.
+	 */
+	private boolean mUseInfeasibleSupports;
+
+	/**
+	 * Creates a new solver for the constellations of the given game. It must
+	 * be prepared before solving, see
+	 * {@link #prepare(ESolverBackend, SolverMetrics, boolean, boolean)}.
+	 * 
+	 * @param game
+	 *            The game whose constellations to solve
+	 */
+	public ConstellationSolver(final StrategicGame<String, String> game) {
+		this.mGame = game;
+		this.mActionIndices = new HashMap<>();
+		this.mMetrics = SolverMetrics.none();
+		this.mPruner = null;
+		this.mSolverBackend = ESolverBackend.LP_SOLVE;
+		this.mUseInfeasibleSupports = false;
+		this.mDenseSolvers = ThreadLocal.withInitial(DenseLpSolver::new);
+		this.mLpSolveContexts = ThreadLocal.withInitial(() -> new LpSolveSupportContext<>(this.mGame));
+		this.mInfeasibleSupports = ThreadLocal
+				.withInitial(() -> new InfeasibleSupportCache(INFEASIBLE_SUPPORTS_CAPACITY));
+	}
+
+	/**
+	 * Gets the pruner that skips constellations with conditionally dominated
+	 * actions.
+	 * 
+	 * @return The pruner or <tt>null</tt> if no constellation is skipped
+	 */
+	public ConditionalDominancePruner getPruner() {
+		return this.mPruner;
+	}
+
+	/**
+	 * Prepares solving the constellations of a computation. Indexes the
+	 * actions for building bitmasks of support sets and creates the pruner, if
+	 * used.
+	 * 
+	 * @param solverBackend
+	 *            The backend to solve the LPs of constellations with
+	 * @param metrics
+	 *            Metrics to record the solved constellations in
+	 * @param useDominancePruning
+	 *            Whether constellations with conditionally dominated actions
+	 *            should be skipped, which is only sound for the compact
+	 *            results
+	 * @param useInfeasibleSupports
+	 *            Whether infeasible constellations should be remembered, which
+	 *            is only sound for the compact results
+	 */
+	public void prepare(final ESolverBackend solverBackend, final SolverMetrics metrics,
+			final boolean useDominancePruning, final boolean useInfeasibleSupports) {
+		this.mSolverBackend = solverBackend;
+		this.mMetrics = metrics;
+		this.mUseInfeasibleSupports = useInfeasibleSupports;
+		indexActions();
+		if (useDominancePruning) {
+			createPruner();
+		} else {
+			this.mPruner = null;
+		}
+	}
+
+	/**
+	 * Solves the LCP of the game for a given support set constellation of the
+	 * support set enumeration. The bitmasks of the constellation are used
+	 * directly, without creating its support sets unless the <i>lp_solve</i>
+	 * backend needs them.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	public NashEquilibrium<String, String> solveConstellation(final CompactSupportSet[] constellation) {
+		final long firstPlayerMask = constellation[0].getBitmask();
+		final long secondPlayerMask = constellation[1].getBitmask();
+		this.mMetrics.startConstellation(constellation[0].size(), constellation[1].size());
+		if (this.mPruner != null && this.mPruner.isPrunable(firstPlayerMask, secondPlayerMask)) {
+			this.mMetrics.endConstellation(ESupportOutcome.PRUNED);
+			return null;
+		}
+		if (this.mSolverBackend == ESolverBackend.DENSE) {
+			final long startNanos = this.mMetrics.startPhase(EPhase.SUPPORT_GENERATION);
+			final List<String> firstPlayerActions = collectActions(this.mGame.getFirstPlayer(), firstPlayerMask);
+			final List<String> secondPlayerActions = collectActions(this.mGame.getSecondPlayer(), secondPlayerMask);
+			this.mMetrics.endPhase(EPhase.SUPPORT_GENERATION, startNanos);
+			return solveSupportSetsDense(firstPlayerActions, firstPlayerMask, secondPlayerActions,
+					secondPlayerMask);
+		}
+
+		final List<SupportSet<String, String>> supportSets = toSupportSets(constellation);
+		return this.mLpSolveContexts.get().solve(supportSets.get(0), supportSets.get(1), this.mMetrics);
+	}
+
+	/**
+	 * Solves the LCP of the game for a given support set constellation.
+	 * 
+	 * @param supportSets
+	 *            Support set constellation to solve the game for, the first
+	 *            set belongs to the first player and the second set to the
+	 *            second player
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	public NashEquilibrium<String, String> solveSupportSets(final List<SupportSet<String, String>> supportSets) {
+		// Solve the LCP for the given support sets
+		final SupportSet<String, String> firstPlayerSet = supportSets.get(0);
+		final SupportSet<String, String> secondPlayerSet = supportSets.get(1);
+		this.mMetrics.startConstellation(firstPlayerSet.size(), secondPlayerSet.size());
+		if (this.mPruner != null && this.mPruner.isPrunable(toBitmask(firstPlayerSet), toBitmask(secondPlayerSet))) {
+			this.mMetrics.endConstellation(ESupportOutcome.PRUNED);
+			return null;
+		}
+		if (this.mSolverBackend == ESolverBackend.DENSE) {
+			return solveSupportSetsDense(collectActions(firstPlayerSet), toBitmask(firstPlayerSet),
+					collectActions(secondPlayerSet), toBitmask(secondPlayerSet));
+		}
+
+		return this.mLpSolveContexts.get().solve(firstPlayerSet, secondPlayerSet, this.mMetrics);
+	}
+
+	/**
+	 * Creates the support sets of the given constellation in compact form.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @return The support sets of the constellation, in the order of the
+	 *         players
+	 */
+	public List<SupportSet<String, String>> toSupportSets(final CompactSupportSet[] constellation) {
+		final long startNanos = this.mMetrics.startPhase(EPhase.SUPPORT_GENERATION);
+		final List<SupportSet<String, String>> supportSets = new ArrayList<>(constellation.length);
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		for (final CompactSupportSet supportSet : constellation) {
+			final String player = playerIter.next();
+			supportSets.add(supportSet.toSupportSet(player, this.mGame.getPlayerActions(player)));
+		}
+		this.mMetrics.endPhase(EPhase.SUPPORT_GENERATION, startNanos);
+		return supportSets;
+	}
+
+	/**
+	 * Builds the payoffs of the best response system for the given player
+	 * constellation, as used by {@link DenseLpSolver}.
+	 * 
+	 * @param protagonist
+	 *            The protagonist player
+	 * @param protagonistActions
+	 *            Actions of the support set of the protagonist
+	 * @param antagonist
+	 *            The antagonist player
+	 * @param antagonistActions
+	 *            Actions of the support set of the antagonist
+	 * @param protagonistExpectedUtiltyVar
+	 *            Key of the expected utility of the protagonist, it determines
+	 *            the position of the protagonist in action profiles
+	 * @return The payoffs of the protagonist in row-major order, one row of
+	 *         antagonist responses per protagonist action
+	 */
+	private double[] buildBestResponsePayoffs(final String protagonist, final List<String> protagonistActions,
+			final String antagonist, final List<String> antagonistActions,
+			final EExpectedUtilty protagonistExpectedUtiltyVar) {
+		final int responseCount = antagonistActions.size();
+		final double[] payoffs = new double[protagonistActions.size() * responseCount];
+		for (int i = 0; i < protagonistActions.size(); i++) {
+			final String action = protagonistActions.get(i);
+			for (int j = 0; j < responseCount; j++) {
+				payoffs[i * responseCount + j] = getPayoffForConstellation(protagonist, action, antagonist,
+						antagonistActions.get(j), protagonistExpectedUtiltyVar);
+			}
+		}
+		return payoffs;
+	}
+
+	/**
+	 * Collects the actions of a given player whose bits are set in the given
+	 * bitmask into a list.
+	 * 
+	 * @param player
+	 *            Player to collect the actions of
+	 * @param bitmask
+	 *            Bitmask of the support set, where bit <tt>i</tt> stands for
+	 *            the action with index <tt>i</tt>
+	 * @return List of the actions of the support set, in the order they were
+	 *         added to the game
+	 */
+	private List<String> collectActions(final String player, final long bitmask) {
+		final List<String> actions = new ArrayList<>(Long.bitCount(bitmask));
+		int index = 0;
+		for (final String action : this.mGame.getPlayerActions(player)) {
+			if ((bitmask & 1L << index) != 0) {
+				actions.add(action);
+			}
+			index++;
+		}
+		return actions;
+	}
+
+	/**
+	 * Collects the actions of a given support set into a list.
+	 * 
+	 * @param supportSet
+	 *            Support set to collect the actions of
+	 * @return List of the actions of the support set, in their iteration
+	 *         order
+	 */
+	private List<String> collectActions(final SupportSet<String, String> supportSet) {
+		final List<String> actions = new ArrayList<>();
+		final Iterator<String> actionIter = supportSet.getActions();
+		while (actionIter.hasNext()) {
+			actions.add(actionIter.next());
+		}
+		return actions;
+	}
+
+	/**
+	 * Creates the pruner for the game.
+	 */
+	private void createPruner() {
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		final String firstPlayer = playerIter.next();
+		final String secondPlayer = playerIter.next();
+		this.mPruner = new ConditionalDominancePruner(this.mGame.getPayoffMatrix(firstPlayer),
+				this.mGame.getPayoffMatrix(secondPlayer));
+	}
+
+	/**
+	 * Gets the payoff of a protagonist if he plays a given action and the
+	 * antagonist the given response.
+	 * 
+	 * @param protagonist
+	 *            The protagonist player
+	 * @param action
+	 *            Action of the protagonist
+	 * @param antagonist
+	 *            The antagonist player
+	 * @param response
+	 *            Action of the antagonist
+	 * @param protagonistExpectedUtiltyVar
+	 *            Key of the expected utility of the protagonist, it determines
+	 *            the position of the protagonist in action profiles
+	 * @return The payoff of the protagonist
+	 */
+	private int getPayoffForConstellation(final String protagonist, final String action, final String antagonist,
+			final String response, final EExpectedUtilty protagonistExpectedUtiltyVar) {
+		// Action profiles are ordered like the players of the game
+		final int actionIndex = this.mGame.getActionIndex(protagonist, action);
+		final int responseIndex = this.mGame.getActionIndex(antagonist, response);
+		final int protagonistIndex = this.mGame.getPlayerIndex(protagonist);
+		if (protagonistExpectedUtiltyVar == EExpectedUtilty.FIRST_PLAYER) {
+			return this.mGame.getPayoff(protagonistIndex, actionIndex, responseIndex);
+		}
+		return this.mGame.getPayoff(protagonistIndex, responseIndex, actionIndex);
+	}
+
+	/**
+	 * Indexes the actions of all players for building bitmasks of their
+	 * support sets.
+	 */
+	private void indexActions() {
+		this.mActionIndices.clear();
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			final String player = playerIter.next();
+			int index = 0;
+			for (final String action : this.mGame.getPlayerActions(player)) {
+				this.mActionIndices.put(new PlayerAction<>(player, action), Integer.valueOf(index));
+				index++;
+			}
+		}
+	}
+
+	/**
+	 * Solves the best response systems of the given support set constellation
+	 * with the pure Java {@link DenseLpSolver}.
+	 * 
+	 * @param firstPlayerActions
+	 *            Actions of the support set of the first player
+	 * @param firstPlayerMask
+	 *            Bitmask of the support set of the first player
+	 * @param secondPlayerActions
+	 *            Actions of the support set of the second player
+	 * @param secondPlayerMask
+	 *            Bitmask of the support set of the second player
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	private NashEquilibrium<String, String> solveSupportSetsDense(final List<String> firstPlayerActions,
+			final long firstPlayerMask, final List<String> secondPlayerActions, final long secondPlayerMask) {
+		final DenseLpSolver solver = this.mDenseSolvers.get();
+		InfeasibleSupportCache infeasibleSupports = null;
+		if (this.mUseInfeasibleSupports) {
+			infeasibleSupports = this.mInfeasibleSupports.get();
+			if (infeasibleSupports.isInfeasible(firstPlayerMask, secondPlayerMask)) {
+				this.mMetrics.endConstellation(ESupportOutcome.PRUNED);
+				return null;
+			}
+		}
+		final String firstPlayer = this.mGame.getFirstPlayer();
+		final String secondPlayer = this.mGame.getSecondPlayer();
+
+		// Player 1 against Player 2
+		long startNanos = this.mMetrics.startPhase(EPhase.LP_BUILD);
+		final double[] firstPlayerPayoffs = buildBestResponsePayoffs(firstPlayer, firstPlayerActions, secondPlayer,
+				secondPlayerActions, EExpectedUtilty.FIRST_PLAYER);
+		this.mMetrics.endPhase(EPhase.LP_BUILD, startNanos);
+		startNanos = this.mMetrics.startPhase(EPhase.LP_SOLVE);
+		final double[] firstPlayerResult = solver.solveBestResponseSystem(firstPlayerPayoffs,
+				firstPlayerActions.size(), secondPlayerActions.size());
+		this.mMetrics.endPhase(EPhase.LP_SOLVE, startNanos);
+		if (firstPlayerResult == null) {
+			if (infeasibleSupports != null) {
+				infeasibleSupports.addInfeasible(0, firstPlayerMask, secondPlayerMask);
+			}
+			this.mMetrics.endConstellation(ESupportOutcome.INFEASIBLE);
+			return null;
+		}
+		// Player 2 against Player 1
+		startNanos = this.mMetrics.startPhase(EPhase.LP_BUILD);
+		final double[] secondPlayerPayoffs = buildBestResponsePayoffs(secondPlayer, secondPlayerActions,
+				firstPlayer, firstPlayerActions, EExpectedUtilty.SECOND_PLAYER);
+		this.mMetrics.endPhase(EPhase.LP_BUILD, startNanos);
+		startNanos = this.mMetrics.startPhase(EPhase.LP_SOLVE);
+		final double[] secondPlayerResult = solver.solveBestResponseSystem(secondPlayerPayoffs,
+				secondPlayerActions.size(), firstPlayerActions.size());
+		this.mMetrics.endPhase(EPhase.LP_SOLVE, startNanos);
+		if (secondPlayerResult == null) {
+			if (infeasibleSupports != null) {
+				infeasibleSupports.addInfeasible(1, secondPlayerMask, firstPlayerMask);
+			}
+			this.mMetrics.endConstellation(ESupportOutcome.INFEASIBLE);
+			return null;
+		}
+
+		startNanos = this.mMetrics.startPhase(EPhase.EXTRACTION);
+		final NashEquilibrium<String, String> equilibrium = NashEquilibrium.extractFromDenseResults(
+				firstPlayerResult, firstPlayerActions, secondPlayerResult, secondPlayerActions, this.mGame);
+		this.mMetrics.endPhase(EPhase.EXTRACTION, startNanos);
+		this.mMetrics.endConstellation(ESupportOutcome.SOLVED);
+		return equilibrium;
+	}
+
+	/**
+	 * Builds the bitmask of the given support set, where bit <tt>i</tt> stands
+	 * for the action with index <tt>i</tt>.
+	 * 
+	 * @param supportSet
+	 *            Support set to build the bitmask of
+	 * @return The bitmask of the support set
+	 */
+	private long toBitmask(final SupportSet<String, String> supportSet) {
+		final String player = supportSet.getPlayer();
+		long mask = 0L;
+		final Iterator<String> actionIter = supportSet.getActions();
+		while (actionIter.hasNext()) {
+			mask |= 1L << this.mActionIndices.get(new PlayerAction<>(player, actionIter.next())).intValue();
+		}
+		return mask;
+	}
+}
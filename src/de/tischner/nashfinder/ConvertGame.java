@@ -0,0 +1,61 @@
+package de.tischner.nashfinder;
+
+import java.io.File;
+import java.io.IOException;
+
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.util.BinaryGameFormat;
+
+/**
+ * Command line program that converts strategic games from json files into the
+ * compact binary format of {@link BinaryGameFormat}, which can be solved by
+ * {@link SolveGame} without parsing.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ConvertGame {
+
+	/**
+	 * Argument index of the binary game file to write.
+	 */
+	private static final int BINARY_FILE_ARG_INDEX = 1;
+	/**
+	 * Argument index of the json game file to convert.
+	 */
+	private static final int JSON_FILE_ARG_INDEX = 0;
+	/**
+	 * Length of arguments that are required.
+	 */
+	private static final int REQUIRED_ARG_LENGTH = 2;
+
+	/**
+	 * Starts the command line program for converting strategic games.
+	 * 
+	 * @param args
+	 *            The first argument is the game to convert, as path to a
+	 *            json-file. The second argument is the path to the binary
+	 *            game file to write.<br/>
+	 *            <br/>
+	 *            An example call would be:
+	 *            <tt>java ConvertGame matching-pennies.json
+	 *            matching-pennies.nfgb</tt>
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the binary game
+	 *             file
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args == null || args.length != REQUIRED_ARG_LENGTH) {
+			throw new IllegalArgumentException(ErrorMessages.CONVERT_GAME_WRONG_ARGUMENT_NUMBER);
+		}
+		BinaryGameFormat.convertJsonToBinary(new File(args[JSON_FILE_ARG_INDEX]),
+				new File(args[BINARY_FILE_ARG_INDEX]));
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ConvertGame() {
+
+	}
+}
@@ -0,0 +1,44 @@
+package de.tischner.nashfinder;
+
+/**
+ * Specifies the engines a {@link NashFinder} can use for finding nash
+ * equilibria.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum ESolvingEngine {
+	/**
+	 * Follows one path of the Lemke-Howson algorithm, which finds exactly one
+	 * nash equilibrium, see
+	 * {@link de.tischner.nashfinder.lemkehowson.LemkeHowsonSolver
+	 * LemkeHowsonSolver}.
+	 */
+	LEMKE_HOWSON,
+	/**
+	 * Follows the Lemke-Howson paths of all labels concurrently and chains
+	 * further paths from every equilibrium that was found, see
+	 * {@link de.tischner.nashfinder.lemkehowson.MultiStartLemkeHowsonSolver
+	 * MultiStartLemkeHowsonSolver}.
+	 */
+	LEMKE_HOWSON_MULTI_START,
+	/**
+	 * Checks support set constellations for nash equilibria in the order of
+	 * <i>Porter, Nudelman and Shoham</i>, balanced and small support sets
+	 * first, see
+	 * {@link de.tischner.nashfinder.support.PorterNudelmanShohamSearch
+	 * PorterNudelmanShohamSearch}.
+	 */
+	PORTER_NUDELMAN_SHOHAM,
+	/**
+	 * Only finds the pure nash equilibria, by one scan over the payoffs for
+	 * mutual best responses, see
+	 * {@link de.tischner.nashfinder.support.PureEquilibriumScanner
+	 * PureEquilibriumScanner}.
+	 */
+	PURE_EQUILIBRIUM_SCAN,
+	/**
+	 * Solves the LP of every support set constellation.
+	 */
+	SUPPORT_ENUMERATION
+}
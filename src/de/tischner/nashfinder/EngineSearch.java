@@ -0,0 +1,68 @@
+package de.tischner.nashfinder;
+
+import java.util.Collections;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.lemkehowson.LemkeHowsonSolver;
+import de.tischner.nashfinder.lemkehowson.MultiStartLemkeHowsonSolver;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.support.PorterNudelmanShohamSearch;
+import de.tischner.nashfinder.support.PureEquilibriumScanner;
+
+/**
+ * Search that finds nash equilibria with an engine that does not enumerate
+ * support sets, see {@link ESolvingEngine}. The equilibria are put into the
+ * results under their actual support sets. Engines that are able to stop
+ * early stop at the maximal amount of equilibria or the deadline of the nash
+ * finder.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class EngineSearch implements EquilibriumSearch {
+
+	/**
+	 * Nash finder to put the equilibria into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search with the engine of the given nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to put the equilibria into, its engine must not be
+	 *            {@link ESolvingEngine#SUPPORT_ENUMERATION}
+	 * @throws IllegalStateException
+	 *             If the game should be solved for specific support sets
+	 */
+	public EngineSearch(final NashFinder nashFinder) {
+		if (nashFinder.getSpecificSupportSets() != null) {
+			throw new IllegalStateException(ErrorMessages.ENGINE_SUPPORT_SETS_UNSUPPORTED);
+		}
+		this.mNashFinder = nashFinder;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		final StrategicGame<String, String> game = this.mNashFinder.getGame();
+		final ESolvingEngine engine = this.mNashFinder.getEngine();
+		if (engine == ESolvingEngine.LEMKE_HOWSON) {
+			this.mNashFinder.putEquilibria(Collections
+					.singletonList(new LemkeHowsonSolver<>(game).solve(this.mNashFinder.getInitialDroppedLabel())));
+		} else if (engine == ESolvingEngine.LEMKE_HOWSON_MULTI_START) {
+			this.mNashFinder.putEquilibria(new MultiStartLemkeHowsonSolver<>(game, this.mNashFinder.getParallelism())
+					.solve(this.mNashFinder.getMaxEquilibria(), this.mNashFinder.getDeadline()));
+		} else if (engine == ESolvingEngine.PORTER_NUDELMAN_SHOHAM) {
+			this.mNashFinder.putEquilibria(new PorterNudelmanShohamSearch<>(game)
+					.solve(this.mNashFinder.getMaxEquilibria(), this.mNashFinder.getDeadline()));
+		} else {
+			this.mNashFinder
+					.putEquilibria(new PureEquilibriumScanner<>(game).solve(this.mNashFinder.getMaxEquilibria()));
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package de.tischner.nashfinder;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+import de.tischner.nashfinder.nash.EquilibriumListener;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+
+/**
+ * Pipeline that streams the nash equilibria of all support set
+ * constellations of a {@link NashFinder} to an {@link EquilibriumListener}.
+ * It consists of three stages that are connected by bounded queues:
+ * <ol>
+ * <li>A generator thread that visits the constellations lazily.</li>
+ * <li>Solver workers that solve the constellations and only pass on the ones
+ * with a nash equilibrium.</li>
+ * <li>The sink on the calling thread that publishes found equilibria to the
+ * listener, see
+ * {@link NashFinder#publishResult(EquilibriumListener, CompactSupportSet[], NashEquilibrium)}.</li>
+ * </ol>
+ * A stage blocks if the queue to the next stage is full, such that a slow
+ * listener throttles the workers and the generator instead of letting
+ * constellations and results pile up. The memory of the pipeline thus stays
+ * bounded, no matter how many constellations there are. Equilibria are
+ * published in the order the workers find them.<br/>
+ * <br/>
+ * If the sink or the deadline requests a stop, the generator and the workers
+ * drain their queues without solving, such that all stages end. If the
+ * listener fails, the sink stops the other stages the same way and keeps
+ * taking results until all workers ended.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class EquilibriumPipeline {
+
+	/**
+	 * Capacity of the queues per worker.
+	 */
+	private static final int QUEUE_CAPACITY_PER_WORKER = 64;
+
+	/**
+	 * Queue of the constellations to solve, the empty array marks the end of
+	 * the constellations for one worker.
+	 */
+	private final BlockingQueue<CompactSupportSet[]> mConstellationQueue;
+	/**
+	 * Constellations to solve.
+	 */
+	private final SupportSetSpliterator mConstellations;
+	/**
+	 * The first failure of the generator, a worker or the listener, or
+	 * <tt>null</tt> if there is none.
+	 */
+	private final AtomicReference<RuntimeException> mFailure;
+	/**
+	 * Whether the stages should stop, set by the sink.
+	 */
+	private volatile boolean mIsStopped;
+	/**
+	 * Listener to publish found equilibria to.
+	 */
+	private final EquilibriumListener<String, String> mListener;
+	/**
+	 * Nash finder to solve the constellations with.
+	 */
+	private final NashFinder mNashFinder;
+	/**
+	 * Queue of the solved constellations with a nash equilibrium, an entry
+	 * without constellation marks the end of the results of one worker.
+	 */
+	private final BlockingQueue<Entry<CompactSupportSet[], NashEquilibrium<String, String>>> mResultQueue;
+	/**
+	 * Amount of solver workers.
+	 */
+	private final int mWorkerCount;
+
+	/**
+	 * Creates a new pipeline.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the constellations with
+	 * @param constellations
+	 *            Constellations to solve
+	 * @param listener
+	 *            Listener to publish found equilibria to
+	 * @param workerCount
+	 *            Amount of solver workers, at least <tt>1</tt>
+	 */
+	public EquilibriumPipeline(final NashFinder nashFinder, final SupportSetSpliterator constellations,
+			final EquilibriumListener<String, String> listener, final int workerCount) {
+		this.mNashFinder = nashFinder;
+		this.mConstellations = constellations;
+		this.mListener = listener;
+		this.mWorkerCount = workerCount;
+		this.mConstellationQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER * workerCount);
+		this.mResultQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER * workerCount);
+		this.mFailure = new AtomicReference<>();
+		this.mIsStopped = false;
+	}
+
+	/**
+	 * Runs the pipeline until all constellations are solved or a stop is
+	 * requested. The generator and the workers run on own threads, the sink
+	 * on the calling thread.
+	 * 
+	 * @throws RuntimeException
+	 *             The first failure of the generator, a worker or the
+	 *             listener, after all stages ended
+	 */
+	public void run() {
+		final ExecutorService executor = Executors.newFixedThreadPool(this.mWorkerCount + 1);
+		try {
+			executor.execute(this::generate);
+			for (int i = 0; i < this.mWorkerCount; i++) {
+				executor.execute(this::solve);
+			}
+			publish();
+		} finally {
+			executor.shutdown();
+		}
+
+		final RuntimeException failure = this.mFailure.get();
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Stage of the generator, which puts all constellations into the queue
+	 * of the workers, followed by one end mark per worker.
+	 */
+	private void generate() {
+		try {
+			final Iterator<CompactSupportSet[]> constellationIter = Spliterators.iterator(this.mConstellations);
+			while (constellationIter.hasNext() && !isStopRequested()) {
+				this.mConstellationQueue.put(constellationIter.next());
+			}
+		} catch (final RuntimeException e) {
+			stopWithFailure(e);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				for (int i = 0; i < this.mWorkerCount; i++) {
+					this.mConstellationQueue.put(new CompactSupportSet[0]);
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Whether the stages should stop, since the sink requested it, a stage
+	 * failed or the deadline expired.
+	 * 
+	 * @return <tt>True</tt> if the stages should stop, <tt>false</tt>
+	 *         otherwise
+	 */
+	private boolean isStopRequested() {
+		return this.mIsStopped || this.mNashFinder.isDeadlineExpired();
+	}
+
+	/**
+	 * Stage of the sink, which publishes the results of the workers until all
+	 * of them ended. After a stop, results are still taken but not published
+	 * anymore, such that no worker blocks forever. This also holds if the
+	 * listener fails, the failure is then rethrown by {@link #run()}.
+	 */
+	private void publish() {
+		boolean isInterrupted = false;
+		int endedWorkerCount = 0;
+		while (endedWorkerCount < this.mWorkerCount) {
+			final Entry<CompactSupportSet[], NashEquilibrium<String, String>> result;
+			try {
+				result = this.mResultQueue.take();
+			} catch (final InterruptedException e) {
+				// Stop publishing but still wait for the other stages
+				this.mIsStopped = true;
+				isInterrupted = true;
+				continue;
+			}
+			if (result.getKey() == null) {
+				endedWorkerCount++;
+				continue;
+			}
+			if (this.mIsStopped) {
+				continue;
+			}
+			try {
+				if (this.mNashFinder.publishResult(this.mListener, result.getKey(), result.getValue())) {
+					this.mIsStopped = true;
+				}
+			} catch (final RuntimeException e) {
+				// Keep draining, the workers would block forever otherwise
+				stopWithFailure(e);
+			}
+		}
+		if (isInterrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Stage of a worker, which solves constellations out of the queue of the
+	 * generator until it takes an end mark. Constellations with a nash
+	 * equilibrium are put into the queue of the sink, followed by an end
+	 * mark.
+	 */
+	private void solve() {
+		try {
+			while (true) {
+				final CompactSupportSet[] constellation = this.mConstellationQueue.take();
+				if (constellation.length == 0) {
+					break;
+				}
+				if (isStopRequested() || this.mNashFinder.isMirroredConstellation(constellation)) {
+					continue;
+				}
+				try {
+					final NashEquilibrium<String, String> result = this.mNashFinder.solveConstellation(constellation);
+					if (result != null) {
+						this.mResultQueue.put(new SimpleImmutableEntry<>(constellation, result));
+					}
+				} catch (final RuntimeException e) {
+					stopWithFailure(e);
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				this.mResultQueue.put(new SimpleImmutableEntry<>(null, null));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Stops all stages because of the given failure. Only the first failure
+	 * is kept.
+	 * 
+	 * @param failure
+	 *            The failure of a stage
+	 */
+	private void stopWithFailure(final RuntimeException failure) {
+		this.mFailure.compareAndSet(null, failure);
+		this.mIsStopped = true;
+	}
+}
@@ -0,0 +1,20 @@
+package de.tischner.nashfinder;
+
+/**
+ * Search for the nash equilibria of the game of a {@link NashFinder}, which
+ * puts the equilibria it finds into the results of the nash finder. A search
+ * checks the settings of the nash finder that it does not support when it is
+ * created. The search of a computation is chosen by {@link SearchSelector}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+interface EquilibriumSearch {
+
+	/**
+	 * Searches the nash equilibria of the game and puts them into the results
+	 * of the nash finder. The search stops early if the time budget of the
+	 * nash finder runs out or the maximal amount of equilibria is reached.
+	 */
+	void search();
+}
@@ -0,0 +1,91 @@
+package de.tischner.nashfinder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.support.GrayCodeSupportEnumeration;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * Search that enumerates the support set constellations of the game in
+ * Gray-code order with warm-started solvers, see
+ * {@link GrayCodeSupportEnumeration}. With more than one worker thread, every
+ * worker solves a contiguous range of the Gray code. The results are put in
+ * the order of {@link SupportSetSpliterator}, like for the
+ * {@link SequentialEnumerationSearch}. Constellations of symmetric games are
+ * not mirrored.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class GrayCodeEnumerationSearch implements EquilibriumSearch {
+
+	/**
+	 * Full range of constellations, used for putting the results in order.
+	 */
+	private final SupportSetSpliterator mConstellations;
+	/**
+	 * Nash finder to put the results into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search over the constellations of the game of the given
+	 * nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to put the results into, it must not search
+	 *            only symmetric equilibria
+	 */
+	public GrayCodeEnumerationSearch(final NashFinder nashFinder) {
+		this.mNashFinder = nashFinder;
+		this.mConstellations = nashFinder.createSupportSetSpliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.prepareSolving(false);
+		final GrayCodeSupportEnumeration<String, String> enumeration = new GrayCodeSupportEnumeration<>(
+				this.mNashFinder.getGame(), this.mNashFinder.getPruner(), this.mNashFinder.getMetrics());
+		final long constellationCount = enumeration.getConstellationCount();
+		final Deadline deadline = this.mNashFinder.getDeadline();
+		final int parallelism = this.mNashFinder.getParallelism();
+
+		final Map<Long, NashEquilibrium<String, String>> equilibria = new HashMap<>();
+		if (parallelism <= 1) {
+			equilibria.putAll(enumeration.solve(0, constellationCount, deadline));
+		} else {
+			// Every worker solves a contiguous range of the Gray code, such that
+			// its solvers stay warm
+			final List<ForkJoinTask<Map<Long, NashEquilibrium<String, String>>>> tasks = new ArrayList<>();
+			final long rangeSize = (constellationCount + parallelism - 1) / parallelism;
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				for (long fromIndex = 0; fromIndex < constellationCount; fromIndex += rangeSize) {
+					final long rangeStart = fromIndex;
+					final long rangeEnd = Math.min(constellationCount, fromIndex + rangeSize);
+					tasks.add(pool.submit(() -> enumeration.solve(rangeStart, rangeEnd, deadline)));
+				}
+				for (final ForkJoinTask<Map<Long, NashEquilibrium<String, String>>> task : tasks) {
+					equilibria.putAll(task.join());
+				}
+			} finally {
+				pool.shutdown();
+			}
+		}
+
+		this.mNashFinder.setFoundCount(equilibria.size());
+		this.mNashFinder.putResultsInOrder(this.mConstellations, equilibria);
+	}
+}
@@ -0,0 +1,44 @@
+package de.tischner.nashfinder;
+
+import java.util.Collections;
+
+import de.tischner.nashfinder.constantsum.MinimaxSolver;
+
+/**
+ * Search that solves a constant-sum game with two players directly, by one
+ * minimax LP per player of the {@link MinimaxSolver}. It finds one nash
+ * equilibrium in polynomial time, which is put into the results under its
+ * actual support sets.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class MinimaxSearch implements EquilibriumSearch {
+
+	/**
+	 * Nash finder to put the equilibrium into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search for the game of the given nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to put the equilibrium into, its game must be a
+	 *            constant-sum game with two players
+	 */
+	public MinimaxSearch(final NashFinder nashFinder) {
+		this.mNashFinder = nashFinder;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.putEquilibria(
+				Collections.singletonList(new MinimaxSolver<>(this.mNashFinder.getGame()).solve()));
+	}
+}
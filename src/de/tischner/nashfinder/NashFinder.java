@@ -1,33 +1,41 @@
 package de.tischner.nashfinder;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.stream.LongStream;
 
+import de.tischner.nashfinder.constantsum.MinimaxSolver;
 import de.tischner.nashfinder.game.StrategicGame;
-import de.tischner.nashfinder.game.util.ActionProfile;
-import de.tischner.nashfinder.game.util.PlayerAction;
+import de.tischner.nashfinder.game.util.CompactSupportSet;
 import de.tischner.nashfinder.game.util.SupportSet;
 import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.metrics.EnumerationEvent;
+import de.tischner.nashfinder.metrics.SolverMetrics;
+import de.tischner.nashfinder.nash.EpsilonEvaluator;
+import de.tischner.nashfinder.nash.EquilibriumListener;
+import de.tischner.nashfinder.nash.EquilibriumStore;
 import de.tischner.nashfinder.nash.NashEquilibrium;
-import de.tischner.nashfinder.util.EExpectedUtilty;
-import de.tischner.nashfinder.util.SetUtil;
+import de.tischner.nashfinder.nash.NashStrategy;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.support.ConditionalDominancePruner;
+import de.tischner.nashfinder.support.InfeasibleSupportCache;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+import de.tischner.nashfinder.util.Deadline;
+import de.tischner.nashfinder.util.MathUtil;
 import de.tischner.nashfinder.util.StrategicGameParser;
 import de.tischner.nashfinder.util.SupportSetParser;
-import net.sf.javailp.Linear;
-import net.sf.javailp.OptType;
-import net.sf.javailp.Problem;
-import net.sf.javailp.Result;
-import net.sf.javailp.Solver;
-import net.sf.javailp.SolverFactory;
-import net.sf.javailp.SolverFactoryLpSolve;
 
 /**
- * Class that finds nash equilibria in games.
+ * Class that finds nash equilibria in games. The search that computes the
+ * equilibria is selected by the settings, see {@link SearchSelector}.
  * 
  * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
  *
@@ -35,18 +43,102 @@ import net.sf.javailp.SolverFactoryLpSolve;
 public final class NashFinder {
 
 	/**
-	 * The timeout for LCP solving in milliseconds.
+	 * Maximal difference of two probabilities or expected utilities of
+	 * equilibria that are considered equal in the compact results. It covers
+	 * one step of the precision that equilibria are rounded to, such that
+	 * values that are rounded apart are still considered equal.
 	 */
-	private static final int TIMEOUT_MILLIS = 1000;
+	private static final double COMPACT_RESULTS_TOLERANCE = 0.015;
 	/**
-	 * If solving the LCP should output detailed information or not.
+	 * Decimal scale that the epsilon of the best candidate is rounded to when
+	 * printed.
 	 */
-	private static final int VERBOSE_VALUE = 0;
+	private static final int EPSILON_DECIMAL_SCALE = 4;
 
+	/**
+	 * The strategy profile with the smallest epsilon of all results, if a time
+	 * budget is used, or <tt>null</tt> if there is none.
+	 */
+	private NashEquilibrium<String, String> mBestCandidate;
+	/**
+	 * The epsilon of the best candidate, {@link Double#NaN} if there is none.
+	 */
+	private double mBestCandidateEpsilon;
+	/**
+	 * Distinct equilibria, after {@link #computeNashEquilibria()} was called,
+	 * if the compact results are used. It is created on first use, since it is
+	 * limited to games with few actions per player, <tt>null</tt> before.
+	 */
+	private EquilibriumStore<String, String> mCompactResults;
+	/**
+	 * Solver for single support set constellations of the game, used by the
+	 * searches that enumerate constellations.
+	 */
+	private final ConstellationSolver mConstellationSolver;
+	/**
+	 * Deadline of the current computation, derived from the time budget by
+	 * {@link #computeNashEquilibria()}.
+	 */
+	private Deadline mDeadline;
+	/**
+	 * Engine to use for finding nash equilibria.
+	 */
+	private ESolvingEngine mEngine;
+	/**
+	 * Evaluator for the epsilon of results, if a time budget is used, or
+	 * <tt>null</tt> otherwise.
+	 */
+	private EpsilonEvaluator<String, String> mEpsilonEvaluator;
+	/**
+	 * Amount of equilibria that the support enumeration found in the current
+	 * computation.
+	 */
+	private int mFoundCount;
 	/**
 	 * Game to solve.
 	 */
 	private final StrategicGame<String, String> mGame;
+	/**
+	 * The label that the {@link ESolvingEngine#LEMKE_HOWSON} engine drops
+	 * initially.
+	 */
+	private int mInitialDroppedLabel;
+	/**
+	 * Whether the engine was selected by {@link #setEngine(ESolvingEngine)}
+	 * instead of left at its default.
+	 */
+	private boolean mIsEngineSelected;
+	/**
+	 * Whether the game is symmetric and constellations are mirrored, such
+	 * that only canonical constellations are solved and the results of their
+	 * mirrors are rebuilt from them. It is determined by
+	 * {@link #computeNashEquilibria()}.
+	 */
+	private boolean mIsMirroringConstellations;
+	/**
+	 * Whether the time budget ran out during the last computation.
+	 */
+	private boolean mIsTimeBudgetExceeded;
+	/**
+	 * Maximal amount of distinct equilibria to find, for engines that are able
+	 * to stop early.
+	 */
+	private int mMaxEquilibria;
+	/**
+	 * Metrics that the support enumeration records, {@link SolverMetrics#none()}
+	 * if no metrics are recorded.
+	 */
+	private SolverMetrics mMetrics;
+	/**
+	 * The amount of worker threads to use for solving the support set
+	 * constellations. A value of <tt>1</tt> solves them sequentially on the
+	 * calling thread.
+	 */
+	private int mParallelism;
+	/**
+	 * Backend to use for solving the LP of support set constellations.
+	 */
+	private ESolverBackend mSolverBackend;
 	/**
 	 * Results, after {@link #computeNashEquilibria()} was called.
 	 */
@@ -55,10 +147,46 @@ public final class NashFinder {
 	 * Specific support sets to solve the game for.
 	 */
 	private final List<SupportSet<String, String>> mSpecificSupportSets;
+	/**
+	 * Time budget of a computation in milliseconds, {@link Long#MAX_VALUE} for
+	 * no budget.
+	 */
+	private long mTimeBudget;
+	/**
+	 * If the results should only consist of the distinct equilibria, under
+	 * their actual support sets.
+	 */
+	private boolean mUseCompactResults;
+	/**
+	 * If constant-sum games should be solved directly by their minimax LP or
+	 * <tt>null</tt> if it was not set, see
+	 * {@link #isUsingConstantSumSolver()}.
+	 */
+	private Boolean mUseConstantSumSolver;
+	/**
+	 * If support set constellations with conditionally dominated actions
+	 * should be pruned before they are solved.
+	 */
+	private boolean mUseDominancePruning;
+	/**
+	 * If the game should be reduced by iterated elimination of strictly
+	 * dominated actions before it is solved.
+	 */
+	private boolean mUseDominanceReduction;
+	/**
+	 * If support set constellations should be enumerated in Gray-code order
+	 * with warm-started solvers.
+	 */
+	private boolean mUseGrayCodeOrder;
 	/**
 	 * If the game should be solved for specific given support sets.
 	 */
 	private final boolean mUseSpecificSupportSets;
+	/**
+	 * If only symmetric nash equilibria of a symmetric game should be
+	 * searched, where both players use the same support set.
+	 */
+	private boolean mUseSymmetricEquilibriaOnly;
 
 	/**
 	 * Creates a new NashFinder that is able to solve the given game. After
@@ -66,7 +194,8 @@ public final class NashFinder {
 	 * for example by {@link #printResults()}.
 	 * 
 	 * @param gamePath
-	 *            Path to the game file in the json-format
+	 *            Path to the game file in the json-format or the binary
+	 *            format
 	 */
 	public NashFinder(final String gamePath) {
 		this(gamePath, null);
@@ -78,7 +207,8 @@ public final class NashFinder {
 	 * then get the results, for example by {@link #printResults()}.
 	 * 
 	 * @param gameFileName
-	 *            Path to the game file in the json-format.
+	 *            Path to the game file in the json-format or the binary
+	 *            format.
 	 * @param specificSupportSets
 	 *            Specific support sets to solve the game for. The format is
 	 *            <tt>[H,T][T]</tt>, where every player has the given actions.
@@ -86,8 +216,24 @@ public final class NashFinder {
 	 *            whereas player 2 only has action <tt>T</tt>.
 	 */
 	public NashFinder(final String gameFileName, final String specificSupportSets) {
+		this(StrategicGameParser.parseStrategicGame(gameFileName), specificSupportSets);
+	}
+
+	/**
+	 * Creates a new NashFinder that is able to solve the given game for given
+	 * support sets. After creation, use {@link #computeNashEquilibria()} and
+	 * then get the results, for example by {@link #printResults()}.
+	 * 
+	 * @param game
+	 *            Game to solve
+	 * @param specificSupportSets
+	 *            Specific support sets to solve the game for, in the format
+	 *            <tt>[H,T][T]</tt>, or <tt>null</tt> to solve the game for all
+	 *            support sets
+	 */
+	public NashFinder(final StrategicGame<String, String> game, final String specificSupportSets) {
 		this.mUseSpecificSupportSets = specificSupportSets != null && specificSupportSets.length() != 0;
-		this.mGame = StrategicGameParser.parseStrategicGameJson(gameFileName);
+		this.mGame = game;
 
 		if (this.mUseSpecificSupportSets) {
 			this.mSpecificSupportSets = SupportSetParser.parseSupportSets(specificSupportSets, this.mGame.getPlayers());
@@ -96,40 +242,223 @@ public final class NashFinder {
 		}
 
 		this.mResults = new LinkedHashMap<>();
+		this.mParallelism = 1;
+		this.mSolverBackend = ESolverBackend.LP_SOLVE;
+		this.mEngine = ESolvingEngine.SUPPORT_ENUMERATION;
+		this.mInitialDroppedLabel = 0;
+		this.mIsEngineSelected = false;
+		this.mMaxEquilibria = Integer.MAX_VALUE;
+		this.mMetrics = SolverMetrics.none();
+		this.mTimeBudget = Long.MAX_VALUE;
+		this.mDeadline = Deadline.none();
+		this.mFoundCount = 0;
+		this.mBestCandidate = null;
+		this.mBestCandidateEpsilon = Double.NaN;
+		this.mEpsilonEvaluator = null;
+		this.mIsTimeBudgetExceeded = false;
+		this.mUseCompactResults = false;
+		this.mUseConstantSumSolver = null;
+		this.mUseDominancePruning = false;
+		this.mUseDominanceReduction = false;
+		this.mUseGrayCodeOrder = false;
+		this.mUseSymmetricEquilibriaOnly = false;
+		this.mIsMirroringConstellations = false;
+		this.mCompactResults = null;
+		this.mConstellationSolver = new ConstellationSolver(this.mGame);
 	}
 
 	/**
 	 * Computes nash equilibria of the given game. Results can be get, for
-	 * example, with {@link #printResults()}.
+	 * example, with {@link #printResults()}. If the time budget runs out or
+	 * the maximal amount of equilibria is reached, the computation stops early
+	 * and the results only consist of the equilibria that were found so far,
+	 * see {@link #isTimeBudgetExceeded()} and {@link #getBestCandidate()}. The
+	 * computation is recorded as {@link EnumerationEvent} by the <i>JDK Flight
+	 * Recorder</i>.
 	 */
 	public void computeNashEquilibria() {
-		final List<List<SupportSet<String, String>>> supportSetsToProcess = buildSupportSets();
-		for (final List<SupportSet<String, String>> supportSets : supportSetsToProcess) {
-			// Solve the LCP for the given support sets
-			final SupportSet<String, String> firstPlayerSet = supportSets.get(0);
-			final SupportSet<String, String> secondPlayerSet = supportSets.get(1);
+		final EnumerationEvent event = beginComputation();
+
+		SearchSelector.select(this).search();
+
+		this.mIsTimeBudgetExceeded = this.mDeadline.isExpired();
+		if (isStopRequested()) {
+			// Constellations that were not solved are not reported
+			this.mResults.values().removeIf(Objects::isNull);
+		}
+		commitEnumerationEvent(event, this::countResults);
+	}
+
+	/**
+	 * Gets the strategy profile with the smallest epsilon of all results of
+	 * the last computation, which is an <i>epsilon-equilibrium</i>. No player
+	 * can gain more than epsilon by deviating from it. It is only tracked if a
+	 * time budget is used, such that a stopped computation still yields the
+	 * best approximation it has seen.
+	 * 
+	 * @return The best candidate or <tt>null</tt> if there is none
+	 */
+	public NashEquilibrium<String, String> getBestCandidate() {
+		return this.mBestCandidate;
+	}
+
+	/**
+	 * Gets the epsilon of the best candidate, see {@link #getBestCandidate()}.
+	 * 
+	 * @return The largest gain a player gets by deviating from the best
+	 *         candidate or {@link Double#NaN} if there is no candidate
+	 */
+	public double getBestCandidateEpsilon() {
+		return this.mBestCandidateEpsilon;
+	}
+
+	/**
+	 * Gets the engine that is used for finding nash equilibria.
+	 * 
+	 * @return The engine that is used
+	 */
+	public ESolvingEngine getEngine() {
+		return this.mEngine;
+	}
+
+	/**
+	 * Gets the label that the {@link ESolvingEngine#LEMKE_HOWSON} engine drops
+	 * initially.
+	 * 
+	 * @return The label that is dropped initially
+	 */
+	public int getInitialDroppedLabel() {
+		return this.mInitialDroppedLabel;
+	}
+
+	/**
+	 * Gets the maximal amount of distinct equilibria to find, for engines that
+	 * are able to stop early.
+	 * 
+	 * @return The maximal amount of distinct equilibria to find
+	 */
+	public int getMaxEquilibria() {
+		return this.mMaxEquilibria;
+	}
 
-			final SolverFactory factory = new SolverFactoryLpSolve();
-			factory.setParameter(Integer.valueOf(Solver.VERBOSE), Integer.valueOf(VERBOSE_VALUE));
-			factory.setParameter(Integer.valueOf(Solver.TIMEOUT), Integer.valueOf(TIMEOUT_MILLIS));
-			final Problem problem = new Problem();
-			final Linear linear = new Linear();
-			linear.add(Integer.valueOf(1), EExpectedUtilty.FIRST_PLAYER);
-			linear.add(Integer.valueOf(1), EExpectedUtilty.SECOND_PLAYER);
-			problem.setObjective(linear, OptType.MAX);
-			problem.setVarType(EExpectedUtilty.FIRST_PLAYER, Double.class);
-			problem.setVarType(EExpectedUtilty.SECOND_PLAYER, Double.class);
+	/**
+	 * Gets the metrics that the support enumeration records.
+	 * 
+	 * @return The recorded metrics, {@link SolverMetrics#none()} if no metrics
+	 *         are recorded
+	 */
+	public SolverMetrics getMetrics() {
+		return this.mMetrics;
+	}
 
-			// Player 1 against Player 2
-			addConstraintsForConstellation(problem, firstPlayerSet, secondPlayerSet, EExpectedUtilty.FIRST_PLAYER);
-			// Player 2 against Player 1
-			addConstraintsForConstellation(problem, secondPlayerSet, firstPlayerSet, EExpectedUtilty.SECOND_PLAYER);
+	/**
+	 * Gets the amount of worker threads that are used for solving the support
+	 * set constellations.
+	 * 
+	 * @return The amount of worker threads, <tt>1</tt> means sequential
+	 *         solving on the calling thread
+	 */
+	public int getParallelism() {
+		return this.mParallelism;
+	}
 
-			final Solver solver = factory.get();
-			final Result result = solver.solve(problem);
+	/**
+	 * Gets the backend that is used for solving the LP of support set
+	 * constellations.
+	 * 
+	 * @return The backend that is used for solving
+	 */
+	public ESolverBackend getSolverBackend() {
+		return this.mSolverBackend;
+	}
+
+	/**
+	 * Gets the time budget of a computation.
+	 * 
+	 * @return The time budget in milliseconds, {@link Long#MAX_VALUE} if there
+	 *         is none
+	 */
+	public long getTimeBudget() {
+		return this.mTimeBudget;
+	}
+
+	/**
+	 * Whether the time budget ran out during the last computation, which then
+	 * stopped early.
+	 * 
+	 * @return <tt>True</tt> if the time budget ran out, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isTimeBudgetExceeded() {
+		return this.mIsTimeBudgetExceeded;
+	}
+
+	/**
+	 * Whether the results only consist of the distinct equilibria, under their
+	 * actual support sets.
+	 * 
+	 * @return <tt>True</tt> if the compact results are used, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isUsingCompactResults() {
+		return this.mUseCompactResults;
+	}
 
-			this.mResults.put(supportSets, NashEquilibrium.extractFromLcpResults(result, this.mGame));
+	/**
+	 * Whether constant-sum games are solved directly by their minimax LP. If
+	 * it was not set by {@link #setUseConstantSumSolver(boolean)}, this is
+	 * only the case if neither the engine nor the maximal amount of
+	 * equilibria were set, since the minimax LP finds only one equilibrium.
+	 * 
+	 * @return <tt>True</tt> if constant-sum games are solved directly,
+	 *         <tt>false</tt> otherwise
+	 */
+	public boolean isUsingConstantSumSolver() {
+		if (this.mUseConstantSumSolver != null) {
+			return this.mUseConstantSumSolver.booleanValue();
 		}
+		return !this.mIsEngineSelected && this.mMaxEquilibria == Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Whether support set constellations with conditionally dominated actions
+	 * are pruned before they are solved.
+	 * 
+	 * @return <tt>True</tt> if pruning is used, <tt>false</tt> otherwise
+	 */
+	public boolean isUsingDominancePruning() {
+		return this.mUseDominancePruning;
+	}
+
+	/**
+	 * Whether the game is reduced by iterated elimination of strictly
+	 * dominated actions before it is solved.
+	 * 
+	 * @return <tt>True</tt> if the reduction is used, <tt>false</tt> otherwise
+	 */
+	public boolean isUsingDominanceReduction() {
+		return this.mUseDominanceReduction;
+	}
+
+	/**
+	 * Whether support set constellations are enumerated in Gray-code order
+	 * with warm-started solvers.
+	 * 
+	 * @return <tt>True</tt> if the Gray-code order is used, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isUsingGrayCodeOrder() {
+		return this.mUseGrayCodeOrder;
+	}
+
+	/**
+	 * Whether only symmetric nash equilibria of a symmetric game are searched.
+	 * 
+	 * @return <tt>True</tt> if only symmetric equilibria are searched,
+	 *         <tt>false</tt> otherwise
+	 */
+	public boolean isUsingSymmetricEquilibriaOnly() {
+		return this.mUseSymmetricEquilibriaOnly;
 	}
 
 	/**
@@ -140,147 +469,971 @@ public final class NashFinder {
 		System.out.println(this);
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Publishes the nash equilibria in the results of the game to the given
+	 * listener, in the order of the results. Results are obtained by using
+	 * {@link #computeNashEquilibria()} prior to this method, nothing is
+	 * published before. The listener is not completed.
 	 * 
-	 * @see java.lang.Object#toString()
+	 * @param listener
+	 *            Listener to publish to
 	 */
-	@Override
-	public String toString() {
-		final StringBuilder result = new StringBuilder();
-		final String lineSeparator = System.lineSeparator();
-
-		boolean isFirstEntry = true;
+	public void publishResults(final EquilibriumListener<String, String> listener) {
+		if (this.mUseCompactResults && !this.mUseSpecificSupportSets) {
+			if (this.mCompactResults == null) {
+				return;
+			}
+			for (final NashEquilibrium<String, String> equilibrium : this.mCompactResults.getEquilibria()) {
+				listener.onEquilibrium(extractSupportSets(equilibrium), equilibrium);
+			}
+			return;
+		}
 		for (final Entry<List<SupportSet<String, String>>, NashEquilibrium<String, String>> entry : this.mResults
 				.entrySet()) {
-			if (isFirstEntry) {
-				isFirstEntry = false;
-			} else {
-				result.append(lineSeparator);
+			if (entry.getValue() != null) {
+				listener.onEquilibrium(entry.getKey(), entry.getValue());
 			}
-			result.append(entry.getKey() + lineSeparator);
-			result.append(entry.getValue());
 		}
+	}
 
-		return result.toString();
+	/**
+	 * Sets the engine to use for finding nash equilibria. Engines that do not
+	 * enumerate support sets report every equilibrium under its actual
+	 * support sets.
+	 * 
+	 * @param engine
+	 *            The engine to use
+	 */
+	public void setEngine(final ESolvingEngine engine) {
+		this.mEngine = engine;
+		this.mIsEngineSelected = true;
 	}
 
 	/**
-	 * Adds the constraints for the given player constellation to the given LCP,
-	 * for finding nash equilibria.
-	 * 
-	 * @param problem
-	 *            Problem to add constraints to
-	 * @param protagonistSet
-	 *            Support set of the protagonist player
-	 * @param antagonistSet
-	 *            Support set of the antagonist player
-	 * @param protagonistExpectedUtiltyVar
-	 *            Key to save the expected utility of the protagonist with
-	 */
-	private void addConstraintsForConstellation(final Problem problem, final SupportSet<String, String> protagonistSet,
-			final SupportSet<String, String> antagonistSet, final EExpectedUtilty protagonistExpectedUtiltyVar) {
-		final String protagonist = protagonistSet.getPlayer();
-
-		// Best response constraints
-		final Iterator<String> responseIter = antagonistSet.getActions();
-		while (responseIter.hasNext()) {
-			final String response = responseIter.next();
-			final Linear linear = new Linear();
-			final Iterator<String> actionIter = protagonistSet.getActions();
-			while (actionIter.hasNext()) {
-				final String action = actionIter.next();
-				final ActionProfile<String> profile = new ActionProfile<>();
-				profile.addAction(action);
-				profile.addAction(response);
-				final int payoff = this.mGame.getPayoffForPlayer(profile, protagonist);
-
-				linear.add(Integer.valueOf(payoff), new PlayerAction<>(protagonist, action));
-			}
-			linear.add(Integer.valueOf(-1), protagonistExpectedUtiltyVar);
-			problem.add(linear, ">=", Integer.valueOf(0));
+	 * Sets the label that the {@link ESolvingEngine#LEMKE_HOWSON} engine drops
+	 * initially. Labels <tt>0</tt> to <tt>m-1</tt> belong to the actions of
+	 * the first player, the following <tt>n</tt> labels to the actions of the
+	 * second player. Different labels may lead to different equilibria.
+	 * 
+	 * @param initialDroppedLabel
+	 *            The label to drop initially
+	 */
+	public void setInitialDroppedLabel(final int initialDroppedLabel) {
+		this.mInitialDroppedLabel = initialDroppedLabel;
+	}
+
+	/**
+	 * Sets the maximal amount of distinct equilibria to find. Engines that are
+	 * able to stop early, like
+	 * {@link ESolvingEngine#LEMKE_HOWSON_MULTI_START},
+	 * {@link ESolvingEngine#PORTER_NUDELMAN_SHOHAM} and
+	 * {@link ESolvingEngine#PURE_EQUILIBRIUM_SCAN}, stop once it is reached.
+	 * Use <tt>1</tt> to stop at the first equilibrium.<br/>
+	 * <br/>
+	 * The {@link ESolvingEngine#SUPPORT_ENUMERATION} engine stops too and
+	 * reports the first constellations with an equilibrium, in the order of
+	 * {@link SupportSetSpliterator}. With the compact results, it counts
+	 * distinct equilibria. With more than one worker thread, all
+	 * constellations are still solved, since the first equilibria the workers
+	 * find depend on the scheduling.
+	 * 
+	 * @param maxEquilibria
+	 *            The maximal amount of distinct equilibria to find
+	 * @throws IllegalArgumentException
+	 *             If the given amount is smaller than <tt>1</tt>
+	 */
+	public void setMaxEquilibria(final int maxEquilibria) {
+		if (maxEquilibria < 1) {
+			throw new IllegalArgumentException(ErrorMessages.MAX_EQUILIBRIA_ILLEGAL + " Got: " + maxEquilibria);
 		}
+		this.mMaxEquilibria = maxEquilibria;
+	}
 
-		// Correct chance distribution
-		final Linear linear = new Linear();
-		Iterator<String> actionIter = protagonistSet.getActions();
-		while (actionIter.hasNext()) {
-			final String action = actionIter.next();
-			linear.add(Integer.valueOf(1), new PlayerAction<>(protagonist, action));
+	/**
+	 * Sets the metrics that the support enumeration records. Visited
+	 * constellations are counted by their outcome, the generation of their
+	 * support sets and the building, solving and extraction of their LP are
+	 * measured. Other engines do not record metrics. The metrics are not reset
+	 * by {@link #computeNashEquilibria()}, such that they can be shared by
+	 * multiple nash finders.
+	 * 
+	 * @param metrics
+	 *            The metrics to record, {@link SolverMetrics#none()} to not
+	 *            record metrics
+	 */
+	public void setMetrics(final SolverMetrics metrics) {
+		this.mMetrics = metrics;
+	}
+
+	/**
+	 * Sets the amount of worker threads to use for solving the support set
+	 * constellations in {@link #computeNashEquilibria()}. The constellations
+	 * are then split across a work stealing pool of the given size. The
+	 * results are the same as for sequential solving.
+	 * 
+	 * @param parallelism
+	 *            The amount of worker threads, <tt>1</tt> means sequential
+	 *            solving on the calling thread
+	 * @throws IllegalArgumentException
+	 *             If the given amount is smaller than <tt>1</tt>
+	 */
+	public void setParallelism(final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(ErrorMessages.PARALLELISM_ILLEGAL + " Got: " + parallelism);
 		}
-		problem.add(linear, "=", Integer.valueOf(1));
+		this.mParallelism = parallelism;
+	}
 
-		// Lower bound
-		actionIter = protagonistSet.getActions();
-		while (actionIter.hasNext()) {
-			final String action = actionIter.next();
-			problem.setVarLowerBound(new PlayerAction<>(protagonist, action), Integer.valueOf(0));
+	/**
+	 * Sets the backend to use for solving the LP of support set
+	 * constellations. The pure Java {@link ESolverBackend#DENSE} backend does
+	 * not need the native <i>lp_solve</i> library.
+	 * 
+	 * @param solverBackend
+	 *            The backend to use for solving
+	 */
+	public void setSolverBackend(final ESolverBackend solverBackend) {
+		this.mSolverBackend = solverBackend;
+	}
+
+	/**
+	 * Sets the time budget of a computation. Once it runs out,
+	 * {@link #computeNashEquilibria()} stops and reports the equilibria that
+	 * were found so far, constellations that were not solved are left out.
+	 * Additionally, the strategy profile with the smallest epsilon of all
+	 * results is kept as best candidate, see {@link #getBestCandidate()}.<br/>
+	 * <br/>
+	 * The support enumeration, in every order, and the engines
+	 * {@link ESolvingEngine#LEMKE_HOWSON_MULTI_START} and
+	 * {@link ESolvingEngine#PORTER_NUDELMAN_SHOHAM} check the budget between
+	 * constellations or paths. The other engines run in polynomial time and
+	 * are not interrupted.
+	 * 
+	 * @param timeBudget
+	 *            The time budget in milliseconds, {@link Long#MAX_VALUE} for
+	 *            no budget
+	 * @throws IllegalArgumentException
+	 *             If the given budget is smaller than <tt>1</tt>
+	 */
+	public void setTimeBudget(final long timeBudget) {
+		if (timeBudget < 1) {
+			throw new IllegalArgumentException(ErrorMessages.TIME_BUDGET_ILLEGAL + " Got: " + timeBudget);
 		}
+		this.mTimeBudget = timeBudget;
 	}
 
 	/**
-	 * Builds and gets the support set constellations to use for solving the
-	 * current game for.
+	 * Sets whether the results should be kept in a compact
+	 * {@link EquilibriumStore} instead of one entry per support set
+	 * constellation. Every distinct nash equilibrium is then reported once,
+	 * under its actual support sets, no matter for how many constellations it
+	 * was found. Equilibria whose probabilities and expected utilities differ
+	 * by at most {@value #COMPACT_RESULTS_TOLERANCE} are considered equal and
+	 * constellations without a nash equilibrium are not reported.<br/>
+	 * <br/>
+	 * With the {@link ESolverBackend#DENSE} backend, the
+	 * {@link ESolvingEngine#SUPPORT_ENUMERATION} engine additionally skips
+	 * constellations that are known to have no nash equilibrium, since the
+	 * best response system of a player was infeasible for a superset of his
+	 * support set against a subset of the antagonist support set, see
+	 * {@link InfeasibleSupportCache}. It is not used for specific support
+	 * sets.
 	 * 
-	 * @return List of support set constellations for solving the current game
-	 *         for
+	 * @param useCompactResults
+	 *            <tt>True</tt> if the compact results should be used,
+	 *            <tt>false</tt> otherwise
 	 */
-	private List<List<SupportSet<String, String>>> buildSupportSets() {
-		final List<List<SupportSet<String, String>>> supportSets = new LinkedList<>();
+	public void setUseCompactResults(final boolean useCompactResults) {
+		this.mUseCompactResults = useCompactResults;
+	}
 
-		if (this.mUseSpecificSupportSets) {
-			// Only use the given support set
-			// Validate the support set before using it
-			for (final SupportSet<String, String> supportSet : this.mSpecificSupportSets) {
-				final String player = supportSet.getPlayer();
-				if (!this.mGame.hasPlayer(player)) {
-					throw new IllegalStateException(ErrorMessages.SUPPORT_SET_INVALID);
+	/**
+	 * Sets whether constant-sum games with two players should be solved
+	 * directly, by one minimax LP per player of the
+	 * {@link MinimaxSolver}, instead of by the selected engine. This takes
+	 * polynomial time. The results then only consist of one nash equilibrium,
+	 * under its actual support sets, instead of all constellations with an
+	 * equilibrium. It is not used for specific support sets. If this is not
+	 * set, it is only used as long as neither the engine nor the maximal
+	 * amount of equilibria were set, see {@link #isUsingConstantSumSolver()}.
+	 * 
+	 * @param useConstantSumSolver
+	 *            <tt>True</tt> if constant-sum games should be solved
+	 *            directly, <tt>false</tt> otherwise
+	 */
+	public void setUseConstantSumSolver(final boolean useConstantSumSolver) {
+		this.mUseConstantSumSolver = Boolean.valueOf(useConstantSumSolver);
+	}
+
+	/**
+	 * Sets whether support set constellations with conditionally dominated
+	 * actions should be pruned before they are solved. An action is
+	 * conditionally dominated if another action of the same player is strictly
+	 * better against every action of the antagonist support set. The LP of a
+	 * constellation lets actions of the support sets be played with
+	 * probability zero, such that a pruned constellation may still have a
+	 * result. Pruning is thus only used with the compact results, which then
+	 * consist of the distinct equilibria of the constellations that are not
+	 * pruned. An equilibrium that is only found for a pruned constellation is
+	 * not reported. It is not used for specific support sets.
+	 * 
+	 * @param useDominancePruning
+	 *            <tt>True</tt> if pruning should be used, <tt>false</tt>
+	 *            otherwise
+	 */
+	public void setUseDominancePruning(final boolean useDominancePruning) {
+		this.mUseDominancePruning = useDominancePruning;
+	}
+
+	/**
+	 * Sets whether the game should be reduced by iterated elimination of
+	 * strictly dominated actions, including actions that are dominated by
+	 * mixed strategies, before it is solved. The engine then solves the
+	 * reduced game and its equilibria are mapped back to the actions of the
+	 * original game, where eliminated actions are played with probability
+	 * zero. Support sets are only enumerated over the remaining actions.
+	 * 
+	 * @param useDominanceReduction
+	 *            <tt>True</tt> if the reduction should be used, <tt>false</tt>
+	 *            otherwise
+	 */
+	public void setUseDominanceReduction(final boolean useDominanceReduction) {
+		this.mUseDominanceReduction = useDominanceReduction;
+	}
+
+	/**
+	 * Sets whether support set constellations should be enumerated in
+	 * Gray-code order, where consecutive constellations differ by one action.
+	 * Every player then keeps one pure Java
+	 * {@link de.tischner.nashfinder.solver.WarmStartBestResponseSolver
+	 * WarmStartBestResponseSolver} alive that re-solves from the previous
+	 * basis, independent of the solver backend. The results are reported in
+	 * the same order as without it. If the system of a constellation has
+	 * several optima, it is solved on its own by the dense solver, such that
+	 * the results are the ones of the dense backend. With more than one worker
+	 * thread, every worker enumerates a contiguous range of the Gray code.
+	 * 
+	 * @param useGrayCodeOrder
+	 *            <tt>True</tt> if the Gray-code order should be used,
+	 *            <tt>false</tt> otherwise
+	 */
+	public void setUseGrayCodeOrder(final boolean useGrayCodeOrder) {
+		this.mUseGrayCodeOrder = useGrayCodeOrder;
+	}
+
+	/**
+	 * Sets whether only symmetric nash equilibria of a symmetric game should
+	 * be searched, where both players use the same strategy. Only the
+	 * constellations where both players use the same support set are solved,
+	 * which are exponentially less than all constellations. It takes
+	 * precedence over the Gray-code order and is only used by the
+	 * {@link ESolvingEngine#SUPPORT_ENUMERATION} engine.<br/>
+	 * <br/>
+	 * Without it, symmetric games are detected anyway and every constellation
+	 * whose first support set has a smaller bitmask than the second one is
+	 * not solved, its result is mirrored from the swapped constellation
+	 * instead.
+	 * 
+	 * @param useSymmetricEquilibriaOnly
+	 *            <tt>True</tt> if only symmetric equilibria should be
+	 *            searched, <tt>false</tt> otherwise
+	 * @throws IllegalStateException
+	 *             If it is used and the game turns out to not be symmetric
+	 *             once {@link #computeNashEquilibria()} is called
+	 */
+	public void setUseSymmetricEquilibriaOnly(final boolean useSymmetricEquilibriaOnly) {
+		this.mUseSymmetricEquilibriaOnly = useSymmetricEquilibriaOnly;
+	}
+
+	/**
+	 * Computes nash equilibria of the given game like
+	 * {@link #computeNashEquilibria()}, but passes every equilibrium to the
+	 * given listener as soon as it is found instead of collecting the results.
+	 * Support set constellations are generated, solved by
+	 * {@link #getParallelism()} workers and published by an
+	 * {@link EquilibriumPipeline} whose stages are connected by bounded queues,
+	 * such that the memory stays bounded for games with many constellations
+	 * and a slow listener throttles the computation. The listener is called
+	 * on the calling thread. The results can thus not be printed by
+	 * {@link #printResults()} afterwards.<br/>
+	 * <br/>
+	 * Equilibria are published in the order they are found, not in the order
+	 * of the constellations. Engines that do not enumerate support sets,
+	 * specific support sets, the dominance reduction, the Gray-code order and
+	 * the minimax LP of constant-sum games compute all results first, they are
+	 * published afterwards.
+	 * 
+	 * @param listener
+	 *            Listener to pass found equilibria to, it is completed after
+	 *            the last one
+	 * @throws IllegalStateException
+	 *             If only symmetric equilibria are searched but the game is not
+	 *             symmetric
+	 */
+	public void streamNashEquilibria(final EquilibriumListener<String, String> listener) {
+		if (!SearchSelector.isStreamable(this)) {
+			computeNashEquilibria();
+			publishResults(listener);
+			listener.onComplete();
+			return;
+		}
+
+		final EnumerationEvent event = beginComputation();
+		new StreamingEnumerationSearch(this, listener).search();
+
+		this.mIsTimeBudgetExceeded = this.mDeadline.isExpired();
+		listener.onComplete();
+		commitEnumerationEvent(event, () -> this.mFoundCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder();
+		final String lineSeparator = System.lineSeparator();
+
+		boolean isFirstEntry = true;
+		if (this.mUseCompactResults && !this.mUseSpecificSupportSets && this.mCompactResults != null) {
+			for (final NashEquilibrium<String, String> equilibrium : this.mCompactResults.getEquilibria()) {
+				if (isFirstEntry) {
+					isFirstEntry = false;
+				} else {
+					result.append(lineSeparator);
 				}
-				final Iterator<String> actionIter = supportSet.getActions();
-				while (actionIter.hasNext()) {
-					final String action = actionIter.next();
-					if (!this.mGame.hasPlayerAction(player, action)) {
-						throw new IllegalStateException(ErrorMessages.SUPPORT_SET_INVALID);
-					}
+				result.append(extractSupportSets(equilibrium) + lineSeparator);
+				result.append(equilibrium);
+			}
+		} else {
+			for (final Entry<List<SupportSet<String, String>>, NashEquilibrium<String, String>> entry : this.mResults
+					.entrySet()) {
+				if (isFirstEntry) {
+					isFirstEntry = false;
+				} else {
+					result.append(lineSeparator);
 				}
+				result.append(entry.getKey() + lineSeparator);
+				result.append(entry.getValue());
 			}
+		}
 
-			supportSets.add(this.mSpecificSupportSets);
-			return supportSets;
+		if (this.mIsTimeBudgetExceeded) {
+			if (!isFirstEntry) {
+				result.append(lineSeparator);
+			}
+			if (this.mBestCandidate == null) {
+				result.append("Time budget exceeded, no candidate");
+			} else {
+				result.append("Time budget exceeded, best candidate with epsilon "
+						+ MathUtil.roundNumberTo(Double.valueOf(this.mBestCandidateEpsilon), EPSILON_DECIMAL_SCALE)
+						+ lineSeparator);
+				result.append(this.mBestCandidate);
+			}
 		}
+		return result.toString();
+	}
 
-		// Build all possible support sets
+	/**
+	 * Whether the constellations of the game can be mirrored, since the game
+	 * is symmetric and not only symmetric equilibria are searched.
+	 * 
+	 * @return <tt>True</tt> if constellations can be mirrored, <tt>false</tt>
+	 *         otherwise
+	 */
+	boolean canMirrorConstellations() {
+		return !this.mUseSymmetricEquilibriaOnly && this.mGame.isSymmetric();
+	}
+
+	/**
+	 * Creates a lazy spliterator over all support set constellations of the
+	 * current game.
+	 * 
+	 * @return Spliterator over all support set constellations
+	 * @throws IllegalArgumentException
+	 *             If the game does not have two players or too many actions to
+	 *             enumerate its constellations
+	 * @throws IllegalStateException
+	 *             If only symmetric equilibria are searched but the game is not
+	 *             symmetric
+	 */
+	SupportSetSpliterator createSupportSetSpliterator() {
 		Set<String> firstPlayerActions = null;
 		Set<String> secondPlayerActions = null;
-		String firstPlayer = null;
-		String secondPlayer = null;
 
 		final Iterator<String> playerIter = this.mGame.getPlayers();
 		if (playerIter.hasNext()) {
-			firstPlayer = playerIter.next();
+			final String firstPlayer = playerIter.next();
 			if (playerIter.hasNext()) {
-				secondPlayer = playerIter.next();
+				final String secondPlayer = playerIter.next();
 
 				firstPlayerActions = this.mGame.getPlayerActions(firstPlayer);
 				secondPlayerActions = this.mGame.getPlayerActions(secondPlayer);
 			}
 		}
-		if (firstPlayerActions == null || secondPlayerActions == null || firstPlayer == null || secondPlayer == null) {
+		if (firstPlayerActions == null || secondPlayerActions == null) {
 			throw new IllegalArgumentException(ErrorMessages.BUILD_SUPPORT_SETS_GAME_INVALID);
 		}
 
-		final Set<Set<String>> powerOfFirstPlayer = SetUtil.powerSet(firstPlayerActions);
-		final Set<Set<String>> powerOfSecondPlayer = SetUtil.powerSet(secondPlayerActions);
-		for (final Set<String> firstPlayerSet : powerOfFirstPlayer) {
-			for (final Set<String> secondPlayerSet : powerOfSecondPlayer) {
-				final List<SupportSet<String, String>> supportSetConstellation = new LinkedList<>();
-				supportSetConstellation.add(new SupportSet<>(firstPlayer, firstPlayerSet));
-				supportSetConstellation.add(new SupportSet<>(secondPlayer, secondPlayerSet));
+		if (this.mUseSymmetricEquilibriaOnly) {
+			if (!this.mGame.isSymmetric()) {
+				throw new IllegalStateException(ErrorMessages.GAME_NOT_SYMMETRIC);
+			}
+			return SupportSetSpliterator.symmetricConstellations(firstPlayerActions.size());
+		}
+		return SupportSetSpliterator.allConstellations(firstPlayerActions.size(), secondPlayerActions.size());
+	}
+
+	/**
+	 * Gets the compact results of the current computation.
+	 * 
+	 * @return The distinct equilibria or <tt>null</tt> if the compact results
+	 *         were never used
+	 */
+	EquilibriumStore<String, String> getCompactResults() {
+		return this.mCompactResults;
+	}
+
+	/**
+	 * Gets the deadline of the current computation.
+	 * 
+	 * @return The deadline, derived from the time budget
+	 */
+	Deadline getDeadline() {
+		return this.mDeadline;
+	}
+
+	/**
+	 * Gets the amount of equilibria that the support enumeration found in the
+	 * current computation.
+	 * 
+	 * @return The amount of found equilibria
+	 */
+	int getFoundCount() {
+		return this.mFoundCount;
+	}
+
+	/**
+	 * Gets the game to solve.
+	 * 
+	 * @return The game to solve
+	 */
+	StrategicGame<String, String> getGame() {
+		return this.mGame;
+	}
+
+	/**
+	 * Gets the pruner that discards support set constellations with
+	 * conditionally dominated actions, see {@link #prepareSolving(boolean)}.
+	 * 
+	 * @return The pruner or <tt>null</tt> if pruning is not used
+	 */
+	ConditionalDominancePruner getPruner() {
+		return this.mConstellationSolver.getPruner();
+	}
+
+	/**
+	 * Gets the results of the current computation, one entry per support set
+	 * constellation.
+	 * 
+	 * @return The results, keyed by their support sets
+	 */
+	Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> getResults() {
+		return this.mResults;
+	}
+
+	/**
+	 * Gets the specific support sets to solve the game for.
+	 * 
+	 * @return The specific support sets or <tt>null</tt> if the game is solved
+	 *         for all support sets
+	 */
+	List<SupportSet<String, String>> getSpecificSupportSets() {
+		return this.mSpecificSupportSets;
+	}
+
+	/**
+	 * Whether the time budget of the current computation ran out.
+	 * 
+	 * @return <tt>True</tt> if the time budget ran out, <tt>false</tt>
+	 *         otherwise
+	 */
+	boolean isDeadlineExpired() {
+		return this.mDeadline.isExpired();
+	}
+
+	/**
+	 * Whether the engine was selected by {@link #setEngine(ESolvingEngine)}
+	 * instead of left at its default.
+	 * 
+	 * @return <tt>True</tt> if the engine was selected, <tt>false</tt>
+	 *         otherwise
+	 */
+	boolean isEngineSelected() {
+		return this.mIsEngineSelected;
+	}
+
+	/**
+	 * Whether the given constellation is not solved since its result is
+	 * mirrored from the swapped constellation. This is the case for symmetric
+	 * games if the support set of the first player has a smaller bitmask than
+	 * the one of the second player. The swapped constellation then comes
+	 * earlier in the order of {@link SupportSetSpliterator}.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @return <tt>True</tt> if the result of the constellation is mirrored,
+	 *         <tt>false</tt> if it is solved
+	 */
+	boolean isMirroredConstellation(final CompactSupportSet[] constellation) {
+		return this.mIsMirroringConstellations && constellation[0].getBitmask() < constellation[1].getBitmask();
+	}
+
+	/**
+	 * Whether the current computation should stop early, since the time budget
+	 * ran out or the maximal amount of equilibria was found by the support
+	 * enumeration.
+	 * 
+	 * @return <tt>True</tt> if the computation should stop, <tt>false</tt>
+	 *         otherwise
+	 */
+	boolean isStopRequested() {
+		return this.mFoundCount >= this.mMaxEquilibria || this.mDeadline.isExpired();
+	}
+
+	/**
+	 * Offers the given result as best candidate, it replaces the current one
+	 * if its epsilon is smaller. Nothing is tracked without a time budget.
+	 * 
+	 * @param result
+	 *            The result to offer or <tt>null</tt> if there is none
+	 */
+	void offerCandidate(final NashEquilibrium<String, String> result) {
+		if (result == null || this.mEpsilonEvaluator == null) {
+			return;
+		}
+		final double epsilon = this.mEpsilonEvaluator.computeEpsilon(result);
+		if (this.mBestCandidate == null || epsilon < this.mBestCandidateEpsilon) {
+			this.mBestCandidate = result;
+			this.mBestCandidateEpsilon = epsilon;
+		}
+	}
+
+	/**
+	 * Prepares solving support set constellations. Indexes the actions for
+	 * building bitmasks of support sets and creates the pruner, if used.
+	 * 
+	 * @param isMirroringConstellations
+	 *            Whether constellations are mirrored, see
+	 *            {@link #isMirroredConstellation(CompactSupportSet[])}
+	 */
+	void prepareSolving(final boolean isMirroringConstellations) {
+		// Pruned constellations may have a result, it is only skipped if
+		// results are reported under their actual support sets
+		this.mConstellationSolver.prepare(this.mSolverBackend, this.mMetrics,
+				this.mUseDominancePruning && this.mUseCompactResults && !this.mUseSpecificSupportSets,
+				this.mUseCompactResults);
+		this.mIsMirroringConstellations = isMirroringConstellations;
+	}
 
-				supportSets.add(supportSetConstellation);
+	/**
+	 * Publishes the result of the given constellation to the given listener,
+	 * unless the maximal amount of equilibria is reached. For symmetric games,
+	 * the mirrored result is published too, since mirrored constellations are
+	 * not solved. With compact results, only new distinct equilibria are
+	 * published.
+	 * 
+	 * @param listener
+	 *            Listener to publish to
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @param result
+	 *            The nash equilibrium for the given constellation
+	 * @return <tt>True</tt> if the computation should stop, since the time
+	 *         budget ran out or the maximal amount of equilibria was
+	 *         published, <tt>false</tt> otherwise
+	 */
+	boolean publishResult(final EquilibriumListener<String, String> listener,
+			final CompactSupportSet[] constellation, final NashEquilibrium<String, String> result) {
+		publishEquilibrium(listener, toSupportSets(constellation), result);
+		if (this.mIsMirroringConstellations && constellation[0].getBitmask() != constellation[1].getBitmask()) {
+			publishEquilibrium(listener,
+					toSupportSets(new CompactSupportSet[] { constellation[1], constellation[0] }),
+					mirrorEquilibrium(result));
+		}
+		return isStopRequested();
+	}
+
+	/**
+	 * Puts the given equilibria into the results, every equilibrium under its
+	 * actual support sets.
+	 * 
+	 * @param equilibria
+	 *            Equilibria to put into the results
+	 */
+	void putEquilibria(final List<NashEquilibrium<String, String>> equilibria) {
+		for (final NashEquilibrium<String, String> equilibrium : equilibria) {
+			offerCandidate(equilibrium);
+			if (this.mUseCompactResults) {
+				this.mCompactResults.add(equilibrium);
+			} else {
+				this.mResults.put(extractSupportSets(equilibrium), equilibrium);
 			}
 		}
+	}
 
+	/**
+	 * Puts the result of the given mirrored constellation into the results,
+	 * which is rebuilt out of the result of the swapped constellation. With
+	 * compact results, it was already added together with the swapped one.
+	 * 
+	 * @param constellation
+	 *            The mirrored constellation, see
+	 *            {@link #isMirroredConstellation(CompactSupportSet[])}
+	 * @return The amount of equilibria that were put into the results
+	 */
+	int putMirroredResult(final CompactSupportSet[] constellation) {
+		if (this.mUseCompactResults) {
+			return 0;
+		}
+		final NashEquilibrium<String, String> result = mirrorResult(constellation);
+		this.mResults.put(toSupportSets(constellation), result);
+		if (result == null) {
+			return 0;
+		}
+		return 1;
+	}
+
+	/**
+	 * Offers the given result of a constellation as best candidate and puts
+	 * it into the results. With compact results, it is only added if it is a
+	 * new distinct equilibrium.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @param result
+	 *            The nash equilibrium for the given constellation or
+	 *            <tt>null</tt> if there is no nash equilibrium
+	 * @return The amount of equilibria that were put into the results, with
+	 *         compact results up to two for the mirrored equilibrium of a
+	 *         symmetric game
+	 */
+	int putResult(final CompactSupportSet[] constellation, final NashEquilibrium<String, String> result) {
+		offerCandidate(result);
+		if (this.mUseCompactResults) {
+			return addCompactResult(constellation, result);
+		}
+		this.mResults.put(toSupportSets(constellation), result);
+		if (result == null) {
+			return 0;
+		}
+		return 1;
+	}
+
+	/**
+	 * Puts the given results of the constellations into the results, in the
+	 * order of the constellations, until the maximal amount of equilibria is
+	 * reached. Mirrored constellations of symmetric games get the mirrored
+	 * result of their counterpart. If a stop was requested, only the
+	 * constellations with a nash equilibrium and their mirrored counterparts
+	 * are visited, instead of the full range of constellations.
+	 * 
+	 * @param constellations
+	 *            Spliterator over the full range of constellations
+	 * @param equilibria
+	 *            The nash equilibria of the constellations, keyed by the
+	 *            position of their constellation
+	 */
+	void putResultsInOrder(final SupportSetSpliterator constellations,
+			final Map<Long, NashEquilibrium<String, String>> equilibria) {
+		final PrimitiveIterator.OfLong positionIter;
+		if (isStopRequested()) {
+			final LongStream.Builder positions = LongStream.builder();
+			for (final Long position : equilibria.keySet()) {
+				positions.add(position.longValue());
+				final CompactSupportSet[] constellation = constellations.getConstellation(position.longValue());
+				final CompactSupportSet[] mirroredConstellation = new CompactSupportSet[] { constellation[1],
+						constellation[0] };
+				if (isMirroredConstellation(mirroredConstellation)) {
+					positions.add(constellations.getPositionOf(mirroredConstellation));
+				}
+			}
+			positionIter = positions.build().sorted().iterator();
+		} else {
+			positionIter = LongStream
+					.range(constellations.getPosition(), constellations.getPosition() + constellations.estimateSize())
+					.iterator();
+		}
+
+		int foundCount = 0;
+		while (positionIter.hasNext() && foundCount < this.mMaxEquilibria) {
+			final long position = positionIter.nextLong();
+			final CompactSupportSet[] constellation = constellations.getConstellation(position);
+			if (isMirroredConstellation(constellation)) {
+				foundCount += putMirroredResult(constellation);
+			} else {
+				foundCount += putResult(constellation, equilibria.get(Long.valueOf(position)));
+			}
+		}
+	}
+
+	/**
+	 * Sets the amount of equilibria that the support enumeration found in the
+	 * current computation.
+	 * 
+	 * @param foundCount
+	 *            The amount of found equilibria
+	 */
+	void setFoundCount(final int foundCount) {
+		this.mFoundCount = foundCount;
+	}
+
+	/**
+	 * Solves the LCP of the current game for a given support set
+	 * constellation of the support set enumeration. The bitmasks of the
+	 * constellation are used directly, without creating its support sets
+	 * unless the <i>lp_solve</i> backend needs them.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	NashEquilibrium<String, String> solveConstellation(final CompactSupportSet[] constellation) {
+		return this.mConstellationSolver.solveConstellation(constellation);
+	}
+
+	/**
+	 * Solves the LCP of the current game for a given support set
+	 * constellation.
+	 * 
+	 * @param supportSets
+	 *            Support set constellation to solve the game for, the first
+	 *            set belongs to the first player and the second set to the
+	 *            second player
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	NashEquilibrium<String, String> solveSupportSets(final List<SupportSet<String, String>> supportSets) {
+		return this.mConstellationSolver.solveSupportSets(supportSets);
+	}
+
+	/**
+	 * Creates the support sets of the given constellation in compact form.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @return The support sets of the constellation, in the order of the
+	 *         players
+	 */
+	List<SupportSet<String, String>> toSupportSets(final CompactSupportSet[] constellation) {
+		return this.mConstellationSolver.toSupportSets(constellation);
+	}
+
+	/**
+	 * Adds the given result of a constellation to the compact results. For
+	 * symmetric games, the mirrored result is added too, since mirrored
+	 * constellations are not solved, unless the maximal amount of equilibria
+	 * is reached.
+	 * 
+	 * @param constellation
+	 *            The compact support set of the first player followed by the
+	 *            one of the second player
+	 * @param result
+	 *            The nash equilibrium for the given constellation or
+	 *            <tt>null</tt> if there is no nash equilibrium
+	 * @return The amount of new distinct equilibria that were added
+	 */
+	private int addCompactResult(final CompactSupportSet[] constellation,
+			final NashEquilibrium<String, String> result) {
+		if (result == null || this.mCompactResults.add(result) == null) {
+			return 0;
+		}
+		if (!this.mIsMirroringConstellations || constellation[0].getBitmask() == constellation[1].getBitmask()
+				|| this.mCompactResults.size() >= this.mMaxEquilibria
+				|| this.mCompactResults.add(mirrorEquilibrium(result)) == null) {
+			return 1;
+		}
+		return 2;
+	}
+
+	/**
+	 * Begins a computation by resetting the state and the results of the
+	 * previous one. The deadline starts with the time budget.
+	 * 
+	 * @return The event of the computation, which is already begun
+	 */
+	private EnumerationEvent beginComputation() {
+		final EnumerationEvent event = new EnumerationEvent(this.mEngine.name(), this.mSolverBackend.name(),
+				this.mParallelism);
+		event.begin();
+		this.mDeadline = Deadline.after(this.mTimeBudget);
+		this.mFoundCount = 0;
+		this.mBestCandidate = null;
+		this.mBestCandidateEpsilon = Double.NaN;
+		if (this.mDeadline.isBounded() && this.mGame.getPlayerCount() == 2) {
+			this.mEpsilonEvaluator = new EpsilonEvaluator<>(this.mGame);
+		} else {
+			this.mEpsilonEvaluator = null;
+		}
+		this.mResults.clear();
+		if (this.mCompactResults != null) {
+			this.mCompactResults.clear();
+		} else if (this.mUseCompactResults) {
+			this.mCompactResults = new EquilibriumStore<>(this.mGame, COMPACT_RESULTS_TOLERANCE);
+		}
+		return event;
+	}
+
+	/**
+	 * Commits the given event of the current computation, if it is recorded.
+	 * 
+	 * @param event
+	 *            Event of the computation, which was begun before computing
+	 * @param equilibriumCount
+	 *            Supplies the amount of found equilibria, it is only called if
+	 *            the event is recorded
+	 */
+	private void commitEnumerationEvent(final EnumerationEvent event, final IntSupplier equilibriumCount) {
+		event.end();
+		if (!event.shouldCommit()) {
+			return;
+		}
+		int actionCount = 0;
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			actionCount += this.mGame.getPlayerActions(playerIter.next()).size();
+		}
+		event.setGameSize(this.mGame.getPlayerCount(), actionCount);
+		event.setResults(equilibriumCount.getAsInt(), this.mIsTimeBudgetExceeded);
+		event.commit();
+	}
+
+	/**
+	 * Counts the nash equilibria in the results of the last computation.
+	 * 
+	 * @return The amount of found equilibria
+	 */
+	private int countResults() {
+		if (this.mUseCompactResults && !this.mUseSpecificSupportSets) {
+			return this.mCompactResults.size();
+		}
+		int equilibriumCount = 0;
+		for (final NashEquilibrium<String, String> equilibrium : this.mResults.values()) {
+			if (equilibrium != null) {
+				equilibriumCount++;
+			}
+		}
+		return equilibriumCount;
+	}
+
+	/**
+	 * Extracts the actual support sets of a given nash equilibrium, which
+	 * consist of the actions that are played with a positive probability.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to extract the support sets of
+	 * @return The support sets of the equilibrium, in the order of the players
+	 */
+	private List<SupportSet<String, String>> extractSupportSets(final NashEquilibrium<String, String> equilibrium) {
+		final List<SupportSet<String, String>> supportSets = new ArrayList<>();
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			final String player = playerIter.next();
+			final SupportSet<String, String> supportSet = new SupportSet<>(player);
+			final NashStrategy<String> strategy = equilibrium.getNashStrategyOfPlayer(player);
+			for (final String action : this.mGame.getPlayerActions(player)) {
+				final Number probability = strategy.getActionProbability(action);
+				if (probability != null && probability.doubleValue() > 0) {
+					supportSet.addAction(action);
+				}
+			}
+			supportSets.add(supportSet);
+		}
 		return supportSets;
 	}
+
+	/**
+	 * Mirrors the given nash equilibrium of a symmetric game, the players swap
+	 * their strategies and expected utilities. Since both players have the
+	 * same actions, the strategies are shared.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to mirror
+	 * @return The mirrored equilibrium
+	 */
+	private NashEquilibrium<String, String> mirrorEquilibrium(final NashEquilibrium<String, String> equilibrium) {
+		final Iterator<String> playerIter = this.mGame.getPlayers();
+		final String firstPlayer = playerIter.next();
+		final String secondPlayer = playerIter.next();
+
+		final NashEquilibrium<String, String> mirroredEquilibrium = new NashEquilibrium<>();
+		mirroredEquilibrium.setExpectedUtilityForPlayer(firstPlayer,
+				equilibrium.getExpectedUtilityOfPlayer(secondPlayer));
+		mirroredEquilibrium.setExpectedUtilityForPlayer(secondPlayer,
+				equilibrium.getExpectedUtilityOfPlayer(firstPlayer));
+		mirroredEquilibrium.setNashStrategyForPlayer(firstPlayer, equilibrium.getNashStrategyOfPlayer(secondPlayer));
+		mirroredEquilibrium.setNashStrategyForPlayer(secondPlayer, equilibrium.getNashStrategyOfPlayer(firstPlayer));
+		return mirroredEquilibrium;
+	}
+
+	/**
+	 * Rebuilds the result of the given mirrored constellation out of the
+	 * result of the swapped constellation, which must already be in the
+	 * results.
+	 * 
+	 * @param constellation
+	 *            The mirrored constellation, see
+	 *            {@link #isMirroredConstellation(CompactSupportSet[])}
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	private NashEquilibrium<String, String> mirrorResult(final CompactSupportSet[] constellation) {
+		final NashEquilibrium<String, String> swappedResult = this.mResults
+				.get(toSupportSets(new CompactSupportSet[] { constellation[1], constellation[0] }));
+		if (swappedResult == null) {
+			return null;
+		}
+		return mirrorEquilibrium(swappedResult);
+	}
+
+	/**
+	 * Publishes the given equilibrium to the given listener, unless the
+	 * maximal amount of equilibria is reached. With compact results, it is
+	 * only published under its actual support sets if it is a new distinct
+	 * equilibrium.
+	 * 
+	 * @param listener
+	 *            Listener to publish to
+	 * @param supportSets
+	 *            Support sets the equilibrium was found for
+	 * @param equilibrium
+	 *            Equilibrium to publish
+	 */
+	private void publishEquilibrium(final EquilibriumListener<String, String> listener,
+			final List<SupportSet<String, String>> supportSets, final NashEquilibrium<String, String> equilibrium) {
+		if (this.mFoundCount >= this.mMaxEquilibria) {
+			return;
+		}
+		offerCandidate(equilibrium);
+		if (this.mUseCompactResults) {
+			final NashEquilibrium<String, String> canonicalEquilibrium = this.mCompactResults.add(equilibrium);
+			if (canonicalEquilibrium == null) {
+				return;
+			}
+			this.mFoundCount++;
+			listener.onEquilibrium(extractSupportSets(canonicalEquilibrium), canonicalEquilibrium);
+			return;
+		}
+		this.mFoundCount++;
+		listener.onEquilibrium(supportSets, equilibrium);
+	}
+
 }
@@ -0,0 +1,68 @@
+package de.tischner.nashfinder;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+
+/**
+ * Search that splits the support set constellations of the game across a
+ * work stealing pool of worker threads, see {@link SolveSupportSetsTask}.
+ * The results are collected by the position of their constellation and put
+ * into the results in the order of {@link SupportSetSpliterator}, like for
+ * the {@link SequentialEnumerationSearch}. Workers only stop at the deadline
+ * of the nash finder, since the first equilibria they find depend on the
+ * scheduling.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class ParallelEnumerationSearch implements EquilibriumSearch {
+
+	/**
+	 * Full range of constellations, used for putting the results in order.
+	 */
+	private final SupportSetSpliterator mConstellations;
+	/**
+	 * Nash finder to solve the constellations with and to put the results
+	 * into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search over the constellations of the game of the given
+	 * nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the constellations with and to put the
+	 *            results into, its parallelism is the amount of worker threads
+	 * @throws IllegalStateException
+	 *             If only symmetric equilibria are searched but the game is not
+	 *             symmetric
+	 */
+	public ParallelEnumerationSearch(final NashFinder nashFinder) {
+		this.mNashFinder = nashFinder;
+		this.mConstellations = nashFinder.createSupportSetSpliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.prepareSolving(this.mNashFinder.canMirrorConstellations());
+		final Map<Long, NashEquilibrium<String, String>> equilibria;
+		final ForkJoinPool pool = new ForkJoinPool(this.mNashFinder.getParallelism());
+		try {
+			equilibria = pool.invoke(new SolveSupportSetsTask(this.mNashFinder,
+					this.mNashFinder.createSupportSetSpliterator()));
+		} finally {
+			pool.shutdown();
+		}
+		this.mNashFinder.setFoundCount(equilibria.size());
+		this.mNashFinder.putResultsInOrder(this.mConstellations, equilibria);
+	}
+}
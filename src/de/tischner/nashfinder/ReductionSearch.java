@@ -0,0 +1,92 @@
+package de.tischner.nashfinder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.EquilibriumStore;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.reduction.DominanceReduction;
+
+/**
+ * Search that reduces the game by iterated elimination of strictly dominated
+ * actions, see {@link DominanceReduction}. The reduced game is solved by a
+ * nash finder with the same settings, its results are mapped back to the
+ * original game, where eliminated actions are played with probability zero.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class ReductionSearch implements EquilibriumSearch {
+
+	/**
+	 * Nash finder to put the mapped results into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search that reduces the game of the given nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to put the mapped results into
+	 * @throws IllegalStateException
+	 *             If the game should be solved for specific support sets
+	 */
+	public ReductionSearch(final NashFinder nashFinder) {
+		if (nashFinder.getSpecificSupportSets() != null) {
+			throw new IllegalStateException(ErrorMessages.REDUCTION_SUPPORT_SETS_UNSUPPORTED);
+		}
+		this.mNashFinder = nashFinder;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		final DominanceReduction<String, String> reduction = new DominanceReduction<>(this.mNashFinder.getGame());
+		final NashFinder reducedFinder = new NashFinder(reduction.reduce(), null);
+		if (this.mNashFinder.isEngineSelected()) {
+			reducedFinder.setEngine(this.mNashFinder.getEngine());
+		}
+		reducedFinder.setInitialDroppedLabel(this.mNashFinder.getInitialDroppedLabel());
+		reducedFinder.setMaxEquilibria(this.mNashFinder.getMaxEquilibria());
+		reducedFinder.setMetrics(this.mNashFinder.getMetrics());
+		reducedFinder.setParallelism(this.mNashFinder.getParallelism());
+		reducedFinder.setSolverBackend(this.mNashFinder.getSolverBackend());
+		reducedFinder.setTimeBudget(Math.max(1L, this.mNashFinder.getDeadline().getRemainingMillis()));
+		reducedFinder.setUseCompactResults(this.mNashFinder.isUsingCompactResults());
+		reducedFinder.setUseConstantSumSolver(this.mNashFinder.isUsingConstantSumSolver());
+		reducedFinder.setUseDominancePruning(this.mNashFinder.isUsingDominancePruning());
+		reducedFinder.setUseGrayCodeOrder(this.mNashFinder.isUsingGrayCodeOrder());
+		reducedFinder.setUseSymmetricEquilibriaOnly(this.mNashFinder.isUsingSymmetricEquilibriaOnly());
+		reducedFinder.computeNashEquilibria();
+		this.mNashFinder.setFoundCount(reducedFinder.getFoundCount());
+		if (reducedFinder.getBestCandidate() != null) {
+			this.mNashFinder.offerCandidate(reduction.expandEquilibrium(reducedFinder.getBestCandidate()));
+		}
+
+		if (this.mNashFinder.isUsingCompactResults()) {
+			final EquilibriumStore<String, String> compactResults = this.mNashFinder.getCompactResults();
+			for (final NashEquilibrium<String, String> equilibrium : reducedFinder.getCompactResults()
+					.getEquilibria()) {
+				compactResults.add(reduction.expandEquilibrium(equilibrium));
+			}
+			return;
+		}
+		final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> results = this.mNashFinder
+				.getResults();
+		for (final Entry<List<SupportSet<String, String>>, NashEquilibrium<String, String>> entry : reducedFinder
+				.getResults().entrySet()) {
+			NashEquilibrium<String, String> equilibrium = entry.getValue();
+			if (equilibrium != null) {
+				equilibrium = reduction.expandEquilibrium(equilibrium);
+			}
+			results.put(entry.getKey(), equilibrium);
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package de.tischner.nashfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.tischner.nashfinder.benchmark.AgreementChecker;
+import de.tischner.nashfinder.benchmark.AgreementResult;
+import de.tischner.nashfinder.benchmark.EAgreementCheck;
+import de.tischner.nashfinder.benchmark.EGameFamily;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Command line program that runs the checks of {@link EAgreementCheck} on
+ * generated games of every {@link EGameFamily}, such that engines and
+ * settings that should find the same equilibria can be compared
+ * reproducibly.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class RunAgreementChecks {
+
+	/**
+	 * Default amounts of actions per player of the generated games.
+	 */
+	private static final int[] DEFAULT_ACTION_COUNTS = { 2, 3, 4, 5 };
+	/**
+	 * Default files of games that are checked besides the generated ones,
+	 * separated like a list option. They hold degenerate games whose
+	 * mismatches were found before.
+	 */
+	private static final String DEFAULT_GAME_FILES = "examples/game03.json";
+	/**
+	 * Separator between the values of a list option.
+	 */
+	private static final String LIST_SEPARATOR = ",";
+	/**
+	 * Option that specifies the amounts of actions per player of the
+	 * generated games.
+	 */
+	private static final String OPTION_ACTIONS = "actions";
+	/**
+	 * Option that specifies the checks to run.
+	 */
+	private static final String OPTION_CHECKS = "checks";
+	/**
+	 * Option that specifies the families of the generated games.
+	 */
+	private static final String OPTION_FAMILIES = "families";
+	/**
+	 * Option that specifies the files of games that are checked besides the
+	 * generated ones.
+	 */
+	private static final String OPTION_FILES = "files";
+	/**
+	 * Option that specifies the amount of games per family and size.
+	 */
+	private static final String OPTION_GAMES = "games";
+	/**
+	 * Option that specifies the seed of the first generated game.
+	 */
+	private static final String OPTION_SEED = "seed";
+	/**
+	 * Option that specifies the backend to solve the LP of support set
+	 * constellations with.
+	 */
+	private static final String OPTION_SOLVER = "solver";
+
+	/**
+	 * Starts the command line program for running agreement checks.
+	 * 
+	 * @param args
+	 *            Options in the format <tt>--name=value</tt>, all of which are
+	 *            optional. Lists are separated by commas.
+	 *            <tt>--families=random,zero-sum</tt> selects the families of
+	 *            the generated games, <tt>--actions=2,3,4</tt> their amounts
+	 *            of actions per player and <tt>--games=20</tt> the amount of
+	 *            games per family and size. The games are derived from
+	 *            consecutive seeds, starting at <tt>--seed=0</tt>. Games of
+	 *            the files given by <tt>--files=examples/game03.json</tt> are
+	 *            checked too, which is the default, an empty value checks
+	 *            none.
+	 *            <tt>--checks=gray-code,lemke-howson</tt> selects the checks.
+	 *            LPs are solved by the backend given by
+	 *            <tt>--solver=dense</tt>.<br/>
+	 *            <br/>
+	 *            An example call would be:
+	 *            <tt>java RunAgreementChecks --games=100 --solver=dense</tt>
+	 * @throws IllegalStateException
+	 *             If the equilibria of a game disagree with the reference,
+	 *             after all checks ran
+	 */
+	public static void main(final String[] args) {
+		if (args == null) {
+			throw new IllegalArgumentException(ErrorMessages.RUN_AGREEMENT_CHECKS_WRONG_ARGUMENT_NUMBER);
+		}
+		final List<String> arguments = new ArrayList<>();
+		final Map<String, String> options = SolveGame.parseOptions(args, arguments);
+		if (!arguments.isEmpty()) {
+			throw new IllegalArgumentException(ErrorMessages.RUN_AGREEMENT_CHECKS_WRONG_ARGUMENT_NUMBER);
+		}
+
+		Set<EGameFamily> families = EnumSet.allOf(EGameFamily.class);
+		String gameFiles = DEFAULT_GAME_FILES;
+		Set<EAgreementCheck> checks = EnumSet.allOf(EAgreementCheck.class);
+		int[] actionCounts = DEFAULT_ACTION_COUNTS;
+		long seed = 0;
+		Integer gameCount = null;
+		ESolverBackend solverBackend = null;
+		for (final Entry<String, String> option : options.entrySet()) {
+			final String name = option.getKey();
+			final String value = option.getValue();
+			if (value == null) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name);
+			}
+			try {
+				if (OPTION_ACTIONS.equals(name)) {
+					actionCounts = Arrays.stream(value.split(LIST_SEPARATOR)).map(String::trim)
+							.mapToInt(Integer::parseInt).toArray();
+				} else if (OPTION_CHECKS.equals(name)) {
+					checks = parseEnumListOption(EAgreementCheck.class, name, value);
+				} else if (OPTION_FAMILIES.equals(name)) {
+					families = parseEnumListOption(EGameFamily.class, name, value);
+				} else if (OPTION_FILES.equals(name)) {
+					gameFiles = value;
+				} else if (OPTION_GAMES.equals(name)) {
+					gameCount = Integer.valueOf(value.trim());
+				} else if (OPTION_SEED.equals(name)) {
+					seed = Long.parseLong(value);
+				} else if (OPTION_SOLVER.equals(name)) {
+					solverBackend = SolveGame.parseEnumOption(ESolverBackend.class, name, value);
+				} else {
+					throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name);
+				}
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name
+						+ SolveGame.OPTION_VALUE_SEPARATOR + value, e);
+			}
+		}
+		final AgreementChecker checker = new AgreementChecker(seed);
+		if (gameCount != null) {
+			checker.setGameCount(gameCount.intValue());
+		}
+		if (solverBackend != null) {
+			checker.setSolverBackend(solverBackend);
+		}
+
+		int checkedCount = 0;
+		int mismatchCount = 0;
+		for (final EAgreementCheck check : checks) {
+			for (final EGameFamily family : families) {
+				for (final int actionCount : actionCounts) {
+					final AgreementResult result = checker.check(check, family, actionCount);
+					System.out.println(result);
+					checkedCount += result.getCheckedCount();
+					mismatchCount += result.getMismatchCount();
+				}
+			}
+		}
+
+		for (final String gameFile : gameFiles.split(LIST_SEPARATOR)) {
+			if (gameFile.trim().isEmpty()) {
+				continue;
+			}
+			final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGame(gameFile.trim());
+			for (final EAgreementCheck check : checks) {
+				if (!checker.isApplicable(check, game)) {
+					continue;
+				}
+				checkedCount++;
+				if (checker.agrees(check, game)) {
+					System.out.println(check + " " + gameFile.trim() + ": agrees");
+				} else {
+					mismatchCount++;
+					System.out.println(check + " " + gameFile.trim() + ": disagrees");
+				}
+			}
+		}
+
+		System.out.println("Checked " + checkedCount + " games, " + mismatchCount + " disagree with the reference.");
+		if (mismatchCount > 0) {
+			throw new IllegalStateException(ErrorMessages.AGREEMENT_CHECKS_FAILED + " Got: " + mismatchCount);
+		}
+	}
+
+	/**
+	 * Parses the value of an option that is a list of constants of the given
+	 * enum, separated by commas. Every constant is matched like by
+	 * {@link SolveGame#parseEnumOption(Class, String, String)}.
+	 * 
+	 * @param <E>
+	 *            The actual class of the enum
+	 * @param enumClass
+	 *            Class of the enum
+	 * @param name
+	 *            Name of the option
+	 * @param value
+	 *            Value of the option, not <tt>null</tt>
+	 * @return The constants named by the value
+	 * @throws IllegalArgumentException
+	 *             If an element of the value does not name a constant of the
+	 *             enum
+	 */
+	private static <E extends Enum<E>> Set<E> parseEnumListOption(final Class<E> enumClass, final String name,
+			final String value) {
+		final Set<E> constants = EnumSet.noneOf(enumClass);
+		for (final String element : value.split(LIST_SEPARATOR)) {
+			constants.add(SolveGame.parseEnumOption(enumClass, name, element));
+		}
+		return constants;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private RunAgreementChecks() {
+
+	}
+}
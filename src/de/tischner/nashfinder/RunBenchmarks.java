@@ -0,0 +1,366 @@
+package de.tischner.nashfinder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.tischner.nashfinder.benchmark.BenchmarkResult;
+import de.tischner.nashfinder.benchmark.BenchmarkRunner;
+import de.tischner.nashfinder.benchmark.EBenchmark;
+import de.tischner.nashfinder.benchmark.EGameFamily;
+import de.tischner.nashfinder.benchmark.GameGenerator;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Command line program that measures the benchmarks of {@link EBenchmark} on
+ * generated games of every {@link EGameFamily}, saves the results and
+ * compares them to the results of an earlier run.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class RunBenchmarks {
+
+	/**
+	 * Decimal scale that times and relative changes are rounded to when
+	 * printed.
+	 */
+	private static final int DECIMAL_SCALE = 1;
+	/**
+	 * Default amounts of actions per player of the generated games.
+	 */
+	private static final int[] DEFAULT_ACTION_COUNTS = { 2, 4, 8, 12, 16, 20 };
+	/**
+	 * Default file to save the results to.
+	 */
+	private static final String DEFAULT_OUTPUT = "benchmark-results.csv";
+	/**
+	 * Default relative slowdown over the baseline from which on a result is
+	 * reported as regression.
+	 */
+	private static final double DEFAULT_REGRESSION_THRESHOLD = 0.2;
+	/**
+	 * Separator between the values of a list option.
+	 */
+	private static final String LIST_SEPARATOR = ",";
+	/**
+	 * Option that specifies the amounts of actions per player of the
+	 * generated games.
+	 */
+	private static final String OPTION_ACTIONS = "actions";
+	/**
+	 * Option that specifies the results file of an earlier run to compare to.
+	 */
+	private static final String OPTION_BASELINE = "baseline";
+	/**
+	 * Option that specifies the benchmarks to measure.
+	 */
+	private static final String OPTION_BENCHMARKS = "benchmarks";
+	/**
+	 * Option that specifies the engines that solve the games end to end.
+	 */
+	private static final String OPTION_ENGINES = "engines";
+	/**
+	 * Option that specifies the amount of actions per player up to which
+	 * support set constellations are enumerated.
+	 */
+	private static final String OPTION_ENUMERATION_LIMIT = "enumeration-limit";
+	/**
+	 * Option that specifies the families of the generated games.
+	 */
+	private static final String OPTION_FAMILIES = "families";
+	/**
+	 * Option that specifies the time of an iteration in milliseconds.
+	 */
+	private static final String OPTION_ITERATION_TIME = "iteration-time";
+	/**
+	 * Option that specifies the amount of measured iterations.
+	 */
+	private static final String OPTION_ITERATIONS = "iterations";
+	/**
+	 * Option that specifies the maximal amount of equilibria the engines
+	 * find.
+	 */
+	private static final String OPTION_MAX_EQUILIBRIA = "max-equilibria";
+	/**
+	 * Option that specifies the file to save the results to.
+	 */
+	private static final String OPTION_OUTPUT = "output";
+	/**
+	 * Option that specifies the relative slowdown over the baseline from
+	 * which on a result is reported as regression.
+	 */
+	private static final String OPTION_REGRESSION_THRESHOLD = "regression-threshold";
+	/**
+	 * Option that specifies the seed of the generated games.
+	 */
+	private static final String OPTION_SEED = "seed";
+	/**
+	 * Option that specifies the backend to solve the LP of support set
+	 * constellations with.
+	 */
+	private static final String OPTION_SOLVER = "solver";
+	/**
+	 * Option that specifies the amount of warmup iterations.
+	 */
+	private static final String OPTION_WARMUP = "warmup";
+
+	/**
+	 * Starts the command line program for measuring benchmarks.
+	 * 
+	 * @param args
+	 *            Options in the format <tt>--name=value</tt>, all of which are
+	 *            optional. Lists are separated by commas.
+	 *            <tt>--families=random,zero-sum</tt> selects the families of
+	 *            the generated games, <tt>--actions=2,4,8</tt> their amounts
+	 *            of actions per player and <tt>--seed=1</tt> the seed they are
+	 *            derived from. <tt>--benchmarks=parse,supports,lp,solve</tt>
+	 *            selects the benchmarks and
+	 *            <tt>--engines=lemke-howson,support-enumeration</tt> the
+	 *            engines that solve the games end to end, each of which stops
+	 *            after <tt>--max-equilibria=1</tt> equilibria. LPs are solved
+	 *            by the backend given by <tt>--solver=dense</tt>. Support set
+	 *            constellations are only enumerated up to
+	 *            <tt>--enumeration-limit=10</tt> actions per player. Every
+	 *            benchmark runs <tt>--warmup=3</tt> warmup and
+	 *            <tt>--iterations=5</tt> measured iterations of
+	 *            <tt>--iteration-time=200</tt> milliseconds.<br/>
+	 *            <br/>
+	 *            The results are saved to <tt>--output=results.csv</tt>.
+	 *            Results that are more than
+	 *            <tt>--regression-threshold=0.2</tt> slower than the results
+	 *            of <tt>--baseline=old-results.csv</tt> are reported as
+	 *            regression.<br/>
+	 *            <br/>
+	 *            An example call would be:
+	 *            <tt>java RunBenchmarks --families=random --actions=4,8
+	 *            --solver=dense</tt>
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the baseline or
+	 *             writing the results
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args == null) {
+			throw new IllegalArgumentException(ErrorMessages.RUN_BENCHMARKS_WRONG_ARGUMENT_NUMBER);
+		}
+		final List<String> arguments = new ArrayList<>();
+		final Map<String, String> options = SolveGame.parseOptions(args, arguments);
+		if (!arguments.isEmpty()) {
+			throw new IllegalArgumentException(ErrorMessages.RUN_BENCHMARKS_WRONG_ARGUMENT_NUMBER);
+		}
+
+		Set<EGameFamily> families = EnumSet.allOf(EGameFamily.class);
+		Set<EBenchmark> benchmarks = EnumSet.allOf(EBenchmark.class);
+		int[] actionCounts = DEFAULT_ACTION_COUNTS;
+		long seed = 0;
+		String output = DEFAULT_OUTPUT;
+		String baseline = null;
+		double regressionThreshold = DEFAULT_REGRESSION_THRESHOLD;
+		final List<Entry<String, String>> runnerOptions = new ArrayList<>();
+		for (final Entry<String, String> option : options.entrySet()) {
+			final String name = option.getKey();
+			final String value = option.getValue();
+			if (value == null) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name);
+			}
+			try {
+				if (OPTION_ACTIONS.equals(name)) {
+					actionCounts = Arrays.stream(value.split(LIST_SEPARATOR)).map(String::trim)
+							.mapToInt(Integer::parseInt).toArray();
+				} else if (OPTION_BASELINE.equals(name)) {
+					baseline = value;
+				} else if (OPTION_BENCHMARKS.equals(name)) {
+					benchmarks = parseEnumListOption(EBenchmark.class, name, value);
+				} else if (OPTION_FAMILIES.equals(name)) {
+					families = parseEnumListOption(EGameFamily.class, name, value);
+				} else if (OPTION_OUTPUT.equals(name)) {
+					output = value;
+				} else if (OPTION_REGRESSION_THRESHOLD.equals(name)) {
+					regressionThreshold = Double.parseDouble(value);
+				} else if (OPTION_SEED.equals(name)) {
+					seed = Long.parseLong(value);
+				} else {
+					runnerOptions.add(option);
+				}
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name
+						+ SolveGame.OPTION_VALUE_SEPARATOR + value, e);
+			}
+		}
+		final BenchmarkRunner runner = new BenchmarkRunner(new GameGenerator(seed));
+		applyRunnerOptions(runner, runnerOptions);
+
+		final List<BenchmarkResult> results = new ArrayList<>();
+		for (final EBenchmark benchmark : benchmarks) {
+			for (final EGameFamily family : families) {
+				for (final int actionCount : actionCounts) {
+					for (final BenchmarkResult result : runner.run(benchmark, family, actionCount)) {
+						System.out.println(result);
+						results.add(result);
+					}
+				}
+			}
+		}
+
+		writeResults(results, new File(output));
+		if (baseline != null) {
+			compareToBaseline(results, new File(baseline), regressionThreshold);
+		}
+	}
+
+	/**
+	 * Applies the given command line options to a given benchmark runner.
+	 * 
+	 * @param runner
+	 *            Benchmark runner to apply the options to
+	 * @param options
+	 *            Options to apply, as pairs of name and value
+	 * @throws IllegalArgumentException
+	 *             If an option is unknown or has a malformed value
+	 */
+	private static void applyRunnerOptions(final BenchmarkRunner runner, final List<Entry<String, String>> options) {
+		for (final Entry<String, String> option : options) {
+			final String name = option.getKey();
+			final String value = option.getValue();
+			try {
+				if (OPTION_ENGINES.equals(name)) {
+					runner.setEngines(parseEnumListOption(ESolvingEngine.class, name, value));
+				} else if (OPTION_ENUMERATION_LIMIT.equals(name)) {
+					runner.setEnumerationLimit(Integer.parseInt(value));
+				} else if (OPTION_ITERATION_TIME.equals(name)) {
+					runner.setIterationTime(Long.parseLong(value));
+				} else if (OPTION_ITERATIONS.equals(name)) {
+					runner.setIterations(Integer.parseInt(value));
+				} else if (OPTION_MAX_EQUILIBRIA.equals(name)) {
+					runner.setMaxEquilibria(Integer.parseInt(value));
+				} else if (OPTION_SOLVER.equals(name)) {
+					runner.setSolverBackend(SolveGame.parseEnumOption(ESolverBackend.class, name, value));
+				} else if (OPTION_WARMUP.equals(name)) {
+					runner.setWarmupIterations(Integer.parseInt(value));
+				} else {
+					throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name);
+				}
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name
+						+ SolveGame.OPTION_VALUE_SEPARATOR + value, e);
+			}
+		}
+	}
+
+	/**
+	 * Compares the given results to the results of an earlier run and prints
+	 * the results that got slower by more than the threshold. Results without
+	 * a counterpart in the baseline are ignored.
+	 * 
+	 * @param results
+	 *            Results of the current run
+	 * @param baselineFile
+	 *            File that holds the results of the earlier run, as written by
+	 *            {@link #writeResults(List, File)}
+	 * @param regressionThreshold
+	 *            Relative slowdown from which on a result is reported
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the baseline
+	 * @throws IllegalArgumentException
+	 *             If a line of the baseline is malformed
+	 */
+	private static void compareToBaseline(final List<BenchmarkResult> results, final File baselineFile,
+			final double regressionThreshold) throws IOException {
+		final Map<String, BenchmarkResult> baselineResults = new HashMap<>();
+		for (final String line : Files.readAllLines(baselineFile.toPath(), StandardCharsets.UTF_8)) {
+			if (line.trim().isEmpty() || line.equals(BenchmarkResult.CSV_HEADER)) {
+				continue;
+			}
+			final BenchmarkResult baselineResult = BenchmarkResult.fromCsv(line);
+			baselineResults.put(baselineResult.getKey(), baselineResult);
+		}
+
+		int comparedCount = 0;
+		int regressionCount = 0;
+		for (final BenchmarkResult result : results) {
+			final BenchmarkResult baselineResult = baselineResults.get(result.getKey());
+			if (baselineResult == null) {
+				continue;
+			}
+			comparedCount++;
+			final double change = result.getMeanNanos() / baselineResult.getMeanNanos() - 1;
+			if (change > regressionThreshold) {
+				regressionCount++;
+				System.out.println("Regression: " + result + ", baseline "
+						+ MathUtil.roundNumberTo(Double.valueOf(baselineResult.getMeanNanos()), DECIMAL_SCALE) + " ns/op, +"
+						+ MathUtil.roundNumberTo(Double.valueOf(100 * change), DECIMAL_SCALE) + "%");
+			}
+		}
+		System.out.println("Compared " + comparedCount + " results to the baseline, found " + regressionCount
+				+ " regressions.");
+	}
+
+	/**
+	 * Parses the value of an option that is a list of constants of the given
+	 * enum, separated by commas. Every constant is matched like by
+	 * {@link SolveGame#parseEnumOption(Class, String, String)}.
+	 * 
+	 * @param <E>
+	 *            The actual class of the enum
+	 * @param enumClass
+	 *            Class of the enum
+	 * @param name
+	 *            Name of the option
+	 * @param value
+	 *            Value of the option, not <tt>null</tt>
+	 * @return The constants named by the value
+	 * @throws IllegalArgumentException
+	 *             If an element of the value does not name a constant of the
+	 *             enum
+	 */
+	private static <E extends Enum<E>> Set<E> parseEnumListOption(final Class<E> enumClass, final String name,
+			final String value) {
+		final Set<E> constants = EnumSet.noneOf(enumClass);
+		for (final String element : value.split(LIST_SEPARATOR)) {
+			constants.add(SolveGame.parseEnumOption(enumClass, name, element));
+		}
+		return constants;
+	}
+
+	/**
+	 * Writes the given results to the given file, as comma separated values
+	 * with a header line.
+	 * 
+	 * @param results
+	 *            Results to write
+	 * @param file
+	 *            File to write the results to, it is replaced if it already
+	 *            exists
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the file
+	 */
+	private static void writeResults(final List<BenchmarkResult> results, final File file) throws IOException {
+		try (final BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(BenchmarkResult.CSV_HEADER);
+			writer.newLine();
+			for (final BenchmarkResult result : results) {
+				writer.write(result.toCsv());
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private RunBenchmarks() {
+
+	}
+}
@@ -0,0 +1,86 @@
+package de.tischner.nashfinder;
+
+/**
+ * Utility class that selects the {@link EquilibriumSearch} for the settings
+ * of a {@link NashFinder}. The minimax LP of constant-sum games and the
+ * dominance reduction take precedence over the engine. The support set
+ * enumeration solves the specific support sets, if given, and otherwise
+ * enumerates all constellations, in Gray-code order or by the given amount
+ * of worker threads.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class SearchSelector {
+
+	/**
+	 * Whether the equilibria of the given nash finder can be streamed while
+	 * they are found, by a {@link StreamingEnumerationSearch}. This is only
+	 * the case for the default enumeration of all constellations, the results
+	 * of all other searches are computed first.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder in question
+	 * @return <tt>True</tt> if the equilibria can be streamed, <tt>false</tt>
+	 *         otherwise
+	 */
+	public static boolean isStreamable(final NashFinder nashFinder) {
+		return nashFinder.getEngine() == ESolvingEngine.SUPPORT_ENUMERATION
+				&& nashFinder.getSpecificSupportSets() == null && !nashFinder.isUsingDominanceReduction()
+				&& !nashFinder.isUsingGrayCodeOrder() && !isUsingMinimaxSolver(nashFinder);
+	}
+
+	/**
+	 * Selects the search for the settings of the given nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to select the search for
+	 * @return The search to compute the results of the nash finder with
+	 * @throws IllegalStateException
+	 *             If the selected search does not support the settings of the
+	 *             nash finder
+	 */
+	public static EquilibriumSearch select(final NashFinder nashFinder) {
+		if (isUsingMinimaxSolver(nashFinder)) {
+			return new MinimaxSearch(nashFinder);
+		}
+		if (nashFinder.isUsingDominanceReduction()) {
+			return new ReductionSearch(nashFinder);
+		}
+		if (nashFinder.getEngine() != ESolvingEngine.SUPPORT_ENUMERATION) {
+			return new EngineSearch(nashFinder);
+		}
+		if (nashFinder.getSpecificSupportSets() != null) {
+			return new SpecificSupportSetsSearch(nashFinder);
+		}
+		if (nashFinder.isUsingGrayCodeOrder() && !nashFinder.isUsingSymmetricEquilibriaOnly()) {
+			return new GrayCodeEnumerationSearch(nashFinder);
+		}
+		if (nashFinder.getParallelism() <= 1) {
+			return new SequentialEnumerationSearch(nashFinder);
+		}
+		return new ParallelEnumerationSearch(nashFinder);
+	}
+
+	/**
+	 * Whether the game of the given nash finder is solved directly by the
+	 * minimax LP of constant-sum games, instead of by the selected engine.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder in question
+	 * @return <tt>True</tt> if the minimax LP is used, <tt>false</tt>
+	 *         otherwise
+	 */
+	private static boolean isUsingMinimaxSolver(final NashFinder nashFinder) {
+		return nashFinder.isUsingConstantSumSolver() && nashFinder.getSpecificSupportSets() == null
+				&& nashFinder.getEngine() != ESolvingEngine.PURE_EQUILIBRIUM_SCAN
+				&& nashFinder.getGame().getPlayerCount() == 2 && nashFinder.getGame().isConstantSum();
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SearchSelector() {
+
+	}
+}
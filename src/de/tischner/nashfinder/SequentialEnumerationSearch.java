@@ -0,0 +1,70 @@
+package de.tischner.nashfinder;
+
+import java.util.function.Consumer;
+
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+
+/**
+ * Search that enumerates the support set constellations of the game on the
+ * calling thread, in the order of {@link SupportSetSpliterator}. Every
+ * constellation is solved and its result put into the results before the
+ * next one is visited, such that the search stops right at the maximal
+ * amount of equilibria or the deadline of the nash finder. Mirrored
+ * constellations of symmetric games are not solved.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class SequentialEnumerationSearch implements EquilibriumSearch {
+
+	/**
+	 * Constellations to solve.
+	 */
+	private final SupportSetSpliterator mConstellations;
+	/**
+	 * Nash finder to solve the constellations with and to put the results
+	 * into.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search over the constellations of the game of the given
+	 * nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the constellations with and to put the
+	 *            results into
+	 * @throws IllegalStateException
+	 *             If only symmetric equilibria are searched but the game is not
+	 *             symmetric
+	 */
+	public SequentialEnumerationSearch(final NashFinder nashFinder) {
+		this.mNashFinder = nashFinder;
+		this.mConstellations = nashFinder.createSupportSetSpliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.prepareSolving(this.mNashFinder.canMirrorConstellations());
+		final Consumer<CompactSupportSet[]> solveConstellation = (final CompactSupportSet[] constellation) -> {
+			final int foundCount;
+			if (this.mNashFinder.isMirroredConstellation(constellation)) {
+				foundCount = this.mNashFinder.putMirroredResult(constellation);
+			} else {
+				foundCount = this.mNashFinder.putResult(constellation,
+						this.mNashFinder.solveConstellation(constellation));
+			}
+			this.mNashFinder.setFoundCount(this.mNashFinder.getFoundCount() + foundCount);
+		};
+		boolean hasNext = true;
+		while (hasNext && !this.mNashFinder.isStopRequested()) {
+			hasNext = this.mConstellations.tryAdvance(solveConstellation);
+		}
+	}
+}
@@ -1,6 +1,20 @@
 package de.tischner.nashfinder;
 
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.tischner.nashfinder.game.StrategicGame;
 import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.metrics.EPhase;
+import de.tischner.nashfinder.metrics.SolverMetrics;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.JsonLinesEquilibriumWriter;
+import de.tischner.nashfinder.util.StrategicGameParser;
 
 /**
  * Command line program that solves strategic games by solving <i>linear
@@ -19,6 +33,82 @@ public final class SolveGame {
 	 * Maximal length of arguments that are accepted.
 	 */
 	private static final int MAX_ARG_LENGTH = 2;
+	/**
+	 * Option that specifies whether the results only consist of the distinct
+	 * equilibria, under their actual support sets.
+	 */
+	private static final String OPTION_COMPACT = "compact";
+	/**
+	 * Option that specifies whether constant-sum games are solved directly by
+	 * their minimax LP.
+	 */
+	private static final String OPTION_CONSTANT_SUM = "constant-sum";
+	/**
+	 * Option that specifies the engine to find nash equilibria with.
+	 */
+	static final String OPTION_ENGINE = "engine";
+	/**
+	 * Option that specifies whether support set constellations are enumerated
+	 * in Gray-code order with warm-started solvers.
+	 */
+	private static final String OPTION_GRAY_CODE = "gray-code";
+	/**
+	 * Option that specifies the label that the Lemke-Howson engine drops
+	 * initially.
+	 */
+	private static final String OPTION_LABEL = "label";
+	/**
+	 * Option that specifies the maximal amount of distinct equilibria to find.
+	 */
+	static final String OPTION_MAX_EQUILIBRIA = "max-equilibria";
+	/**
+	 * Option that specifies whether metrics of the computation are recorded,
+	 * registered over JMX and printed after the results.
+	 */
+	private static final String OPTION_METRICS = "metrics";
+	/**
+	 * Prefix that identifies an argument as option.
+	 */
+	private static final String OPTION_PREFIX = "--";
+	/**
+	 * Option that specifies whether support set constellations with
+	 * conditionally dominated actions are pruned.
+	 */
+	private static final String OPTION_PRUNING = "pruning";
+	/**
+	 * Option that specifies whether the game is reduced by iterated
+	 * elimination of strictly dominated actions before it is solved.
+	 */
+	private static final String OPTION_REDUCTION = "reduction";
+	/**
+	 * Option that specifies the backend to solve the LP of support set
+	 * constellations with.
+	 */
+	private static final String OPTION_SOLVER = "solver";
+	/**
+	 * Option that specifies whether equilibria are printed as soon as they
+	 * are found, one json object per line.
+	 */
+	private static final String OPTION_STREAM = "stream";
+	/**
+	 * Option that specifies whether only symmetric equilibria of a symmetric
+	 * game are searched.
+	 */
+	private static final String OPTION_SYMMETRIC_ONLY = "symmetric-only";
+	/**
+	 * Option that specifies the amount of worker threads to solve the game
+	 * with.
+	 */
+	static final String OPTION_THREADS = "threads";
+	/**
+	 * Option that specifies the time budget of the computation in
+	 * milliseconds.
+	 */
+	static final String OPTION_TIME_BUDGET = "time-budget";
+	/**
+	 * Separator between the name and the value of an option.
+	 */
+	static final String OPTION_VALUE_SEPARATOR = "=";
 	/**
 	 * Length of arguments that are required.
 	 */
@@ -33,38 +123,232 @@ public final class SolveGame {
 	 * 
 	 * @param args
 	 *            The first argument is the game to solve, as path to a
-	 *            json-file. The second argument is optional and specifies a
-	 *            specific support sets to solve the game. If not given, the
-	 *            game is solved for all possible support set combinations.<br/>
+	 *            json-file or a binary game file. The second argument is
+	 *            optional and specifies a specific support sets to solve the
+	 *            game. If not given, the game is solved for all possible
+	 *            support set combinations.
+	 *            Options in the format <tt>--name=value</tt> may be given at
+	 *            any position, <tt>--threads=4</tt> solves the game with four
+	 *            worker threads and <tt>--solver=dense</tt> uses the pure Java
+	 *            solver instead of <i>lp_solve</i>. The engine is chosen by
+	 *            <tt>--engine=lemke-howson</tt>, which drops the label given by
+	 *            <tt>--label=0</tt>, or by
+	 *            <tt>--engine=lemke-howson-multi-start</tt>,
+	 *            <tt>--engine=porter-nudelman-shoham</tt> or
+	 *            <tt>--engine=pure-equilibrium-scan</tt>, which only finds pure
+	 *            equilibria, all of which stop after the distinct equilibria
+	 *            given by <tt>--max-equilibria=3</tt>. Support set
+	 *            constellations with conditionally dominated actions are
+	 *            skipped by <tt>--pruning=true</tt>, only together with
+	 *            <tt>--compact=true</tt>, and strictly dominated actions are
+	 *            eliminated beforehand by <tt>--reduction=true</tt>.
+	 *            Constellations are visited in Gray-code order with
+	 *            warm-started solvers by <tt>--gray-code=true</tt>.
+	 *            Constant-sum games with two players are solved directly by
+	 *            their minimax LP if neither <tt>--engine</tt> nor
+	 *            <tt>--max-equilibria</tt> is given. Only the one equilibrium
+	 *            of the minimax LP is then printed, under its actual support
+	 *            sets, instead of all constellations with an equilibrium.
+	 *            <tt>--constant-sum=false</tt> always prints the
+	 *            constellations, <tt>--constant-sum=true</tt> also uses the
+	 *            minimax LP with a given engine. Only symmetric equilibria of a
+	 *            symmetric game are searched by <tt>--symmetric-only=true</tt>.
+	 *            Every distinct equilibrium is only reported once, under its
+	 *            actual support sets, by <tt>--compact=true</tt>. The
+	 *            computation stops after <tt>--time-budget=5000</tt>
+	 *            milliseconds and then reports the equilibria found so far and
+	 *            the best epsilon-equilibrium it has seen. Metrics of the
+	 *            parsing and the support enumeration are recorded by
+	 *            <tt>--metrics=true</tt>, they can be inspected over JMX while
+	 *            the game is solved and are printed as json object after the
+	 *            results. Equilibria are printed as soon as they are found, as
+	 *            one json object per line, by <tt>--stream=true</tt>.<br/>
 	 *            <br/>
 	 *            An example call would be:
 	 *            <tt>java SolveGame matching-pennies.json
 	 *            "[H,T][T]"</tt>
 	 */
 	public static void main(final String[] args) {
+		if (args == null) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_WRONG_ARGUMENT_NUMBER);
+		}
+		final List<String> arguments = new ArrayList<>(args.length);
+		final Map<String, String> options = parseOptions(args, arguments);
+
 		// The first argument is not optional and specifies the game file to use
 		// for computation
-		if (args == null || args.length < REQUIRED_ARG_LENGTH) {
+		if (arguments.size() < REQUIRED_ARG_LENGTH) {
 			throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_WRONG_ARGUMENT_NUMBER);
 		}
 		// The second argument is optional and may specify a specific support
 		// sets to use for computation
-		final boolean useSpecificSupportSets = args.length >= MAX_ARG_LENGTH;
+		final boolean useSpecificSupportSets = arguments.size() >= MAX_ARG_LENGTH;
 		String specificSupportSets = null;
 		if (useSpecificSupportSets) {
-			specificSupportSets = args[SUPPORT_SETS_ARG_INDEX];
+			specificSupportSets = arguments.get(SUPPORT_SETS_ARG_INDEX);
 		}
-		final String gameFileName = args[GAME_FILE_ARG_INDEX];
+		final String gameFileName = arguments.get(GAME_FILE_ARG_INDEX);
 
-		NashFinder nashFinder = null;
-		if (useSpecificSupportSets) {
-			nashFinder = new NashFinder(gameFileName, specificSupportSets);
+		// Metrics are set up before the game is parsed, such that parsing is
+		// measured too
+		SolverMetrics metrics = SolverMetrics.none();
+		if (options.containsKey(OPTION_METRICS)
+				&& parseBooleanOption(OPTION_METRICS, options.remove(OPTION_METRICS))) {
+			metrics = new SolverMetrics();
+			metrics.register();
+		}
+		final long startNanos = metrics.startPhase(EPhase.PARSE);
+		final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGame(gameFileName);
+		metrics.endPhase(EPhase.PARSE, startNanos);
+
+		final boolean useStreaming = options.containsKey(OPTION_STREAM)
+				&& parseBooleanOption(OPTION_STREAM, options.remove(OPTION_STREAM));
+		final NashFinder nashFinder = new NashFinder(game, specificSupportSets);
+		nashFinder.setMetrics(metrics);
+		applyOptions(nashFinder, options);
+
+		if (useStreaming) {
+			nashFinder.streamNashEquilibria(
+					new JsonLinesEquilibriumWriter<>(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), game));
 		} else {
-			nashFinder = new NashFinder(gameFileName);
+			nashFinder.computeNashEquilibria();
+			nashFinder.printResults();
 		}
+		if (metrics.isEnabled()) {
+			System.out.println(metrics.getSummary());
+		}
+	}
 
-		nashFinder.computeNashEquilibria();
-		nashFinder.printResults();
+	/**
+	 * Applies the given command line options to a given nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to apply the options to
+	 * @param options
+	 *            Options to apply, by their name. Options without a value are
+	 *            mapped to <tt>null</tt>.
+	 * @throws IllegalArgumentException
+	 *             If an option is unknown or has a malformed value
+	 */
+	static void applyOptions(final NashFinder nashFinder, final Map<String, String> options) {
+		for (final Entry<String, String> option : options.entrySet()) {
+			final String name = option.getKey();
+			final String value = option.getValue();
+			try {
+				if (OPTION_THREADS.equals(name)) {
+					nashFinder.setParallelism(Integer.parseInt(value));
+				} else if (OPTION_COMPACT.equals(name)) {
+					nashFinder.setUseCompactResults(parseBooleanOption(name, value));
+				} else if (OPTION_CONSTANT_SUM.equals(name)) {
+					nashFinder.setUseConstantSumSolver(parseBooleanOption(name, value));
+				} else if (OPTION_ENGINE.equals(name)) {
+					nashFinder.setEngine(parseEnumOption(ESolvingEngine.class, name, value));
+				} else if (OPTION_GRAY_CODE.equals(name)) {
+					nashFinder.setUseGrayCodeOrder(parseBooleanOption(name, value));
+				} else if (OPTION_LABEL.equals(name)) {
+					nashFinder.setInitialDroppedLabel(Integer.parseInt(value));
+				} else if (OPTION_MAX_EQUILIBRIA.equals(name)) {
+					nashFinder.setMaxEquilibria(Integer.parseInt(value));
+				} else if (OPTION_PRUNING.equals(name)) {
+					nashFinder.setUseDominancePruning(parseBooleanOption(name, value));
+				} else if (OPTION_REDUCTION.equals(name)) {
+					nashFinder.setUseDominanceReduction(parseBooleanOption(name, value));
+				} else if (OPTION_SOLVER.equals(name)) {
+					nashFinder.setSolverBackend(parseEnumOption(ESolverBackend.class, name, value));
+				} else if (OPTION_SYMMETRIC_ONLY.equals(name)) {
+					nashFinder.setUseSymmetricEquilibriaOnly(parseBooleanOption(name, value));
+				} else if (OPTION_TIME_BUDGET.equals(name)) {
+					nashFinder.setTimeBudget(Long.parseLong(value));
+				} else {
+					throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name);
+				}
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException(
+						ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name + OPTION_VALUE_SEPARATOR + value, e);
+			}
+		}
+	}
+
+	/**
+	 * Parses the value of an option that is either <tt>true</tt> or
+	 * <tt>false</tt>. The value is matched case-insensitive.
+	 * 
+	 * @param name
+	 *            Name of the option
+	 * @param value
+	 *            Value of the option
+	 * @return The boolean given by the value
+	 * @throws IllegalArgumentException
+	 *             If the value is neither <tt>true</tt> nor <tt>false</tt>
+	 */
+	static boolean parseBooleanOption(final String name, final String value) {
+		if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+			return true;
+		}
+		if (Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+			return false;
+		}
+		throw new IllegalArgumentException(
+				ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name + OPTION_VALUE_SEPARATOR + value);
+	}
+
+	/**
+	 * Parses the value of an option that names a constant of the given enum.
+	 * The value is matched case-insensitive, dashes match underscores.
+	 * 
+	 * @param <E>
+	 *            The actual class of the enum
+	 * @param enumClass
+	 *            Class of the enum
+	 * @param name
+	 *            Name of the option
+	 * @param value
+	 *            Value of the option
+	 * @return The constant named by the value
+	 * @throws IllegalArgumentException
+	 *             If the value does not name a constant of the enum
+	 */
+	static <E extends Enum<E>> E parseEnumOption(final Class<E> enumClass, final String name,
+			final String value) {
+		if (value != null) {
+			final String constantName = value.trim().replace('-', '_');
+			for (final E constant : enumClass.getEnumConstants()) {
+				if (constant.name().equalsIgnoreCase(constantName)) {
+					return constant;
+				}
+			}
+		}
+		throw new IllegalArgumentException(
+				ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name + OPTION_VALUE_SEPARATOR + value);
+	}
+
+	/**
+	 * Separates the options in the format <tt>--name=value</tt> from the
+	 * positional arguments of the given command line arguments.
+	 * 
+	 * @param args
+	 *            Command line arguments to separate
+	 * @param arguments
+	 *            List to add the positional arguments to, in their order
+	 * @return The options by their name, in their order. Options without a
+	 *         value are mapped to <tt>null</tt>.
+	 */
+	static Map<String, String> parseOptions(final String[] args, final List<String> arguments) {
+		final Map<String, String> options = new LinkedHashMap<>();
+		for (final String arg : args) {
+			if (arg.startsWith(OPTION_PREFIX)) {
+				final int separatorIndex = arg.indexOf(OPTION_VALUE_SEPARATOR);
+				if (separatorIndex == -1) {
+					options.put(arg.substring(OPTION_PREFIX.length()), null);
+				} else {
+					options.put(arg.substring(OPTION_PREFIX.length(), separatorIndex),
+							arg.substring(separatorIndex + OPTION_VALUE_SEPARATOR.length()));
+				}
+			} else {
+				arguments.add(arg);
+			}
+		}
+		return options;
 	}
 
 	/**
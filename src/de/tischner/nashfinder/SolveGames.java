@@ -0,0 +1,352 @@
+package de.tischner.nashfinder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Command line program that solves many strategic games in one virtual
+ * machine, such that the throughput is limited by solving and not by starting
+ * a process per game. The games are solved concurrently on a shared pool of
+ * workers, every game by one worker, and the results are written to one file
+ * per game.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolveGames {
+
+	/**
+	 * Prefix of lines in the manifest that are ignored.
+	 */
+	private static final String COMMENT_PREFIX = "#";
+	/**
+	 * Default directory to write the results to.
+	 */
+	private static final String DEFAULT_OUTPUT = "results";
+	/**
+	 * Separator between the name and the extension of a file.
+	 */
+	private static final String EXTENSION_SEPARATOR = ".";
+	/**
+	 * Prefix of the names of hidden files, which are not solved.
+	 */
+	private static final String HIDDEN_FILE_PREFIX = ".";
+	/**
+	 * Option that specifies the directory to write the results to.
+	 */
+	private static final String OPTION_OUTPUT = "output";
+	/**
+	 * Option that specifies the amount of workers that solve games
+	 * concurrently.
+	 */
+	private static final String OPTION_WORKERS = "workers";
+	/**
+	 * Pattern that matches one query of specific support sets in a line of
+	 * the manifest, like <tt>[H,T][T]</tt>.
+	 */
+	private static final Pattern QUERY_PATTERN = Pattern.compile("(\\[[^\\]]*\\])+");
+	/**
+	 * Start of the first query in a line of the manifest.
+	 */
+	private static final String QUERY_START = "[";
+	/**
+	 * Length of arguments that are required.
+	 */
+	private static final int REQUIRED_ARG_LENGTH = 1;
+	/**
+	 * Extension of the files that the results are written to.
+	 */
+	private static final String RESULT_EXTENSION = ".txt";
+	/**
+	 * Argument index of the directory or the manifest of the games to solve.
+	 */
+	private static final int SOURCE_ARG_INDEX = 0;
+
+	/**
+	 * Starts the command line program for solving many strategic games.
+	 * 
+	 * @param args
+	 *            The only argument specifies the games to solve. It is either
+	 *            a directory, whose json-files and binary game files are all
+	 *            solved for all support sets, or a manifest. Every line of the
+	 *            manifest is the path to a game file, relative to the
+	 *            manifest, optionally followed by queries of specific support
+	 *            sets to solve the game for, like
+	 *            <tt>matching-pennies.json [H,T][T] [H][H]</tt>. A game
+	 *            without queries is solved for all support sets. Lines that
+	 *            are empty or start with <tt>#</tt> are ignored.<br/>
+	 *            <br/>
+	 *            Options in the format <tt>--name=value</tt> may be given at
+	 *            any position. <tt>--workers=4</tt> solves four games
+	 *            concurrently, by default one per processor. The results of
+	 *            every game are written to a text file of the same name in
+	 *            the directory given by <tt>--output=results</tt>, in the
+	 *            format of {@link SolveGame}, followed by the results of its
+	 *            queries. All other options configure the solving of every
+	 *            game like for {@link SolveGame#main(String[])}. Games that can
+	 *            not be solved are reported without stopping the others.<br/>
+	 *            <br/>
+	 *            An example call would be:
+	 *            <tt>java SolveGames games --workers=8 --solver=dense</tt>
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the directory or
+	 *             the manifest, or while creating the output directory
+	 * @throws InterruptedException
+	 *             If the current thread was interrupted while waiting for the
+	 *             games to be solved
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException {
+		if (args == null) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_GAMES_WRONG_ARGUMENT_NUMBER);
+		}
+		final List<String> arguments = new ArrayList<>();
+		final Map<String, String> options = SolveGame.parseOptions(args, arguments);
+		if (arguments.size() != REQUIRED_ARG_LENGTH) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_GAMES_WRONG_ARGUMENT_NUMBER);
+		}
+
+		File outputDirectory = new File(DEFAULT_OUTPUT);
+		if (options.containsKey(OPTION_OUTPUT)) {
+			final String output = options.remove(OPTION_OUTPUT);
+			if (output == null) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + OPTION_OUTPUT);
+			}
+			outputDirectory = new File(output);
+		}
+		int workerCount = Runtime.getRuntime().availableProcessors();
+		if (options.containsKey(OPTION_WORKERS)) {
+			final String workers = options.remove(OPTION_WORKERS);
+			try {
+				workerCount = Integer.parseInt(workers);
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + OPTION_WORKERS
+						+ SolveGame.OPTION_VALUE_SEPARATOR + workers, e);
+			}
+			if (workerCount < 1) {
+				throw new IllegalArgumentException(ErrorMessages.PARALLELISM_ILLEGAL + " Got: " + workerCount);
+			}
+		}
+		// Options are validated before solving, such that a malformed option
+		// does not fail every game
+		SolveGame.applyOptions(new NashFinder(new StrategicGame<>(), null), options);
+
+		final File source = new File(arguments.get(SOURCE_ARG_INDEX));
+		final Map<File, List<String>> games;
+		if (source.isDirectory()) {
+			games = listGames(source);
+		} else {
+			games = readManifest(source);
+		}
+		Files.createDirectories(outputDirectory.toPath());
+
+		final long startNanos = System.nanoTime();
+		final Set<String> resultFileNames = new HashSet<>();
+		final List<Future<String>> reports = new ArrayList<>(games.size());
+		final ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+		try {
+			for (final Entry<File, List<String>> game : games.entrySet()) {
+				final File resultFile = new File(outputDirectory,
+						toResultFileName(game.getKey(), resultFileNames, reports.size()));
+				reports.add(workers.submit(() -> solveGame(game.getKey(), game.getValue(), options, resultFile)));
+			}
+
+			int solvedCount = 0;
+			for (final Future<String> report : reports) {
+				try {
+					System.out.println(report.get());
+					solvedCount++;
+				} catch (final ExecutionException e) {
+					System.err.println(e.getCause().getMessage());
+				}
+			}
+			System.out.println("Solved " + solvedCount + " of " + games.size() + " games in "
+					+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms.");
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * Lists the games of the given directory, which are all files that are
+	 * not hidden, in the order of their names. Every game is solved for all
+	 * support sets.
+	 * 
+	 * @param directory
+	 *            Directory that contains the games
+	 * @return The game files with their queries, where <tt>null</tt> queries
+	 *         all support sets
+	 * @throws IOException
+	 *             If the directory could not be listed
+	 */
+	private static Map<File, List<String>> listGames(final File directory) throws IOException {
+		final File[] gameFiles = directory
+				.listFiles(file -> file.isFile() && !file.getName().startsWith(HIDDEN_FILE_PREFIX));
+		if (gameFiles == null) {
+			throw new IOException(directory.getPath());
+		}
+		Arrays.sort(gameFiles);
+
+		final Map<File, List<String>> games = new LinkedHashMap<>();
+		for (final File gameFile : gameFiles) {
+			games.put(gameFile, Collections.singletonList(null));
+		}
+		return games;
+	}
+
+	/**
+	 * Reads the games of the given manifest, in the order of their lines.
+	 * Queries of games that are listed on multiple lines are merged.
+	 * 
+	 * @param manifest
+	 *            Manifest that lists the games, as described by
+	 *            {@link #main(String[])}
+	 * @return The game files with their queries, where <tt>null</tt> queries
+	 *         all support sets
+	 * @throws IOException
+	 *             If the manifest could not be read
+	 * @throws IllegalArgumentException
+	 *             If a line does not start with the path to a game file
+	 */
+	private static Map<File, List<String>> readManifest(final File manifest) throws IOException {
+		final File manifestDirectory = manifest.getAbsoluteFile().getParentFile();
+		final Map<File, List<String>> games = new LinkedHashMap<>();
+		for (final String line : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+			final String entry = line.trim();
+			if (entry.isEmpty() || entry.startsWith(COMMENT_PREFIX)) {
+				continue;
+			}
+			int queryStart = entry.indexOf(QUERY_START);
+			if (queryStart == -1) {
+				queryStart = entry.length();
+			}
+			final String gamePath = entry.substring(0, queryStart).trim();
+			if (gamePath.isEmpty()) {
+				throw new IllegalArgumentException(ErrorMessages.SOLVE_GAMES_MANIFEST_INVALID + " Got: " + line);
+			}
+			File gameFile = new File(gamePath);
+			if (!gameFile.isAbsolute()) {
+				gameFile = new File(manifestDirectory, gamePath);
+			}
+
+			final List<String> queries = games.computeIfAbsent(gameFile, file -> new ArrayList<>());
+			if (queryStart == entry.length()) {
+				queries.add(null);
+				continue;
+			}
+			final Matcher queryMatcher = QUERY_PATTERN.matcher(entry.substring(queryStart));
+			while (queryMatcher.find()) {
+				queries.add(queryMatcher.group());
+			}
+		}
+		return games;
+	}
+
+	/**
+	 * Solves the given game for the given queries and writes the results to
+	 * the given file.
+	 * 
+	 * @param gameFile
+	 *            File that contains the game to solve
+	 * @param queries
+	 *            Specific support sets to solve the game for, in the format
+	 *            <tt>[H,T][T]</tt>, where <tt>null</tt> queries all support
+	 *            sets
+	 * @param options
+	 *            Options to apply to every nash finder, see
+	 *            {@link SolveGame#applyOptions(NashFinder, Map)}
+	 * @param resultFile
+	 *            File to write the results to
+	 * @return A report of the solved game to print
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the results
+	 */
+	private static String solveGame(final File gameFile, final List<String> queries,
+			final Map<String, String> options, final File resultFile) throws IOException {
+		final long startNanos = System.nanoTime();
+		final String lineSeparator = System.lineSeparator();
+		final StrategicGame<String, String> game;
+		try {
+			game = StrategicGameParser.parseStrategicGame(gameFile);
+		} catch (final RuntimeException e) {
+			throw new IllegalArgumentException(gameFile.getPath() + ": " + e.getMessage(), e);
+		}
+
+		final StringBuilder results = new StringBuilder();
+		for (final String query : queries) {
+			final NashFinder nashFinder;
+			try {
+				nashFinder = new NashFinder(game, query);
+				SolveGame.applyOptions(nashFinder, options);
+				nashFinder.computeNashEquilibria();
+			} catch (final RuntimeException e) {
+				throw new IllegalArgumentException(gameFile.getPath() + " " + query + ": " + e.getMessage(), e);
+			}
+			if (results.length() != 0) {
+				results.append(lineSeparator);
+			}
+			results.append(nashFinder).append(lineSeparator);
+		}
+		Files.write(resultFile.toPath(), results.toString().getBytes(StandardCharsets.UTF_8));
+
+		return gameFile.getPath() + " -> " + resultFile.getPath() + " ("
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms)";
+	}
+
+	/**
+	 * Gets the name of the file to write the results of the given game to,
+	 * which is the name of the game file with another extension. If the name
+	 * is already used by another game, the index of the game is appended and
+	 * increased until the name is not used yet.
+	 * 
+	 * @param gameFile
+	 *            File that contains the game
+	 * @param usedNames
+	 *            Names that are already used, the returned name is added
+	 * @param gameIndex
+	 *            Index of the game in the order of the games
+	 * @return The name of the file to write the results to
+	 */
+	private static String toResultFileName(final File gameFile, final Set<String> usedNames, final int gameIndex) {
+		String name = gameFile.getName();
+		final int extensionStart = name.lastIndexOf(EXTENSION_SEPARATOR);
+		if (extensionStart > 0) {
+			name = name.substring(0, extensionStart);
+		}
+		String resultFileName = name + RESULT_EXTENSION;
+		int suffix = gameIndex;
+		while (!usedNames.add(resultFileName)) {
+			resultFileName = name + "-" + suffix + RESULT_EXTENSION;
+			suffix++;
+		}
+		return resultFileName;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SolveGames() {
+
+	}
+}
@@ -0,0 +1,604 @@
+package de.tischner.nashfinder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.util.JsonLinesEquilibriumWriter;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Command line program that runs a local server which solves strategic games
+ * over <i>HTTP</i>, such that a warm virtual machine solves many games
+ * without starting a process per game. Games are posted in the json format
+ * to <tt>/solve</tt>, the equilibria are returned as json object like
+ * <tt>{"equilibria":[...],"timeBudgetExceeded":false}</tt>, where every
+ * equilibrium is given in the format of {@link JsonLinesEquilibriumWriter}.
+ * Failures are returned as <tt>{"error":"..."}</tt>.<br/>
+ * <br/>
+ * The server requires Java 11, like the flight recorder events of
+ * {@link de.tischner.nashfinder.metrics.SupportSolveEvent}. Every request is
+ * handled on a virtual thread from Java 21 on, and otherwise on a thread of its
+ * own. Games are solved by a bounded pool of workers with a bounded queue.
+ * Requests are admitted before their body is read, requests that do not fit
+ * into the queue are rejected with status <tt>503</tt> instead of slowing down
+ * all others. Requests whose game is not solved in time, which happens if the
+ * workers are contended, also get status <tt>503</tt>. Bodies that exceed the
+ * size limit are rejected with status <tt>413</tt>. Requests may only change a
+ * few options and can not exceed the threads and the time budget of the server,
+ * see {@link #main(String[])}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolveServer {
+
+	/**
+	 * Name of the header that holds the length of the body.
+	 */
+	private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+	/**
+	 * Name of the header that holds the type of the body.
+	 */
+	private static final String CONTENT_TYPE_HEADER = "Content-Type";
+	/**
+	 * Type of the bodies of responses.
+	 */
+	private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+	/**
+	 * Default size limit of the bodies of requests in bytes.
+	 */
+	private static final int DEFAULT_MAX_BODY_BYTES = 1 << 20;
+	/**
+	 * Default port to listen on.
+	 */
+	private static final int DEFAULT_PORT = 8080;
+	/**
+	 * Default capacity of the queue of games per worker.
+	 */
+	private static final int DEFAULT_QUEUE_CAPACITY_PER_WORKER = 4;
+	/**
+	 * Default time budget of the games in milliseconds, such that no request
+	 * occupies a worker for long.
+	 */
+	private static final String DEFAULT_TIME_BUDGET = "5000";
+	/**
+	 * Method of requests that post a game.
+	 */
+	private static final String METHOD_POST = "POST";
+	/**
+	 * Option that specifies the size limit of the bodies of requests in
+	 * bytes.
+	 */
+	private static final String OPTION_MAX_BODY = "max-body";
+	/**
+	 * Option that specifies the port to listen on.
+	 */
+	private static final String OPTION_PORT = "port";
+	/**
+	 * Option that specifies the capacity of the queue of games that wait for
+	 * a worker.
+	 */
+	private static final String OPTION_QUEUE = "queue";
+	/**
+	 * Parameter of requests that specifies the specific support sets to solve
+	 * the game for.
+	 */
+	private static final String OPTION_SUPPORT_SETS = "support-sets";
+	/**
+	 * Option that specifies the amount of workers that solve games
+	 * concurrently.
+	 */
+	private static final String OPTION_WORKERS = "workers";
+	/**
+	 * Separator between the parameters of a request.
+	 */
+	private static final String QUERY_PARAMETER_SEPARATOR = "&";
+	/**
+	 * Size of the buffer that the bodies of requests are read with.
+	 */
+	private static final int READ_BUFFER_SIZE = 8192;
+	/**
+	 * Options that parameters of a request may give.
+	 */
+	private static final Set<String> REQUEST_OPTIONS = new HashSet<>(Arrays.asList(OPTION_SUPPORT_SETS,
+			SolveGame.OPTION_ENGINE, SolveGame.OPTION_MAX_EQUILIBRIA, SolveGame.OPTION_THREADS,
+			SolveGame.OPTION_TIME_BUDGET));
+	/**
+	 * Name of the header that tells rejected or timed out clients when to
+	 * retry.
+	 */
+	private static final String RETRY_AFTER_HEADER = "Retry-After";
+	/**
+	 * Seconds after which rejected or timed out clients should retry.
+	 */
+	private static final String RETRY_AFTER_SECONDS = "1";
+	/**
+	 * Path that games are posted to.
+	 */
+	private static final String SOLVE_PATH = "/solve";
+	/**
+	 * Milliseconds that a game may take beyond its time budget before its
+	 * request stops waiting for it.
+	 */
+	private static final long SOLVE_GRACE_MILLIS = 1000L;
+	/**
+	 * Status of requests that are malformed or whose game can not be solved
+	 * with the given options.
+	 */
+	private static final int STATUS_BAD_REQUEST = 400;
+	/**
+	 * Status of requests whose game could not be solved because of an
+	 * unexpected failure.
+	 */
+	private static final int STATUS_INTERNAL_ERROR = 500;
+	/**
+	 * Status of requests that do not post a game.
+	 */
+	private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+	/**
+	 * Status of requests whose game was solved.
+	 */
+	private static final int STATUS_OK = 200;
+	/**
+	 * Status of requests whose body exceeds the size limit.
+	 */
+	private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+	/**
+	 * Status of requests that are rejected since the server is overloaded or
+	 * whose game was not solved in time.
+	 */
+	private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+	/**
+	 * Seconds that running requests get to finish when the server stops.
+	 */
+	private static final int STOP_DELAY_SECONDS = 1;
+
+	/**
+	 * Starts the command line program for running the solve server.
+	 * 
+	 * @param args
+	 *            Options in the format <tt>--name=value</tt>, all of which are
+	 *            optional. The server listens on the loopback address at the
+	 *            port given by <tt>--port=8080</tt>. Games are solved by
+	 *            <tt>--workers=4</tt> workers, by default one per processor,
+	 *            and up to <tt>--queue=16</tt> games wait for a worker, by
+	 *            default four per worker. Bodies of requests may have up to
+	 *            <tt>--max-body=1048576</tt> bytes. Games are solved with a
+	 *            time budget of <tt>--time-budget=5000</tt> milliseconds. All
+	 *            other options are the defaults for solving every game, like
+	 *            for {@link SolveGame#main(String[])}.<br/>
+	 *            <br/>
+	 *            Requests may override the options <tt>engine</tt>,
+	 *            <tt>max-equilibria</tt>, <tt>threads</tt> and
+	 *            <tt>time-budget</tt> by parameters of the same name and give
+	 *            the specific support sets to solve the game for by
+	 *            <tt>support-sets=[H,T][T]</tt>, for example
+	 *            <tt>/solve?engine=lemke-howson&amp;time-budget=100</tt>.
+	 *            Threads and time budgets above the defaults of the server
+	 *            are lowered to them.<br/>
+	 *            <br/>
+	 *            An example call would be:
+	 *            <tt>java SolveServer --port=8080 --solver=dense</tt>
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while binding the server
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args == null) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_SERVER_WRONG_ARGUMENT_NUMBER);
+		}
+		final List<String> arguments = new ArrayList<>();
+		final Map<String, String> options = SolveGame.parseOptions(args, arguments);
+		if (!arguments.isEmpty()) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_SERVER_WRONG_ARGUMENT_NUMBER);
+		}
+		final int port = removeIntOption(options, OPTION_PORT, DEFAULT_PORT, 0);
+		final int workerCount = removeIntOption(options, OPTION_WORKERS, Runtime.getRuntime().availableProcessors(),
+				1);
+		final int queueCapacity = removeIntOption(options, OPTION_QUEUE,
+				DEFAULT_QUEUE_CAPACITY_PER_WORKER * workerCount, 1);
+		final int maxBodyBytes = removeIntOption(options, OPTION_MAX_BODY, DEFAULT_MAX_BODY_BYTES, 0);
+		options.putIfAbsent(SolveGame.OPTION_TIME_BUDGET, DEFAULT_TIME_BUDGET);
+		// Default options are validated before the server starts, such that a
+		// malformed option does not fail every request
+		final NashFinder limits = new NashFinder(new StrategicGame<>(), null);
+		SolveGame.applyOptions(limits, options);
+
+		// Requests are admitted before their body is read, one per worker and
+		// place in the queue, such that the pool does not reject games
+		final Semaphore admission = new Semaphore(workerCount + queueCapacity);
+		final ExecutorService solvePool = new ThreadPoolExecutor(workerCount, workerCount, 0L,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+		final ExecutorService requestExecutor = createRequestExecutor();
+		final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+				0);
+		server.createContext(SOLVE_PATH,
+				exchange -> handleSolve(exchange, solvePool, admission, options, limits, maxBodyBytes));
+		server.setExecutor(requestExecutor);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			server.stop(STOP_DELAY_SECONDS);
+			requestExecutor.shutdown();
+			solvePool.shutdownNow();
+		}));
+		server.start();
+
+		final InetSocketAddress address = server.getAddress();
+		System.out.println("Listening on http://" + address.getHostString() + ":" + address.getPort() + SOLVE_PATH
+				+ " with " + workerCount + " workers and a queue of " + queueCapacity + " games.");
+	}
+
+	/**
+	 * Creates the executor that handles the requests. It starts a virtual
+	 * thread per request if the Java version supports them, which is looked up
+	 * by reflection such that Java 11 to 20 can still run the server.
+	 * Otherwise it starts a thread per request, which is reused by later
+	 * requests.
+	 * 
+	 * @return The executor that handles the requests
+	 */
+	private static ExecutorService createRequestExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (final ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+	/**
+	 * Handles a request that posts a game to solve. The parameters are
+	 * checked first, then the request is admitted, unless all workers are busy
+	 * and the queue is full. Only then its body is read, the game is parsed
+	 * on the thread of the request and solved by the pool.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param solvePool
+	 *            Pool that solves the games
+	 * @param admission
+	 *            Permits of the requests that may be solved or wait for a
+	 *            worker
+	 * @param defaultOptions
+	 *            Options for solving every game, by their name, which
+	 *            parameters of the request override
+	 * @param limits
+	 *            Nash finder with the default options applied, whose threads
+	 *            and time budget requests can not exceed
+	 * @param maxBodyBytes
+	 *            Size limit of the body of the request in bytes
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the request or
+	 *             sending the response
+	 */
+	private static void handleSolve(final HttpExchange exchange, final ExecutorService solvePool,
+			final Semaphore admission, final Map<String, String> defaultOptions, final NashFinder limits,
+			final int maxBodyBytes) throws IOException {
+		try {
+			if (!METHOD_POST.equalsIgnoreCase(exchange.getRequestMethod())) {
+				sendError(exchange, STATUS_METHOD_NOT_ALLOWED, ErrorMessages.SOLVE_SERVER_METHOD_NOT_ALLOWED);
+				return;
+			}
+			final Map<String, String> options = new LinkedHashMap<>(defaultOptions);
+			try {
+				final Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+				for (final String name : parameters.keySet()) {
+					if (!REQUEST_OPTIONS.contains(name)) {
+						throw new IllegalArgumentException(ErrorMessages.SOLVE_SERVER_ILLEGAL_PARAMETER + " Got: " + name);
+					}
+				}
+				options.putAll(parameters);
+			} catch (final IllegalArgumentException e) {
+				sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+				return;
+			}
+
+			if (!admission.tryAcquire()) {
+				sendUnavailable(exchange, ErrorMessages.SOLVE_SERVER_OVERLOADED);
+				return;
+			}
+			try {
+				solveAdmitted(exchange, solvePool, options, limits, maxBodyBytes);
+			} finally {
+				admission.release();
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Parses the parameters of the given query of a request, in the format
+	 * <tt>name=value&amp;name=value</tt>.
+	 * 
+	 * @param rawQuery
+	 *            The query, still URL-encoded, or <tt>null</tt> if there is
+	 *            none
+	 * @return The decoded parameters by their name, in their order.
+	 *         Parameters without a value are mapped to <tt>null</tt>.
+	 * @throws IllegalArgumentException
+	 *             If a parameter is not correctly URL-encoded
+	 */
+	private static Map<String, String> parseQuery(final String rawQuery) {
+		final Map<String, String> parameters = new LinkedHashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return parameters;
+		}
+		for (final String parameter : rawQuery.split(QUERY_PARAMETER_SEPARATOR)) {
+			final int separatorIndex = parameter.indexOf(SolveGame.OPTION_VALUE_SEPARATOR);
+			if (separatorIndex == -1) {
+				parameters.put(URLDecoder.decode(parameter, StandardCharsets.UTF_8), null);
+			} else {
+				parameters.put(URLDecoder.decode(parameter.substring(0, separatorIndex), StandardCharsets.UTF_8),
+						URLDecoder.decode(parameter.substring(separatorIndex + SolveGame.OPTION_VALUE_SEPARATOR.length()),
+								StandardCharsets.UTF_8));
+			}
+		}
+		return parameters;
+	}
+
+	/**
+	 * Reads the body of the given request, unless it exceeds the given size
+	 * limit. The length announced by the request is checked before anything
+	 * is read, bodies without a length are read until the limit is exceeded.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param maxBodyBytes
+	 *            Size limit of the body in bytes
+	 * @return The body, decoded as <i>UTF-8</i>, or <tt>null</tt> if it
+	 *         exceeds the size limit
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the body
+	 */
+	private static String readBody(final HttpExchange exchange, final int maxBodyBytes) throws IOException {
+		final String contentLength = exchange.getRequestHeaders().getFirst(CONTENT_LENGTH_HEADER);
+		if (contentLength != null) {
+			try {
+				if (Long.parseLong(contentLength.trim()) > maxBodyBytes) {
+					return null;
+				}
+			} catch (final NumberFormatException e) {
+				// The limit is still enforced while reading
+			}
+		}
+
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[READ_BUFFER_SIZE];
+		final InputStream requestBody = exchange.getRequestBody();
+		int readCount = requestBody.read(buffer);
+		while (readCount != -1) {
+			if (body.size() + readCount > maxBodyBytes) {
+				return null;
+			}
+			body.write(buffer, 0, readCount);
+			readCount = requestBody.read(buffer);
+		}
+		return new String(body.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Removes the given option, whose value is an integer, from the given
+	 * options and parses it.
+	 * 
+	 * @param options
+	 *            Options to remove the option from
+	 * @param name
+	 *            Name of the option
+	 * @param defaultValue
+	 *            Value to use if the option is not given
+	 * @param minimum
+	 *            The smallest allowed value
+	 * @return The value of the option or the default value if it is not given
+	 * @throws IllegalArgumentException
+	 *             If the value is no integer or smaller than the minimum
+	 */
+	private static int removeIntOption(final Map<String, String> options, final String name, final int defaultValue,
+			final int minimum) {
+		if (!options.containsKey(name)) {
+			return defaultValue;
+		}
+		final String value = options.remove(name);
+		try {
+			final int parsedValue = Integer.parseInt(value);
+			if (parsedValue >= minimum) {
+				return parsedValue;
+			}
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException(ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name
+					+ SolveGame.OPTION_VALUE_SEPARATOR + value, e);
+		}
+		throw new IllegalArgumentException(
+				ErrorMessages.SOLVE_GAME_ILLEGAL_OPTION + " Got: " + name + SolveGame.OPTION_VALUE_SEPARATOR + value);
+	}
+
+	/**
+	 * Sends the given json object as response to the given request.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param status
+	 *            Status of the response
+	 * @param json
+	 *            Json object to send as body
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the response
+	 */
+	private static void send(final HttpExchange exchange, final int status, final String json) throws IOException {
+		final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, CONTENT_TYPE_JSON);
+		exchange.sendResponseHeaders(status, body.length);
+		try (final OutputStream responseBody = exchange.getResponseBody()) {
+			responseBody.write(body);
+		}
+	}
+
+	/**
+	 * Sends the given error message as response to the given request.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param status
+	 *            Status of the response
+	 * @param message
+	 *            The error message
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the response
+	 */
+	private static void sendError(final HttpExchange exchange, final int status, final String message)
+			throws IOException {
+		final StringBuilder json = new StringBuilder("{\"error\":");
+		JsonLinesEquilibriumWriter.appendJsonString(json, String.valueOf(message));
+		json.append('}');
+		send(exchange, status, json.toString());
+	}
+
+	/**
+	 * Sends the given error message as response to the given request that
+	 * could not be served by the server at the moment, the client is told
+	 * when to retry.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param message
+	 *            The error message
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the response
+	 */
+	private static void sendUnavailable(final HttpExchange exchange, final String message) throws IOException {
+		exchange.getResponseHeaders().set(RETRY_AFTER_HEADER, RETRY_AFTER_SECONDS);
+		sendError(exchange, STATUS_SERVICE_UNAVAILABLE, message);
+	}
+
+	/**
+	 * Solves the game of the given nash finder and builds the response.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the game with, all options are applied
+	 * @param game
+	 *            The game to solve
+	 * @return The equilibria of the game as json object
+	 */
+	private static String solve(final NashFinder nashFinder, final StrategicGame<String, String> game) {
+		nashFinder.computeNashEquilibria();
+		final StringWriter equilibria = new StringWriter();
+		nashFinder.publishResults(new JsonLinesEquilibriumWriter<>(equilibria, game));
+
+		final StringBuilder json = new StringBuilder("{\"equilibria\":[");
+		json.append(equilibria.toString().trim().replace('\n', ','));
+		json.append("],\"timeBudgetExceeded\":").append(nashFinder.isTimeBudgetExceeded()).append('}');
+		return json.toString();
+	}
+
+	/**
+	 * Solves the game of an admitted request and sends the response. The body
+	 * is read and parsed on the thread of the request, the game is then solved
+	 * by the pool. The request waits for the game at most a short grace period
+	 * longer than its time budget. If the request fails while waiting or
+	 * sending, the game is cancelled such that it does not occupy a worker.
+	 * 
+	 * @param exchange
+	 *            Exchange of the request
+	 * @param solvePool
+	 *            Pool that solves the games
+	 * @param options
+	 *            Options for solving the game, by their name, including the
+	 *            specific support sets
+	 * @param limits
+	 *            Nash finder with the default options applied, whose threads
+	 *            and time budget the request can not exceed
+	 * @param maxBodyBytes
+	 *            Size limit of the body of the request in bytes
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the request or
+	 *             sending the response
+	 */
+	private static void solveAdmitted(final HttpExchange exchange, final ExecutorService solvePool,
+			final Map<String, String> options, final NashFinder limits, final int maxBodyBytes) throws IOException {
+		final String body = readBody(exchange, maxBodyBytes);
+		if (body == null) {
+			sendError(exchange, STATUS_PAYLOAD_TOO_LARGE, ErrorMessages.SOLVE_SERVER_BODY_TOO_LARGE);
+			return;
+		}
+
+		final StrategicGame<String, String> game;
+		final NashFinder nashFinder;
+		try {
+			final String supportSets = options.remove(OPTION_SUPPORT_SETS);
+			game = StrategicGameParser.parseStrategicGameJsonContent(body);
+			nashFinder = new NashFinder(game, supportSets);
+			SolveGame.applyOptions(nashFinder, options);
+			nashFinder.setParallelism(Math.min(nashFinder.getParallelism(), limits.getParallelism()));
+			nashFinder.setTimeBudget(Math.min(nashFinder.getTimeBudget(), limits.getTimeBudget()));
+		} catch (final IllegalArgumentException | IllegalStateException e) {
+			sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+			return;
+		}
+
+		final Future<String> response;
+		try {
+			response = solvePool.submit(() -> solve(nashFinder, game));
+		} catch (final RejectedExecutionException e) {
+			sendUnavailable(exchange, ErrorMessages.SOLVE_SERVER_OVERLOADED);
+			return;
+		}
+		final long timeBudget = nashFinder.getTimeBudget();
+		final long waitMillis;
+		if (timeBudget > Long.MAX_VALUE - SOLVE_GRACE_MILLIS) {
+			waitMillis = Long.MAX_VALUE;
+		} else {
+			waitMillis = timeBudget + SOLVE_GRACE_MILLIS;
+		}
+		try {
+			send(exchange, STATUS_OK, response.get(waitMillis, TimeUnit.MILLISECONDS));
+		} catch (final TimeoutException e) {
+			sendUnavailable(exchange, ErrorMessages.SOLVE_SERVER_TIMED_OUT);
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IllegalArgumentException || cause instanceof IllegalStateException) {
+				sendError(exchange, STATUS_BAD_REQUEST, cause.getMessage());
+			} else {
+				sendError(exchange, STATUS_INTERNAL_ERROR, ErrorMessages.SOLVE_SERVER_SOLVING_FAILED);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			sendError(exchange, STATUS_INTERNAL_ERROR, ErrorMessages.SOLVE_SERVER_SOLVING_FAILED);
+		} finally {
+			// Does nothing if the game was solved already
+			response.cancel(true);
+		}
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SolveServer() {
+
+	}
+}
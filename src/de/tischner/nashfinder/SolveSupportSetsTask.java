@@ -0,0 +1,97 @@
+package de.tischner.nashfinder;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.concurrent.RecursiveTask;
+
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+
+/**
+ * Fork-join task that solves the support set constellations of a
+ * {@link SupportSetSpliterator} by using a {@link NashFinder}. Spliterators
+ * that are too big get split in halves, idle workers of the pool steal the
+ * remaining halves. The results are returned by the position of their
+ * constellation in the full range of constellations, constellations without
+ * nash equilibrium are left out. Mirrored constellations of symmetric games
+ * are not solved. Once the time budget of the nash finder runs out, the
+ * remaining constellations are not visited at all.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class SolveSupportSetsTask extends RecursiveTask<Map<Long, NashEquilibrium<String, String>>> {
+
+	/**
+	 * Amount of constellations up to which a range is solved directly instead
+	 * of being split further.
+	 */
+	private static final int SEQUENTIAL_THRESHOLD = 8;
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constellations to solve.
+	 */
+	private final transient SupportSetSpliterator mConstellations;
+	/**
+	 * Nash finder to use for solving single constellations.
+	 */
+	private final transient NashFinder mNashFinder;
+
+	/**
+	 * Creates a new task that solves the given support set constellations.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to use for solving single constellations
+	 * @param constellations
+	 *            Constellations to solve
+	 */
+	public SolveSupportSetsTask(final NashFinder nashFinder, final SupportSetSpliterator constellations) {
+		this.mNashFinder = nashFinder;
+		this.mConstellations = constellations;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.concurrent.RecursiveTask#compute()
+	 */
+	@Override
+	protected Map<Long, NashEquilibrium<String, String>> compute() {
+		if (this.mNashFinder.isDeadlineExpired()) {
+			return new HashMap<>();
+		}
+		if (this.mConstellations.estimateSize() > SEQUENTIAL_THRESHOLD) {
+			final SupportSetSpliterator prefix = this.mConstellations.trySplit();
+			if (prefix != null) {
+				final SolveSupportSetsTask prefixTask = new SolveSupportSetsTask(this.mNashFinder, prefix);
+				prefixTask.fork();
+				final Map<Long, NashEquilibrium<String, String>> suffixResults = compute();
+				final Map<Long, NashEquilibrium<String, String>> results = prefixTask.join();
+				results.putAll(suffixResults);
+				return results;
+			}
+		}
+
+		final Map<Long, NashEquilibrium<String, String>> results = new HashMap<>();
+		long position = this.mConstellations.getPosition();
+		final Iterator<CompactSupportSet[]> constellationIter = Spliterators.iterator(this.mConstellations);
+		while (constellationIter.hasNext() && !this.mNashFinder.isDeadlineExpired()) {
+			final CompactSupportSet[] constellation = constellationIter.next();
+			if (!this.mNashFinder.isMirroredConstellation(constellation)) {
+				final NashEquilibrium<String, String> result = this.mNashFinder.solveConstellation(constellation);
+				if (result != null) {
+					results.put(Long.valueOf(position), result);
+				}
+			}
+			position++;
+		}
+		return results;
+	}
+}
@@ -0,0 +1,83 @@
+package de.tischner.nashfinder;
+
+import java.util.Iterator;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Search that solves the game for the specific support sets of a
+ * {@link NashFinder}. The result is put under the given support sets, also
+ * if there is no nash equilibrium for them.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class SpecificSupportSetsSearch implements EquilibriumSearch {
+
+	/**
+	 * Nash finder to solve the support sets with and to put the result into.
+	 */
+	private final NashFinder mNashFinder;
+	/**
+	 * Specific support sets to solve the game for.
+	 */
+	private final List<SupportSet<String, String>> mSupportSets;
+
+	/**
+	 * Creates a new search for the specific support sets of the given nash
+	 * finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the support sets with and to put the
+	 *            result into, it must have specific support sets
+	 * @throws IllegalStateException
+	 *             If a support set belongs to an unknown player or contains an
+	 *             unknown action
+	 */
+	public SpecificSupportSetsSearch(final NashFinder nashFinder) {
+		this.mNashFinder = nashFinder;
+		this.mSupportSets = nashFinder.getSpecificSupportSets();
+		validateSupportSets();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.prepareSolving(false);
+		final NashEquilibrium<String, String> result = this.mNashFinder.solveSupportSets(this.mSupportSets);
+		this.mNashFinder.offerCandidate(result);
+		this.mNashFinder.getResults().put(this.mSupportSets, result);
+	}
+
+	/**
+	 * Validates the specific support sets to solve the game for.
+	 * 
+	 * @throws IllegalStateException
+	 *             If a support set belongs to an unknown player or contains an
+	 *             unknown action
+	 */
+	private void validateSupportSets() {
+		final StrategicGame<String, String> game = this.mNashFinder.getGame();
+		for (final SupportSet<String, String> supportSet : this.mSupportSets) {
+			final String player = supportSet.getPlayer();
+			if (!game.hasPlayer(player)) {
+				throw new IllegalStateException(ErrorMessages.SUPPORT_SET_INVALID);
+			}
+			final Iterator<String> actionIter = supportSet.getActions();
+			while (actionIter.hasNext()) {
+				final String action = actionIter.next();
+				if (!game.hasPlayerAction(player, action)) {
+					throw new IllegalStateException(ErrorMessages.SUPPORT_SET_INVALID);
+				}
+			}
+		}
+	}
+}
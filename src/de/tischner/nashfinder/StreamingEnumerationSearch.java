@@ -0,0 +1,63 @@
+package de.tischner.nashfinder;
+
+import de.tischner.nashfinder.nash.EquilibriumListener;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+
+/**
+ * Search that enumerates the support set constellations of the game and
+ * passes every equilibrium to a listener as soon as it is found, see
+ * {@link EquilibriumPipeline}. The results of the nash finder are not
+ * collected, with compact results only new distinct equilibria are passed.
+ * Mirrored constellations of symmetric games are not solved, their results
+ * are passed along with the ones of the swapped constellations.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class StreamingEnumerationSearch implements EquilibriumSearch {
+
+	/**
+	 * Constellations to solve.
+	 */
+	private final SupportSetSpliterator mConstellations;
+	/**
+	 * Listener to pass found equilibria to.
+	 */
+	private final EquilibriumListener<String, String> mListener;
+	/**
+	 * Nash finder to solve the constellations with.
+	 */
+	private final NashFinder mNashFinder;
+
+	/**
+	 * Creates a new search over the constellations of the game of the given
+	 * nash finder.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder to solve the constellations with, its parallelism
+	 *            is the amount of worker threads
+	 * @param listener
+	 *            Listener to pass found equilibria to, it is not completed
+	 * @throws IllegalStateException
+	 *             If only symmetric equilibria are searched but the game is not
+	 *             symmetric
+	 */
+	public StreamingEnumerationSearch(final NashFinder nashFinder,
+			final EquilibriumListener<String, String> listener) {
+		this.mNashFinder = nashFinder;
+		this.mListener = listener;
+		this.mConstellations = nashFinder.createSupportSetSpliterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.EquilibriumSearch#search()
+	 */
+	@Override
+	public void search() {
+		this.mNashFinder.prepareSolving(this.mNashFinder.canMirrorConstellations());
+		new EquilibriumPipeline(this.mNashFinder, this.mConstellations, this.mListener,
+				this.mNashFinder.getParallelism()).run();
+	}
+}
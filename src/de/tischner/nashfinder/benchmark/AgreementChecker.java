@@ -0,0 +1,695 @@
+package de.tischner.nashfinder.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.tischner.nashfinder.ESolvingEngine;
+import de.tischner.nashfinder.NashFinder;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.EquilibriumStore;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.nash.NashStrategy;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.support.SupportFeasibilitySolver;
+
+/**
+ * Checks that the engines and settings of {@link EAgreementCheck} find the
+ * same equilibria as the reference, on games of generators with consecutive
+ * seeds. Games are deterministic, such that a mismatch can be reproduced by
+ * its seed.<br/>
+ * <br/>
+ * Equilibria are compared by their support sets, the actions with a positive
+ * probability after rounding. The exact support sets are those of the
+ * equilibria that a {@link SupportFeasibilitySolver} finds for every
+ * constellation. Since results are rounded, their epsilon does not tell them
+ * apart from equilibria reliably, a result instead counts as equilibrium if
+ * its support sets are exact ones.<br/>
+ * <br/>
+ * Support enumeration also reports the LP solution of constellations that do
+ * not hold an equilibrium, and its LP does not find every equilibrium, for
+ * example none with negative expected utilities. Settings of the support
+ * enumeration are thus compared to the sequential enumeration of all
+ * constellations, after dropping the results that are no equilibria from
+ * both. Other engines must only report equilibria and are compared to the
+ * exact support sets. Exhaustive settings must find exactly the support sets
+ * of their reference, engines that only find some equilibria must find a
+ * subset of them.<br/>
+ * <br/>
+ * Compact results must equal the full results of the sequential enumeration
+ * after deduplicating them by their strategies, without duplicates and with
+ * the expected utilities of a full result with the same strategies.<br/>
+ * <br/>
+ * Settings that skip constellations are compared constellation by
+ * constellation instead, since results of skipped constellations that are no
+ * equilibria may share their support sets with exact ones. Every solved
+ * constellation must have the result of the sequential enumeration and no
+ * skipped constellation may hold an equilibrium.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class AgreementChecker {
+
+	/**
+	 * Checks of settings that skip support set constellations, they are
+	 * compared to the sequential enumeration constellation by constellation.
+	 */
+	private static final Set<EAgreementCheck> CONSTELLATION_CHECKS = EnumSet.of(EAgreementCheck.REDUCTION);
+	/**
+	 * Default amount of games per family and size.
+	 */
+	private static final int DEFAULT_GAME_COUNT = 20;
+	/**
+	 * Checks of settings of the support enumeration, they are compared to the
+	 * sequential enumeration. All other checks but the one of the full results
+	 * are compared to the exact support sets.
+	 */
+	private static final Set<EAgreementCheck> ENUMERATION_CHECKS = EnumSet.of(EAgreementCheck.GRAY_CODE,
+			EAgreementCheck.PARALLEL, EAgreementCheck.STREAM, EAgreementCheck.SYMMETRIC_ONLY);
+	/**
+	 * Amount of worker threads of the checks that run in parallel.
+	 */
+	private static final int PARALLELISM = 4;
+	/**
+	 * Checks whose equilibria only need to be a subset of their reference.
+	 */
+	private static final Set<EAgreementCheck> SUBSET_CHECKS = EnumSet.of(EAgreementCheck.LEMKE_HOWSON,
+			EAgreementCheck.LEMKE_HOWSON_MULTI_START, EAgreementCheck.PURE_EQUILIBRIUM_SCAN,
+			EAgreementCheck.SYMMETRIC_ONLY);
+	/**
+	 * Maximal difference of two probabilities or expected utilities that are
+	 * considered equal. It covers one step of the precision that equilibria
+	 * are rounded to.
+	 */
+	private static final double TOLERANCE = 0.015;
+
+	/**
+	 * Collects the results of the given nash finder, after it computed them.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder whose results to collect
+	 * @return The equilibria of the results, in their order
+	 */
+	private static List<NashEquilibrium<String, String>> collectResults(final NashFinder nashFinder) {
+		final List<NashEquilibrium<String, String>> equilibria = new ArrayList<>();
+		nashFinder.publishResults((supportSets, equilibrium) -> equilibria.add(equilibrium));
+		return equilibria;
+	}
+
+	/**
+	 * Collects the results of the given nash finder by their support set
+	 * constellations, after it computed them.
+	 * 
+	 * @param nashFinder
+	 *            Nash finder whose results to collect, it does not use compact
+	 *            results
+	 * @return The equilibria of the results, keyed by their constellation
+	 */
+	private static Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> collectResultsByConstellation(
+			final NashFinder nashFinder) {
+		final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> equilibria = new HashMap<>();
+		nashFinder.publishResults((supportSets, equilibrium) -> equilibria.put(supportSets, equilibrium));
+		return equilibria;
+	}
+
+	/**
+	 * Collects the support sets of the given equilibria.
+	 * 
+	 * @param game
+	 *            Game the equilibria belong to
+	 * @param equilibria
+	 *            Equilibria whose support sets to collect
+	 * @return The distinct support sets, each as text of the indices of both
+	 *         players
+	 */
+	private static Set<String> collectSupports(final StrategicGame<String, String> game,
+			final List<NashEquilibrium<String, String>> equilibria) {
+		final Set<String> supports = new HashSet<>();
+		for (final NashEquilibrium<String, String> equilibrium : equilibria) {
+			supports.add(Arrays.deepToString(computeSupports(game, equilibrium)));
+		}
+		return supports;
+	}
+
+	/**
+	 * Computes the support set of the given strategy.
+	 * 
+	 * @param strategy
+	 *            Strategy whose support set to compute
+	 * @param actions
+	 *            Actions of the player, in the order they were added to the
+	 *            game
+	 * @return The indices of the actions with a positive probability, in
+	 *         ascending order
+	 */
+	private static int[] computeSupport(final NashStrategy<String> strategy, final List<String> actions) {
+		final List<Integer> support = new ArrayList<>();
+		for (int i = 0; i < actions.size(); i++) {
+			final Number probability = strategy.getActionProbability(actions.get(i));
+			if (probability != null && probability.doubleValue() > 0) {
+				support.add(Integer.valueOf(i));
+			}
+		}
+		return support.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Computes the support sets of the given equilibrium.
+	 * 
+	 * @param game
+	 *            Game the equilibrium belongs to, it has exactly two players
+	 * @param equilibrium
+	 *            Equilibrium whose support sets to compute
+	 * @return The support sets of the first and the second player, as indices
+	 *         of their actions
+	 */
+	private static int[][] computeSupports(final StrategicGame<String, String> game,
+			final NashEquilibrium<String, String> equilibrium) {
+		final String firstPlayer = game.getFirstPlayer();
+		final String secondPlayer = game.getSecondPlayer();
+		return new int[][] {
+				computeSupport(equilibrium.getNashStrategyOfPlayer(firstPlayer),
+						new ArrayList<>(game.getPlayerActions(firstPlayer))),
+				computeSupport(equilibrium.getNashStrategyOfPlayer(secondPlayer),
+						new ArrayList<>(game.getPlayerActions(secondPlayer))) };
+	}
+
+	/**
+	 * Enumerates the equilibria of every support set constellation.
+	 * 
+	 * @param solver
+	 *            Solver of support set constellations of the game
+	 * @return The equilibrium of every constellation that holds one
+	 */
+	private static List<NashEquilibrium<String, String>> enumerateEquilibria(
+			final SupportFeasibilitySolver<String, String> solver) {
+		final List<NashEquilibrium<String, String>> equilibria = new ArrayList<>();
+		final long firstPlayerMaskEnd = 1L << solver.getFirstPlayerActionCount();
+		final long secondPlayerMaskEnd = 1L << solver.getSecondPlayerActionCount();
+		for (long firstPlayerMask = 1L; firstPlayerMask < firstPlayerMaskEnd; firstPlayerMask++) {
+			final int[] firstPlayerSupport = toSupport(firstPlayerMask);
+			for (long secondPlayerMask = 1L; secondPlayerMask < secondPlayerMaskEnd; secondPlayerMask++) {
+				final NashEquilibrium<String, String> equilibrium = solver.solve(firstPlayerSupport,
+						toSupport(secondPlayerMask));
+				if (equilibrium != null) {
+					equilibria.add(equilibrium);
+				}
+			}
+		}
+		return equilibria;
+	}
+
+	/**
+	 * Whether the expected utilities of the given compact result are the ones
+	 * that were reported for a full result with the same strategies.
+	 * 
+	 * @param game
+	 *            Game the results belong to, it has exactly two players
+	 * @param equilibrium
+	 *            Compact result in question
+	 * @param fullResults
+	 *            Full results of every constellation
+	 * @return <tt>True</tt> if a full result has the strategies and expected
+	 *         utilities of the compact result, <tt>false</tt> otherwise
+	 */
+	private static boolean hasReportedUtilities(final StrategicGame<String, String> game,
+			final NashEquilibrium<String, String> equilibrium,
+			final List<NashEquilibrium<String, String>> fullResults) {
+		for (final NashEquilibrium<String, String> fullResult : fullResults) {
+			final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+			store.add(fullResult);
+			if (store.add(equilibrium) == null && hasSameUtilities(game, Collections.singletonList(fullResult),
+					Collections.singletonList(equilibrium))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the given equilibria have the same expected utilities as the
+	 * first equilibrium of the reference. All equilibria of a constant-sum
+	 * game share them.
+	 * 
+	 * @param game
+	 *            Game the equilibria belong to
+	 * @param reference
+	 *            Equilibria of the reference
+	 * @param equilibria
+	 *            Equilibria to compare
+	 * @return <tt>True</tt> if the expected utilities match, <tt>false</tt>
+	 *         otherwise
+	 */
+	private static boolean hasSameUtilities(final StrategicGame<String, String> game,
+			final List<NashEquilibrium<String, String>> reference,
+			final List<NashEquilibrium<String, String>> equilibria) {
+		if (reference.isEmpty() || equilibria.isEmpty()) {
+			return reference.isEmpty() && equilibria.isEmpty();
+		}
+		final NashEquilibrium<String, String> referenceEquilibrium = reference.get(0);
+		for (final NashEquilibrium<String, String> equilibrium : equilibria) {
+			final Iterator<String> playerIter = game.getPlayers();
+			while (playerIter.hasNext()) {
+				final String player = playerIter.next();
+				if (Math.abs(equilibrium.getExpectedUtilityOfPlayer(player).doubleValue() - referenceEquilibrium
+						.getExpectedUtilityOfPlayer(player).doubleValue()) > TOLERANCE) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the given support sets of a check agree with the ones of its
+	 * reference.
+	 * 
+	 * @param check
+	 *            Check the support sets were found by
+	 * @param referenceSupports
+	 *            Support sets of the reference
+	 * @param foundSupports
+	 *            Support sets found by the check
+	 * @return <tt>True</tt> if the support sets are a subset of the reference
+	 *         or, for exhaustive checks, equal to them, <tt>false</tt>
+	 *         otherwise
+	 */
+	private static boolean isAgreeing(final EAgreementCheck check, final Set<String> referenceSupports,
+			final Set<String> foundSupports) {
+		if (SUBSET_CHECKS.contains(check)) {
+			return referenceSupports.containsAll(foundSupports);
+		}
+		return referenceSupports.equals(foundSupports);
+	}
+
+	/**
+	 * Whether the results of a setting that skips constellations agree with
+	 * the ones of the sequential enumeration. Every solved constellation must
+	 * have the result of the sequential enumeration and no skipped
+	 * constellation may hold an equilibrium.
+	 * 
+	 * @param game
+	 *            Game the results belong to, it has exactly two players
+	 * @param solver
+	 *            Solver of support set constellations of the game
+	 * @param reference
+	 *            Results of the sequential enumeration, keyed by their
+	 *            constellation
+	 * @param results
+	 *            Results of the setting, keyed by their constellation
+	 * @return <tt>True</tt> if the results agree, <tt>false</tt> otherwise
+	 */
+	private static boolean isAgreeingByConstellation(final StrategicGame<String, String> game,
+			final SupportFeasibilitySolver<String, String> solver,
+			final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> reference,
+			final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> results) {
+		for (final Entry<List<SupportSet<String, String>>, NashEquilibrium<String, String>> entry : results
+				.entrySet()) {
+			final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+			if (store.add(reference.get(entry.getKey())) == null || store.add(entry.getValue()) != null) {
+				return false;
+			}
+		}
+
+		final List<String> firstPlayerActions = new ArrayList<>(game.getPlayerActions(game.getFirstPlayer()));
+		final List<String> secondPlayerActions = new ArrayList<>(game.getPlayerActions(game.getSecondPlayer()));
+		for (final List<SupportSet<String, String>> supportSets : reference.keySet()) {
+			if (results.containsKey(supportSets)) {
+				continue;
+			}
+			final int[] firstPlayerSupport = toSupport(supportSets.get(0).toCompact(firstPlayerActions).getBitmask());
+			final int[] secondPlayerSupport = toSupport(
+					supportSets.get(1).toCompact(secondPlayerActions).getBitmask());
+			if (solver.solve(firstPlayerSupport, secondPlayerSupport) != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the given compact results are the given full results,
+	 * deduplicated by their strategies. The compact results must not contain
+	 * duplicates and their expected utilities must be the ones of a full
+	 * result with the same strategies.
+	 * 
+	 * @param game
+	 *            Game the results belong to, it has exactly two players
+	 * @param compactResults
+	 *            Compact results in question
+	 * @param fullResults
+	 *            Full results of every constellation
+	 * @return <tt>True</tt> if the compact results are the deduplicated full
+	 *         results, <tt>false</tt> otherwise
+	 */
+	private static boolean isCompactFormOf(final StrategicGame<String, String> game,
+			final List<NashEquilibrium<String, String>> compactResults,
+			final List<NashEquilibrium<String, String>> fullResults) {
+		final EquilibriumStore<String, String> compactStore = new EquilibriumStore<>(game, TOLERANCE);
+		for (final NashEquilibrium<String, String> equilibrium : compactResults) {
+			if (compactStore.add(equilibrium) == null || !hasReportedUtilities(game, equilibrium, fullResults)) {
+				return false;
+			}
+		}
+		final EquilibriumStore<String, String> fullStore = new EquilibriumStore<>(game, TOLERANCE);
+		for (final NashEquilibrium<String, String> equilibrium : fullResults) {
+			fullStore.add(equilibrium);
+		}
+		if (fullStore.size() != compactStore.size()) {
+			return false;
+		}
+		for (final NashEquilibrium<String, String> equilibrium : compactResults) {
+			if (fullStore.add(equilibrium) != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether every one of the given equilibria has the strategies of one of
+	 * the reference equilibria.
+	 * 
+	 * @param game
+	 *            Game the equilibria belong to
+	 * @param reference
+	 *            Equilibria of the reference
+	 * @param equilibria
+	 *            Equilibria to compare
+	 * @return <tt>True</tt> if the reference has the strategies of every
+	 *         equilibrium, <tt>false</tt> otherwise
+	 */
+	private static boolean isSubsetOf(final StrategicGame<String, String> game,
+			final List<NashEquilibrium<String, String>> reference,
+			final List<NashEquilibrium<String, String>> equilibria) {
+		final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+		for (final NashEquilibrium<String, String> equilibrium : reference) {
+			store.add(equilibrium);
+		}
+		for (final NashEquilibrium<String, String> equilibrium : equilibria) {
+			if (store.add(equilibrium) != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Builds the given game again, adding every action after the payoffs of
+	 * the actions before it. The first player adds an action before the
+	 * second player, both until they ran out of actions.
+	 * 
+	 * @param game
+	 *            Game to build again, it has exactly two players
+	 * @return The game built again, with the players, actions and payoffs of
+	 *         the given game
+	 */
+	private static StrategicGame<String, String> rebuildByAppendingActions(final StrategicGame<String, String> game) {
+		final String firstPlayer = game.getFirstPlayer();
+		final String secondPlayer = game.getSecondPlayer();
+		final List<String> firstPlayerActions = new ArrayList<>(game.getPlayerActions(firstPlayer));
+		final List<String> secondPlayerActions = new ArrayList<>(game.getPlayerActions(secondPlayer));
+
+		final StrategicGame<String, String> rebuiltGame = new StrategicGame<>();
+		rebuiltGame.addPlayer(firstPlayer);
+		rebuiltGame.addPlayer(secondPlayer);
+		int rowCount = 0;
+		int columnCount = 0;
+		while (rowCount < firstPlayerActions.size() || columnCount < secondPlayerActions.size()) {
+			if (rowCount < firstPlayerActions.size()) {
+				rebuiltGame.addAction(firstPlayerActions.get(rowCount), firstPlayer);
+				for (int column = 0; column < columnCount; column++) {
+					rebuiltGame.addPayoff(new int[] { game.getPayoff(0, rowCount, column),
+							game.getPayoff(1, rowCount, column) }, rowCount, column);
+				}
+				rowCount++;
+			}
+			if (columnCount < secondPlayerActions.size()) {
+				rebuiltGame.addAction(secondPlayerActions.get(columnCount), secondPlayer);
+				for (int row = 0; row < rowCount; row++) {
+					rebuiltGame.addPayoff(new int[] { game.getPayoff(0, row, columnCount),
+							game.getPayoff(1, row, columnCount) }, row, columnCount);
+				}
+				columnCount++;
+			}
+		}
+		return rebuiltGame;
+	}
+
+	/**
+	 * Converts the given bitmask of a support set to the indices of its
+	 * actions.
+	 * 
+	 * @param mask
+	 *            Bitmask whose bit <tt>i</tt> is set if the action with index
+	 *            <tt>i</tt> is in the support set
+	 * @return The indices of the actions, in ascending order
+	 */
+	private static int[] toSupport(final long mask) {
+		final int[] support = new int[Long.bitCount(mask)];
+		long remainingMask = mask;
+		for (int i = 0; i < support.length; i++) {
+			support[i] = Long.numberOfTrailingZeros(remainingMask);
+			remainingMask &= remainingMask - 1;
+		}
+		return support;
+	}
+
+	/**
+	 * Amount of games per family and size.
+	 */
+	private int mGameCount;
+	/**
+	 * Seed of the generator of the first game, the following games use
+	 * consecutive seeds.
+	 */
+	private final long mSeed;
+	/**
+	 * Backend to solve the LP of support set constellations with.
+	 */
+	private ESolverBackend mSolverBackend;
+
+	/**
+	 * Creates a new checker whose games are derived from the given seed. The
+	 * games are solved with the default backend of {@link NashFinder}.
+	 * 
+	 * @param seed
+	 *            Seed of the generator of the first game, the following games
+	 *            use consecutive seeds
+	 */
+	public AgreementChecker(final long seed) {
+		this.mSeed = seed;
+		this.mGameCount = DEFAULT_GAME_COUNT;
+		this.mSolverBackend = ESolverBackend.LP_SOLVE;
+	}
+
+	/**
+	 * Whether the equilibria of the given check agree with the reference on
+	 * the given game.
+	 * 
+	 * @param check
+	 *            Check to run
+	 * @param game
+	 *            Game to solve, it has exactly two players and the check
+	 *            applies to it by
+	 *            {@link #isApplicable(EAgreementCheck, StrategicGame)}
+	 * @return <tt>True</tt> if the equilibria agree, <tt>false</tt> otherwise
+	 */
+	public boolean agrees(final EAgreementCheck check, final StrategicGame<String, String> game) {
+		if (check == EAgreementCheck.APPENDED_ACTIONS) {
+			final StrategicGame<String, String> rebuiltGame = rebuildByAppendingActions(game);
+			final String firstPlayer = game.getFirstPlayer();
+			final String secondPlayer = game.getSecondPlayer();
+			if (!Arrays.deepEquals(game.getPayoffMatrix(firstPlayer), rebuiltGame.getPayoffMatrix(firstPlayer))
+					|| !Arrays.deepEquals(game.getPayoffMatrix(secondPlayer),
+							rebuiltGame.getPayoffMatrix(secondPlayer))) {
+				return false;
+			}
+			final NashFinder referenceFinder = createNashFinder(game);
+			referenceFinder.computeNashEquilibria();
+			final NashFinder rebuiltFinder = createNashFinder(rebuiltGame);
+			rebuiltFinder.computeNashEquilibria();
+			return collectSupports(game, collectResults(referenceFinder))
+					.equals(collectSupports(rebuiltGame, collectResults(rebuiltFinder)));
+		}
+
+		final NashFinder nashFinder = createNashFinder(game);
+		if (check == EAgreementCheck.CONSTANT_SUM) {
+			nashFinder.setUseConstantSumSolver(true);
+		} else if (check == EAgreementCheck.FULL_RESULTS) {
+			nashFinder.setUseCompactResults(false);
+		} else if (check == EAgreementCheck.GRAY_CODE) {
+			nashFinder.setUseGrayCodeOrder(true);
+		} else if (check == EAgreementCheck.LEMKE_HOWSON) {
+			nashFinder.setEngine(ESolvingEngine.LEMKE_HOWSON);
+		} else if (check == EAgreementCheck.LEMKE_HOWSON_MULTI_START) {
+			nashFinder.setEngine(ESolvingEngine.LEMKE_HOWSON_MULTI_START);
+		} else if (check == EAgreementCheck.PARALLEL) {
+			nashFinder.setParallelism(PARALLELISM);
+		} else if (check == EAgreementCheck.PORTER_NUDELMAN_SHOHAM) {
+			nashFinder.setEngine(ESolvingEngine.PORTER_NUDELMAN_SHOHAM);
+		} else if (check == EAgreementCheck.PRUNING) {
+			nashFinder.setUseDominancePruning(true);
+		} else if (check == EAgreementCheck.PURE_EQUILIBRIUM_SCAN) {
+			nashFinder.setEngine(ESolvingEngine.PURE_EQUILIBRIUM_SCAN);
+		} else if (check == EAgreementCheck.REDUCTION) {
+			nashFinder.setUseCompactResults(false);
+			nashFinder.setUseDominanceReduction(true);
+		} else if (check == EAgreementCheck.STREAM) {
+			nashFinder.setParallelism(PARALLELISM);
+		} else if (check == EAgreementCheck.SYMMETRIC_ONLY) {
+			nashFinder.setUseSymmetricEquilibriaOnly(true);
+		}
+
+		final SupportFeasibilitySolver<String, String> solver = new SupportFeasibilitySolver<>(game);
+		if (CONSTELLATION_CHECKS.contains(check)) {
+			nashFinder.computeNashEquilibria();
+			final NashFinder referenceFinder = createNashFinder(game);
+			referenceFinder.setUseCompactResults(false);
+			referenceFinder.computeNashEquilibria();
+			return isAgreeingByConstellation(game, solver, collectResultsByConstellation(referenceFinder),
+					collectResultsByConstellation(nashFinder));
+		}
+
+		final List<NashEquilibrium<String, String>> equilibria;
+		if (check == EAgreementCheck.STREAM) {
+			equilibria = new ArrayList<>();
+			nashFinder.streamNashEquilibria((supportSets, equilibrium) -> equilibria.add(equilibrium));
+		} else {
+			nashFinder.computeNashEquilibria();
+			equilibria = collectResults(nashFinder);
+		}
+
+		if (check == EAgreementCheck.FULL_RESULTS) {
+			final NashFinder referenceFinder = createNashFinder(game);
+			referenceFinder.computeNashEquilibria();
+			return isCompactFormOf(game, collectResults(referenceFinder), equilibria);
+		}
+		if (check == EAgreementCheck.PRUNING) {
+			final NashFinder referenceFinder = createNashFinder(game);
+			referenceFinder.computeNashEquilibria();
+			return isSubsetOf(game, collectResults(referenceFinder), equilibria);
+		}
+
+		final List<NashEquilibrium<String, String>> exactEquilibria = enumerateEquilibria(solver);
+		final Set<String> exactSupports = collectSupports(game, exactEquilibria);
+		final Set<String> foundSupports = collectSupports(game, equilibria);
+		if (ENUMERATION_CHECKS.contains(check)) {
+			final NashFinder referenceFinder = createNashFinder(game);
+			referenceFinder.computeNashEquilibria();
+			final Set<String> referenceSupports = collectSupports(game, collectResults(referenceFinder));
+			referenceSupports.retainAll(exactSupports);
+			foundSupports.retainAll(exactSupports);
+			return isAgreeing(check, referenceSupports, foundSupports);
+		}
+
+		if (!exactSupports.containsAll(foundSupports)) {
+			return false;
+		}
+		if (check == EAgreementCheck.CONSTANT_SUM) {
+			return hasSameUtilities(game, exactEquilibria, equilibria);
+		}
+		return isAgreeing(check, exactSupports, foundSupports);
+	}
+
+	/**
+	 * Runs the given check on the games of the given family and size.
+	 * 
+	 * @param check
+	 *            Check to run
+	 * @param family
+	 *            Family of the games
+	 * @param actionCount
+	 *            Amount of actions of every player of the games
+	 * @return The result of the check
+	 */
+	public AgreementResult check(final EAgreementCheck check, final EGameFamily family, final int actionCount) {
+		int checkedCount = 0;
+		int mismatchCount = 0;
+		for (int i = 0; i < this.mGameCount; i++) {
+			final StrategicGame<String, String> game = new GameGenerator(this.mSeed + i).createGame(family,
+					actionCount);
+			if (!isApplicable(check, game)) {
+				continue;
+			}
+			checkedCount++;
+			if (!agrees(check, game)) {
+				mismatchCount++;
+			}
+		}
+		return new AgreementResult(check, family, actionCount, checkedCount, mismatchCount);
+	}
+
+	/**
+	 * Whether the given check applies to the given game.
+	 * 
+	 * @param check
+	 *            Check in question
+	 * @param game
+	 *            Game in question
+	 * @return <tt>True</tt> if the check applies to the game, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isApplicable(final EAgreementCheck check, final StrategicGame<String, String> game) {
+		if (check == EAgreementCheck.CONSTANT_SUM) {
+			return game.isConstantSum();
+		}
+		if (check == EAgreementCheck.SYMMETRIC_ONLY) {
+			return game.isSymmetric();
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the amount of games per family and size.
+	 * 
+	 * @param gameCount
+	 *            The amount of games
+	 * @throws IllegalArgumentException
+	 *             If the given amount is smaller than <tt>1</tt>
+	 */
+	public void setGameCount(final int gameCount) {
+		if (gameCount < 1) {
+			throw new IllegalArgumentException(ErrorMessages.AGREEMENT_GAME_COUNT_ILLEGAL + " Got: " + gameCount);
+		}
+		this.mGameCount = gameCount;
+	}
+
+	/**
+	 * Sets the backend to solve the LP of support set constellations with.
+	 * 
+	 * @param solverBackend
+	 *            The backend to use
+	 */
+	public void setSolverBackend(final ESolverBackend solverBackend) {
+		this.mSolverBackend = solverBackend;
+	}
+
+	/**
+	 * Creates a nash finder for the given game with the settings of the
+	 * sequential enumeration. It enumerates all support set constellations
+	 * sequentially and keeps the distinct results.
+	 * 
+	 * @param game
+	 *            Game to solve
+	 * @return The nash finder with the settings of the reference
+	 */
+	private NashFinder createNashFinder(final StrategicGame<String, String> game) {
+		final NashFinder nashFinder = new NashFinder(game, null);
+		nashFinder.setSolverBackend(this.mSolverBackend);
+		nashFinder.setUseCompactResults(true);
+		nashFinder.setUseConstantSumSolver(false);
+		return nashFinder;
+	}
+}
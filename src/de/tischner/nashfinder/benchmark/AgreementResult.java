@@ -0,0 +1,115 @@
+package de.tischner.nashfinder.benchmark;
+
+/**
+ * Result of one agreement check on the generated games of one family and
+ * size, as checked by an {@link AgreementChecker}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class AgreementResult {
+
+	/**
+	 * Amount of actions of every player of the games.
+	 */
+	private final int mActionCount;
+	/**
+	 * The check that was run.
+	 */
+	private final EAgreementCheck mCheck;
+	/**
+	 * Amount of games the check was run on, games it does not apply to are
+	 * not counted.
+	 */
+	private final int mCheckedCount;
+	/**
+	 * Family of the games.
+	 */
+	private final EGameFamily mFamily;
+	/**
+	 * Amount of games whose equilibria did not agree with the reference.
+	 */
+	private final int mMismatchCount;
+
+	/**
+	 * Creates a new result.
+	 * 
+	 * @param check
+	 *            The check that was run
+	 * @param family
+	 *            Family of the games
+	 * @param actionCount
+	 *            Amount of actions of every player of the games
+	 * @param checkedCount
+	 *            Amount of games the check was run on
+	 * @param mismatchCount
+	 *            Amount of games whose equilibria did not agree with the
+	 *            reference
+	 */
+	public AgreementResult(final EAgreementCheck check, final EGameFamily family, final int actionCount,
+			final int checkedCount, final int mismatchCount) {
+		this.mCheck = check;
+		this.mFamily = family;
+		this.mActionCount = actionCount;
+		this.mCheckedCount = checkedCount;
+		this.mMismatchCount = mismatchCount;
+	}
+
+	/**
+	 * Gets the amount of actions of every player of the games.
+	 * 
+	 * @return The amount of actions of every player
+	 */
+	public int getActionCount() {
+		return this.mActionCount;
+	}
+
+	/**
+	 * Gets the check that was run.
+	 * 
+	 * @return The check that was run
+	 */
+	public EAgreementCheck getCheck() {
+		return this.mCheck;
+	}
+
+	/**
+	 * Gets the amount of games the check was run on. Games the check does not
+	 * apply to are not counted.
+	 * 
+	 * @return The amount of checked games
+	 */
+	public int getCheckedCount() {
+		return this.mCheckedCount;
+	}
+
+	/**
+	 * Gets the family of the games.
+	 * 
+	 * @return The family of the games
+	 */
+	public EGameFamily getFamily() {
+		return this.mFamily;
+	}
+
+	/**
+	 * Gets the amount of games whose equilibria did not agree with the
+	 * reference.
+	 * 
+	 * @return The amount of mismatching games
+	 */
+	public int getMismatchCount() {
+		return this.mMismatchCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.mCheck + " " + this.mFamily + " " + this.mActionCount + "x" + this.mActionCount + ": "
+				+ this.mMismatchCount + " of " + this.mCheckedCount + " games disagree";
+	}
+}
@@ -0,0 +1,222 @@
+package de.tischner.nashfinder.benchmark;
+
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Result of one benchmark on one generated game, as measured by a
+ * {@link BenchmarkRunner}. Results are stored as lines of comma separated
+ * values, with the columns given by {@link #CSV_HEADER}, such that runs of
+ * different versions or engines can be compared.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class BenchmarkResult {
+
+	/**
+	 * Amount of columns of the comma separated values of a result.
+	 */
+	private static final int CSV_COLUMN_COUNT = 7;
+	/**
+	 * Header line of the comma separated values of results.
+	 */
+	public static final String CSV_HEADER = "benchmark,family,actions,variant,iterations,mean_ns_per_op,deviation_ns_per_op";
+	/**
+	 * Separator between the comma separated values of a result.
+	 */
+	private static final String CSV_SEPARATOR = ",";
+	/**
+	 * Decimal scale that times are rounded to when printed.
+	 */
+	private static final int NANOS_DECIMAL_SCALE = 1;
+	/**
+	 * Variant of benchmarks that only come in one variant.
+	 */
+	public static final String NO_VARIANT = "-";
+
+	/**
+	 * Parses a result from a line of comma separated values, as created by
+	 * {@link #toCsv()}.
+	 * 
+	 * @param line
+	 *            Line to parse
+	 * @return The parsed result
+	 * @throws IllegalArgumentException
+	 *             If the line is malformed
+	 */
+	public static BenchmarkResult fromCsv(final String line) {
+		final String[] values = line.trim().split(CSV_SEPARATOR);
+		if (values.length != CSV_COLUMN_COUNT) {
+			throw new IllegalArgumentException(ErrorMessages.BENCHMARK_RESULT_PARSE_ERROR + " Got: " + line);
+		}
+		try {
+			return new BenchmarkResult(EBenchmark.valueOf(values[0]), EGameFamily.valueOf(values[1]),
+					Integer.parseInt(values[2]), values[3], Integer.parseInt(values[4]),
+					Double.parseDouble(values[5]), Double.parseDouble(values[6]));
+		} catch (final IllegalArgumentException e) {
+			throw new IllegalArgumentException(ErrorMessages.BENCHMARK_RESULT_PARSE_ERROR + " Got: " + line, e);
+		}
+	}
+
+	/**
+	 * Amount of actions of every player of the game.
+	 */
+	private final int mActionCount;
+	/**
+	 * The measured benchmark.
+	 */
+	private final EBenchmark mBenchmark;
+	/**
+	 * Standard deviation of the time per operation over the iterations, in
+	 * nanoseconds.
+	 */
+	private final double mDeviationNanos;
+	/**
+	 * Family of the game.
+	 */
+	private final EGameFamily mFamily;
+	/**
+	 * Amount of measured iterations.
+	 */
+	private final int mIterations;
+	/**
+	 * Mean time per operation over the iterations, in nanoseconds.
+	 */
+	private final double mMeanNanos;
+	/**
+	 * Variant of the benchmark, like the engine, or {@link #NO_VARIANT}.
+	 */
+	private final String mVariant;
+
+	/**
+	 * Creates a new result.
+	 * 
+	 * @param benchmark
+	 *            The measured benchmark
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player of the game
+	 * @param variant
+	 *            Variant of the benchmark, like the engine, or
+	 *            {@link #NO_VARIANT}
+	 * @param iterations
+	 *            Amount of measured iterations
+	 * @param meanNanos
+	 *            Mean time per operation over the iterations, in nanoseconds
+	 * @param deviationNanos
+	 *            Standard deviation of the time per operation over the
+	 *            iterations, in nanoseconds
+	 */
+	public BenchmarkResult(final EBenchmark benchmark, final EGameFamily family, final int actionCount,
+			final String variant, final int iterations, final double meanNanos, final double deviationNanos) {
+		this.mBenchmark = benchmark;
+		this.mFamily = family;
+		this.mActionCount = actionCount;
+		this.mVariant = variant;
+		this.mIterations = iterations;
+		this.mMeanNanos = meanNanos;
+		this.mDeviationNanos = deviationNanos;
+	}
+
+	/**
+	 * Gets the amount of actions of every player of the game.
+	 * 
+	 * @return The amount of actions of every player
+	 */
+	public int getActionCount() {
+		return this.mActionCount;
+	}
+
+	/**
+	 * Gets the measured benchmark.
+	 * 
+	 * @return The measured benchmark
+	 */
+	public EBenchmark getBenchmark() {
+		return this.mBenchmark;
+	}
+
+	/**
+	 * Gets the standard deviation of the time per operation over the
+	 * iterations.
+	 * 
+	 * @return The standard deviation in nanoseconds
+	 */
+	public double getDeviationNanos() {
+		return this.mDeviationNanos;
+	}
+
+	/**
+	 * Gets the family of the game.
+	 * 
+	 * @return The family of the game
+	 */
+	public EGameFamily getFamily() {
+		return this.mFamily;
+	}
+
+	/**
+	 * Gets the amount of measured iterations.
+	 * 
+	 * @return The amount of measured iterations
+	 */
+	public int getIterations() {
+		return this.mIterations;
+	}
+
+	/**
+	 * Gets a key that identifies what was measured, results of different runs
+	 * with the same key are comparable.
+	 * 
+	 * @return The key of the result, consisting of the benchmark, the family,
+	 *         the amount of actions and the variant
+	 */
+	public String getKey() {
+		return this.mBenchmark + CSV_SEPARATOR + this.mFamily + CSV_SEPARATOR + this.mActionCount + CSV_SEPARATOR
+				+ this.mVariant;
+	}
+
+	/**
+	 * Gets the mean time per operation over the iterations.
+	 * 
+	 * @return The mean time per operation in nanoseconds
+	 */
+	public double getMeanNanos() {
+		return this.mMeanNanos;
+	}
+
+	/**
+	 * Gets the variant of the benchmark, like the engine.
+	 * 
+	 * @return The variant of the benchmark or {@link #NO_VARIANT}
+	 */
+	public String getVariant() {
+		return this.mVariant;
+	}
+
+	/**
+	 * Gets the result as line of comma separated values, with the columns
+	 * given by {@link #CSV_HEADER}.
+	 * 
+	 * @return The result as line of comma separated values
+	 */
+	public String toCsv() {
+		return getKey() + CSV_SEPARATOR + this.mIterations + CSV_SEPARATOR + this.mMeanNanos + CSV_SEPARATOR
+				+ this.mDeviationNanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.mBenchmark + " " + this.mFamily + " " + this.mActionCount + "x" + this.mActionCount + " "
+				+ this.mVariant + ": " + MathUtil.roundNumberTo(Double.valueOf(this.mMeanNanos), NANOS_DECIMAL_SCALE)
+				+ " ns/op (+- " + MathUtil.roundNumberTo(Double.valueOf(this.mDeviationNanos), NANOS_DECIMAL_SCALE)
+				+ ")";
+	}
+}
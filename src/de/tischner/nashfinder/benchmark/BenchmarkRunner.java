@@ -0,0 +1,422 @@
+package de.tischner.nashfinder.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import de.tischner.nashfinder.ESolvingEngine;
+import de.tischner.nashfinder.NashFinder;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.support.SupportSetSpliterator;
+import de.tischner.nashfinder.util.SetUtil;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Measures the benchmarks of {@link EBenchmark} on games of a
+ * {@link GameGenerator}. Every benchmark first runs its warmup iterations,
+ * such that the code gets compiled, and then its measured iterations. An
+ * iteration repeats the operation of the benchmark until the iteration time
+ * is reached and yields the time per operation. The result of a benchmark
+ * is the mean and standard deviation of the time per operation over the
+ * measured iterations.<br/>
+ * <br/>
+ * The {@link EBenchmark#LP} benchmark is measured per backend and the
+ * {@link EBenchmark#SOLVE} benchmark per engine and backend, their results
+ * carry it as variant. Benchmarks that enumerate all support set
+ * constellations only run on games up to the enumeration limit, since their
+ * time grows exponentially with the amount of actions.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * Default amount of actions per player up to which support set
+	 * constellations are enumerated.
+	 */
+	private static final int DEFAULT_ENUMERATION_LIMIT = 10;
+	/**
+	 * Default time of an iteration in milliseconds.
+	 */
+	private static final long DEFAULT_ITERATION_TIME = 200;
+	/**
+	 * Default amount of measured iterations.
+	 */
+	private static final int DEFAULT_ITERATIONS = 5;
+	/**
+	 * Default amount of warmup iterations.
+	 */
+	private static final int DEFAULT_WARMUP_ITERATIONS = 3;
+	/**
+	 * Amount of support set constellations that the {@link EBenchmark#LP}
+	 * benchmark draws per game.
+	 */
+	private static final int LP_CONSTELLATION_COUNT = 16;
+	/**
+	 * Separator between the engine and the backend in the variant of the
+	 * {@link EBenchmark#SOLVE} benchmark.
+	 */
+	private static final String VARIANT_SEPARATOR = "/";
+
+	/**
+	 * Builds a support set of the given size in the format <tt>[a1,a2]</tt>,
+	 * whose actions are drawn at random.
+	 * 
+	 * @param actions
+	 *            Actions of the player
+	 * @param supportSize
+	 *            Amount of actions of the support set
+	 * @param random
+	 *            Source of randomness
+	 * @return The support set
+	 */
+	private static String buildRandomSupportSet(final List<String> actions, final int supportSize,
+			final Random random) {
+		final List<String> shuffledActions = new ArrayList<>(actions);
+		Collections.shuffle(shuffledActions, random);
+		final StringBuilder supportSet = new StringBuilder("[");
+		for (int i = 0; i < supportSize; i++) {
+			if (i > 0) {
+				supportSet.append(",");
+			}
+			supportSet.append(shuffledActions.get(i));
+		}
+		supportSet.append("]");
+		return supportSet.toString();
+	}
+
+	/**
+	 * Builds the support sets of a constellation in the format
+	 * <tt>[a1,a2][a3]</tt>, where every player gets the same amount of
+	 * actions, drawn at random.
+	 * 
+	 * @param firstPlayerActions
+	 *            Actions of the first player
+	 * @param secondPlayerActions
+	 *            Actions of the second player
+	 * @param random
+	 *            Source of randomness
+	 * @return The support sets of the constellation
+	 */
+	private static String buildRandomSupportSets(final List<String> firstPlayerActions,
+			final List<String> secondPlayerActions, final Random random) {
+		final int supportSize = 1 + random.nextInt(Math.min(firstPlayerActions.size(), secondPlayerActions.size()));
+		return buildRandomSupportSet(firstPlayerActions, supportSize, random)
+				+ buildRandomSupportSet(secondPlayerActions, supportSize, random);
+	}
+
+	/**
+	 * Engines that the {@link EBenchmark#SOLVE} benchmark runs.
+	 */
+	private Set<ESolvingEngine> mEngines;
+	/**
+	 * Amount of actions per player up to which support set constellations are
+	 * enumerated.
+	 */
+	private int mEnumerationLimit;
+	/**
+	 * Generator of the games to measure.
+	 */
+	private final GameGenerator mGenerator;
+	/**
+	 * Time of an iteration in milliseconds.
+	 */
+	private long mIterationTime;
+	/**
+	 * Amount of measured iterations.
+	 */
+	private int mIterations;
+	/**
+	 * Maximal amount of equilibria that the engines find.
+	 */
+	private int mMaxEquilibria;
+	/**
+	 * Consumes the values of operations, such that they are not eliminated as
+	 * dead code.
+	 */
+	private long mSink;
+	/**
+	 * Backend to solve the LP of support set constellations with.
+	 */
+	private ESolverBackend mSolverBackend;
+	/**
+	 * Amount of warmup iterations.
+	 */
+	private int mWarmupIterations;
+
+	/**
+	 * Creates a new runner that measures games of the given generator. All
+	 * engines are run and find one equilibrium, with the default backend of
+	 * {@link NashFinder}.
+	 * 
+	 * @param generator
+	 *            Generator of the games to measure
+	 */
+	public BenchmarkRunner(final GameGenerator generator) {
+		this.mGenerator = generator;
+		this.mEngines = EnumSet.allOf(ESolvingEngine.class);
+		this.mEnumerationLimit = DEFAULT_ENUMERATION_LIMIT;
+		this.mIterationTime = DEFAULT_ITERATION_TIME;
+		this.mIterations = DEFAULT_ITERATIONS;
+		this.mMaxEquilibria = 1;
+		this.mSolverBackend = ESolverBackend.LP_SOLVE;
+		this.mWarmupIterations = DEFAULT_WARMUP_ITERATIONS;
+		this.mSink = 0;
+	}
+
+	/**
+	 * Measures the given benchmark on the game of the given family and size.
+	 * 
+	 * @param benchmark
+	 *            Benchmark to measure
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player of the game
+	 * @return The results of the benchmark, one per variant. Empty if the
+	 *         benchmark does not run on games of the given size.
+	 */
+	public List<BenchmarkResult> run(final EBenchmark benchmark, final EGameFamily family, final int actionCount) {
+		final List<BenchmarkResult> results = new ArrayList<>();
+		if (benchmark == EBenchmark.PARSE) {
+			final String json = this.mGenerator.createGameJson(family, actionCount);
+			results.add(measure(benchmark, family, actionCount, BenchmarkResult.NO_VARIANT, () -> {
+				final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGameJsonContent(json);
+				return game.getPayoff(0, actionCount - 1, actionCount - 1);
+			}));
+		} else if (benchmark == EBenchmark.SUPPORTS) {
+			if (actionCount <= this.mEnumerationLimit) {
+				final StrategicGame<String, String> game = this.mGenerator.createGame(family, actionCount);
+				results.add(measure(benchmark, family, actionCount, BenchmarkResult.NO_VARIANT,
+						() -> buildSupportSets(game)));
+			}
+		} else if (benchmark == EBenchmark.LP) {
+			final StrategicGame<String, String> game = this.mGenerator.createGame(family, actionCount);
+			final Iterator<String> playerIter = game.getPlayers();
+			final List<String> firstPlayerActions = new ArrayList<>(game.getPlayerActions(playerIter.next()));
+			final List<String> secondPlayerActions = new ArrayList<>(game.getPlayerActions(playerIter.next()));
+			final Random random = new Random(actionCount);
+			final String[] constellations = new String[LP_CONSTELLATION_COUNT];
+			for (int i = 0; i < constellations.length; i++) {
+				constellations[i] = buildRandomSupportSets(firstPlayerActions, secondPlayerActions, random);
+			}
+			final int[] nextConstellation = new int[1];
+			results.add(measure(benchmark, family, actionCount, this.mSolverBackend.name(), () -> {
+				final String supportSets = constellations[nextConstellation[0]];
+				nextConstellation[0] = (nextConstellation[0] + 1) % constellations.length;
+				final NashFinder nashFinder = new NashFinder(game, supportSets);
+				nashFinder.setSolverBackend(this.mSolverBackend);
+				nashFinder.computeNashEquilibria();
+				return System.identityHashCode(nashFinder);
+			}));
+		} else if (benchmark == EBenchmark.SOLVE) {
+			final StrategicGame<String, String> game = this.mGenerator.createGame(family, actionCount);
+			for (final ESolvingEngine engine : this.mEngines) {
+				if (engine == ESolvingEngine.SUPPORT_ENUMERATION && actionCount > this.mEnumerationLimit) {
+					continue;
+				}
+				final String variant = engine.name() + VARIANT_SEPARATOR + this.mSolverBackend.name();
+				results.add(measure(benchmark, family, actionCount, variant, () -> {
+					final NashFinder nashFinder = new NashFinder(game, null);
+					nashFinder.setEngine(engine);
+					nashFinder.setSolverBackend(this.mSolverBackend);
+					nashFinder.setMaxEquilibria(this.mMaxEquilibria);
+					nashFinder.computeNashEquilibria();
+					return System.identityHashCode(nashFinder);
+				}));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Sets the engines that the {@link EBenchmark#SOLVE} benchmark runs.
+	 * 
+	 * @param engines
+	 *            The engines to run
+	 */
+	public void setEngines(final Set<ESolvingEngine> engines) {
+		this.mEngines = EnumSet.copyOf(engines);
+	}
+
+	/**
+	 * Sets the amount of actions per player up to which support set
+	 * constellations are enumerated. Larger games are skipped by the
+	 * {@link EBenchmark#SUPPORTS} benchmark and by the support enumeration of
+	 * the {@link EBenchmark#SOLVE} benchmark.
+	 * 
+	 * @param enumerationLimit
+	 *            The maximal amount of actions per player
+	 */
+	public void setEnumerationLimit(final int enumerationLimit) {
+		this.mEnumerationLimit = enumerationLimit;
+	}
+
+	/**
+	 * Sets the time of an iteration.
+	 * 
+	 * @param iterationTime
+	 *            The time of an iteration in milliseconds
+	 * @throws IllegalArgumentException
+	 *             If the time is smaller than <tt>1</tt>
+	 */
+	public void setIterationTime(final long iterationTime) {
+		if (iterationTime < 1) {
+			throw new IllegalArgumentException(ErrorMessages.BENCHMARK_ITERATIONS_ILLEGAL + " Got: " + iterationTime);
+		}
+		this.mIterationTime = iterationTime;
+	}
+
+	/**
+	 * Sets the amount of measured iterations.
+	 * 
+	 * @param iterations
+	 *            The amount of measured iterations
+	 * @throws IllegalArgumentException
+	 *             If the amount is smaller than <tt>1</tt>
+	 */
+	public void setIterations(final int iterations) {
+		if (iterations < 1) {
+			throw new IllegalArgumentException(ErrorMessages.BENCHMARK_ITERATIONS_ILLEGAL + " Got: " + iterations);
+		}
+		this.mIterations = iterations;
+	}
+
+	/**
+	 * Sets the maximal amount of equilibria that the engines of the
+	 * {@link EBenchmark#SOLVE} benchmark find, see
+	 * {@link NashFinder#setMaxEquilibria(int)}.
+	 * 
+	 * @param maxEquilibria
+	 *            The maximal amount of equilibria to find
+	 * @throws IllegalArgumentException
+	 *             If the amount is smaller than <tt>1</tt>
+	 */
+	public void setMaxEquilibria(final int maxEquilibria) {
+		if (maxEquilibria < 1) {
+			throw new IllegalArgumentException(ErrorMessages.MAX_EQUILIBRIA_ILLEGAL + " Got: " + maxEquilibria);
+		}
+		this.mMaxEquilibria = maxEquilibria;
+	}
+
+	/**
+	 * Sets the backend to solve the LP of support set constellations with.
+	 * 
+	 * @param solverBackend
+	 *            The backend to use
+	 */
+	public void setSolverBackend(final ESolverBackend solverBackend) {
+		this.mSolverBackend = solverBackend;
+	}
+
+	/**
+	 * Sets the amount of warmup iterations.
+	 * 
+	 * @param warmupIterations
+	 *            The amount of warmup iterations, may be <tt>0</tt>
+	 * @throws IllegalArgumentException
+	 *             If the amount is negative
+	 */
+	public void setWarmupIterations(final int warmupIterations) {
+		if (warmupIterations < 0) {
+			throw new IllegalArgumentException(
+					ErrorMessages.BENCHMARK_ITERATIONS_ILLEGAL + " Got: " + warmupIterations);
+		}
+		this.mWarmupIterations = warmupIterations;
+	}
+
+	/**
+	 * Generates the support sets of the given game, by the power set of the
+	 * actions of every player and by visiting all constellations in the order
+	 * of {@link SupportSetSpliterator}.
+	 * 
+	 * @param game
+	 *            Game to generate the support sets of
+	 * @return The amount of generated support sets and constellations
+	 */
+	private long buildSupportSets(final StrategicGame<String, String> game) {
+		long count = 0;
+		final Iterator<String> playerIter = game.getPlayers();
+		final int firstPlayerActionCount = game.getPlayerActions(playerIter.next()).size();
+		final int secondPlayerActionCount = game.getPlayerActions(playerIter.next()).size();
+		final Iterator<String> powerSetIter = game.getPlayers();
+		while (powerSetIter.hasNext()) {
+			count += SetUtil.powerSet(game.getPlayerActions(powerSetIter.next())).size();
+		}
+		final long[] constellationCount = new long[1];
+		SupportSetSpliterator.allConstellations(firstPlayerActionCount, secondPlayerActionCount)
+				.forEachRemaining(constellation -> constellationCount[0]++);
+		return count + constellationCount[0];
+	}
+
+	/**
+	 * Measures the given operation, first by the warmup iterations and then by
+	 * the measured iterations.
+	 * 
+	 * @param benchmark
+	 *            The measured benchmark
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player of the game
+	 * @param variant
+	 *            Variant of the benchmark
+	 * @param operation
+	 *            Operation to measure, its value is consumed
+	 * @return The result of the measurement
+	 */
+	private BenchmarkResult measure(final EBenchmark benchmark, final EGameFamily family, final int actionCount,
+			final String variant, final LongSupplier operation) {
+		for (int i = 0; i < this.mWarmupIterations; i++) {
+			runIteration(operation);
+		}
+		final double[] nanosPerOperation = new double[this.mIterations];
+		double sum = 0.0;
+		for (int i = 0; i < nanosPerOperation.length; i++) {
+			nanosPerOperation[i] = runIteration(operation);
+			sum += nanosPerOperation[i];
+		}
+		final double mean = sum / nanosPerOperation.length;
+		double squaredDeviations = 0.0;
+		for (final double nanos : nanosPerOperation) {
+			squaredDeviations += (nanos - mean) * (nanos - mean);
+		}
+		final double deviation;
+		if (nanosPerOperation.length > 1) {
+			deviation = Math.sqrt(squaredDeviations / (nanosPerOperation.length - 1));
+		} else {
+			deviation = 0.0;
+		}
+		return new BenchmarkResult(benchmark, family, actionCount, variant, this.mIterations, mean, deviation);
+	}
+
+	/**
+	 * Runs one iteration, which repeats the given operation until the
+	 * iteration time is reached.
+	 * 
+	 * @param operation
+	 *            Operation to repeat, its value is consumed
+	 * @return The time per operation in nanoseconds
+	 */
+	private double runIteration(final LongSupplier operation) {
+		final long iterationNanos = TimeUnit.MILLISECONDS.toNanos(this.mIterationTime);
+		final long start = System.nanoTime();
+		long operations = 0;
+		long elapsed;
+		do {
+			this.mSink += operation.getAsLong();
+			operations++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < iterationNanos);
+		return (double) elapsed / operations;
+	}
+}
@@ -0,0 +1,86 @@
+package de.tischner.nashfinder.benchmark;
+
+/**
+ * Specifies the checks that an {@link AgreementChecker} can run. Every check
+ * solves games with another engine or setting than the sequential support
+ * enumeration and compares the equilibria with a reference. Settings of the
+ * support enumeration are compared to the sequential enumeration, other
+ * engines to the equilibria of every support set constellation.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EAgreementCheck {
+	/**
+	 * Builds the game again, adding every action after the payoffs of the
+	 * actions before it. The payoffs must be the ones of the game and the
+	 * sequential enumeration must find the same equilibria on both games.
+	 */
+	APPENDED_ACTIONS,
+	/**
+	 * Solves constant-sum games directly by their minimax LP, the result must
+	 * be an equilibrium with the expected utilities of the reference. Games
+	 * that are not constant-sum are skipped.
+	 */
+	CONSTANT_SUM,
+	/**
+	 * Collects the results of all constellations instead of the compact
+	 * results. Deduplicated by their strategies, they must be the compact
+	 * results of the sequential enumeration, which must not contain
+	 * duplicates and must have the expected utilities of a full result with
+	 * the same strategies.
+	 */
+	FULL_RESULTS,
+	/**
+	 * Enumerates constellations in Gray-code order with warm-started solvers,
+	 * the equilibria must match the sequential enumeration, also for LPs with
+	 * several optima.
+	 */
+	GRAY_CODE,
+	/**
+	 * Solves games with the Lemke-Howson engine, its result must be an
+	 * equilibrium.
+	 */
+	LEMKE_HOWSON,
+	/**
+	 * Solves games with the multi-start Lemke-Howson engine, its results must
+	 * be equilibria.
+	 */
+	LEMKE_HOWSON_MULTI_START,
+	/**
+	 * Enumerates constellations with several worker threads, the equilibria
+	 * must match the sequential enumeration.
+	 */
+	PARALLEL,
+	/**
+	 * Solves games with the Porter-Nudelman-Shoham engine, it must find the
+	 * equilibria of every constellation and nothing else.
+	 */
+	PORTER_NUDELMAN_SHOHAM,
+	/**
+	 * Skips constellations with conditionally dominated actions, which is
+	 * only done for the compact results. Every equilibrium must have the
+	 * strategies of a compact result of the sequential enumeration.
+	 */
+	PRUNING,
+	/**
+	 * Scans games for pure equilibria, the results must be equilibria.
+	 */
+	PURE_EQUILIBRIUM_SCAN,
+	/**
+	 * Eliminates strictly dominated actions beforehand, the solved
+	 * constellations must have the results of the sequential enumeration and
+	 * the skipped ones must not hold an equilibrium.
+	 */
+	REDUCTION,
+	/**
+	 * Streams the equilibria through the pipeline of several worker threads,
+	 * they must match the sequential enumeration.
+	 */
+	STREAM,
+	/**
+	 * Only searches symmetric equilibria, they must be ones of the sequential
+	 * enumeration. Games that are not symmetric are skipped.
+	 */
+	SYMMETRIC_ONLY
+}
@@ -0,0 +1,33 @@
+package de.tischner.nashfinder.benchmark;
+
+/**
+ * Specifies the benchmarks that a {@link BenchmarkRunner} can measure.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EBenchmark {
+	/**
+	 * Solves a single support set constellation, which builds and solves its
+	 * <i>linear program</i>. The constellations are drawn at random.
+	 */
+	LP,
+	/**
+	 * Parses a game from its json content, see
+	 * {@link de.tischner.nashfinder.util.StrategicGameParser
+	 * StrategicGameParser}.
+	 */
+	PARSE,
+	/**
+	 * Computes the nash equilibria of a game from end to end, once for every
+	 * engine.
+	 */
+	SOLVE,
+	/**
+	 * Generates the support sets of a game, by the power set of the actions
+	 * of every player and by visiting all constellations of a
+	 * {@link de.tischner.nashfinder.support.SupportSetSpliterator
+	 * SupportSetSpliterator}.
+	 */
+	SUPPORTS
+}
@@ -0,0 +1,36 @@
+package de.tischner.nashfinder.benchmark;
+
+/**
+ * Specifies the families of games with two players that a
+ * {@link GameGenerator} can generate.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EGameFamily {
+	/**
+	 * Both players get the same payoff, matching actions pay a bonus. Such
+	 * games have many pure nash equilibria.
+	 */
+	COORDINATION,
+	/**
+	 * The payoffs of both players for an action profile are drawn from a
+	 * normal distribution with a fixed positive correlation, see
+	 * {@link GameGenerator#COVARIANT_CORRELATION}.
+	 */
+	COVARIANT,
+	/**
+	 * All payoffs are drawn uniformly and independently.
+	 */
+	RANDOM,
+	/**
+	 * The payoffs of the first player are drawn uniformly, the second player
+	 * gets the payoffs of the first player on the swapped action profile.
+	 */
+	SYMMETRIC,
+	/**
+	 * The payoffs of the first player are drawn uniformly, the second player
+	 * gets their negation.
+	 */
+	ZERO_SUM
+}
@@ -0,0 +1,201 @@
+package de.tischner.nashfinder.benchmark;
+
+import java.util.Random;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+
+/**
+ * Generates square games with two players of the families given by
+ * {@link EGameFamily}. A game is determined by the seed of the generator, its
+ * family and its amount of actions, generating it again yields the same
+ * payoffs. Players are named <tt>p1</tt> and <tt>p2</tt>, actions <tt>a1</tt>
+ * to <tt>an</tt>.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class GameGenerator {
+
+	/**
+	 * Prefix of the names of the actions.
+	 */
+	private static final String ACTION_PREFIX = "a";
+	/**
+	 * Bonus that matching actions pay in the {@link EGameFamily#COORDINATION}
+	 * family.
+	 */
+	private static final int COORDINATION_BONUS = 50;
+	/**
+	 * Correlation of the payoffs of both players in the
+	 * {@link EGameFamily#COVARIANT} family.
+	 */
+	public static final double COVARIANT_CORRELATION = 0.5;
+	/**
+	 * Exclusive upper bound of uniformly drawn payoffs, which are not
+	 * negative.
+	 */
+	private static final int PAYOFF_BOUND = 100;
+	/**
+	 * Standard deviation of normally drawn payoffs.
+	 */
+	private static final double PAYOFF_DEVIATION = 25.0;
+	/**
+	 * Prefix of the names of the players.
+	 */
+	private static final String PLAYER_PREFIX = "p";
+
+	/**
+	 * Seed that all games of the generator are derived from.
+	 */
+	private final long mSeed;
+
+	/**
+	 * Creates a new generator whose games are derived from the given seed.
+	 * 
+	 * @param seed
+	 *            Seed that all games of the generator are derived from
+	 */
+	public GameGenerator(final long seed) {
+		this.mSeed = seed;
+	}
+
+	/**
+	 * Generates a game of the given family.
+	 * 
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player
+	 * @return The generated game
+	 * @throws IllegalArgumentException
+	 *             If the amount of actions is smaller than <tt>1</tt>
+	 */
+	public StrategicGame<String, String> createGame(final EGameFamily family, final int actionCount) {
+		final int[][][] payoffs = createPayoffs(family, actionCount);
+
+		final StrategicGame<String, String> game = new StrategicGame<>();
+		final String firstPlayer = PLAYER_PREFIX + 1;
+		final String secondPlayer = PLAYER_PREFIX + 2;
+		game.addPlayer(firstPlayer);
+		game.addPlayer(secondPlayer);
+		for (int action = 1; action <= actionCount; action++) {
+			game.addAction(ACTION_PREFIX + action, firstPlayer);
+			game.addAction(ACTION_PREFIX + action, secondPlayer);
+		}
+		for (int row = 0; row < actionCount; row++) {
+			for (int column = 0; column < actionCount; column++) {
+				game.addPayoff(new int[] { payoffs[0][row][column], payoffs[1][row][column] }, row, column);
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Generates a game of the given family in the json format, as accepted by
+	 * {@link de.tischner.nashfinder.util.StrategicGameParser
+	 * StrategicGameParser}. It describes the same game as
+	 * {@link #createGame(EGameFamily, int)}.
+	 * 
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player
+	 * @return The generated game as json content
+	 * @throws IllegalArgumentException
+	 *             If the amount of actions is smaller than <tt>1</tt>
+	 */
+	public String createGameJson(final EGameFamily family, final int actionCount) {
+		final int[][][] payoffs = createPayoffs(family, actionCount);
+
+		final StringBuilder actions = new StringBuilder();
+		for (int action = 1; action <= actionCount; action++) {
+			if (action > 1) {
+				actions.append(", ");
+			}
+			actions.append("\"" + ACTION_PREFIX + action + "\"");
+		}
+
+		final StringBuilder json = new StringBuilder();
+		json.append("{\"Agents\": [\"" + PLAYER_PREFIX + 1 + "\", \"" + PLAYER_PREFIX + 2 + "\"], ");
+		json.append("\"Actions\": [[" + actions + "], [" + actions + "]], ");
+		json.append("\"Values\": [");
+		for (int row = 0; row < actionCount; row++) {
+			if (row > 0) {
+				json.append(", ");
+			}
+			json.append("[");
+			for (int column = 0; column < actionCount; column++) {
+				if (column > 0) {
+					json.append(", ");
+				}
+				json.append("[" + payoffs[0][row][column] + ", " + payoffs[1][row][column] + "]");
+			}
+			json.append("]");
+		}
+		json.append("]}");
+		return json.toString();
+	}
+
+	/**
+	 * Generates the payoffs of a game of the given family.
+	 * 
+	 * @param family
+	 *            Family of the game
+	 * @param actionCount
+	 *            Amount of actions of every player
+	 * @return The payoffs, indexed by the player, the action of the first
+	 *         player and the action of the second player
+	 * @throws IllegalArgumentException
+	 *             If the amount of actions is smaller than <tt>1</tt>
+	 */
+	private int[][][] createPayoffs(final EGameFamily family, final int actionCount) {
+		if (actionCount < 1) {
+			throw new IllegalArgumentException(
+					ErrorMessages.GAME_GENERATOR_ACTION_COUNT_ILLEGAL + " Got: " + actionCount);
+		}
+		final Random random = new Random(this.mSeed * 31 * 31 + family.ordinal() * 31 + actionCount);
+		final int[][] firstPayoffs = new int[actionCount][actionCount];
+		final int[][] secondPayoffs = new int[actionCount][actionCount];
+		for (int row = 0; row < actionCount; row++) {
+			for (int column = 0; column < actionCount; column++) {
+				switch (family) {
+				case COORDINATION:
+					firstPayoffs[row][column] = random.nextInt(PAYOFF_BOUND);
+					if (row == column) {
+						firstPayoffs[row][column] += COORDINATION_BONUS;
+					}
+					secondPayoffs[row][column] = firstPayoffs[row][column];
+					break;
+				case COVARIANT:
+					final double firstValue = random.nextGaussian();
+					final double secondValue = COVARIANT_CORRELATION * firstValue
+							+ Math.sqrt(1 - COVARIANT_CORRELATION * COVARIANT_CORRELATION) * random.nextGaussian();
+					firstPayoffs[row][column] = (int) Math.round(PAYOFF_DEVIATION * firstValue);
+					secondPayoffs[row][column] = (int) Math.round(PAYOFF_DEVIATION * secondValue);
+					break;
+				case RANDOM:
+					firstPayoffs[row][column] = random.nextInt(PAYOFF_BOUND);
+					secondPayoffs[row][column] = random.nextInt(PAYOFF_BOUND);
+					break;
+				case SYMMETRIC:
+				case ZERO_SUM:
+					firstPayoffs[row][column] = random.nextInt(PAYOFF_BOUND);
+					break;
+				}
+			}
+		}
+
+		// Families whose second player is derived from the first player
+		for (int row = 0; row < actionCount; row++) {
+			for (int column = 0; column < actionCount; column++) {
+				if (family == EGameFamily.SYMMETRIC) {
+					secondPayoffs[row][column] = firstPayoffs[column][row];
+				} else if (family == EGameFamily.ZERO_SUM) {
+					secondPayoffs[row][column] = -firstPayoffs[row][column];
+				}
+			}
+		}
+		return new int[][][] { firstPayoffs, secondPayoffs };
+	}
+}
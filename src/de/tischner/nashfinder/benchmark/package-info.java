@@ -0,0 +1,6 @@
+/**
+ * This is the package for benchmarks, which measure the nash finder on
+ * generated games of different families and sizes, and for agreement checks,
+ * which compare the equilibria of its engines and settings on such games.
+ */
+package de.tischner.nashfinder.benchmark;
\ No newline at end of file
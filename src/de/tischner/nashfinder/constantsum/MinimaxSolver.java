@@ -0,0 +1,118 @@
+package de.tischner.nashfinder.constantsum;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.DenseLpSolver;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Finds a nash equilibrium of a constant-sum game with two players by solving
+ * one minimax <i>linear program</i> (LP) per player. In such games every pair
+ * of minimax strategies forms a nash equilibrium and the expected utilities
+ * are the values of the game, which takes polynomial time instead of
+ * enumerating support set constellations.<br/>
+ * <br/>
+ * Every player maximizes his expected utility <tt>v</tt> such that every
+ * action of the other player yields at least <tt>v</tt>, given a probability
+ * distribution over all of his actions. Payoffs are shifted to be positive
+ * for solving, which does not change the strategies.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class MinimaxSolver<PLAYER, ACTION> {
+
+	/**
+	 * Payoff matrix of the first player.
+	 */
+	private final double[][] mFirstPayoffs;
+	/**
+	 * Amount of actions of the first player.
+	 */
+	private final int mFirstPlayerActionCount;
+	/**
+	 * Game to solve.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Payoff matrix of the second player.
+	 */
+	private final double[][] mSecondPayoffs;
+	/**
+	 * Amount of actions of the second player.
+	 */
+	private final int mSecondPlayerActionCount;
+
+	/**
+	 * Creates a new solver for the given game.
+	 * 
+	 * @param game
+	 *            Game to solve, it must be a constant-sum game with exactly two
+	 *            players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players or is not a
+	 *             constant-sum game
+	 */
+	public MinimaxSolver(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+		if (!game.isConstantSum()) {
+			throw new IllegalStateException(ErrorMessages.GAME_NOT_CONSTANT_SUM);
+		}
+
+		this.mFirstPayoffs = game.getPayoffMatrix(firstPlayer);
+		this.mSecondPayoffs = game.getPayoffMatrix(secondPlayer);
+		this.mFirstPlayerActionCount = game.getPlayerActions(firstPlayer).size();
+		this.mSecondPlayerActionCount = game.getPlayerActions(secondPlayer).size();
+	}
+
+	/**
+	 * Computes a nash equilibrium that consists of the minimax strategies of
+	 * both players.
+	 * 
+	 * @return The nash equilibrium of the minimax strategies
+	 * @throws IllegalStateException
+	 *             If a minimax LP could not be solved, which only happens on
+	 *             numerical problems
+	 */
+	public NashEquilibrium<PLAYER, ACTION> solve() {
+		final int rowCount = this.mFirstPlayerActionCount;
+		final int columnCount = this.mSecondPlayerActionCount;
+		final double firstShift = MathUtil.computePositiveShift(this.mFirstPayoffs);
+		final double secondShift = MathUtil.computePositiveShift(this.mSecondPayoffs);
+
+		// The first player against every action of the second player
+		final double[] firstSystem = new double[rowCount * columnCount];
+		for (int row = 0; row < rowCount; row++) {
+			for (int column = 0; column < columnCount; column++) {
+				firstSystem[row * columnCount + column] = this.mFirstPayoffs[row][column] + firstShift;
+			}
+		}
+		// The second player against every action of the first player
+		final double[] secondSystem = new double[columnCount * rowCount];
+		for (int column = 0; column < columnCount; column++) {
+			for (int row = 0; row < rowCount; row++) {
+				secondSystem[column * rowCount + row] = this.mSecondPayoffs[row][column] + secondShift;
+			}
+		}
+
+		final DenseLpSolver solver = new DenseLpSolver();
+		final double[] firstResult = solver.solveBestResponseSystem(firstSystem, rowCount, columnCount);
+		if (firstResult == null) {
+			throw new IllegalStateException(ErrorMessages.MINIMAX_NO_SOLUTION);
+		}
+		final double[] secondResult = solver.solveBestResponseSystem(secondSystem, columnCount, rowCount);
+		if (secondResult == null) {
+			throw new IllegalStateException(ErrorMessages.MINIMAX_NO_SOLUTION);
+		}
+
+		return NashEquilibrium.createFromMixedStrategies(firstResult, firstResult[rowCount] - firstShift,
+				secondResult, secondResult[columnCount] - secondShift, this.mGame);
+	}
+}
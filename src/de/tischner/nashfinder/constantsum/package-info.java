@@ -0,0 +1,5 @@
+/**
+ * This is the package for solving constant-sum games directly, whose
+ * equilibria are given by the minimax strategies of the players.
+ */
+package de.tischner.nashfinder.constantsum;
\ No newline at end of file
@@ -1,5 +1,7 @@
 package de.tischner.nashfinder.game;
 
+import java.nio.IntBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -12,7 +14,19 @@ import de.tischner.nashfinder.locale.ErrorMessages;
 
 /**
  * Object that represents a strategic game where players have several actions
- * and get a payoff based on all players actions.
+ * and get a payoff based on all players actions.<br/>
+ * <br/>
+ * Players and actions are interned to indices in the order they were added.
+ * Payoffs are stored densely in one primitive buffer per player, indexed by
+ * the action profile in row-major order, the actions of the last player vary
+ * fastest. This allows allocation-free access by indices, for example by
+ * {@link #getPayoff(int, int, int)}. The buffers are backed by arrays, unless
+ * they were set by {@link #setPayoffBuffers(IntBuffer...)}, which allows
+ * payoffs to reside off the heap.<br/>
+ * <br/>
+ * Whether the payoffs of all action profiles sum up to the same constant is
+ * detected on demand by {@link #isConstantSum()}. Whether a
+ * game with two players is symmetric is detected by {@link #isSymmetric()}.
  * 
  * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
  *
@@ -23,6 +37,32 @@ import de.tischner.nashfinder.locale.ErrorMessages;
  */
 public final class StrategicGame<PLAYER, ACTION> {
 
+	/**
+	 * Data structure that allows a fast access to the index of an action of a
+	 * given player, in the order the actions were added.
+	 */
+	private final Map<PLAYER, Map<ACTION, Integer>> mActionIndices;
+	/**
+	 * Whether a payoff was added for the action profile with the given index
+	 * or <tt>null</tt> if no payoff was added yet or every action profile has
+	 * a payoff.
+	 */
+	private boolean[] mHasPayoff;
+	/**
+	 * Whether the game is a constant-sum game or <tt>null</tt> if it was not
+	 * detected since the payoffs last changed.
+	 */
+	private Boolean mIsConstantSum;
+	/**
+	 * Payoffs by the index of the player and then by the index of the action
+	 * profile or <tt>null</tt> if no payoff was added yet.
+	 */
+	private IntBuffer[] mPayoffs;
+	/**
+	 * Data structure that allows a fast access to the index of a given player,
+	 * in the order the players were added.
+	 */
+	private final Map<PLAYER, Integer> mPlayerIndices;
 	/**
 	 * Players of the game.
 	 */
@@ -33,10 +73,14 @@ public final class StrategicGame<PLAYER, ACTION> {
 	 */
 	private final Map<PLAYER, Set<ACTION>> mPlayerToActions;
 	/**
-	 * Data structure that allows a fast access to the payoff for a given action
-	 * profile.
+	 * Amount of action profiles, which is the size of every payoff buffer.
+	 */
+	private int mProfileCount;
+	/**
+	 * Amount by which the index of an action profile grows if the action of
+	 * the player with the given index grows by one.
 	 */
-	private final Map<ActionProfile<ACTION>, List<Integer>> mProfileToPayoff;
+	private int[] mStrides;
 
 	/**
 	 * Creates a new empty strategic game.
@@ -44,7 +88,13 @@ public final class StrategicGame<PLAYER, ACTION> {
 	public StrategicGame() {
 		this.mPlayers = new LinkedHashSet<>();
 		this.mPlayerToActions = new HashMap<>();
-		this.mProfileToPayoff = new HashMap<>();
+		this.mPlayerIndices = new HashMap<>();
+		this.mActionIndices = new HashMap<>();
+		this.mPayoffs = null;
+		this.mHasPayoff = null;
+		this.mProfileCount = 0;
+		this.mStrides = null;
+		this.mIsConstantSum = null;
 	}
 
 	/**
@@ -58,6 +108,8 @@ public final class StrategicGame<PLAYER, ACTION> {
 	 *         the specified action
 	 */
 	public boolean addAction(final ACTION action, final PLAYER player) {
+		// The payoffs were laid out for the actions before this one
+		final int[] previousActionCounts = getActionCounts();
 		Set<ACTION> actions = this.mPlayerToActions.get(player);
 		if (actions == null) {
 			actions = new LinkedHashSet<>();
@@ -65,6 +117,17 @@ public final class StrategicGame<PLAYER, ACTION> {
 		final boolean wasAdded = actions.add(action);
 		this.mPlayerToActions.put(player, actions);
 
+		if (wasAdded) {
+			Map<ACTION, Integer> actionIndices = this.mActionIndices.get(player);
+			if (actionIndices == null) {
+				actionIndices = new HashMap<>();
+				this.mActionIndices.put(player, actionIndices);
+			}
+			actionIndices.put(action, Integer.valueOf(actionIndices.size()));
+			if (this.mPayoffs != null && this.mPlayers.contains(player)) {
+				relayoutPayoffs(previousActionCounts);
+			}
+		}
 		return wasAdded;
 	}
 
@@ -77,35 +140,164 @@ public final class StrategicGame<PLAYER, ACTION> {
 	 *            Payoff list to add
 	 * @param actionProfile
 	 *            Action profile to add the payoff list for
+	 * @throws IllegalArgumentException
+	 *             If the payoff list or the action profile does not fit to the
+	 *             players and actions of the game
 	 */
 	public void addPayoff(final List<Integer> payoff, final ActionProfile<ACTION> actionProfile) {
 		if (payoff == null || payoff.size() != this.mPlayers.size() || payoff.size() != actionProfile.size()) {
 			throw new IllegalArgumentException(ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PAYOFF);
 		}
-		this.mProfileToPayoff.put(actionProfile, payoff);
+		if (this.mPayoffs == null) {
+			relayoutPayoffs(null);
+		}
+		final int profileIndex = getProfileIndex(actionProfile);
+		if (profileIndex == -1) {
+			throw new IllegalArgumentException(ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PROFILE + " Got: " + actionProfile);
+		}
+		ensureWritablePayoffs();
+		for (int player = 0; player < this.mPayoffs.length; player++) {
+			this.mPayoffs[player].put(profileIndex, payoff.get(player).intValue());
+		}
+		if (this.mHasPayoff != null) {
+			this.mHasPayoff[profileIndex] = true;
+		}
+		this.mIsConstantSum = null;
+	}
+
+	/**
+	 * Adds a given payoff array for an action profile of a game with two
+	 * players, given the actions of both players by their indices. The array
+	 * needs to be in the same order than the players where added by
+	 * {@link #addPlayer(Object)}, its values are copied.
+	 * 
+	 * @param payoff
+	 *            Payoff array to add
+	 * @param firstPlayerAction
+	 *            Index of the action of the first player
+	 * @param secondPlayerAction
+	 *            Index of the action of the second player
+	 * @throws IllegalArgumentException
+	 *             If the game does not have two players, the payoff array does
+	 *             not fit to the players or an index does not belong to an
+	 *             action
+	 */
+	public void addPayoff(final int[] payoff, final int firstPlayerAction, final int secondPlayerAction) {
+		if (payoff == null || payoff.length != this.mPlayers.size() || payoff.length != 2) {
+			throw new IllegalArgumentException(ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PAYOFF);
+		}
+		if (this.mPayoffs == null) {
+			relayoutPayoffs(null);
+		}
+		if (firstPlayerAction < 0 || secondPlayerAction < 0 || secondPlayerAction >= this.mStrides[0]
+				|| (long) firstPlayerAction * this.mStrides[0] >= this.mProfileCount) {
+			throw new IllegalArgumentException(ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PROFILE + " Got: ("
+					+ firstPlayerAction + ", " + secondPlayerAction + ")");
+		}
+		final int profileIndex = firstPlayerAction * this.mStrides[0] + secondPlayerAction;
+		ensureWritablePayoffs();
+		this.mPayoffs[0].put(profileIndex, payoff[0]);
+		this.mPayoffs[1].put(profileIndex, payoff[1]);
+		if (this.mHasPayoff != null) {
+			this.mHasPayoff[profileIndex] = true;
+		}
+		this.mIsConstantSum = null;
 	}
 
 	/**
-	 * Adds a given player to the game.
+	 * Adds a given player to the game. Players must be added before the first
+	 * payoff.
 	 * 
 	 * @param player
 	 *            Player to add
 	 * @return <tt>True</tt> if the game did not already contain the specified
 	 *         player
+	 * @throws IllegalStateException
+	 *             If a new player is added after payoffs were added
 	 */
 	public boolean addPlayer(final PLAYER player) {
+		if (this.mPlayers.contains(player)) {
+			return false;
+		}
+		if (this.mPayoffs != null) {
+			throw new IllegalStateException(ErrorMessages.GAME_ADD_PLAYER_AFTER_PAYOFF + " Got: " + player);
+		}
+		this.mPlayerIndices.put(player, Integer.valueOf(this.mPlayers.size()));
 		return this.mPlayers.add(player);
 	}
 
+	/**
+	 * Gets the index of a given action of a given player, in the order the
+	 * actions were added.
+	 * 
+	 * @param player
+	 *            Player of the action
+	 * @param action
+	 *            Action to get the index of
+	 * @return The index of the action or <tt>-1</tt> if the player does not
+	 *         have the action
+	 */
+	public int getActionIndex(final PLAYER player, final ACTION action) {
+		final Map<ACTION, Integer> actionIndices = this.mActionIndices.get(player);
+		if (actionIndices == null) {
+			return -1;
+		}
+		final Integer index = actionIndices.get(action);
+		if (index == null) {
+			return -1;
+		}
+		return index.intValue();
+	}
+
+	/**
+	 * Gets the first player of this game, whose actions belong to the rows of
+	 * the payoff matrices. This is only supported for games with two players.
+	 * 
+	 * @return The first player
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public PLAYER getFirstPlayer() {
+		ensureBimatrix();
+		return this.mPlayers.iterator().next();
+	}
+
 	/**
 	 * Gets the payoff list for a given action profile.
 	 * 
 	 * @param actionProfile
 	 *            Action profile to get the payoff list for
-	 * @return Payoff list for the given action profile
+	 * @return Payoff list for the given action profile or <tt>null</tt> if
+	 *         there is no payoff for it
 	 */
 	public List<Integer> getPayoff(final ActionProfile<ACTION> actionProfile) {
-		return this.mProfileToPayoff.get(actionProfile);
+		final int profileIndex = getProfileIndex(actionProfile);
+		if (profileIndex == -1 || !hasPayoff(profileIndex)) {
+			return null;
+		}
+		final List<Integer> payoff = new ArrayList<>(this.mPayoffs.length);
+		for (final IntBuffer playerPayoffs : this.mPayoffs) {
+			payoff.add(Integer.valueOf(playerPayoffs.get(profileIndex)));
+		}
+		return payoff;
+	}
+
+	/**
+	 * Gets the payoff of a given player in a game with two players, given the
+	 * actions of both players by their indices. The access does not allocate
+	 * and does not validate its arguments, action profiles without payoff
+	 * yield <tt>0</tt>.
+	 * 
+	 * @param playerIndex
+	 *            Index of the player to get the payoff for
+	 * @param firstPlayerAction
+	 *            Index of the action of the first player
+	 * @param secondPlayerAction
+	 *            Index of the action of the second player
+	 * @return The payoff of the player in the given action profile
+	 */
+	public int getPayoff(final int playerIndex, final int firstPlayerAction, final int secondPlayerAction) {
+		return this.mPayoffs[playerIndex].get(firstPlayerAction * this.mStrides[0] + secondPlayerAction);
 	}
 
 	/**
@@ -116,20 +308,51 @@ public final class StrategicGame<PLAYER, ACTION> {
 	 * @param player
 	 *            Player to get payoff for
 	 * @return The payoff for the given player in the given action profile
+	 * @throws IllegalStateException
+	 *             If there is no payoff for the player in the action profile
 	 */
 	public int getPayoffForPlayer(final ActionProfile<ACTION> actionProfile, final PLAYER player) {
-		final List<Integer> payoff = getPayoff(actionProfile);
+		final int profileIndex = getProfileIndex(actionProfile);
+		final Integer playerIndex = this.mPlayerIndices.get(player);
+		if (profileIndex == -1 || playerIndex == null || !hasPayoff(profileIndex)) {
+			throw new IllegalStateException(ErrorMessages.GAME_PAYOFF_NOT_FOUND);
+		}
+		return this.mPayoffs[playerIndex.intValue()].get(profileIndex);
+	}
 
-		final Iterator<PLAYER> playerIter = this.mPlayers.iterator();
-		for (final int singlePayoff : payoff) {
-			if (playerIter.hasNext()) {
-				final PLAYER currentPlayer = playerIter.next();
-				if (currentPlayer.equals(player)) {
-					return singlePayoff;
+	/**
+	 * Gets the payoffs of a given player as matrix. This is only supported for
+	 * games with two players, rows belong to the actions of the first player
+	 * and columns to the actions of the second player, both in the order they
+	 * were added.
+	 * 
+	 * @param player
+	 *            Player to get the payoffs for
+	 * @return The payoff matrix of the given player
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players or a payoff is
+	 *             missing
+	 */
+	public double[][] getPayoffMatrix(final PLAYER player) {
+		ensureBimatrix();
+		final Integer playerIndex = this.mPlayerIndices.get(player);
+		if (this.mPayoffs == null || playerIndex == null) {
+			throw new IllegalStateException(ErrorMessages.GAME_PAYOFF_NOT_FOUND);
+		}
+		final int[] actionCounts = getActionCounts();
+		final IntBuffer payoffs = this.mPayoffs[playerIndex.intValue()];
+
+		final double[][] matrix = new double[actionCounts[0]][actionCounts[1]];
+		for (int row = 0; row < actionCounts[0]; row++) {
+			for (int column = 0; column < actionCounts[1]; column++) {
+				final int profileIndex = row * this.mStrides[0] + column;
+				if (!hasPayoff(profileIndex)) {
+					throw new IllegalStateException(ErrorMessages.GAME_PAYOFF_NOT_FOUND);
 				}
+				matrix[row][column] = payoffs.get(profileIndex);
 			}
 		}
-		throw new IllegalStateException(ErrorMessages.GAME_PAYOFF_NOT_FOUND);
+		return matrix;
 	}
 
 	/**
@@ -143,6 +366,31 @@ public final class StrategicGame<PLAYER, ACTION> {
 		return this.mPlayerToActions.get(player);
 	}
 
+	/**
+	 * Gets the amount of players of this game.
+	 * 
+	 * @return The amount of players
+	 */
+	public int getPlayerCount() {
+		return this.mPlayers.size();
+	}
+
+	/**
+	 * Gets the index of a given player, in the order the players were added.
+	 * 
+	 * @param player
+	 *            Player to get the index of
+	 * @return The index of the player or <tt>-1</tt> if the game does not have
+	 *         the player
+	 */
+	public int getPlayerIndex(final PLAYER player) {
+		final Integer index = this.mPlayerIndices.get(player);
+		if (index == null) {
+			return -1;
+		}
+		return index.intValue();
+	}
+
 	/**
 	 * Gets all players of this game
 	 * 
@@ -152,6 +400,22 @@ public final class StrategicGame<PLAYER, ACTION> {
 		return this.mPlayers.iterator();
 	}
 
+	/**
+	 * Gets the second player of this game, whose actions belong to the
+	 * columns of the payoff matrices. This is only supported for games with
+	 * two players.
+	 * 
+	 * @return The second player
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public PLAYER getSecondPlayer() {
+		ensureBimatrix();
+		final Iterator<PLAYER> playerIter = this.mPlayers.iterator();
+		playerIter.next();
+		return playerIter.next();
+	}
+
 	/**
 	 * Returns whether the game has a given player or not.
 	 * 
@@ -179,6 +443,97 @@ public final class StrategicGame<PLAYER, ACTION> {
 		return playerActions != null && playerActions.contains(action);
 	}
 
+	/**
+	 * Whether the game is a constant-sum game, where the payoffs of all
+	 * players sum up to the same constant in every action profile. Games with
+	 * action profiles that have no payoff are not constant-sum. The property
+	 * is detected on the first call after the payoffs changed and then
+	 * remembered, see {@link #detectConstantSum()}.
+	 * 
+	 * @return <tt>True</tt> if the game is a constant-sum game,
+	 *         <tt>false</tt> otherwise
+	 */
+	public boolean isConstantSum() {
+		if (this.mIsConstantSum == null) {
+			this.mIsConstantSum = Boolean.valueOf(detectConstantSum());
+		}
+		return this.mIsConstantSum.booleanValue();
+	}
+
+	/**
+	 * Whether the game is a symmetric game with two players. Both players must
+	 * have the same actions in the same order and the payoff matrix of the
+	 * second player must be the transpose of the one of the first player, such
+	 * that the game does not change if the players swap their roles. The call
+	 * visits every action profile.
+	 * 
+	 * @return <tt>True</tt> if the game is symmetric, <tt>false</tt> otherwise
+	 */
+	public boolean isSymmetric() {
+		if (this.mPlayers.size() != 2 || this.mPayoffs == null) {
+			return false;
+		}
+		final Iterator<PLAYER> playerIter = this.mPlayers.iterator();
+		final Set<ACTION> firstPlayerActions = this.mPlayerToActions.get(playerIter.next());
+		final Set<ACTION> secondPlayerActions = this.mPlayerToActions.get(playerIter.next());
+		if (firstPlayerActions == null || secondPlayerActions == null
+				|| !new ArrayList<>(firstPlayerActions).equals(new ArrayList<>(secondPlayerActions))) {
+			return false;
+		}
+
+		final int actionCount = firstPlayerActions.size();
+		for (int row = 0; row < actionCount; row++) {
+			for (int column = 0; column < actionCount; column++) {
+				final int profileIndex = row * actionCount + column;
+				if (!hasPayoff(profileIndex) || this.mPayoffs[0].get(profileIndex) != this.mPayoffs[1]
+						.get(column * actionCount + row)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the payoffs of all action profiles at once. The buffers are used
+	 * without copying them, they may for example be memory-mapped from a file
+	 * and reside off the heap. Read-only buffers are copied onto the heap once
+	 * a payoff is added afterwards.
+	 * 
+	 * @param payoffs
+	 *            One buffer per player, in the order the players where added
+	 *            by {@link #addPlayer(Object)}. Every buffer holds the payoffs
+	 *            of the player for all action profiles in row-major order,
+	 *            starting at its position.
+	 * @throws IllegalArgumentException
+	 *             If the amount of buffers does not match the players or a
+	 *             buffer does not hold a payoff for every action profile
+	 * @throws IllegalStateException
+	 *             If the game has too many action profiles to store
+	 */
+	public void setPayoffBuffers(final IntBuffer... payoffs) {
+		final int playerCount = this.mPlayers.size();
+		if (payoffs.length != playerCount) {
+			throw new IllegalArgumentException(ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PAYOFF + " Got: " + payoffs.length);
+		}
+		final int[] strides = new int[playerCount];
+		final int profileCount = computeStrides(strides);
+		final IntBuffer[] slicedPayoffs = new IntBuffer[playerCount];
+		for (int player = 0; player < playerCount; player++) {
+			if (payoffs[player].remaining() != profileCount) {
+				throw new IllegalArgumentException(
+						ErrorMessages.GAME_ADD_PAYOFF_ILLEGAL_PAYOFF + " Got: " + payoffs[player].remaining());
+			}
+			slicedPayoffs[player] = payoffs[player].slice();
+		}
+
+		this.mPayoffs = slicedPayoffs;
+		this.mHasPayoff = null;
+		this.mProfileCount = profileCount;
+		this.mStrides = strides;
+		this.mIsConstantSum = null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -191,8 +546,228 @@ public final class StrategicGame<PLAYER, ACTION> {
 
 		result.append("Players: " + this.mPlayers + separator);
 		result.append("PlayerToActions:" + this.mPlayerToActions + separator);
-		result.append("ProfileToPayoff: " + this.mProfileToPayoff);
+		result.append("ProfileToPayoff: {");
+		if (this.mPayoffs != null) {
+			final List<List<ACTION>> playerActions = new ArrayList<>();
+			for (final PLAYER player : this.mPlayers) {
+				playerActions.add(new ArrayList<>(this.mPlayerToActions.get(player)));
+			}
+			boolean isFirstEntry = true;
+			for (int profileIndex = 0; profileIndex < this.mProfileCount; profileIndex++) {
+				if (!hasPayoff(profileIndex)) {
+					continue;
+				}
+				if (isFirstEntry) {
+					isFirstEntry = false;
+				} else {
+					result.append(", ");
+				}
+				final List<ACTION> profile = new ArrayList<>();
+				for (int player = 0; player < playerActions.size(); player++) {
+					final int action = profileIndex / this.mStrides[player] % playerActions.get(player).size();
+					profile.add(playerActions.get(player).get(action));
+				}
+				final List<Integer> payoff = new ArrayList<>();
+				for (final IntBuffer playerPayoffs : this.mPayoffs) {
+					payoff.add(Integer.valueOf(playerPayoffs.get(profileIndex)));
+				}
+				result.append(profile + "=" + payoff);
+			}
+		}
+		result.append("}");
 
 		return result.toString();
 	}
+
+	/**
+	 * Computes the strides of the action profile index for the current
+	 * players and actions.
+	 * 
+	 * @param strides
+	 *            Array to fill with the stride of every player
+	 * @return The amount of action profiles
+	 * @throws IllegalStateException
+	 *             If the game has too many action profiles to store
+	 */
+	private int computeStrides(final int[] strides) {
+		final int[] actionCounts = getActionCounts();
+		long profileCount = 1;
+		for (int player = strides.length - 1; player >= 0; player--) {
+			strides[player] = (int) profileCount;
+			profileCount *= actionCounts[player];
+			if (profileCount > Integer.MAX_VALUE) {
+				throw new IllegalStateException(ErrorMessages.GAME_TOO_MANY_PROFILES + " Got: " + profileCount);
+			}
+		}
+		return (int) profileCount;
+	}
+
+	/**
+	 * Detects whether the payoffs of all action profiles sum up to the same
+	 * constant. Action profiles are visited in order until the first one
+	 * without a payoff or with a different sum, such that games that are not
+	 * constant-sum are usually rejected after few profiles.
+	 * 
+	 * @return <tt>True</tt> if every action profile has a payoff and all of
+	 *         them share the same sum, <tt>false</tt> otherwise
+	 */
+	private boolean detectConstantSum() {
+		if (this.mPayoffs == null || this.mProfileCount == 0 || !hasPayoff(0)) {
+			return false;
+		}
+		final long payoffSum = getPayoffSum(0);
+		for (int profileIndex = 1; profileIndex < this.mProfileCount; profileIndex++) {
+			if (!hasPayoff(profileIndex) || getPayoffSum(profileIndex) != payoffSum) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Ensures that this game has exactly two players.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	private void ensureBimatrix() {
+		if (this.mPlayers.size() != 2) {
+			throw new IllegalStateException(ErrorMessages.GAME_NOT_BIMATRIX);
+		}
+	}
+
+	/**
+	 * Copies the payoffs onto the heap if they are stored in buffers that are
+	 * read-only, such that payoffs can be added.
+	 */
+	private void ensureWritablePayoffs() {
+		for (int player = 0; player < this.mPayoffs.length; player++) {
+			if (this.mPayoffs[player].isReadOnly()) {
+				final IntBuffer copy = IntBuffer.allocate(this.mProfileCount);
+				copy.put(this.mPayoffs[player].duplicate());
+				this.mPayoffs[player] = copy;
+			}
+		}
+	}
+
+	/**
+	 * Gets the amount of actions of every player, in the order the players
+	 * were added.
+	 * 
+	 * @return The amount of actions by the index of the player
+	 */
+	private int[] getActionCounts() {
+		final int[] actionCounts = new int[this.mPlayers.size()];
+		int player = 0;
+		for (final PLAYER currentPlayer : this.mPlayers) {
+			final Set<ACTION> actions = this.mPlayerToActions.get(currentPlayer);
+			if (actions != null) {
+				actionCounts[player] = actions.size();
+			}
+			player++;
+		}
+		return actionCounts;
+	}
+
+	/**
+	 * Gets the sum of the payoffs of all players in the action profile with
+	 * the given index.
+	 * 
+	 * @param profileIndex
+	 *            Index of the action profile
+	 * @return The sum of the payoffs of all players
+	 */
+	private long getPayoffSum(final int profileIndex) {
+		long payoffSum = 0;
+		for (final IntBuffer playerPayoffs : this.mPayoffs) {
+			payoffSum += playerPayoffs.get(profileIndex);
+		}
+		return payoffSum;
+	}
+
+	/**
+	 * Gets the index of a given action profile.
+	 * 
+	 * @param actionProfile
+	 *            Action profile to get the index of
+	 * @return The index of the action profile or <tt>-1</tt> if no payoff was
+	 *         added yet or the profile does not fit to the actions of the game
+	 */
+	private int getProfileIndex(final ActionProfile<ACTION> actionProfile) {
+		if (this.mPayoffs == null || actionProfile.size() != this.mPlayers.size()) {
+			return -1;
+		}
+		int profileIndex = 0;
+		int player = 0;
+		final Iterator<PLAYER> playerIter = this.mPlayers.iterator();
+		final Iterator<ACTION> actionIter = actionProfile.getActions();
+		while (playerIter.hasNext()) {
+			final int action = getActionIndex(playerIter.next(), actionIter.next());
+			if (action == -1) {
+				return -1;
+			}
+			profileIndex += action * this.mStrides[player];
+			player++;
+		}
+		return profileIndex;
+	}
+
+	/**
+	 * Whether the action profile with the given index has a payoff. Payoffs
+	 * must already be allocated.
+	 * 
+	 * @param profileIndex
+	 *            Index of the action profile in question
+	 * @return <tt>True</tt> if the action profile has a payoff,
+	 *         <tt>false</tt> otherwise
+	 */
+	private boolean hasPayoff(final int profileIndex) {
+		return this.mHasPayoff == null || this.mHasPayoff[profileIndex];
+	}
+
+	/**
+	 * Allocates the payoff buffers on the heap for the current players and
+	 * actions and moves the payoffs that were already added into them.
+	 * 
+	 * @param previousActionCounts
+	 *            The amount of actions of every player that the current
+	 *            payoff buffers were allocated for or <tt>null</tt> if they
+	 *            were not allocated yet
+	 * @throws IllegalStateException
+	 *             If the game has too many action profiles to store
+	 */
+	private void relayoutPayoffs(final int[] previousActionCounts) {
+		final int playerCount = this.mPlayers.size();
+		final int[] strides = new int[playerCount];
+		final int profileCount = computeStrides(strides);
+
+		final IntBuffer[] payoffs = new IntBuffer[playerCount];
+		for (int player = 0; player < playerCount; player++) {
+			payoffs[player] = IntBuffer.allocate(profileCount);
+		}
+		final boolean[] hasPayoff = new boolean[profileCount];
+		if (previousActionCounts != null) {
+			// Actions are only appended, every digit of a profile index stays
+			for (int previousIndex = 0; previousIndex < this.mProfileCount; previousIndex++) {
+				if (!hasPayoff(previousIndex)) {
+					continue;
+				}
+				int profileIndex = 0;
+				for (int player = 0; player < playerCount; player++) {
+					final int action = previousIndex / this.mStrides[player] % previousActionCounts[player];
+					profileIndex += action * strides[player];
+				}
+				for (int player = 0; player < playerCount; player++) {
+					payoffs[player].put(profileIndex, this.mPayoffs[player].get(previousIndex));
+				}
+				hasPayoff[profileIndex] = true;
+			}
+		}
+
+		this.mPayoffs = payoffs;
+		this.mHasPayoff = hasPayoff;
+		this.mProfileCount = profileCount;
+		this.mStrides = strides;
+		this.mIsConstantSum = null;
+	}
 }
@@ -0,0 +1,170 @@
+package de.tischner.nashfinder.game.util;
+
+import java.util.Iterator;
+
+/**
+ * Compact form of a {@link SupportSet} as bitmask, where bit <tt>i</tt> stands
+ * for the action with index <tt>i</tt>, in the order the actions were added to
+ * the game. It supports at most {@value Long#SIZE} actions per player, tests
+ * for subsets and supersets as well as hashing take constant time.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class CompactSupportSet {
+
+	/**
+	 * Maximal amount of actions a player may have.
+	 */
+	public static final int MAX_ACTIONS = Long.SIZE;
+
+	/**
+	 * Bitmask of the actions in this support set.
+	 */
+	private final long mActions;
+
+	/**
+	 * Creates a new support set with the given actions.
+	 * 
+	 * @param actions
+	 *            Bitmask of the actions in the support set
+	 */
+	public CompactSupportSet(final long actions) {
+		this.mActions = actions;
+	}
+
+	/**
+	 * Returns whether the support set contains the action with the given
+	 * index.
+	 * 
+	 * @param index
+	 *            Index of the action in question
+	 * @return <tt>True</tt> if the support set contains the action,
+	 *         <tt>false</tt> otherwise
+	 */
+	public boolean contains(final int index) {
+		return (this.mActions & (1L << index)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof CompactSupportSet)) {
+			return false;
+		}
+		final CompactSupportSet other = (CompactSupportSet) obj;
+		return this.mActions == other.mActions;
+	}
+
+	/**
+	 * Gets the bitmask of the actions in this support set.
+	 * 
+	 * @return The bitmask of the actions
+	 */
+	public long getBitmask() {
+		return this.mActions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.mActions);
+	}
+
+	/**
+	 * Returns whether the support set contains no action.
+	 * 
+	 * @return <tt>True</tt> if the support set is empty, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return this.mActions == 0;
+	}
+
+	/**
+	 * Returns whether this support set is a subset of the given support set.
+	 * 
+	 * @param other
+	 *            Support set in question
+	 * @return <tt>True</tt> if every action of this support set is contained
+	 *         in the other support set, <tt>false</tt> otherwise
+	 */
+	public boolean isSubsetOf(final CompactSupportSet other) {
+		return (this.mActions & ~other.mActions) == 0;
+	}
+
+	/**
+	 * Returns whether this support set is a superset of the given support set.
+	 * 
+	 * @param other
+	 *            Support set in question
+	 * @return <tt>True</tt> if every action of the other support set is
+	 *         contained in this support set, <tt>false</tt> otherwise
+	 */
+	public boolean isSupersetOf(final CompactSupportSet other) {
+		return (other.mActions & ~this.mActions) == 0;
+	}
+
+	/**
+	 * Gets the amount of actions in this support set.
+	 * 
+	 * @return The amount of actions
+	 */
+	public int size() {
+		return Long.bitCount(this.mActions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Long.toBinaryString(this.mActions);
+	}
+
+	/**
+	 * Creates the support set of the given player that consists of the
+	 * actions of this support set.
+	 * 
+	 * @param <PLAYER>
+	 *            The actual class of the player
+	 * @param <ACTION>
+	 *            The actual class of the actions
+	 * @param player
+	 *            Player of the support set
+	 * @param playerActions
+	 *            All actions of the player, in the order they were added to
+	 *            the game
+	 * @return The support set of the player with the actions of this support
+	 *         set, in the order they were added to the game
+	 */
+	public <PLAYER, ACTION> SupportSet<PLAYER, ACTION> toSupportSet(final PLAYER player,
+			final Iterable<ACTION> playerActions) {
+		final SupportSet<PLAYER, ACTION> supportSet = new SupportSet<>(player);
+		final Iterator<ACTION> actionIter = playerActions.iterator();
+		for (int index = 0; actionIter.hasNext() && index < MAX_ACTIONS; index++) {
+			final ACTION action = actionIter.next();
+			if (contains(index)) {
+				supportSet.addAction(action);
+			}
+		}
+		return supportSet;
+	}
+
+}
@@ -4,6 +4,8 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import de.tischner.nashfinder.locale.ErrorMessages;
+
 /**
  * Specifies a set of actions a given player has access to.
  * 
@@ -143,6 +145,48 @@ public final class SupportSet<PLAYER, ACTION> {
 		return result;
 	}
 
+	/**
+	 * Gets the amount of actions in this support set.
+	 * 
+	 * @return The amount of actions
+	 */
+	public int size() {
+		return this.mActions.size();
+	}
+
+	/**
+	 * Creates the compact bitmask form of this support set, where bit
+	 * <tt>i</tt> stands for the <tt>i</tt>-th action of the player.
+	 * 
+	 * @param playerActions
+	 *            All actions of the player of this support set, in the order
+	 *            they were added to the game
+	 * @return The compact form of this support set
+	 * @throws IllegalArgumentException
+	 *             If the support set contains an action that is not among the
+	 *             first {@value CompactSupportSet#MAX_ACTIONS} actions of the
+	 *             player
+	 */
+	public CompactSupportSet toCompact(final Iterable<ACTION> playerActions) {
+		long actions = 0L;
+		int index = 0;
+		int remaining = this.mActions.size();
+		for (final ACTION action : playerActions) {
+			if (remaining == 0) {
+				break;
+			}
+			if (this.mActions.contains(action)) {
+				if (index >= CompactSupportSet.MAX_ACTIONS) {
+					throw new IllegalArgumentException(ErrorMessages.SUPPORT_SET_TOO_MANY_ACTIONS + " Got: " + index);
+				}
+				actions |= 1L << index;
+				remaining--;
+			}
+			index++;
+		}
+		return new CompactSupportSet(actions);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
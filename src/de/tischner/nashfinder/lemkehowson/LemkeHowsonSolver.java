@@ -0,0 +1,307 @@
+package de.tischner.nashfinder.lemkehowson;
+
+import java.util.Arrays;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.nash.NashStrategy;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Finds nash equilibria of games with two players by using the Lemke-Howson
+ * algorithm. Starting at the artificial equilibrium, where no player plays
+ * any action, one label is dropped and complementary pivoting steps are
+ * followed until every label is represented again.<br/>
+ * <br/>
+ * Labels <tt>0</tt> to <tt>m-1</tt> belong to the <tt>m</tt> actions of the
+ * first player and labels <tt>m</tt> to <tt>m+n-1</tt> to the <tt>n</tt>
+ * actions of the second player, both in the order they were added to the
+ * game.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class LemkeHowsonSolver<PLAYER, ACTION> {
+
+	/**
+	 * Factor that, multiplied with the amount of labels, gives the maximal
+	 * amount of pivot steps of a path before it is aborted.
+	 */
+	private static final int PIVOT_LIMIT_FACTOR = 1000;
+
+	/**
+	 * Payoff matrix of the first player.
+	 */
+	private final double[][] mFirstPayoffs;
+	/**
+	 * The first player of the game.
+	 */
+	private final PLAYER mFirstPlayer;
+	/**
+	 * Amount of actions of the first player.
+	 */
+	private final int mFirstPlayerActionCount;
+	/**
+	 * Game to solve.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Payoff matrix of the second player.
+	 */
+	private final double[][] mSecondPayoffs;
+	/**
+	 * The second player of the game.
+	 */
+	private final PLAYER mSecondPlayer;
+	/**
+	 * Amount of actions of the second player.
+	 */
+	private final int mSecondPlayerActionCount;
+
+	/**
+	 * Creates a new solver for the given game.
+	 * 
+	 * @param game
+	 *            Game to solve, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public LemkeHowsonSolver(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		this.mFirstPlayer = game.getFirstPlayer();
+		this.mSecondPlayer = game.getSecondPlayer();
+
+		this.mFirstPayoffs = game.getPayoffMatrix(this.mFirstPlayer);
+		this.mSecondPayoffs = game.getPayoffMatrix(this.mSecondPlayer);
+		this.mFirstPlayerActionCount = game.getPlayerActions(this.mFirstPlayer).size();
+		this.mSecondPlayerActionCount = game.getPlayerActions(this.mSecondPlayer).size();
+	}
+
+	/**
+	 * Gets the amount of labels, which is the total amount of actions of both
+	 * players.
+	 * 
+	 * @return The amount of labels
+	 */
+	public int getLabelCount() {
+		return this.mFirstPlayerActionCount + this.mSecondPlayerActionCount;
+	}
+
+	/**
+	 * Computes a nash equilibrium by following the Lemke-Howson path that
+	 * starts at the artificial equilibrium with the given label dropped.
+	 * 
+	 * @param droppedLabel
+	 *            The label to drop initially, between <tt>0</tt> (inclusive)
+	 *            and {@link #getLabelCount()} (exclusive)
+	 * @return The nash equilibrium at the end of the path
+	 * @throws IllegalArgumentException
+	 *             If the given label does not exist
+	 * @throws IllegalStateException
+	 *             If the path does not reach an equilibrium, which only
+	 *             happens on numerical problems
+	 */
+	public NashEquilibrium<PLAYER, ACTION> solve(final int droppedLabel) {
+		if (droppedLabel < 0 || droppedLabel >= getLabelCount()) {
+			throw new IllegalArgumentException(ErrorMessages.LEMKE_HOWSON_ILLEGAL_LABEL + " Got: " + droppedLabel);
+		}
+		final Tableau[] tableaux = createInitialTableaux();
+		if (!followPath(tableaux, droppedLabel)) {
+			throw new IllegalStateException(ErrorMessages.LEMKE_HOWSON_NO_EQUILIBRIUM);
+		}
+		final NashEquilibrium<PLAYER, ACTION> equilibrium = extractEquilibrium(tableaux);
+		if (equilibrium == null) {
+			throw new IllegalStateException(ErrorMessages.LEMKE_HOWSON_NO_EQUILIBRIUM);
+		}
+		return equilibrium;
+	}
+
+	/**
+	 * Compares the given equilibria canonically. They are compared by their
+	 * supports first, action by action of the first and then the second
+	 * player, and then by their probabilities.
+	 * 
+	 * @param first
+	 *            The first equilibrium to compare
+	 * @param second
+	 *            The second equilibrium to compare
+	 * @return A negative value, zero or a positive value if the first
+	 *         equilibrium is less than, equal to or greater than the second
+	 */
+	int compareCanonically(final NashEquilibrium<PLAYER, ACTION> first, final NashEquilibrium<PLAYER, ACTION> second) {
+		final double[] firstProbabilities = toLabelProbabilities(first);
+		final double[] secondProbabilities = toLabelProbabilities(second);
+		for (int label = 0; label < firstProbabilities.length; label++) {
+			final int comparison = Boolean.compare(firstProbabilities[label] > 0, secondProbabilities[label] > 0);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		for (int label = 0; label < firstProbabilities.length; label++) {
+			final int comparison = Double.compare(firstProbabilities[label], secondProbabilities[label]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Creates the tableaux of the artificial equilibrium. The first tableau
+	 * belongs to the strategy of the first player and is constrained by the
+	 * payoffs of the second player, the second tableau vice versa. Payoffs are
+	 * shifted to be positive, which does not change the equilibria.
+	 * 
+	 * @return The tableau of the first player followed by the tableau of the
+	 *         second player
+	 */
+	Tableau[] createInitialTableaux() {
+		final int rowCount = this.mFirstPlayerActionCount;
+		final int columnCount = this.mSecondPlayerActionCount;
+		final int labelCount = getLabelCount();
+		final double firstShift = MathUtil.computePositiveShift(this.mFirstPayoffs);
+		final double secondShift = MathUtil.computePositiveShift(this.mSecondPayoffs);
+
+		// Strategy x of the first player, with x B <= 1
+		final Tableau firstTableau = new Tableau(columnCount, labelCount, rowCount);
+		for (int column = 0; column < columnCount; column++) {
+			for (int row = 0; row < rowCount; row++) {
+				firstTableau.set(column, row, this.mSecondPayoffs[row][column] + secondShift);
+			}
+			firstTableau.set(column, rowCount + column, 1);
+			firstTableau.set(column, labelCount, 1);
+		}
+
+		// Strategy y of the second player, with A y <= 1
+		final Tableau secondTableau = new Tableau(rowCount, labelCount, 0);
+		for (int row = 0; row < rowCount; row++) {
+			secondTableau.set(row, row, 1);
+			for (int column = 0; column < columnCount; column++) {
+				secondTableau.set(row, rowCount + column, this.mFirstPayoffs[row][column] + firstShift);
+			}
+			secondTableau.set(row, labelCount, 1);
+		}
+
+		return new Tableau[] { firstTableau, secondTableau };
+	}
+
+	/**
+	 * Extracts the nash equilibrium that is represented by the given
+	 * tableaux. Probabilities are the normalized values of the basic labels.
+	 * 
+	 * @param tableaux
+	 *            The tableau of the first player followed by the tableau of
+	 *            the second player
+	 * @return The represented nash equilibrium or <tt>null</tt> if the
+	 *         tableaux represent the artificial equilibrium
+	 */
+	NashEquilibrium<PLAYER, ACTION> extractEquilibrium(final Tableau[] tableaux) {
+		final double[] firstStrategy = new double[this.mFirstPlayerActionCount];
+		double firstSum = 0;
+		for (int row = 0; row < this.mFirstPlayerActionCount; row++) {
+			firstStrategy[row] = tableaux[0].getBasicValue(row);
+			firstSum += firstStrategy[row];
+		}
+		final double[] secondStrategy = new double[this.mSecondPlayerActionCount];
+		double secondSum = 0;
+		for (int column = 0; column < this.mSecondPlayerActionCount; column++) {
+			secondStrategy[column] = tableaux[1].getBasicValue(this.mFirstPlayerActionCount + column);
+			secondSum += secondStrategy[column];
+		}
+		if (firstSum <= 0 || secondSum <= 0) {
+			return null;
+		}
+
+		double firstUtility = 0;
+		double secondUtility = 0;
+		for (int row = 0; row < this.mFirstPlayerActionCount; row++) {
+			firstStrategy[row] /= firstSum;
+		}
+		for (int column = 0; column < this.mSecondPlayerActionCount; column++) {
+			secondStrategy[column] /= secondSum;
+		}
+		for (int row = 0; row < this.mFirstPlayerActionCount; row++) {
+			for (int column = 0; column < this.mSecondPlayerActionCount; column++) {
+				final double probability = firstStrategy[row] * secondStrategy[column];
+				firstUtility += probability * this.mFirstPayoffs[row][column];
+				secondUtility += probability * this.mSecondPayoffs[row][column];
+			}
+		}
+
+		return NashEquilibrium.createFromMixedStrategies(firstStrategy, firstUtility, secondStrategy, secondUtility,
+				this.mGame);
+	}
+
+	/**
+	 * Follows the Lemke-Howson path that starts at the given tableaux by
+	 * dropping the given label. The label enters the tableau where it is not
+	 * basic, afterwards the label that left one tableau enters the other one,
+	 * until the dropped label leaves. The path is aborted if the thread gets
+	 * interrupted, such that searches can stop paths that are followed by
+	 * their worker threads.
+	 * 
+	 * @param tableaux
+	 *            The tableau of the first player followed by the tableau of
+	 *            the second player, they are pivoted in place
+	 * @param droppedLabel
+	 *            The label to drop
+	 * @return <tt>True</tt> if the path reached its end, <tt>false</tt> if it
+	 *         was aborted because of numerical problems or an interrupt
+	 */
+	boolean followPath(final Tableau[] tableaux, final int droppedLabel) {
+		int current = 0;
+		if (tableaux[0].isBasic(droppedLabel)) {
+			current = 1;
+		}
+		int enteringLabel = droppedLabel;
+
+		final int pivotLimit = PIVOT_LIMIT_FACTOR * getLabelCount();
+		for (int pivots = 0; pivots < pivotLimit; pivots++) {
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
+			final int row = tableaux[current].findLeavingRow(enteringLabel);
+			if (row == -1) {
+				return false;
+			}
+			final int leavingLabel = tableaux[current].pivot(row, enteringLabel);
+			if (leavingLabel == droppedLabel) {
+				return true;
+			}
+			enteringLabel = leavingLabel;
+			current = 1 - current;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the probabilities of the given equilibrium indexed by label, the
+	 * actions of the first player followed by the actions of the second
+	 * player.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to get the probabilities of
+	 * @return The probabilities indexed by label, actions that are not listed
+	 *         have probability <tt>0</tt>
+	 */
+	private double[] toLabelProbabilities(final NashEquilibrium<PLAYER, ACTION> equilibrium) {
+		final double[] probabilities = new double[getLabelCount()];
+		int label = 0;
+		for (final PLAYER player : Arrays.asList(this.mFirstPlayer, this.mSecondPlayer)) {
+			final NashStrategy<ACTION> strategy = equilibrium.getNashStrategyOfPlayer(player);
+			for (final ACTION action : this.mGame.getPlayerActions(player)) {
+				final Number probability = strategy.getActionProbability(action);
+				if (probability != null) {
+					probabilities[label] = probability.doubleValue();
+				}
+				label++;
+			}
+		}
+		return probabilities;
+	}
+}
@@ -0,0 +1,83 @@
+package de.tischner.nashfinder.lemkehowson;
+
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * Finds multiple nash equilibria of games with two players by following
+ * Lemke-Howson paths from every label. Paths start at the artificial
+ * equilibrium and, chained, at every equilibrium that was found, until no new
+ * equilibrium is reached, a given amount of distinct equilibria was found or
+ * a deadline expired. The paths are followed concurrently on a pool of worker
+ * threads.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class MultiStartLemkeHowsonSolver<PLAYER, ACTION> {
+
+	/**
+	 * Amount of worker threads to follow the paths with.
+	 */
+	private final int mParallelism;
+	/**
+	 * Solver that follows single paths.
+	 */
+	private final LemkeHowsonSolver<PLAYER, ACTION> mSolver;
+
+	/**
+	 * Creates a new solver for the given game.
+	 * 
+	 * @param game
+	 *            Game to solve, it must have exactly two players
+	 * @param parallelism
+	 *            Amount of worker threads to follow the paths with
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 * @throws IllegalArgumentException
+	 *             If the amount of worker threads is smaller than <tt>1</tt>
+	 */
+	public MultiStartLemkeHowsonSolver(final StrategicGame<PLAYER, ACTION> game, final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(ErrorMessages.PARALLELISM_ILLEGAL + " Got: " + parallelism);
+		}
+		this.mSolver = new LemkeHowsonSolver<>(game);
+		this.mParallelism = parallelism;
+	}
+
+	/**
+	 * Computes distinct nash equilibria by following the Lemke-Howson paths of
+	 * all labels, chained from every equilibrium that was found. Every call
+	 * runs an own {@link PathSearch}, whose worker threads are stopped before
+	 * it returns.
+	 * 
+	 * @param maxEquilibria
+	 *            Maximal amount of distinct equilibria to find, the search
+	 *            stops early once it is reached
+	 * @param deadline
+	 *            Deadline at which the search stops, paths that are followed
+	 *            at that time are aborted
+	 * @return The distinct equilibria that were found, sorted canonically by
+	 *         their supports and probabilities such that the order does not
+	 *         depend on the scheduling of the worker threads
+	 * @throws IllegalArgumentException
+	 *             If the maximal amount is smaller than <tt>1</tt>
+	 */
+	public List<NashEquilibrium<PLAYER, ACTION>> solve(final int maxEquilibria, final Deadline deadline) {
+		if (maxEquilibria < 1) {
+			throw new IllegalArgumentException(ErrorMessages.MAX_EQUILIBRIA_ILLEGAL + " Got: " + maxEquilibria);
+		}
+		final List<NashEquilibrium<PLAYER, ACTION>> equilibria = new PathSearch<>(this.mSolver, this.mParallelism,
+				maxEquilibria).run(deadline);
+		equilibria.sort(this.mSolver::compareCanonically);
+		return equilibria;
+	}
+}
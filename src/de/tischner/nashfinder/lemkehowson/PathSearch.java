@@ -0,0 +1,238 @@
+package de.tischner.nashfinder.lemkehowson;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * One search of a {@link MultiStartLemkeHowsonSolver}, which follows the
+ * Lemke-Howson paths of all labels from the artificial equilibrium and,
+ * chained, from every equilibrium that was found. Every search has its own
+ * state and pool of worker threads, such that workers of a search that ended
+ * can not interfere with a later one.<br/>
+ * <br/>
+ * Once the search stops, its pool is shut down and the workers are
+ * interrupted, which aborts the paths they follow.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ * 
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+final class PathSearch<PLAYER, ACTION> {
+
+	/**
+	 * Distinct equilibria that were found, in the order they were found.
+	 */
+	private final List<NashEquilibrium<PLAYER, ACTION>> mEquilibria;
+	/**
+	 * Set view of the found equilibria, used for deduplication.
+	 */
+	private final Set<NashEquilibrium<PLAYER, ACTION>> mKnownEquilibria;
+	/**
+	 * Maximal amount of distinct equilibria to find.
+	 */
+	private final int mMaxEquilibria;
+	/**
+	 * Amount of paths that were submitted and are not finished yet.
+	 */
+	private int mPendingPaths;
+	/**
+	 * Pool of worker threads that follow the paths.
+	 */
+	private final ExecutorService mPool;
+	/**
+	 * Solver that follows single paths.
+	 */
+	private final LemkeHowsonSolver<PLAYER, ACTION> mSolver;
+	/**
+	 * Whether enough equilibria were found or the deadline expired and no
+	 * further paths should be followed.
+	 */
+	private volatile boolean mStopped;
+
+	/**
+	 * Creates a new search.
+	 * 
+	 * @param solver
+	 *            Solver that follows single paths
+	 * @param parallelism
+	 *            Amount of worker threads to follow the paths with, at least
+	 *            <tt>1</tt>
+	 * @param maxEquilibria
+	 *            Maximal amount of distinct equilibria to find, at least
+	 *            <tt>1</tt>
+	 */
+	public PathSearch(final LemkeHowsonSolver<PLAYER, ACTION> solver, final int parallelism,
+			final int maxEquilibria) {
+		this.mSolver = solver;
+		this.mMaxEquilibria = maxEquilibria;
+		this.mEquilibria = new ArrayList<>();
+		this.mKnownEquilibria = new HashSet<>();
+		this.mPendingPaths = 0;
+		this.mStopped = false;
+		this.mPool = Executors.newFixedThreadPool(parallelism);
+	}
+
+	/**
+	 * Runs the search until no path is pending, the maximal amount of
+	 * equilibria was found or the deadline expired. The search can only be
+	 * run once.
+	 * 
+	 * @param deadline
+	 *            Deadline at which the search stops, paths that are followed
+	 *            at that time are aborted
+	 * @return The distinct equilibria that were found, in the order they were
+	 *         found
+	 */
+	public List<NashEquilibrium<PLAYER, ACTION>> run(final Deadline deadline) {
+		try {
+			final Tableau[] artificial = this.mSolver.createInitialTableaux();
+			for (int label = 0; label < this.mSolver.getLabelCount(); label++) {
+				submitPath(artificial, label);
+			}
+			awaitPaths(deadline);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.mStopped = true;
+			this.mPool.shutdownNow();
+		}
+
+		synchronized (this) {
+			return new ArrayList<>(this.mEquilibria);
+		}
+	}
+
+	/**
+	 * Waits until no path is pending, the search was stopped or the deadline
+	 * expired.
+	 * 
+	 * @param deadline
+	 *            Deadline at which to stop waiting
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while waiting
+	 */
+	private synchronized void awaitPaths(final Deadline deadline) throws InterruptedException {
+		while (this.mPendingPaths > 0 && !this.mStopped) {
+			if (!deadline.isBounded()) {
+				wait();
+			} else if (deadline.isExpired()) {
+				// The deadline expired, the equilibria found so far are
+				// returned
+				return;
+			} else {
+				wait(Math.max(1L, deadline.getRemainingMillis()));
+			}
+		}
+	}
+
+	/**
+	 * Marks a submitted path as finished and wakes up the waiting thread once
+	 * no path is pending anymore.
+	 */
+	private synchronized void finishPath() {
+		this.mPendingPaths--;
+		if (this.mPendingPaths == 0) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Follows the path that starts at the given tableaux with the given label
+	 * dropped. If it ends at a new equilibrium, the paths of all other labels
+	 * are chained from there.
+	 * 
+	 * @param start
+	 *            Tableaux to start at, they are not modified
+	 * @param droppedLabel
+	 *            The label to drop
+	 */
+	private void followPath(final Tableau[] start, final int droppedLabel) {
+		final Tableau[] tableaux = new Tableau[] { start[0].copy(), start[1].copy() };
+		NashEquilibrium<PLAYER, ACTION> equilibrium = null;
+		try {
+			if (this.mSolver.followPath(tableaux, droppedLabel)) {
+				equilibrium = this.mSolver.extractEquilibrium(tableaux);
+			}
+		} catch (final IllegalStateException e) {
+			// Numerical problems on this path, the other paths may still
+			// succeed
+			equilibrium = null;
+		}
+		if (equilibrium == null || !register(equilibrium)) {
+			return;
+		}
+
+		for (int label = 0; label < this.mSolver.getLabelCount(); label++) {
+			if (label != droppedLabel) {
+				submitPath(tableaux, label);
+			}
+		}
+	}
+
+	/**
+	 * Registers a found equilibrium if it is new and the search was not
+	 * stopped yet. Reaching the maximal amount of equilibria stops the
+	 * search.
+	 * 
+	 * @param equilibrium
+	 *            The equilibrium that was found
+	 * @return <tt>True</tt> if the equilibrium was new and paths should be
+	 *         chained from it, <tt>false</tt> otherwise
+	 */
+	private synchronized boolean register(final NashEquilibrium<PLAYER, ACTION> equilibrium) {
+		if (this.mStopped || !this.mKnownEquilibria.add(equilibrium)) {
+			return false;
+		}
+		this.mEquilibria.add(equilibrium);
+		if (this.mEquilibria.size() >= this.mMaxEquilibria) {
+			this.mStopped = true;
+			notifyAll();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Submits a path to the pool of worker threads, unless the search was
+	 * stopped already. If the pool was shut down meanwhile, the path is
+	 * dropped.
+	 * 
+	 * @param start
+	 *            Tableaux to start at, they are not modified
+	 * @param droppedLabel
+	 *            The label to drop
+	 */
+	private void submitPath(final Tableau[] start, final int droppedLabel) {
+		if (this.mStopped) {
+			return;
+		}
+		synchronized (this) {
+			this.mPendingPaths++;
+		}
+		try {
+			this.mPool.execute(() -> {
+				try {
+					if (!this.mStopped) {
+						followPath(start, droppedLabel);
+					}
+				} finally {
+					finishPath();
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			// The search stopped and the pool was shut down after the check
+			finishPath();
+		}
+	}
+}
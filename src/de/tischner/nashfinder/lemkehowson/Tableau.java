@@ -0,0 +1,240 @@
+package de.tischner.nashfinder.lemkehowson;
+
+/**
+ * Tableau of one player for the Lemke-Howson algorithm. Every column belongs
+ * to a label, which is an action of either player, and the last column holds
+ * the right hand side. Every row has exactly one basic label.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class Tableau {
+
+	/**
+	 * Tolerance for comparing values of the tableau.
+	 */
+	private static final double EPSILON = 1e-12;
+
+	/**
+	 * The basic label of every row.
+	 */
+	private final int[] mBasis;
+	/**
+	 * Amount of labels, which is the amount of columns without the right hand
+	 * side.
+	 */
+	private final int mLabelCount;
+	/**
+	 * Amount of rows.
+	 */
+	private final int mRowCount;
+	/**
+	 * First label of the initial basis, it is used for lexicographic
+	 * tie-breaking.
+	 */
+	private final int mSlackStart;
+	/**
+	 * The values of the tableau in row-major order.
+	 */
+	private final double[] mValues;
+
+	/**
+	 * Creates a new tableau where all values are zero. The initial basis
+	 * consists of the consecutive labels starting at the given label.
+	 * 
+	 * @param rowCount
+	 *            Amount of rows
+	 * @param labelCount
+	 *            Amount of labels
+	 * @param slackStart
+	 *            First label of the initial basis
+	 */
+	public Tableau(final int rowCount, final int labelCount, final int slackStart) {
+		this.mRowCount = rowCount;
+		this.mLabelCount = labelCount;
+		this.mSlackStart = slackStart;
+		this.mValues = new double[rowCount * (labelCount + 1)];
+		this.mBasis = new int[rowCount];
+		for (int row = 0; row < rowCount; row++) {
+			this.mBasis[row] = slackStart + row;
+		}
+	}
+
+	/**
+	 * Creates a copy of the given tableau.
+	 * 
+	 * @param tableau
+	 *            Tableau to copy
+	 */
+	private Tableau(final Tableau tableau) {
+		this.mRowCount = tableau.mRowCount;
+		this.mLabelCount = tableau.mLabelCount;
+		this.mSlackStart = tableau.mSlackStart;
+		this.mValues = tableau.mValues.clone();
+		this.mBasis = tableau.mBasis.clone();
+	}
+
+	/**
+	 * Creates a copy of this tableau that can be pivoted independently.
+	 * 
+	 * @return A copy of this tableau
+	 */
+	public Tableau copy() {
+		return new Tableau(this);
+	}
+
+	/**
+	 * Finds the row that leaves the basis if the given label enters it. The
+	 * minimum ratio test is broken lexicographically by the columns of the
+	 * initial basis, which keeps degenerate games from cycling.
+	 * 
+	 * @param label
+	 *            Label that enters the basis
+	 * @return The row that leaves the basis or <tt>-1</tt> if the column of
+	 *         the label has no positive entry
+	 */
+	public int findLeavingRow(final int label) {
+		int bestRow = -1;
+		for (int row = 0; row < this.mRowCount; row++) {
+			if (get(row, label) <= EPSILON) {
+				continue;
+			}
+			if (bestRow == -1 || isLexicographicallySmaller(row, bestRow, label)) {
+				bestRow = row;
+			}
+		}
+		return bestRow;
+	}
+
+	/**
+	 * Gets the value of the given basic label, which is the right hand side of
+	 * its row.
+	 * 
+	 * @param label
+	 *            Label to get the value of
+	 * @return The value of the label or <tt>0</tt> if it is not basic
+	 */
+	public double getBasicValue(final int label) {
+		for (int row = 0; row < this.mRowCount; row++) {
+			if (this.mBasis[row] == label) {
+				return get(row, this.mLabelCount);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Whether the given label is basic in this tableau.
+	 * 
+	 * @param label
+	 *            Label in question
+	 * @return <tt>True</tt> if the label is basic, <tt>false</tt> otherwise
+	 */
+	public boolean isBasic(final int label) {
+		for (int row = 0; row < this.mRowCount; row++) {
+			if (this.mBasis[row] == label) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Pivots the tableau such that the given label becomes basic in the given
+	 * row.
+	 * 
+	 * @param row
+	 *            Row to pivot on
+	 * @param label
+	 *            Label that enters the basis
+	 * @return The label that left the basis
+	 */
+	public int pivot(final int row, final int label) {
+		final int width = this.mLabelCount + 1;
+		final int pivotOffset = row * width;
+		final double pivotValue = this.mValues[pivotOffset + label];
+		for (int column = 0; column < width; column++) {
+			this.mValues[pivotOffset + column] /= pivotValue;
+		}
+		for (int otherRow = 0; otherRow < this.mRowCount; otherRow++) {
+			if (otherRow == row) {
+				continue;
+			}
+			final int rowOffset = otherRow * width;
+			final double factor = this.mValues[rowOffset + label];
+			if (factor == 0) {
+				continue;
+			}
+			for (int column = 0; column < width; column++) {
+				this.mValues[rowOffset + column] -= factor * this.mValues[pivotOffset + column];
+			}
+		}
+
+		final int leavingLabel = this.mBasis[row];
+		this.mBasis[row] = label;
+		return leavingLabel;
+	}
+
+	/**
+	 * Sets the value of the given cell.
+	 * 
+	 * @param row
+	 *            Row of the cell
+	 * @param column
+	 *            Column of the cell, the amount of labels addresses the right
+	 *            hand side
+	 * @param value
+	 *            Value to set
+	 */
+	public void set(final int row, final int column, final double value) {
+		this.mValues[row * (this.mLabelCount + 1) + column] = value;
+	}
+
+	/**
+	 * Gets the value of the given cell.
+	 * 
+	 * @param row
+	 *            Row of the cell
+	 * @param column
+	 *            Column of the cell, the amount of labels addresses the right
+	 *            hand side
+	 * @return The value of the cell
+	 */
+	private double get(final int row, final int column) {
+		return this.mValues[row * (this.mLabelCount + 1) + column];
+	}
+
+	/**
+	 * Whether the ratio vector of the given row is lexicographically smaller
+	 * than the one of the other row. The ratio vector consists of the right
+	 * hand side followed by the columns of the initial basis, divided by the
+	 * entry in the column of the entering label.
+	 * 
+	 * @param row
+	 *            Row in question
+	 * @param otherRow
+	 *            Row to compare against
+	 * @param label
+	 *            Label that enters the basis
+	 * @return <tt>True</tt> if the ratio vector of the row is smaller,
+	 *         <tt>false</tt> otherwise
+	 */
+	private boolean isLexicographicallySmaller(final int row, final int otherRow, final int label) {
+		final double pivot = get(row, label);
+		final double otherPivot = get(otherRow, label);
+
+		double ratio = get(row, this.mLabelCount) / pivot;
+		double otherRatio = get(otherRow, this.mLabelCount) / otherPivot;
+		if (Math.abs(ratio - otherRatio) > EPSILON) {
+			return ratio < otherRatio;
+		}
+		for (int column = this.mSlackStart; column < this.mSlackStart + this.mRowCount; column++) {
+			ratio = get(row, column) / pivot;
+			otherRatio = get(otherRow, column) / otherPivot;
+			if (Math.abs(ratio - otherRatio) > EPSILON) {
+				return ratio < otherRatio;
+			}
+		}
+		return false;
+	}
+}
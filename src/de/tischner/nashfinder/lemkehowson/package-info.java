@@ -0,0 +1,5 @@
+/**
+ * This is the package for finding nash equilibria with the Lemke-Howson
+ * algorithm, which follows a path of complementary pivoting steps.
+ */
+package de.tischner.nashfinder.lemkehowson;
\ No newline at end of file
@@ -7,6 +7,38 @@ package de.tischner.nashfinder.locale;
  * 
  */
 public final class ErrorMessages {
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.RunAgreementChecks#main(String[])
+	 * RunAgreementChecks#main(String[])} found games whose equilibria disagree
+	 * with the reference.
+	 */
+	public static final String AGREEMENT_CHECKS_FAILED = "The equilibria of some games disagree with their reference.";
+	/**
+	 * Thrown when an {@link de.tischner.nashfinder.benchmark.AgreementChecker
+	 * AgreementChecker} should check fewer than one game per family and size.
+	 */
+	public static final String AGREEMENT_GAME_COUNT_ILLEGAL = "The amount of games per family and size must be at least one.";
+	/**
+	 * Thrown when a {@link de.tischner.nashfinder.benchmark.BenchmarkRunner
+	 * BenchmarkRunner} should use less than one iteration or a negative amount
+	 * of warmup iterations.
+	 */
+	public static final String BENCHMARK_ITERATIONS_ILLEGAL = "The amount and time of measured iterations must be at least one, the amount of warmup iterations must not be negative.";
+	/**
+	 * Thrown when a line of a benchmark results file could not be parsed as
+	 * {@link de.tischner.nashfinder.benchmark.BenchmarkResult
+	 * BenchmarkResult}.
+	 */
+	public static final String BENCHMARK_RESULT_PARSE_ERROR = "Could not parse the benchmark result. The format may be corrupt.";
+	/**
+	 * Thrown when the length of a name in a binary game file is negative or
+	 * exceeds the rest of the file.
+	 */
+	public static final String BINARY_GAME_NAME_LENGTH_ILLEGAL = "Could not read a name of the binary game file. Its length does not fit into the file.";
+	/**
+	 * Thrown when an error occurred while reading a binary game file.
+	 */
+	public static final String BINARY_GAME_PARSE_ERROR = "Could not read the binary game file. The format may be corrupt.";
 	/**
 	 * Thrown when a {@link de.tischner.nashfinder.game.StrategicGame
 	 * StrategicGame} is in an illegal state while building support sets in
@@ -18,21 +50,107 @@ public final class ErrorMessages {
 	 * Thrown when trying to build the cartesian product of fewer than two sets.
 	 */
 	public static final String CARTESIAN_PRODUCT_OF_FEWER_TWO = "Can not build a product of fewer than two sets.";
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.ConvertGame#main(String[])
+	 * ConvertGame#main(String[])} gets called with the wrong number of
+	 * arguments.
+	 */
+	public static final String CONVERT_GAME_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The first argument specifies the json game file to convert and the second argument the binary game file to write.";
+	/**
+	 * Thrown when a {@link de.tischner.nashfinder.NashFinder NashFinder}
+	 * should solve specific support sets with an engine that does not
+	 * enumerate support sets.
+	 */
+	public static final String ENGINE_SUPPORT_SETS_UNSUPPORTED = "The selected engine does not support solving for specific support sets.";
 	/**
 	 * Thrown when the payoff list argument in
 	 * {@link de.tischner.nashfinder.game.StrategicGame#addPayoff(java.util.List, de.tischner.nashfinder.game.util.ActionProfile)
 	 * StrategicGame#addPayoff(List, ActionProfile)} is in an illegal state.
 	 */
 	public static final String GAME_ADD_PAYOFF_ILLEGAL_PAYOFF = "Could not add payoff. The size of payoff must be equal to the amount of players and the size of the action profile.";
+	/**
+	 * Thrown when an action profile in
+	 * {@link de.tischner.nashfinder.game.StrategicGame#addPayoff(java.util.List, de.tischner.nashfinder.game.util.ActionProfile)
+	 * StrategicGame#addPayoff(List, ActionProfile)} contains an action that
+	 * does not belong to its player.
+	 */
+	public static final String GAME_ADD_PAYOFF_ILLEGAL_PROFILE = "Could not add payoff since the action profile contains unknown actions.";
+	/**
+	 * Thrown when a player should be added to a
+	 * {@link de.tischner.nashfinder.game.StrategicGame StrategicGame} that
+	 * already has payoffs.
+	 */
+	public static final String GAME_ADD_PLAYER_AFTER_PAYOFF = "Players must be added before the first payoff.";
+	/**
+	 * Thrown when a {@link de.tischner.nashfinder.benchmark.GameGenerator
+	 * GameGenerator} should generate a game with less than one action per
+	 * player.
+	 */
+	public static final String GAME_GENERATOR_ACTION_COUNT_ILLEGAL = "Generated games must have at least one action per player.";
+	/**
+	 * Thrown when an operation that is only defined for games with two players
+	 * is used on a {@link de.tischner.nashfinder.game.StrategicGame
+	 * StrategicGame} with a different amount of players.
+	 */
+	public static final String GAME_NOT_BIMATRIX = "The operation is only supported for games with exactly two players.";
+	/**
+	 * Thrown when an operation that is only defined for constant-sum games is
+	 * used on a {@link de.tischner.nashfinder.game.StrategicGame
+	 * StrategicGame} whose payoffs do not sum up to the same constant.
+	 */
+	public static final String GAME_NOT_CONSTANT_SUM = "The operation is only supported for games where the payoffs of every action profile sum up to the same constant.";
+	/**
+	 * Thrown when an operation that is only defined for symmetric games is
+	 * used on a {@link de.tischner.nashfinder.game.StrategicGame
+	 * StrategicGame} that is not symmetric.
+	 */
+	public static final String GAME_NOT_SYMMETRIC = "The operation is only supported for symmetric games with two players, whose payoff matrices are transposes of each other.";
 	/**
 	 * Thrown when a {@link de.tischner.nashfinder.game.StrategicGame
 	 * StrategicGame} could not find a given payoff.
 	 */
 	public static final String GAME_PAYOFF_NOT_FOUND = "Could not find the payoff for the given player. The internal structures may be corrupt.";
+	/**
+	 * Thrown when the action profiles of a
+	 * {@link de.tischner.nashfinder.game.StrategicGame StrategicGame} exceed
+	 * the size of its payoff arrays.
+	 */
+	public static final String GAME_TOO_MANY_PROFILES = "The game has too many action profiles to store its payoffs.";
 	/**
 	 * Thrown when an error occurred while parsing a json file.
 	 */
 	public static final String JSON_PARSE_ERROR = "Could not parse the json object. The format may be corrupt.";
+	/**
+	 * Thrown when a
+	 * {@link de.tischner.nashfinder.lemkehowson.LemkeHowsonSolver
+	 * LemkeHowsonSolver} should drop a label that does not exist in the game.
+	 */
+	public static final String LEMKE_HOWSON_ILLEGAL_LABEL = "The label to drop must be between zero (inclusive) and the total amount of actions of both players (exclusive).";
+	/**
+	 * Thrown when a
+	 * {@link de.tischner.nashfinder.lemkehowson.LemkeHowsonSolver
+	 * LemkeHowsonSolver} does not reach an equilibrium, which only happens on
+	 * numerical problems.
+	 */
+	public static final String LEMKE_HOWSON_NO_EQUILIBRIUM = "The complementary pivoting did not reach an equilibrium. The game may be numerically unstable.";
+	/**
+	 * Thrown when the maximal amount of equilibria to find is set to an
+	 * illegal value.
+	 */
+	public static final String MAX_EQUILIBRIA_ILLEGAL = "The maximal amount of equilibria to find must be at least one.";
+	/**
+	 * Thrown when
+	 * {@link de.tischner.nashfinder.metrics.SolverMetrics SolverMetrics} could
+	 * not be registered at or unregistered from the platform MBean server.
+	 */
+	public static final String METRICS_REGISTRATION_FAILED = "Could not register or unregister the metrics over JMX. Other metrics may already be registered under the same name.";
+	/**
+	 * Thrown when a
+	 * {@link de.tischner.nashfinder.constantsum.MinimaxSolver MinimaxSolver}
+	 * could not solve the minimax LP of a player, which only happens on
+	 * numerical problems.
+	 */
+	public static final String MINIMAX_NO_SOLUTION = "The minimax LP of a player could not be solved. The game may be numerically unstable.";
 	/**
 	 * Thrown when
 	 * {@link de.tischner.nashfinder.nash.NashEquilibrium#extractFromLcpResults(net.sf.javailp.Result, de.tischner.nashfinder.game.StrategicGame)
@@ -40,16 +158,105 @@ public final class ErrorMessages {
 	 * extract a equilibrium from the results.
 	 */
 	public static final String NASH_EQUILIBRIUM_COULD_NOT_EXTRACT_LCP = "Could not extract results. The given game may be corrupt.";
+	/**
+	 * Thrown when the amount of worker threads of a
+	 * {@link de.tischner.nashfinder.NashFinder NashFinder} is set to an illegal
+	 * value.
+	 */
+	public static final String PARALLELISM_ILLEGAL = "The amount of worker threads must be at least one.";
 	/**
 	 * Thrown when a probability exceeds its limits <tt>0</tt> and </tt> (both
 	 * inclusive).
 	 */
 	public static final String PROBABILITY_EXCEEDS_LIMITS = "The given probability must be between zero and one (both inclusive).";
+	/**
+	 * Thrown when a {@link de.tischner.nashfinder.NashFinder NashFinder}
+	 * should solve specific support sets of a game that is reduced first.
+	 */
+	public static final String REDUCTION_SUPPORT_SETS_UNSUPPORTED = "The dominance reduction does not support solving for specific support sets.";
+	/**
+	 * Thrown when
+	 * {@link de.tischner.nashfinder.RunAgreementChecks#main(String[])
+	 * RunAgreementChecks#main(String[])} gets called with arguments that are
+	 * not options.
+	 */
+	public static final String RUN_AGREEMENT_CHECKS_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The agreement checks only accept options in the format --name=value.";
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.RunBenchmarks#main(String[])
+	 * RunBenchmarks#main(String[])} gets called with arguments that are not
+	 * options.
+	 */
+	public static final String RUN_BENCHMARKS_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The benchmarks only accept options in the format --name=value.";
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.SolveGame#main(String[])
+	 * SolveGame#main(String[])},
+	 * {@link de.tischner.nashfinder.SolveGames#main(String[])
+	 * SolveGames#main(String[])},
+	 * {@link de.tischner.nashfinder.SolveServer#main(String[])
+	 * SolveServer#main(String[])} or
+	 * {@link de.tischner.nashfinder.RunBenchmarks#main(String[])
+	 * RunBenchmarks#main(String[])} gets called with an unknown or malformed
+	 * option. Also returned by the server for requests with such an option.
+	 */
+	public static final String SOLVE_GAME_ILLEGAL_OPTION = "Unknown or malformed option. Options are given in the format --name=value.";
 	/**
 	 * Thrown when {@link de.tischner.nashfinder.SolveGame#main(String[])
 	 * SolveGame#main(String[])} gets called with the wrong number of arguments.
 	 */
 	public static final String SOLVE_GAME_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The first argument is not optional and specifies the game file to use for computation.";
+	/**
+	 * Thrown when a line of the manifest of
+	 * {@link de.tischner.nashfinder.SolveGames#main(String[])
+	 * SolveGames#main(String[])} does not start with the path to a game file.
+	 */
+	public static final String SOLVE_GAMES_MANIFEST_INVALID = "Could not read the manifest. Every line must start with the path to a game file, optionally followed by support sets.";
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.SolveGames#main(String[])
+	 * SolveGames#main(String[])} gets called with the wrong number of
+	 * arguments.
+	 */
+	public static final String SOLVE_GAMES_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The only argument specifies the directory of the games or the manifest that lists them.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests
+	 * whose body exceeds the size limit.
+	 */
+	public static final String SOLVE_SERVER_BODY_TOO_LARGE = "The body of the request exceeds the size limit of the server.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests with
+	 * a parameter that is no option that requests may give.
+	 */
+	public static final String SOLVE_SERVER_ILLEGAL_PARAMETER = "Illegal parameter. Requests may only give the options engine, max-equilibria, threads, time-budget and support-sets.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests that
+	 * do not post a game.
+	 */
+	public static final String SOLVE_SERVER_METHOD_NOT_ALLOWED = "Games must be posted as json object in the body of the request.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests that
+	 * are rejected since all workers are busy and the queue of games is full.
+	 */
+	public static final String SOLVE_SERVER_OVERLOADED = "The server is overloaded. Retry the request later.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests
+	 * whose game could not be solved because of an unexpected failure.
+	 */
+	public static final String SOLVE_SERVER_SOLVING_FAILED = "The game could not be solved because of an internal failure.";
+	/**
+	 * Returned by {@link de.tischner.nashfinder.SolveServer} for requests
+	 * whose game was not solved within its time budget and a grace period.
+	 */
+	public static final String SOLVE_SERVER_TIMED_OUT = "The game could not be solved within the time budget of the server.";
+	/**
+	 * Thrown when {@link de.tischner.nashfinder.SolveServer#main(String[])
+	 * SolveServer#main(String[])} gets called with other arguments than
+	 * options.
+	 */
+	public static final String SOLVE_SERVER_WRONG_ARGUMENT_NUMBER = "Wrong number of arguments. The server only accepts options in the format --name=value.";
+	/**
+	 * Thrown when the support sets of a game should be enumerated, but the
+	 * amount of support set constellations exceeds the supported range.
+	 */
+	public static final String SUPPORT_ENUMERATION_TOO_LARGE = "The game has too many actions to enumerate its support sets.";
 	/**
 	 * Thrown when a {@link de.tischner.nashfinder.game.util.SupportSet
 	 * SupportSet} is in an illegal state.
@@ -67,6 +274,15 @@ public final class ErrorMessages {
 	 * the amount of players does not match the amount of found support sets.
 	 */
 	public static final String SUPPORT_SET_PARSE_ERROR_PLAYER_SIZE = "Can not parse support sets. The size of players does not match the amount of found support sets. But every support set needs to be assigned to a player nd vice versa.";
+	/**
+	 * Thrown when a support set should be represented as bitmask, but contains
+	 * an action whose index exceeds the size of the bitmask.
+	 */
+	public static final String SUPPORT_SET_TOO_MANY_ACTIONS = "Support sets in bitmask form are limited to 64 actions per player.";
+	/**
+	 * Thrown when the time budget of a computation is set to an illegal value.
+	 */
+	public static final String TIME_BUDGET_ILLEGAL = "The time budget must be at least one millisecond.";
 
 	/**
 	 * Utility class. No implementation.
@@ -0,0 +1,34 @@
+package de.tischner.nashfinder.metrics;
+
+/**
+ * Specifies the phases of a computation that {@link SolverMetrics} measures
+ * the latency and allocations of.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EPhase {
+	/**
+	 * Extracts the nash equilibrium of a constellation from the results of
+	 * its <i>linear program</i>.
+	 */
+	EXTRACTION,
+	/**
+	 * Builds the <i>linear program</i> of a constellation, like the best
+	 * response payoffs or the bounds of the model that activate its support
+	 * sets.
+	 */
+	LP_BUILD,
+	/**
+	 * Solves the <i>linear program</i> of a constellation.
+	 */
+	LP_SOLVE,
+	/**
+	 * Parses a game from its file.
+	 */
+	PARSE,
+	/**
+	 * Generates the support sets of a constellation from its compact form.
+	 */
+	SUPPORT_GENERATION
+}
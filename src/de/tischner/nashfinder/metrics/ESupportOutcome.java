@@ -0,0 +1,30 @@
+package de.tischner.nashfinder.metrics;
+
+/**
+ * Specifies the outcomes of a visited support set constellation that
+ * {@link SolverMetrics} counts.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum ESupportOutcome {
+	/**
+	 * The <i>linear program</i> of the constellation has no solution, the
+	 * constellation thus has no nash equilibrium.
+	 */
+	INFEASIBLE,
+	/**
+	 * The constellation was skipped without solving its <i>linear
+	 * program</i>, since it can not have a nash equilibrium.
+	 */
+	PRUNED,
+	/**
+	 * The constellation has a nash equilibrium.
+	 */
+	SOLVED,
+	/**
+	 * The solver gave up on the <i>linear program</i> of the constellation
+	 * after its timeout.
+	 */
+	TIMED_OUT
+}
@@ -0,0 +1,113 @@
+package de.tischner.nashfinder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <i>JDK Flight Recorder</i> event of one computation of nash equilibria, as
+ * emitted by {@link de.tischner.nashfinder.NashFinder NashFinder}. Its
+ * duration spans the whole computation with the selected engine, support set
+ * constellations of it are recorded by {@link SupportSolveEvent}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.tischner.nashfinder.Enumeration")
+@Label("Enumeration")
+@Category({ "NashFinder", "Run" })
+@Description("Computation of the nash equilibria of a game")
+public final class EnumerationEvent extends Event {
+
+	/**
+	 * Total amount of actions of all players of the game.
+	 */
+	@Name("actionCount")
+	@Label("Actions")
+	private int mActionCount;
+	/**
+	 * Backend that solves the LP of constellations.
+	 */
+	@Name("backend")
+	@Label("Solver Backend")
+	private String mBackend;
+	/**
+	 * Engine that computes the equilibria.
+	 */
+	@Name("engine")
+	@Label("Engine")
+	private String mEngine;
+	/**
+	 * Amount of found equilibria.
+	 */
+	@Name("equilibriumCount")
+	@Label("Equilibria")
+	private int mEquilibriumCount;
+	/**
+	 * Whether the computation stopped since its time budget ran out.
+	 */
+	@Name("timeBudgetExceeded")
+	@Label("Time Budget Exceeded")
+	private boolean mIsTimeBudgetExceeded;
+	/**
+	 * Amount of worker threads.
+	 */
+	@Name("parallelism")
+	@Label("Parallelism")
+	private int mParallelism;
+	/**
+	 * Amount of players of the game.
+	 */
+	@Name("playerCount")
+	@Label("Players")
+	private int mPlayerCount;
+
+	/**
+	 * Creates a new event of a computation.
+	 * 
+	 * @param engine
+	 *            Engine that computes the equilibria
+	 * @param backend
+	 *            Backend that solves the LP of constellations
+	 * @param parallelism
+	 *            Amount of worker threads
+	 */
+	public EnumerationEvent(final String engine, final String backend, final int parallelism) {
+		this.mEngine = engine;
+		this.mBackend = backend;
+		this.mParallelism = parallelism;
+		this.mPlayerCount = 0;
+		this.mActionCount = 0;
+		this.mEquilibriumCount = 0;
+		this.mIsTimeBudgetExceeded = false;
+	}
+
+	/**
+	 * Sets the size of the game.
+	 * 
+	 * @param playerCount
+	 *            Amount of players of the game
+	 * @param actionCount
+	 *            Total amount of actions of all players of the game
+	 */
+	public void setGameSize(final int playerCount, final int actionCount) {
+		this.mPlayerCount = playerCount;
+		this.mActionCount = actionCount;
+	}
+
+	/**
+	 * Sets the results of the computation.
+	 * 
+	 * @param equilibriumCount
+	 *            Amount of found equilibria
+	 * @param isTimeBudgetExceeded
+	 *            Whether the computation stopped since its time budget ran
+	 *            out
+	 */
+	public void setResults(final int equilibriumCount, final boolean isTimeBudgetExceeded) {
+		this.mEquilibriumCount = equilibriumCount;
+		this.mIsTimeBudgetExceeded = isTimeBudgetExceeded;
+	}
+}
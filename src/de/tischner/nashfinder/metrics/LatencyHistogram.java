@@ -0,0 +1,166 @@
+package de.tischner.nashfinder.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds with buckets of powers of two.
+ * Bucket <tt>i</tt> holds the latencies that need exactly <tt>i</tt> bits,
+ * percentiles are thus estimated by the upper bound of their bucket. Latencies
+ * can be recorded concurrently by multiple threads.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * Amount of buckets, one per bit length of a non-negative latency.
+	 */
+	private static final int BUCKET_COUNT = Long.SIZE;
+
+	/**
+	 * Gets the largest latency of the given bucket.
+	 * 
+	 * @param bucket
+	 *            The bucket to get the bound of
+	 * @return The largest latency of the bucket in nanoseconds
+	 */
+	private static long getUpperBound(final int bucket) {
+		if (bucket == 0) {
+			return 0L;
+		}
+		return (1L << bucket) - 1;
+	}
+
+	/**
+	 * Amount of recorded latencies per bucket.
+	 */
+	private final AtomicLongArray mBuckets;
+	/**
+	 * Amount of recorded latencies.
+	 */
+	private final LongAdder mCount;
+	/**
+	 * The largest recorded latency in nanoseconds.
+	 */
+	private final LongAccumulator mMaxNanos;
+	/**
+	 * Sum of the recorded latencies in nanoseconds.
+	 */
+	private final LongAdder mTotalNanos;
+
+	/**
+	 * Creates a new empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.mBuckets = new AtomicLongArray(BUCKET_COUNT);
+		this.mCount = new LongAdder();
+		this.mMaxNanos = new LongAccumulator(Math::max, 0L);
+		this.mTotalNanos = new LongAdder();
+	}
+
+	/**
+	 * Gets the amount of recorded latencies.
+	 * 
+	 * @return The amount of recorded latencies
+	 */
+	public long getCount() {
+		return this.mCount.sum();
+	}
+
+	/**
+	 * Gets the largest recorded latency.
+	 * 
+	 * @return The largest recorded latency in nanoseconds, <tt>0</tt> if
+	 *         nothing was recorded
+	 */
+	public long getMaxNanos() {
+		return this.mMaxNanos.get();
+	}
+
+	/**
+	 * Gets the mean of the recorded latencies.
+	 * 
+	 * @return The mean latency in nanoseconds, <tt>0</tt> if nothing was
+	 *         recorded
+	 */
+	public double getMeanNanos() {
+		final long count = getCount();
+		if (count == 0) {
+			return 0.0;
+		}
+		return ((double) getTotalNanos()) / count;
+	}
+
+	/**
+	 * Estimates the given percentile of the recorded latencies by the upper
+	 * bound of the bucket that contains it, which is at most twice the actual
+	 * percentile.
+	 * 
+	 * @param percentile
+	 *            The percentile to estimate, between <tt>0</tt> and
+	 *            <tt>1</tt> (both inclusive)
+	 * @return The estimated percentile in nanoseconds, <tt>0</tt> if nothing
+	 *         was recorded
+	 */
+	public long getPercentileNanos(final double percentile) {
+		final long[] buckets = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets[i] = this.mBuckets.get(i);
+			count += buckets[i];
+		}
+		if (count == 0) {
+			return 0L;
+		}
+
+		final long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+		long cumulativeCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulativeCount += buckets[i];
+			if (cumulativeCount >= rank) {
+				return Math.min(getUpperBound(i), getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+	/**
+	 * Gets the sum of the recorded latencies.
+	 * 
+	 * @return The sum of the recorded latencies in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return this.mTotalNanos.sum();
+	}
+
+	/**
+	 * Records the given latency. Negative latencies, which can occur if the
+	 * clock is adjusted, are recorded as <tt>0</tt>.
+	 * 
+	 * @param nanos
+	 *            The latency to record in nanoseconds
+	 */
+	public void record(final long nanos) {
+		final long latency = Math.max(0L, nanos);
+		this.mBuckets.incrementAndGet(BUCKET_COUNT - Long.numberOfLeadingZeros(latency));
+		this.mCount.increment();
+		this.mMaxNanos.accumulate(latency);
+		this.mTotalNanos.add(latency);
+	}
+
+	/**
+	 * Removes all recorded latencies. Latencies that are recorded
+	 * concurrently may be partially kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			this.mBuckets.set(i, 0L);
+		}
+		this.mCount.reset();
+		this.mMaxNanos.reset();
+		this.mTotalNanos.reset();
+	}
+}
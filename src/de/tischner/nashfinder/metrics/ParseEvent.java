@@ -0,0 +1,75 @@
+package de.tischner.nashfinder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <i>JDK Flight Recorder</i> event of parsing a game, as emitted by
+ * {@link de.tischner.nashfinder.util.StrategicGameParser
+ * StrategicGameParser}. Its duration spans reading the whole game.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.tischner.nashfinder.Parse")
+@Label("Parse Game")
+@Category({ "NashFinder", "Run" })
+@Description("Parsing of a game")
+public final class ParseEvent extends Event {
+
+	/**
+	 * Total amount of actions of all players of the parsed game.
+	 */
+	@Name("actionCount")
+	@Label("Actions")
+	private int mActionCount;
+	/**
+	 * Format the game is parsed from, like <tt>json</tt>.
+	 */
+	@Name("format")
+	@Label("Format")
+	private String mFormat;
+	/**
+	 * Amount of players of the parsed game.
+	 */
+	@Name("playerCount")
+	@Label("Players")
+	private int mPlayerCount;
+	/**
+	 * Source the game is parsed from, like its path.
+	 */
+	@Name("source")
+	@Label("Source")
+	private String mSource;
+
+	/**
+	 * Creates a new event of parsing a game.
+	 * 
+	 * @param source
+	 *            Source the game is parsed from, like its path
+	 * @param format
+	 *            Format the game is parsed from, like <tt>json</tt>
+	 */
+	public ParseEvent(final String source, final String format) {
+		this.mSource = source;
+		this.mFormat = format;
+		this.mPlayerCount = 0;
+		this.mActionCount = 0;
+	}
+
+	/**
+	 * Sets the size of the parsed game.
+	 * 
+	 * @param playerCount
+	 *            Amount of players of the game
+	 * @param actionCount
+	 *            Total amount of actions of all players of the game
+	 */
+	public void setGameSize(final int playerCount, final int actionCount) {
+		this.mPlayerCount = playerCount;
+		this.mActionCount = actionCount;
+	}
+}
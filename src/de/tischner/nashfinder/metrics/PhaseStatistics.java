@@ -0,0 +1,163 @@
+package de.tischner.nashfinder.metrics;
+
+/**
+ * Snapshot of the measurements of a phase, as taken by
+ * {@link SolverMetrics#getPhaseStatistics()}. It is exposed as composite
+ * data by {@link SolverMetricsMXBean}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PhaseStatistics {
+
+	/**
+	 * The percentile of the median latency.
+	 */
+	private static final double MEDIAN_PERCENTILE = 0.5;
+	/**
+	 * The percentile of the tail latency.
+	 */
+	private static final double TAIL_PERCENTILE = 0.99;
+
+	/**
+	 * Amount of bytes that the measured runs of the phase allocated, or
+	 * <tt>-1</tt> if allocations are not tracked.
+	 */
+	private final long mAllocatedBytes;
+	/**
+	 * Amount of measured runs of the phase.
+	 */
+	private final long mCount;
+	/**
+	 * The largest latency of a run in nanoseconds.
+	 */
+	private final long mMaxNanos;
+	/**
+	 * The mean latency of a run in nanoseconds.
+	 */
+	private final double mMeanNanos;
+	/**
+	 * The estimated median latency of a run in nanoseconds.
+	 */
+	private final long mMedianNanos;
+	/**
+	 * The estimated 99th percentile of the latency of a run in nanoseconds.
+	 */
+	private final long mP99Nanos;
+	/**
+	 * Name of the phase, see {@link EPhase}.
+	 */
+	private final String mPhase;
+	/**
+	 * Sum of the latencies of all runs in nanoseconds.
+	 */
+	private final long mTotalNanos;
+
+	/**
+	 * Creates a new snapshot of the given phase.
+	 * 
+	 * @param phase
+	 *            The measured phase
+	 * @param latencies
+	 *            The latencies of the runs of the phase
+	 * @param allocatedBytes
+	 *            Amount of bytes that the runs of the phase allocated, or
+	 *            <tt>-1</tt> if allocations are not tracked
+	 */
+	public PhaseStatistics(final EPhase phase, final LatencyHistogram latencies, final long allocatedBytes) {
+		this.mPhase = phase.name();
+		this.mCount = latencies.getCount();
+		this.mTotalNanos = latencies.getTotalNanos();
+		this.mMeanNanos = latencies.getMeanNanos();
+		this.mMedianNanos = latencies.getPercentileNanos(MEDIAN_PERCENTILE);
+		this.mP99Nanos = latencies.getPercentileNanos(TAIL_PERCENTILE);
+		this.mMaxNanos = latencies.getMaxNanos();
+		this.mAllocatedBytes = allocatedBytes;
+	}
+
+	/**
+	 * Gets the amount of bytes that the measured runs of the phase allocated.
+	 * 
+	 * @return The amount of allocated bytes or <tt>-1</tt> if allocations are
+	 *         not tracked
+	 */
+	public long getAllocatedBytes() {
+		return this.mAllocatedBytes;
+	}
+
+	/**
+	 * Gets the amount of measured runs of the phase.
+	 * 
+	 * @return The amount of measured runs
+	 */
+	public long getCount() {
+		return this.mCount;
+	}
+
+	/**
+	 * Gets the largest latency of a run.
+	 * 
+	 * @return The largest latency in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return this.mMaxNanos;
+	}
+
+	/**
+	 * Gets the mean latency of a run.
+	 * 
+	 * @return The mean latency in nanoseconds
+	 */
+	public double getMeanNanos() {
+		return this.mMeanNanos;
+	}
+
+	/**
+	 * Gets the estimated median latency of a run, see
+	 * {@link LatencyHistogram#getPercentileNanos(double)}.
+	 * 
+	 * @return The estimated median latency in nanoseconds
+	 */
+	public long getMedianNanos() {
+		return this.mMedianNanos;
+	}
+
+	/**
+	 * Gets the estimated 99th percentile of the latency of a run, see
+	 * {@link LatencyHistogram#getPercentileNanos(double)}.
+	 * 
+	 * @return The estimated 99th percentile in nanoseconds
+	 */
+	public long getP99Nanos() {
+		return this.mP99Nanos;
+	}
+
+	/**
+	 * Gets the name of the phase.
+	 * 
+	 * @return The name of the phase, see {@link EPhase}
+	 */
+	public String getPhase() {
+		return this.mPhase;
+	}
+
+	/**
+	 * Gets the sum of the latencies of all runs.
+	 * 
+	 * @return The sum of the latencies in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return this.mTotalNanos;
+	}
+
+	/**
+	 * Gets the snapshot as json object.
+	 * 
+	 * @return The snapshot as json object, without the name of the phase
+	 */
+	public String toJson() {
+		return "{\"count\":" + this.mCount + ",\"totalNanos\":" + this.mTotalNanos + ",\"meanNanos\":"
+				+ this.mMeanNanos + ",\"medianNanos\":" + this.mMedianNanos + ",\"p99Nanos\":" + this.mP99Nanos
+				+ ",\"maxNanos\":" + this.mMaxNanos + ",\"allocatedBytes\":" + this.mAllocatedBytes + "}";
+	}
+}
@@ -0,0 +1,429 @@
+package de.tischner.nashfinder.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import de.tischner.nashfinder.locale.ErrorMessages;
+import jdk.jfr.EventType;
+
+/**
+ * Metrics of the hot path of nash finders. Counts the visited support set
+ * constellations by their {@link ESupportOutcome} and measures the latency
+ * and the allocated bytes of every {@link EPhase}. A phase is measured by
+ * calling {@link #startPhase(EPhase)} before and {@link #endPhase(EPhase, long)}
+ * after it, on the same thread. Metrics can be recorded concurrently by
+ * multiple threads and be inspected over <i>JMX</i> after
+ * {@link #register()}.<br/>
+ * <br/>
+ * Metrics that are not needed are given by {@link #none()}, whose methods
+ * return immediately, such that the hot path does not pay for them.
+ * Allocated bytes are only tracked if the virtual machine supports measuring
+ * the allocations of a thread.<br/>
+ * <br/>
+ * Independent of that, every constellation is emitted as
+ * {@link SupportSolveEvent} while a <i>JDK Flight Recorder</i> recording has
+ * the event enabled, which also holds for {@link #none()}. If no recording is
+ * running, this only costs checking whether the event is enabled.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolverMetrics implements SolverMetricsMXBean {
+
+	/**
+	 * Metrics that record nothing.
+	 */
+	private static final SolverMetrics NONE = new SolverMetrics(false);
+	/**
+	 * Name under which metrics are registered at the platform MBean server.
+	 */
+	public static final String OBJECT_NAME = "de.tischner.nashfinder:type=SolverMetrics";
+	/**
+	 * Type of the events of solved constellations, it knows whether a
+	 * recording has them enabled.
+	 */
+	private static final EventType SUPPORT_SOLVE_EVENT_TYPE = EventType.getEventType(SupportSolveEvent.class);
+
+	/**
+	 * Gets the metrics that record nothing.
+	 * 
+	 * @return The metrics that record nothing
+	 */
+	public static SolverMetrics none() {
+		return NONE;
+	}
+
+	/**
+	 * Gets the bean that measures the allocations of threads, if the virtual
+	 * machine supports it. Measuring is enabled if it is not already.
+	 * 
+	 * @return The bean that measures allocations or <tt>null</tt> if
+	 *         allocations can not be measured
+	 */
+	private static com.sun.management.ThreadMXBean getAllocationBean() {
+		final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		if (!allocationBean.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+			allocationBean.setThreadAllocatedMemoryEnabled(true);
+		}
+		return allocationBean;
+	}
+
+	/**
+	 * Amount of allocated bytes per phase, indexed by the ordinal of the
+	 * phase.
+	 */
+	private final LongAdder[] mAllocatedBytes;
+	/**
+	 * Allocated bytes of the current thread at the start of its running
+	 * phases, indexed by the ordinal of the phase.
+	 */
+	private final ThreadLocal<long[]> mAllocatedBytesAtStart;
+	/**
+	 * The bean that measures the allocations of threads or <tt>null</tt> if
+	 * allocations are not tracked.
+	 */
+	private final com.sun.management.ThreadMXBean mAllocationBean;
+	/**
+	 * Whether the metrics record anything.
+	 */
+	private final boolean mIsEnabled;
+	/**
+	 * Latencies per phase, indexed by the ordinal of the phase.
+	 */
+	private final LatencyHistogram[] mLatencies;
+	/**
+	 * Amount of visited constellations per outcome, indexed by the ordinal of
+	 * the outcome.
+	 */
+	private final LongAdder[] mOutcomes;
+	/**
+	 * The event of the constellation that the current thread solves, or
+	 * <tt>null</tt> if it is not recorded.
+	 */
+	private final ThreadLocal<SupportSolveEvent> mSupportSolveEvents;
+	/**
+	 * Amount of visited constellations.
+	 */
+	private final LongAdder mVisited;
+
+	/**
+	 * Creates new empty metrics that record everything.
+	 */
+	public SolverMetrics() {
+		this(true);
+	}
+
+	/**
+	 * Creates new empty metrics.
+	 * 
+	 * @param isEnabled
+	 *            Whether the metrics record anything
+	 */
+	private SolverMetrics(final boolean isEnabled) {
+		this.mIsEnabled = isEnabled;
+		if (isEnabled) {
+			this.mAllocationBean = getAllocationBean();
+		} else {
+			this.mAllocationBean = null;
+		}
+		this.mAllocatedBytesAtStart = ThreadLocal.withInitial(() -> new long[EPhase.values().length]);
+		this.mSupportSolveEvents = new ThreadLocal<>();
+		this.mVisited = new LongAdder();
+
+		this.mAllocatedBytes = new LongAdder[EPhase.values().length];
+		this.mLatencies = new LatencyHistogram[EPhase.values().length];
+		for (final EPhase phase : EPhase.values()) {
+			this.mAllocatedBytes[phase.ordinal()] = new LongAdder();
+			this.mLatencies[phase.ordinal()] = new LatencyHistogram();
+		}
+		this.mOutcomes = new LongAdder[ESupportOutcome.values().length];
+		for (final ESupportOutcome outcome : ESupportOutcome.values()) {
+			this.mOutcomes[outcome.ordinal()] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Ends the constellation that the current thread visits, which was
+	 * started by {@link #startConstellation(int, int)}. Its outcome is
+	 * counted and its event is committed, if it is recorded.
+	 * 
+	 * @param outcome
+	 *            The outcome of the constellation
+	 */
+	public void endConstellation(final ESupportOutcome outcome) {
+		if (this.mIsEnabled) {
+			this.mOutcomes[outcome.ordinal()].increment();
+		}
+		if (!SUPPORT_SOLVE_EVENT_TYPE.isEnabled()) {
+			return;
+		}
+		final SupportSolveEvent event = this.mSupportSolveEvents.get();
+		if (event == null) {
+			return;
+		}
+		this.mSupportSolveEvents.remove();
+		event.end();
+		if (event.shouldCommit()) {
+			event.setOutcome(outcome);
+			event.commit();
+		}
+	}
+
+	/**
+	 * Ends the measurement of the given phase on the current thread, which
+	 * was started by {@link #startPhase(EPhase)}.
+	 * 
+	 * @param phase
+	 *            The phase to end
+	 * @param startNanos
+	 *            The start of the phase as returned by
+	 *            {@link #startPhase(EPhase)}
+	 */
+	public void endPhase(final EPhase phase, final long startNanos) {
+		final boolean isEventEnabled = SUPPORT_SOLVE_EVENT_TYPE.isEnabled();
+		if (!this.mIsEnabled && !isEventEnabled) {
+			return;
+		}
+		final long nanos = System.nanoTime() - startNanos;
+		if (isEventEnabled) {
+			final SupportSolveEvent event = this.mSupportSolveEvents.get();
+			if (event != null) {
+				event.addPhase(phase, nanos);
+			}
+		}
+		if (!this.mIsEnabled) {
+			return;
+		}
+		this.mLatencies[phase.ordinal()].record(nanos);
+		if (this.mAllocationBean != null) {
+			final long allocatedBytes = this.mAllocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			this.mAllocatedBytes[phase.ordinal()]
+					.add(allocatedBytes - this.mAllocatedBytesAtStart.get()[phase.ordinal()]);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getPhaseStatistics()
+	 */
+	@Override
+	public Map<String, PhaseStatistics> getPhaseStatistics() {
+		final Map<String, PhaseStatistics> statistics = new LinkedHashMap<>();
+		for (final EPhase phase : EPhase.values()) {
+			long allocatedBytes = -1L;
+			if (this.mAllocationBean != null) {
+				allocatedBytes = this.mAllocatedBytes[phase.ordinal()].sum();
+			}
+			statistics.put(phase.name(),
+					new PhaseStatistics(phase, this.mLatencies[phase.ordinal()], allocatedBytes));
+		}
+		return statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSummary()
+	 */
+	@Override
+	public String getSummary() {
+		final StringBuilder summary = new StringBuilder();
+		summary.append("{\"supports\":{\"visited\":").append(getSupportsVisited());
+		summary.append(",\"pruned\":").append(getSupportsPruned());
+		summary.append(",\"infeasible\":").append(getSupportsInfeasible());
+		summary.append(",\"timedOut\":").append(getSupportsTimedOut());
+		summary.append(",\"solved\":").append(getSupportsSolved());
+		summary.append("},\"phases\":{");
+		boolean isFirstEntry = true;
+		for (final Entry<String, PhaseStatistics> entry : getPhaseStatistics().entrySet()) {
+			if (isFirstEntry) {
+				isFirstEntry = false;
+			} else {
+				summary.append(',');
+			}
+			summary.append('"').append(entry.getKey()).append("\":").append(entry.getValue().toJson());
+		}
+		summary.append("}}");
+		return summary.toString();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSupportsInfeasible()
+	 */
+	@Override
+	public long getSupportsInfeasible() {
+		return this.mOutcomes[ESupportOutcome.INFEASIBLE.ordinal()].sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSupportsPruned()
+	 */
+	@Override
+	public long getSupportsPruned() {
+		return this.mOutcomes[ESupportOutcome.PRUNED.ordinal()].sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSupportsSolved()
+	 */
+	@Override
+	public long getSupportsSolved() {
+		return this.mOutcomes[ESupportOutcome.SOLVED.ordinal()].sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSupportsTimedOut()
+	 */
+	@Override
+	public long getSupportsTimedOut() {
+		return this.mOutcomes[ESupportOutcome.TIMED_OUT.ordinal()].sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#getSupportsVisited()
+	 */
+	@Override
+	public long getSupportsVisited() {
+		return this.mVisited.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#isAllocationTracked()
+	 */
+	@Override
+	public boolean isAllocationTracked() {
+		return this.mAllocationBean != null;
+	}
+
+	/**
+	 * Whether the metrics record anything.
+	 * 
+	 * @return <tt>True</tt> if the metrics record, <tt>false</tt> if they are
+	 *         given by {@link #none()}
+	 */
+	public boolean isEnabled() {
+		return this.mIsEnabled;
+	}
+
+	/**
+	 * Registers the metrics at the platform MBean server under
+	 * {@link #OBJECT_NAME}, such that they can be inspected over <i>JMX</i>.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the metrics could not be registered, for example since
+	 *             other metrics are already registered
+	 */
+	public void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+		} catch (final JMException e) {
+			throw new IllegalStateException(ErrorMessages.METRICS_REGISTRATION_FAILED + " Got: " + OBJECT_NAME, e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.metrics.SolverMetricsMXBean#reset()
+	 */
+	@Override
+	public void reset() {
+		this.mVisited.reset();
+		for (final LongAdder outcome : this.mOutcomes) {
+			outcome.reset();
+		}
+		for (final EPhase phase : EPhase.values()) {
+			this.mAllocatedBytes[phase.ordinal()].reset();
+			this.mLatencies[phase.ordinal()].reset();
+		}
+	}
+
+	/**
+	 * Starts a support set constellation that the current thread visits. The
+	 * visit is counted and the event of the constellation is begun, if it is
+	 * recorded. It must be ended by {@link #endConstellation(ESupportOutcome)}
+	 * on the same thread.
+	 * 
+	 * @param firstSupportSize
+	 *            Size of the support set of the first player
+	 * @param secondSupportSize
+	 *            Size of the support set of the second player
+	 */
+	public void startConstellation(final int firstSupportSize, final int secondSupportSize) {
+		if (this.mIsEnabled) {
+			this.mVisited.increment();
+		}
+		if (!SUPPORT_SOLVE_EVENT_TYPE.isEnabled()) {
+			return;
+		}
+		final SupportSolveEvent event = new SupportSolveEvent(firstSupportSize, secondSupportSize);
+		event.begin();
+		this.mSupportSolveEvents.set(event);
+	}
+
+	/**
+	 * Starts the measurement of the given phase on the current thread. It
+	 * must be ended by {@link #endPhase(EPhase, long)} on the same thread.
+	 * 
+	 * @param phase
+	 *            The phase to start
+	 * @return The start of the phase, which must be given to
+	 *         {@link #endPhase(EPhase, long)}
+	 */
+	public long startPhase(final EPhase phase) {
+		if (!this.mIsEnabled) {
+			if (!SUPPORT_SOLVE_EVENT_TYPE.isEnabled()) {
+				return 0L;
+			}
+			return System.nanoTime();
+		}
+		if (this.mAllocationBean != null) {
+			this.mAllocatedBytesAtStart.get()[phase.ordinal()] = this.mAllocationBean
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * Unregisters the metrics from the platform MBean server, see
+	 * {@link #register()}.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the metrics could not be unregistered, for example since
+	 *             they are not registered
+	 */
+	public void unregister() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+		} catch (final JMException e) {
+			throw new IllegalStateException(ErrorMessages.METRICS_REGISTRATION_FAILED + " Got: " + OBJECT_NAME, e);
+		}
+	}
+}
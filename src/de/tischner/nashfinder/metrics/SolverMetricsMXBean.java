@@ -0,0 +1,79 @@
+package de.tischner.nashfinder.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link SolverMetrics}, such that the metrics of a
+ * running nash finder can be inspected over <i>JMX</i>, for example with
+ * <tt>jconsole</tt>.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface SolverMetricsMXBean {
+	/**
+	 * Gets the measurements of every phase.
+	 * 
+	 * @return Snapshots of the measurements by the name of their phase
+	 */
+	Map<String, PhaseStatistics> getPhaseStatistics();
+
+	/**
+	 * Gets all metrics as a single json object, which is machine-readable.
+	 * 
+	 * @return All metrics as json object
+	 */
+	String getSummary();
+
+	/**
+	 * Gets the amount of visited constellations whose linear program had no
+	 * nash equilibrium.
+	 * 
+	 * @return The amount of infeasible constellations
+	 */
+	long getSupportsInfeasible();
+
+	/**
+	 * Gets the amount of visited constellations that were skipped without
+	 * solving their linear program.
+	 * 
+	 * @return The amount of pruned constellations
+	 */
+	long getSupportsPruned();
+
+	/**
+	 * Gets the amount of visited constellations that have a nash equilibrium.
+	 * 
+	 * @return The amount of solved constellations
+	 */
+	long getSupportsSolved();
+
+	/**
+	 * Gets the amount of visited constellations whose linear program was
+	 * given up after the timeout of the solver.
+	 * 
+	 * @return The amount of timed out constellations
+	 */
+	long getSupportsTimedOut();
+
+	/**
+	 * Gets the amount of visited support set constellations.
+	 * 
+	 * @return The amount of visited constellations
+	 */
+	long getSupportsVisited();
+
+	/**
+	 * Whether the allocated bytes of the phases are tracked, which depends on
+	 * the virtual machine.
+	 * 
+	 * @return <tt>True</tt> if allocations are tracked, <tt>false</tt>
+	 *         otherwise
+	 */
+	boolean isAllocationTracked();
+
+	/**
+	 * Resets all counters and measurements to zero.
+	 */
+	void reset();
+}
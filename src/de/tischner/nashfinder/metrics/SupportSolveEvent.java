@@ -0,0 +1,110 @@
+package de.tischner.nashfinder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * <i>JDK Flight Recorder</i> event of solving one support set constellation,
+ * as emitted by {@link SolverMetrics}. Its duration spans the whole
+ * constellation, from the visit until its outcome is known. Stack traces are
+ * not recorded, since there is one event per constellation.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.tischner.nashfinder.SupportSolve")
+@Label("Support Solve")
+@Category({ "NashFinder", "Support Enumeration" })
+@Description("Solving of one support set constellation")
+@StackTrace(false)
+public final class SupportSolveEvent extends Event {
+
+	/**
+	 * Time spent building the LP of the constellation, in nanoseconds.
+	 */
+	@Name("buildTime")
+	@Label("Build Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long mBuildNanos;
+	/**
+	 * Size of the support set of the first player.
+	 */
+	@Name("firstSupportSize")
+	@Label("First Support Size")
+	private int mFirstSupportSize;
+	/**
+	 * Whether the constellation has a nash equilibrium.
+	 */
+	@Name("equilibriumFound")
+	@Label("Equilibrium Found")
+	private boolean mIsEquilibriumFound;
+	/**
+	 * Size of the support set of the second player.
+	 */
+	@Name("secondSupportSize")
+	@Label("Second Support Size")
+	private int mSecondSupportSize;
+	/**
+	 * Time spent solving the LP of the constellation, in nanoseconds.
+	 */
+	@Name("solveTime")
+	@Label("Solve Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long mSolveNanos;
+	/**
+	 * Outcome of the constellation, see {@link ESupportOutcome}.
+	 */
+	@Name("status")
+	@Label("Solver Status")
+	private String mStatus;
+
+	/**
+	 * Creates a new event of the given constellation.
+	 * 
+	 * @param firstSupportSize
+	 *            Size of the support set of the first player
+	 * @param secondSupportSize
+	 *            Size of the support set of the second player
+	 */
+	public SupportSolveEvent(final int firstSupportSize, final int secondSupportSize) {
+		this.mFirstSupportSize = firstSupportSize;
+		this.mSecondSupportSize = secondSupportSize;
+		this.mBuildNanos = 0L;
+		this.mSolveNanos = 0L;
+		this.mStatus = null;
+		this.mIsEquilibriumFound = false;
+	}
+
+	/**
+	 * Adds the latency of the given phase to the event. Only the phases
+	 * {@link EPhase#LP_BUILD} and {@link EPhase#LP_SOLVE} are kept.
+	 * 
+	 * @param phase
+	 *            The phase that ended
+	 * @param nanos
+	 *            The latency of the phase in nanoseconds
+	 */
+	public void addPhase(final EPhase phase, final long nanos) {
+		if (phase == EPhase.LP_BUILD) {
+			this.mBuildNanos += nanos;
+		} else if (phase == EPhase.LP_SOLVE) {
+			this.mSolveNanos += nanos;
+		}
+	}
+
+	/**
+	 * Sets the outcome of the constellation.
+	 * 
+	 * @param outcome
+	 *            The outcome of the constellation
+	 */
+	public void setOutcome(final ESupportOutcome outcome) {
+		this.mStatus = outcome.name();
+		this.mIsEquilibriumFound = outcome == ESupportOutcome.SOLVED;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * This is the package for metrics, which count the support set
+ * constellations of a computation and measure the latency and allocations
+ * of its phases.
+ */
+package de.tischner.nashfinder.metrics;
@@ -0,0 +1,152 @@
+package de.tischner.nashfinder.nash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+
+/**
+ * Evaluates how far strategy profiles of a game with two players are from a
+ * nash equilibrium. A profile is an <i>epsilon-equilibrium</i> if no player
+ * can gain more than <tt>epsilon</tt> by deviating from his strategy, the
+ * smallest such <tt>epsilon</tt> is the largest gain of a pure best response
+ * over the expected payoff of the profile. Nash equilibria have an
+ * <tt>epsilon</tt> of zero.<br/>
+ * <br/>
+ * Probabilities of a strategy are normalized by their sum, which compensates
+ * the rounding of equilibria, missing actions are played with probability
+ * zero. An evaluation takes <tt>O(m*n)</tt> time for <tt>m</tt> and
+ * <tt>n</tt> actions.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class EpsilonEvaluator<PLAYER, ACTION> {
+
+	/**
+	 * The first player.
+	 */
+	private final PLAYER mFirstPlayer;
+	/**
+	 * Actions of the first player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mFirstPlayerActions;
+	/**
+	 * Game the profiles belong to.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * The second player.
+	 */
+	private final PLAYER mSecondPlayer;
+	/**
+	 * Actions of the second player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mSecondPlayerActions;
+
+	/**
+	 * Creates a new evaluator for profiles of the given game.
+	 * 
+	 * @param game
+	 *            Game the profiles belong to, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public EpsilonEvaluator(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		this.mFirstPlayer = game.getFirstPlayer();
+		this.mSecondPlayer = game.getSecondPlayer();
+
+		this.mFirstPlayerActions = new ArrayList<>(game.getPlayerActions(this.mFirstPlayer));
+		this.mSecondPlayerActions = new ArrayList<>(game.getPlayerActions(this.mSecondPlayer));
+	}
+
+	/**
+	 * Computes the smallest <tt>epsilon</tt> for which the strategies of the
+	 * given equilibrium form an epsilon-equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium whose strategies to evaluate
+	 * @return The largest gain any player gets by deviating to a pure best
+	 *         response, at least <tt>0</tt>, or
+	 *         {@link Double#POSITIVE_INFINITY} if a strategy has no positive
+	 *         probability
+	 */
+	public double computeEpsilon(final NashEquilibrium<PLAYER, ACTION> equilibrium) {
+		final double[] firstStrategy = toDistribution(equilibrium.getNashStrategyOfPlayer(this.mFirstPlayer),
+				this.mFirstPlayerActions);
+		final double[] secondStrategy = toDistribution(equilibrium.getNashStrategyOfPlayer(this.mSecondPlayer),
+				this.mSecondPlayerActions);
+		if (firstStrategy == null || secondStrategy == null) {
+			return Double.POSITIVE_INFINITY;
+		}
+		final int rowCount = firstStrategy.length;
+		final int columnCount = secondStrategy.length;
+
+		// Expected payoff of every pure action against the other strategy
+		final double[] rowPayoffs = new double[rowCount];
+		final double[] columnPayoffs = new double[columnCount];
+		for (int row = 0; row < rowCount; row++) {
+			for (int column = 0; column < columnCount; column++) {
+				rowPayoffs[row] += this.mGame.getPayoff(0, row, column) * secondStrategy[column];
+				columnPayoffs[column] += this.mGame.getPayoff(1, row, column) * firstStrategy[row];
+			}
+		}
+
+		return Math.max(0.0, Math.max(computeRegret(firstStrategy, rowPayoffs),
+				computeRegret(secondStrategy, columnPayoffs)));
+	}
+
+	/**
+	 * Computes the gain of the best pure action over the given strategy.
+	 * 
+	 * @param strategy
+	 *            Probability distribution over the actions of the player
+	 * @param payoffs
+	 *            Expected payoff of every pure action of the player
+	 * @return The gain of the best pure action over the strategy
+	 */
+	private double computeRegret(final double[] strategy, final double[] payoffs) {
+		double bestPayoff = Double.NEGATIVE_INFINITY;
+		double expectedPayoff = 0.0;
+		for (int action = 0; action < strategy.length; action++) {
+			bestPayoff = Math.max(bestPayoff, payoffs[action]);
+			expectedPayoff += strategy[action] * payoffs[action];
+		}
+		return bestPayoff - expectedPayoff;
+	}
+
+	/**
+	 * Builds the normalized probability distribution of the given strategy.
+	 * 
+	 * @param strategy
+	 *            Strategy to build the distribution of
+	 * @param actions
+	 *            Actions of the player, in the order they were added to the
+	 *            game
+	 * @return The probabilities of the actions, in the given order, or
+	 *         <tt>null</tt> if no action has a positive probability
+	 */
+	private double[] toDistribution(final NashStrategy<ACTION> strategy, final List<ACTION> actions) {
+		final double[] distribution = new double[actions.size()];
+		double sum = 0.0;
+		for (int i = 0; i < distribution.length; i++) {
+			final Number probability = strategy.getActionProbability(actions.get(i));
+			if (probability != null && probability.doubleValue() > 0) {
+				distribution[i] = probability.doubleValue();
+				sum += distribution[i];
+			}
+		}
+		if (sum <= 0) {
+			return null;
+		}
+		for (int i = 0; i < distribution.length; i++) {
+			distribution[i] /= sum;
+		}
+		return distribution;
+	}
+}
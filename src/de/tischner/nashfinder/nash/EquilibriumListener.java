@@ -0,0 +1,42 @@
+package de.tischner.nashfinder.nash;
+
+import java.util.List;
+
+import de.tischner.nashfinder.game.util.SupportSet;
+
+/**
+ * Listener that receives nash equilibria as soon as they are found, see
+ * {@link de.tischner.nashfinder.NashFinder#streamNashEquilibria(EquilibriumListener)
+ * NashFinder#streamNashEquilibria(EquilibriumListener)}. All methods are
+ * called by the same thread, a listener thus needs not to be thread-safe. A
+ * slow listener slows down the computation instead of letting found
+ * equilibria pile up.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+@FunctionalInterface
+public interface EquilibriumListener<PLAYER, ACTION> {
+	/**
+	 * Called after the last equilibrium was received, once the computation
+	 * is finished or stopped. Does nothing by default.
+	 */
+	default void onComplete() {
+		// Nothing to do by default
+	}
+
+	/**
+	 * Called for every found nash equilibrium.
+	 * 
+	 * @param supportSets
+	 *            Support sets the equilibrium was found for, in the order of
+	 *            the players
+	 * @param equilibrium
+	 *            The found equilibrium
+	 */
+	void onEquilibrium(List<SupportSet<PLAYER, ACTION>> supportSets, NashEquilibrium<PLAYER, ACTION> equilibrium);
+}
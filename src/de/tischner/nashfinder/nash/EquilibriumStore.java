@@ -0,0 +1,230 @@
+package de.tischner.nashfinder.nash;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.tischner.nashfinder.game.StrategicGame;
+
+/**
+ * Compact store of distinct nash equilibria of a game with two players. Every
+ * equilibrium is canonicalized by its strategies only, no matter which
+ * support set constellation it was found for and which expected utilities
+ * were reported for it. The canonical equilibrium lists every action of both
+ * players, actions that are missing in a strategy are played with probability
+ * zero, and it keeps the expected utilities that were reported for the first
+ * of its duplicates. They are not computed from the rounded strategies, which
+ * would make them less precise than the ones of the solvers.<br/>
+ * <br/>
+ * Equilibria are hashed by their actual support sets, which consist of the
+ * actions that are played with a positive probability. An equilibrium whose
+ * probabilities all differ by at most the tolerance from an equilibrium with
+ * the same actual support sets is dropped as duplicate.
+ * Besides the canonical equilibria, the store only holds one vector of
+ * probabilities per distinct equilibrium, <tt>null</tt> results are not
+ * stored at all. The store is not thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class EquilibriumStore<PLAYER, ACTION> {
+
+	/**
+	 * Probabilities of the stored equilibria, keyed by their actual support
+	 * sets. A key has a bit per action and a vector a probability per action,
+	 * both for all actions of the first player followed by the ones of the
+	 * second player, in the order they were added to the game.
+	 */
+	private final Map<BitSet, List<double[]>> mBuckets;
+	/**
+	 * The distinct canonical equilibria, in the order they were added.
+	 */
+	private final List<NashEquilibrium<PLAYER, ACTION>> mEquilibria;
+	/**
+	 * First player of the game.
+	 */
+	private final PLAYER mFirstPlayer;
+	/**
+	 * Actions of the first player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mFirstPlayerActions;
+	/**
+	 * Game the equilibria belong to.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Second player of the game.
+	 */
+	private final PLAYER mSecondPlayer;
+	/**
+	 * Actions of the second player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mSecondPlayerActions;
+	/**
+	 * Maximal difference of two probabilities that are considered equal.
+	 */
+	private final double mTolerance;
+
+	/**
+	 * Creates a new empty store for equilibria of the given game.
+	 * 
+	 * @param game
+	 *            Game the equilibria belong to, it must have exactly two
+	 *            players
+	 * @param tolerance
+	 *            Maximal difference of two probabilities that are considered
+	 *            equal
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public EquilibriumStore(final StrategicGame<PLAYER, ACTION> game, final double tolerance) {
+		this.mGame = game;
+		this.mTolerance = tolerance;
+		this.mFirstPlayer = game.getFirstPlayer();
+		this.mSecondPlayer = game.getSecondPlayer();
+
+		this.mFirstPlayerActions = new ArrayList<>(game.getPlayerActions(this.mFirstPlayer));
+		this.mSecondPlayerActions = new ArrayList<>(game.getPlayerActions(this.mSecondPlayer));
+		this.mBuckets = new HashMap<>();
+		this.mEquilibria = new ArrayList<>();
+	}
+
+	/**
+	 * Adds the canonical form of the given equilibrium to the store, unless it
+	 * is a duplicate of a stored equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to add, <tt>null</tt> is ignored
+	 * @return The canonical equilibrium that was added or <tt>null</tt> if
+	 *         the given equilibrium is <tt>null</tt> or a duplicate
+	 */
+	public NashEquilibrium<PLAYER, ACTION> add(final NashEquilibrium<PLAYER, ACTION> equilibrium) {
+		if (equilibrium == null) {
+			return null;
+		}
+
+		final double[] firstPlayerStrategy = toProbabilities(equilibrium.getNashStrategyOfPlayer(this.mFirstPlayer),
+				this.mFirstPlayerActions);
+		final double[] secondPlayerStrategy = toProbabilities(
+				equilibrium.getNashStrategyOfPlayer(this.mSecondPlayer), this.mSecondPlayerActions);
+		final double[] values = new double[firstPlayerStrategy.length + secondPlayerStrategy.length];
+		System.arraycopy(firstPlayerStrategy, 0, values, 0, firstPlayerStrategy.length);
+		System.arraycopy(secondPlayerStrategy, 0, values, firstPlayerStrategy.length, secondPlayerStrategy.length);
+		final BitSet supportSets = toSupportSets(values);
+
+		List<double[]> bucket = this.mBuckets.get(supportSets);
+		if (bucket == null) {
+			bucket = new ArrayList<>(1);
+			this.mBuckets.put(supportSets, bucket);
+		} else {
+			for (final double[] storedValues : bucket) {
+				if (isWithinTolerance(values, storedValues)) {
+					return null;
+				}
+			}
+		}
+		bucket.add(values);
+
+		final NashEquilibrium<PLAYER, ACTION> canonicalEquilibrium = NashEquilibrium.createFromMixedStrategies(
+				firstPlayerStrategy, equilibrium.getExpectedUtilityOfPlayer(this.mFirstPlayer).doubleValue(),
+				secondPlayerStrategy, equilibrium.getExpectedUtilityOfPlayer(this.mSecondPlayer).doubleValue(),
+				this.mGame);
+		this.mEquilibria.add(canonicalEquilibrium);
+		return canonicalEquilibrium;
+	}
+
+	/**
+	 * Removes all equilibria from the store.
+	 */
+	public void clear() {
+		this.mBuckets.clear();
+		this.mEquilibria.clear();
+	}
+
+	/**
+	 * Gets the distinct equilibria of the store.
+	 * 
+	 * @return An unmodifiable view of the distinct equilibria, in the order
+	 *         they were added
+	 */
+	public List<NashEquilibrium<PLAYER, ACTION>> getEquilibria() {
+		return Collections.unmodifiableList(this.mEquilibria);
+	}
+
+	/**
+	 * Gets the amount of distinct equilibria in the store.
+	 * 
+	 * @return The amount of distinct equilibria
+	 */
+	public int size() {
+		return this.mEquilibria.size();
+	}
+
+	/**
+	 * Whether all values of the given vectors differ by at most the tolerance.
+	 * 
+	 * @param values
+	 *            First vector of values
+	 * @param otherValues
+	 *            Second vector of values, of the same length
+	 * @return <tt>True</tt> if the vectors are equal within the tolerance,
+	 *         <tt>false</tt> otherwise
+	 */
+	private boolean isWithinTolerance(final double[] values, final double[] otherValues) {
+		for (int i = 0; i < values.length; i++) {
+			if (Math.abs(values[i] - otherValues[i]) > this.mTolerance) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Builds the probabilities of the given strategy over all actions of its
+	 * player.
+	 * 
+	 * @param strategy
+	 *            Strategy to build the probabilities of
+	 * @param actions
+	 *            Actions of the player, in the order they were added to the
+	 *            game
+	 * @return The probabilities of the actions, in the given order, actions
+	 *         that are missing in the strategy have probability zero
+	 */
+	private double[] toProbabilities(final NashStrategy<ACTION> strategy, final List<ACTION> actions) {
+		final double[] probabilities = new double[actions.size()];
+		for (int i = 0; i < probabilities.length; i++) {
+			final Number probability = strategy.getActionProbability(actions.get(i));
+			if (probability != null && probability.doubleValue() > 0) {
+				probabilities[i] = probability.doubleValue();
+			}
+		}
+		return probabilities;
+	}
+
+	/**
+	 * Builds the actual support sets of the given probabilities.
+	 * 
+	 * @param probabilities
+	 *            Probabilities of all actions of the first player followed by
+	 *            the ones of the second player
+	 * @return The support sets, with a bit set for every action with a
+	 *         positive probability
+	 */
+	private BitSet toSupportSets(final double[] probabilities) {
+		final BitSet supportSets = new BitSet(probabilities.length);
+		for (int i = 0; i < probabilities.length; i++) {
+			if (probabilities[i] > 0) {
+				supportSets.set(i);
+			}
+		}
+		return supportSets;
+	}
+}
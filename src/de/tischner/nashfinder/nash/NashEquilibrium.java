@@ -1,7 +1,9 @@
 package de.tischner.nashfinder.nash;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -32,6 +34,147 @@ public final class NashEquilibrium<PLAYER, ACTION> {
 	 */
 	private static final int ROUNDING_DECIMAL_SCALE = 2;
 
+	/**
+	 * Creates a nash equilibrium out of mixed strategies over all actions of
+	 * both players.
+	 * 
+	 * @param <PLAYER>
+	 *            The actual class of the players
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param firstPlayerStrategy
+	 *            Probabilities of the actions of the first player, in the order
+	 *            of the actions in the game
+	 * @param firstPlayerUtility
+	 *            Expected utility of the first player
+	 * @param secondPlayerStrategy
+	 *            Probabilities of the actions of the second player, in the
+	 *            order of the actions in the game
+	 * @param secondPlayerUtility
+	 *            Expected utility of the second player
+	 * @param game
+	 *            Game the equilibrium belongs to
+	 * @return The nash equilibrium that consists of the given strategies
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public static <PLAYER, ACTION> NashEquilibrium<PLAYER, ACTION> createFromMixedStrategies(
+			final double[] firstPlayerStrategy, final double firstPlayerUtility, final double[] secondPlayerStrategy,
+			final double secondPlayerUtility, final StrategicGame<PLAYER, ACTION> game) {
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		final NashEquilibrium<PLAYER, ACTION> nashEquilibrium = new NashEquilibrium<>();
+		nashEquilibrium.setExpectedUtilityForPlayer(firstPlayer,
+				MathUtil.roundNumberTo(Double.valueOf(firstPlayerUtility), ROUNDING_DECIMAL_SCALE));
+		nashEquilibrium.setExpectedUtilityForPlayer(secondPlayer,
+				MathUtil.roundNumberTo(Double.valueOf(secondPlayerUtility), ROUNDING_DECIMAL_SCALE));
+		nashEquilibrium.setNashStrategyForPlayer(firstPlayer,
+				createNashStrategy(firstPlayerStrategy, game.getPlayerActions(firstPlayer)));
+		nashEquilibrium.setNashStrategyForPlayer(secondPlayer,
+				createNashStrategy(secondPlayerStrategy, game.getPlayerActions(secondPlayer)));
+
+		return nashEquilibrium;
+	}
+
+	/**
+	 * Creates a nash equilibrium out of pure strategies, where every player
+	 * plays a single action. The strategies consist of all actions of the
+	 * players, the actions that are not played have probability
+	 * <tt>0.0</tt>.
+	 * 
+	 * @param <PLAYER>
+	 *            The actual class of the players
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param firstPlayerAction
+	 *            The action the first player plays
+	 * @param firstPlayerUtility
+	 *            Expected utility of the first player
+	 * @param secondPlayerAction
+	 *            The action the second player plays
+	 * @param secondPlayerUtility
+	 *            Expected utility of the second player
+	 * @param game
+	 *            Game the equilibrium belongs to
+	 * @return The nash equilibrium that consists of the given strategies
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public static <PLAYER, ACTION> NashEquilibrium<PLAYER, ACTION> createFromPureStrategies(
+			final ACTION firstPlayerAction, final double firstPlayerUtility, final ACTION secondPlayerAction,
+			final double secondPlayerUtility, final StrategicGame<PLAYER, ACTION> game) {
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		final NashEquilibrium<PLAYER, ACTION> nashEquilibrium = new NashEquilibrium<>();
+		nashEquilibrium.setExpectedUtilityForPlayer(firstPlayer,
+				MathUtil.roundNumberTo(Double.valueOf(firstPlayerUtility), ROUNDING_DECIMAL_SCALE));
+		nashEquilibrium.setExpectedUtilityForPlayer(secondPlayer,
+				MathUtil.roundNumberTo(Double.valueOf(secondPlayerUtility), ROUNDING_DECIMAL_SCALE));
+		nashEquilibrium.setNashStrategyForPlayer(firstPlayer,
+				createPureNashStrategy(firstPlayerAction, game.getPlayerActions(firstPlayer)));
+		nashEquilibrium.setNashStrategyForPlayer(secondPlayer,
+				createPureNashStrategy(secondPlayerAction, game.getPlayerActions(secondPlayer)));
+
+		return nashEquilibrium;
+	}
+
+	/**
+	 * Creates a nash equilibrium based on the results of <i>linear
+	 * programs</i> (LP) that were solved on dense arrays, one per player.
+	 * 
+	 * @param <PLAYER>
+	 *            The actual class of the players
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param firstPlayerResult
+	 *            Results of the LP of the first player, the probabilities of
+	 *            the actions in the support set followed by the expected
+	 *            utility
+	 * @param firstPlayerSupport
+	 *            Actions of the support set of the first player, in the order
+	 *            of the results
+	 * @param secondPlayerResult
+	 *            Results of the LP of the second player, the probabilities of
+	 *            the actions in the support set followed by the expected
+	 *            utility
+	 * @param secondPlayerSupport
+	 *            Actions of the support set of the second player, in the order
+	 *            of the results
+	 * @param game
+	 *            Game the equilibrium and the results belong to
+	 * @return The nash equilibrium that was computed by the LP or <tt>null</tt>
+	 *         if there is no nash equilibrium
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public static <PLAYER, ACTION> NashEquilibrium<PLAYER, ACTION> extractFromDenseResults(
+			final double[] firstPlayerResult, final List<ACTION> firstPlayerSupport, final double[] secondPlayerResult,
+			final List<ACTION> secondPlayerSupport, final StrategicGame<PLAYER, ACTION> game) {
+		// If there is no result, there is no nash equilibrium
+		if (firstPlayerResult == null || secondPlayerResult == null) {
+			return null;
+		}
+		final NashEquilibrium<PLAYER, ACTION> nashEquilibrium = new NashEquilibrium<>();
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		// Extract utility
+		nashEquilibrium.setExpectedUtilityForPlayer(firstPlayer, MathUtil.roundNumberTo(
+				Double.valueOf(firstPlayerResult[firstPlayerSupport.size()]), ROUNDING_DECIMAL_SCALE));
+		nashEquilibrium.setExpectedUtilityForPlayer(secondPlayer, MathUtil.roundNumberTo(
+				Double.valueOf(secondPlayerResult[secondPlayerSupport.size()]), ROUNDING_DECIMAL_SCALE));
+
+		// Extract nash strategies
+		nashEquilibrium.setNashStrategyForPlayer(firstPlayer, extractPlayerNashStrategyFromDenseResults(
+				firstPlayerResult, firstPlayerSupport, game.getPlayerActions(firstPlayer)));
+		nashEquilibrium.setNashStrategyForPlayer(secondPlayer, extractPlayerNashStrategyFromDenseResults(
+				secondPlayerResult, secondPlayerSupport, game.getPlayerActions(secondPlayer)));
+
+		return nashEquilibrium;
+	}
+
 	/**
 	 * Creates a nash equilibrium based on the results of a solved <i>linear
 	 * program</i> (LP).
@@ -91,6 +234,91 @@ public final class NashEquilibrium<PLAYER, ACTION> {
 		return nashEquilibrium;
 	}
 
+	/**
+	 * Creates a nash strategy out of the probabilities of all actions of a
+	 * player.
+	 * 
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param strategy
+	 *            Probabilities of the actions, in the order of the given
+	 *            actions
+	 * @param playerActions
+	 *            Actions that belong to the player in the given game
+	 * @return The nash strategy with the given probabilities
+	 */
+	private static <ACTION> NashStrategy<ACTION> createNashStrategy(final double[] strategy,
+			final Set<ACTION> playerActions) {
+		final NashStrategy<ACTION> nashStrategy = new NashStrategy<>();
+		int index = 0;
+		for (final ACTION action : playerActions) {
+			nashStrategy.addAction(action,
+					MathUtil.roundNumberTo(Double.valueOf(strategy[index]), ROUNDING_DECIMAL_SCALE));
+			index++;
+		}
+		return nashStrategy;
+	}
+
+	/**
+	 * Creates a nash strategy out of a pure strategy, where the player plays a
+	 * single action with certainty and all other actions with probability
+	 * <tt>0.0</tt>.
+	 * 
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param playedAction
+	 *            The action the player plays
+	 * @param playerActions
+	 *            Actions that belong to the player in the given game
+	 * @return The nash strategy of the pure strategy
+	 */
+	private static <ACTION> NashStrategy<ACTION> createPureNashStrategy(final ACTION playedAction,
+			final Set<ACTION> playerActions) {
+		final NashStrategy<ACTION> nashStrategy = new NashStrategy<>();
+		for (final ACTION action : playerActions) {
+			final double probability;
+			if (action.equals(playedAction)) {
+				probability = 1;
+			} else {
+				probability = 0;
+			}
+			nashStrategy.addAction(action, MathUtil.roundNumberTo(Double.valueOf(probability), ROUNDING_DECIMAL_SCALE));
+		}
+		return nashStrategy;
+	}
+
+	/**
+	 * Creates a nash strategy for a given player based on the results of a
+	 * <i>linear program</i> (LP) that was solved on dense arrays.
+	 * 
+	 * @param <ACTION>
+	 *            The actual class of actions
+	 * @param result
+	 *            Results of the LP, the probabilities of the actions in the
+	 *            support set followed by the expected utility
+	 * @param support
+	 *            Actions of the support set, in the order of the results
+	 * @param playerActions
+	 *            Actions that belong to the player in the given game
+	 * @return A nash strategy for the player that was computed by the LP
+	 */
+	private static <ACTION> NashStrategy<ACTION> extractPlayerNashStrategyFromDenseResults(final double[] result,
+			final List<ACTION> support, final Set<ACTION> playerActions) {
+		final Map<ACTION, Integer> supportIndices = new HashMap<>();
+		for (int i = 0; i < support.size(); i++) {
+			supportIndices.put(support.get(i), Integer.valueOf(i));
+		}
+		final NashStrategy<ACTION> nashStrategy = new NashStrategy<>();
+		for (final ACTION action : playerActions) {
+			final Integer index = supportIndices.get(action);
+			if (index != null) {
+				nashStrategy.addAction(action,
+						MathUtil.roundNumberTo(Double.valueOf(result[index.intValue()]), ROUNDING_DECIMAL_SCALE));
+			}
+		}
+		return nashStrategy;
+	}
+
 	/**
 	 * Creates a nash strategy for a given player based on the results of a
 	 * solved <i>linear program</i> (LP).
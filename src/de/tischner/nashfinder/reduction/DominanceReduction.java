@@ -0,0 +1,348 @@
+package de.tischner.nashfinder.reduction;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.ActionProfile;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.nash.NashStrategy;
+import de.tischner.nashfinder.solver.DenseLpSolver;
+import de.tischner.nashfinder.solver.ERelation;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Reduces games with two players by iterated elimination of strictly
+ * dominated actions. An action is strictly dominated if another action, or a
+ * mixed strategy over the other actions, of the same player is strictly better
+ * against every remaining action of the antagonist. Such actions are never
+ * played in a nash equilibrium, the reduced game thus has the same equilibria
+ * as the original game.<br/>
+ * <br/>
+ * Domination by mixed strategies is checked with a small <i>linear
+ * program</i> (LP) per action. Equilibria of the reduced game are mapped back
+ * to the original game by {@link #expandEquilibrium(NashEquilibrium)}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class DominanceReduction<PLAYER, ACTION> {
+
+	/**
+	 * Tolerance for deciding whether an action is strictly dominated.
+	 */
+	private static final double EPSILON = 1e-9;
+
+	/**
+	 * Payoff matrix of the first player.
+	 */
+	private final double[][] mFirstPayoffs;
+	/**
+	 * Indices of the remaining actions of the first player, in their original
+	 * order.
+	 */
+	private final List<Integer> mFirstPlayerRemaining;
+	/**
+	 * Shift that makes all payoffs of the first player positive.
+	 */
+	private final double mFirstShift;
+	/**
+	 * Game to reduce.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * The reduced game or <tt>null</tt> if {@link #reduce()} was not called
+	 * yet.
+	 */
+	private StrategicGame<PLAYER, ACTION> mReducedGame;
+	/**
+	 * Payoff matrix of the second player.
+	 */
+	private final double[][] mSecondPayoffs;
+	/**
+	 * Indices of the remaining actions of the second player, in their
+	 * original order.
+	 */
+	private final List<Integer> mSecondPlayerRemaining;
+	/**
+	 * Shift that makes all payoffs of the second player positive.
+	 */
+	private final double mSecondShift;
+	/**
+	 * Solver for the domination programs.
+	 */
+	private final DenseLpSolver mSolver;
+
+	/**
+	 * Creates a new reduction for the given game.
+	 * 
+	 * @param game
+	 *            Game to reduce, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public DominanceReduction(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		this.mFirstPayoffs = game.getPayoffMatrix(firstPlayer);
+		this.mSecondPayoffs = game.getPayoffMatrix(secondPlayer);
+		this.mFirstShift = MathUtil.computePositiveShift(this.mFirstPayoffs);
+		this.mSecondShift = MathUtil.computePositiveShift(this.mSecondPayoffs);
+		this.mFirstPlayerRemaining = new ArrayList<>();
+		for (int action = 0; action < game.getPlayerActions(firstPlayer).size(); action++) {
+			this.mFirstPlayerRemaining.add(Integer.valueOf(action));
+		}
+		this.mSecondPlayerRemaining = new ArrayList<>();
+		for (int action = 0; action < game.getPlayerActions(secondPlayer).size(); action++) {
+			this.mSecondPlayerRemaining.add(Integer.valueOf(action));
+		}
+		this.mSolver = new DenseLpSolver();
+		this.mReducedGame = null;
+	}
+
+	/**
+	 * Maps a nash equilibrium of the reduced game back to the original game.
+	 * Eliminated actions are played with probability zero.
+	 * 
+	 * @param reducedEquilibrium
+	 *            Equilibrium of the reduced game
+	 * @return The corresponding equilibrium of the original game
+	 */
+	public NashEquilibrium<PLAYER, ACTION> expandEquilibrium(final NashEquilibrium<PLAYER, ACTION> reducedEquilibrium) {
+		final NashEquilibrium<PLAYER, ACTION> equilibrium = new NashEquilibrium<>();
+		final Iterator<PLAYER> playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			final PLAYER player = playerIter.next();
+			equilibrium.setExpectedUtilityForPlayer(player, reducedEquilibrium.getExpectedUtilityOfPlayer(player));
+
+			final NashStrategy<ACTION> reducedStrategy = reducedEquilibrium.getNashStrategyOfPlayer(player);
+			final NashStrategy<ACTION> strategy = new NashStrategy<>();
+			for (final ACTION action : this.mGame.getPlayerActions(player)) {
+				Number probability = null;
+				if (reducedStrategy != null) {
+					probability = reducedStrategy.getActionProbability(action);
+				}
+				if (probability == null) {
+					probability = Double.valueOf(0.0);
+				}
+				strategy.addAction(action, probability);
+			}
+			equilibrium.setNashStrategyForPlayer(player, strategy);
+		}
+		return equilibrium;
+	}
+
+	/**
+	 * Gets the reduced game, after {@link #reduce()} was called.
+	 * 
+	 * @return The reduced game or <tt>null</tt> if the game was not reduced
+	 *         yet
+	 */
+	public StrategicGame<PLAYER, ACTION> getReducedGame() {
+		return this.mReducedGame;
+	}
+
+	/**
+	 * Gets the amount of actions that were eliminated.
+	 * 
+	 * @return The amount of eliminated actions of both players
+	 */
+	public int getRemovedActionCount() {
+		int actionCount = this.mFirstPayoffs.length;
+		if (this.mFirstPayoffs.length != 0) {
+			actionCount += this.mFirstPayoffs[0].length;
+		}
+		return actionCount - this.mFirstPlayerRemaining.size() - this.mSecondPlayerRemaining.size();
+	}
+
+	/**
+	 * Reduces the game by repeatedly eliminating strictly dominated actions of
+	 * both players, until no action is dominated anymore.
+	 * 
+	 * @return The reduced game, it consists of the remaining actions in their
+	 *         original order and shares the players with the original game
+	 */
+	public StrategicGame<PLAYER, ACTION> reduce() {
+		if (this.mReducedGame != null) {
+			return this.mReducedGame;
+		}
+		boolean wasReduced = true;
+		while (wasReduced) {
+			wasReduced = eliminateDominatedAction(this.mFirstPlayerRemaining, this.mSecondPlayerRemaining, false);
+			wasReduced |= eliminateDominatedAction(this.mSecondPlayerRemaining, this.mFirstPlayerRemaining, true);
+		}
+		this.mReducedGame = buildReducedGame();
+		return this.mReducedGame;
+	}
+
+	/**
+	 * Builds the game that consists of the remaining actions.
+	 * 
+	 * @return The reduced game
+	 */
+	private StrategicGame<PLAYER, ACTION> buildReducedGame() {
+		final StrategicGame<PLAYER, ACTION> reducedGame = new StrategicGame<>();
+		final PLAYER firstPlayer = this.mGame.getFirstPlayer();
+		final PLAYER secondPlayer = this.mGame.getSecondPlayer();
+		reducedGame.addPlayer(firstPlayer);
+		reducedGame.addPlayer(secondPlayer);
+
+		final List<ACTION> firstPlayerActions = new ArrayList<>(this.mGame.getPlayerActions(firstPlayer));
+		final List<ACTION> secondPlayerActions = new ArrayList<>(this.mGame.getPlayerActions(secondPlayer));
+		for (final Integer action : this.mFirstPlayerRemaining) {
+			reducedGame.addAction(firstPlayerActions.get(action.intValue()), firstPlayer);
+		}
+		for (final Integer action : this.mSecondPlayerRemaining) {
+			reducedGame.addAction(secondPlayerActions.get(action.intValue()), secondPlayer);
+		}
+
+		for (final Integer firstAction : this.mFirstPlayerRemaining) {
+			for (final Integer secondAction : this.mSecondPlayerRemaining) {
+				final ActionProfile<ACTION> profile = new ActionProfile<>();
+				profile.addAction(firstPlayerActions.get(firstAction.intValue()));
+				profile.addAction(secondPlayerActions.get(secondAction.intValue()));
+				reducedGame.addPayoff(this.mGame.getPayoff(profile), profile);
+			}
+		}
+		return reducedGame;
+	}
+
+	/**
+	 * Eliminates the first remaining action of a protagonist that is strictly
+	 * dominated, given the remaining actions of the antagonist.
+	 * 
+	 * @param protagonistRemaining
+	 *            Remaining actions of the protagonist, the dominated action is
+	 *            removed from it
+	 * @param antagonistRemaining
+	 *            Remaining actions of the antagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return <tt>True</tt> if an action was eliminated, <tt>false</tt>
+	 *         otherwise
+	 */
+	private boolean eliminateDominatedAction(final List<Integer> protagonistRemaining,
+			final List<Integer> antagonistRemaining, final boolean isSecondPlayerProtagonist) {
+		if (protagonistRemaining.size() < 2) {
+			return false;
+		}
+		for (int i = 0; i < protagonistRemaining.size(); i++) {
+			if (isStrictlyDominated(i, protagonistRemaining, antagonistRemaining, isSecondPlayerProtagonist)) {
+				protagonistRemaining.remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the shifted payoff of a protagonist if he plays a given action and
+	 * the antagonist the given response.
+	 * 
+	 * @param action
+	 *            Index of the action of the protagonist
+	 * @param response
+	 *            Index of the action of the antagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return The shifted payoff of the protagonist
+	 */
+	private double getShiftedPayoff(final int action, final int response, final boolean isSecondPlayerProtagonist) {
+		if (isSecondPlayerProtagonist) {
+			return this.mSecondPayoffs[response][action] + this.mSecondShift;
+		}
+		return this.mFirstPayoffs[action][response] + this.mFirstShift;
+	}
+
+	/**
+	 * Whether the remaining action at the given position is strictly dominated
+	 * by another remaining action or a mixed strategy over them. Pure
+	 * domination is checked first, mixed domination by the LP
+	 * <tt>min sum(z)</tt> subject to <tt>sum(z_a' * u(a', b)) &gt;= u(a, b)</tt>
+	 * for every response <tt>b</tt> and <tt>z &gt;= 0</tt>. Since all shifted
+	 * payoffs are positive, the action is dominated if and only if the optimum
+	 * is smaller than <tt>1</tt>.
+	 * 
+	 * @param position
+	 *            Position of the action in the remaining actions of the
+	 *            protagonist
+	 * @param protagonistRemaining
+	 *            Remaining actions of the protagonist
+	 * @param antagonistRemaining
+	 *            Remaining actions of the antagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return <tt>True</tt> if the action is strictly dominated,
+	 *         <tt>false</tt> otherwise
+	 */
+	private boolean isStrictlyDominated(final int position, final List<Integer> protagonistRemaining,
+			final List<Integer> antagonistRemaining, final boolean isSecondPlayerProtagonist) {
+		final int action = protagonistRemaining.get(position).intValue();
+		final int responseCount = antagonistRemaining.size();
+
+		// Domination by a single action
+		for (final Integer other : protagonistRemaining) {
+			if (other.intValue() == action) {
+				continue;
+			}
+			boolean isBetter = true;
+			for (final Integer response : antagonistRemaining) {
+				if (getShiftedPayoff(other.intValue(), response.intValue(),
+						isSecondPlayerProtagonist) <= getShiftedPayoff(action, response.intValue(),
+								isSecondPlayerProtagonist)) {
+					isBetter = false;
+					break;
+				}
+			}
+			if (isBetter) {
+				return true;
+			}
+		}
+		if (protagonistRemaining.size() < 3) {
+			// Mixtures of a single other action are pure strategies
+			return false;
+		}
+
+		// Domination by a mixed strategy
+		final int variableCount = protagonistRemaining.size() - 1;
+		final double[] constraints = new double[responseCount * variableCount];
+		final ERelation[] relations = new ERelation[responseCount];
+		final double[] rightHandSides = new double[responseCount];
+		for (int row = 0; row < responseCount; row++) {
+			final int response = antagonistRemaining.get(row).intValue();
+			int variable = 0;
+			for (final Integer other : protagonistRemaining) {
+				if (other.intValue() == action) {
+					continue;
+				}
+				constraints[row * variableCount + variable] = getShiftedPayoff(other.intValue(), response,
+						isSecondPlayerProtagonist);
+				variable++;
+			}
+			relations[row] = ERelation.GREATER_EQUAL;
+			rightHandSides[row] = getShiftedPayoff(action, response, isSecondPlayerProtagonist);
+		}
+		final double[] objective = new double[variableCount];
+		for (int variable = 0; variable < variableCount; variable++) {
+			objective[variable] = -1;
+		}
+
+		final double[] solution = this.mSolver.maximize(objective, constraints, relations, rightHandSides,
+				responseCount, variableCount);
+		if (solution == null) {
+			return false;
+		}
+		double sum = 0;
+		for (final double value : solution) {
+			sum += value;
+		}
+		return sum < 1 - EPSILON;
+	}
+}
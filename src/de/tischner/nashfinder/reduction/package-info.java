@@ -0,0 +1,5 @@
+/**
+ * This is the package for reductions that shrink games before they are solved,
+ * while keeping their nash equilibria.
+ */
+package de.tischner.nashfinder.reduction;
\ No newline at end of file
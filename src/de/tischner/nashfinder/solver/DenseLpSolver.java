@@ -0,0 +1,357 @@
+package de.tischner.nashfinder.solver;
+
+import java.util.Arrays;
+
+/**
+ * Pure Java solver for small <i>linear programs</i> (LP) that works on dense
+ * primitive arrays. It uses the two-phase simplex method with <i>Bland's
+ * rule</i>, all variables are non-negative. The tableau is reused between
+ * calls, an instance is thus not thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DenseLpSolver {
+
+	/**
+	 * Tolerance for comparing values of the tableau against zero.
+	 */
+	private static final double EPSILON = 1e-9;
+	/**
+	 * Factor that, multiplied with the size of the tableau, gives the maximal
+	 * amount of pivot steps until solving is aborted.
+	 */
+	private static final int PIVOT_LIMIT_FACTOR = 50;
+
+	/**
+	 * The basic column of every constraint row of the tableau.
+	 */
+	private int[] mBasis;
+	/**
+	 * Index of the column that holds the right hand sides.
+	 */
+	private int mRhsColumn;
+	/**
+	 * Amount of constraint rows of the tableau. The objective row is stored
+	 * directly after them.
+	 */
+	private int mRowCount;
+	/**
+	 * The tableau in row-major order.
+	 */
+	private double[] mTableau;
+	/**
+	 * Amount of columns of the tableau, including the right hand side.
+	 */
+	private int mWidth;
+
+	/**
+	 * Creates a new dense solver with an empty tableau.
+	 */
+	public DenseLpSolver() {
+		this.mTableau = new double[0];
+		this.mBasis = new int[0];
+	}
+
+	/**
+	 * Maximizes the given objective subject to the given constraints. All
+	 * variables are bounded to be non-negative.
+	 * 
+	 * @param objective
+	 *            Coefficients of the objective, by variable
+	 * @param constraints
+	 *            Coefficients of the constraints in row-major order, one row
+	 *            of <tt>variableCount</tt> coefficients per constraint
+	 * @param relations
+	 *            Relation of every constraint
+	 * @param rightHandSides
+	 *            Right hand side of every constraint
+	 * @param rowCount
+	 *            Amount of constraints
+	 * @param variableCount
+	 *            Amount of variables
+	 * @return The values of the variables in an optimal solution or
+	 *         <tt>null</tt> if the program is infeasible, unbounded or could
+	 *         not be solved within the pivot limit
+	 */
+	public double[] maximize(final double[] objective, final double[] constraints, final ERelation[] relations,
+			final double[] rightHandSides, final int rowCount, final int variableCount) {
+		// Flip rows with negative right hand sides and count the additional
+		// columns
+		final ERelation[] effectiveRelations = new ERelation[rowCount];
+		int slackCount = 0;
+		int artificialCount = 0;
+		for (int i = 0; i < rowCount; i++) {
+			ERelation relation = relations[i];
+			if (rightHandSides[i] < 0) {
+				if (relation == ERelation.LESS_EQUAL) {
+					relation = ERelation.GREATER_EQUAL;
+				} else if (relation == ERelation.GREATER_EQUAL) {
+					relation = ERelation.LESS_EQUAL;
+				}
+			}
+			effectiveRelations[i] = relation;
+			if (relation != ERelation.EQUAL) {
+				slackCount++;
+			}
+			if (relation != ERelation.LESS_EQUAL) {
+				artificialCount++;
+			}
+		}
+
+		final int firstArtificial = variableCount + slackCount;
+		initTableau(rowCount, firstArtificial + artificialCount + 1);
+
+		// Fill the constraint rows
+		int slackColumn = variableCount;
+		int artificialColumn = firstArtificial;
+		for (int i = 0; i < rowCount; i++) {
+			final double sign = rightHandSides[i] < 0 ? -1 : 1;
+			final int rowOffset = i * this.mWidth;
+			for (int j = 0; j < variableCount; j++) {
+				this.mTableau[rowOffset + j] = sign * constraints[i * variableCount + j];
+			}
+			this.mTableau[rowOffset + this.mRhsColumn] = sign * rightHandSides[i];
+
+			final ERelation relation = effectiveRelations[i];
+			if (relation == ERelation.LESS_EQUAL) {
+				this.mTableau[rowOffset + slackColumn] = 1;
+				this.mBasis[i] = slackColumn;
+				slackColumn++;
+			} else {
+				if (relation == ERelation.GREATER_EQUAL) {
+					this.mTableau[rowOffset + slackColumn] = -1;
+					slackColumn++;
+				}
+				this.mTableau[rowOffset + artificialColumn] = 1;
+				this.mBasis[i] = artificialColumn;
+				artificialColumn++;
+			}
+		}
+
+		final int objectiveOffset = rowCount * this.mWidth;
+		if (artificialCount > 0) {
+			// Phase 1, minimize the sum of the artificial variables
+			for (int i = 0; i < rowCount; i++) {
+				if (this.mBasis[i] < firstArtificial) {
+					continue;
+				}
+				final int rowOffset = i * this.mWidth;
+				for (int j = 0; j < this.mWidth; j++) {
+					if (j < firstArtificial || j == this.mRhsColumn) {
+						this.mTableau[objectiveOffset + j] -= this.mTableau[rowOffset + j];
+					}
+				}
+			}
+			if (!runSimplex(firstArtificial)
+					|| this.mTableau[objectiveOffset + this.mRhsColumn] < -EPSILON * (1 + rowCount)) {
+				return null;
+			}
+			driveOutArtificials(firstArtificial);
+		}
+
+		// Phase 2, express the actual objective in the current basis
+		for (int j = 0; j < this.mWidth; j++) {
+			double reducedCost = 0;
+			if (j < variableCount) {
+				reducedCost = -objective[j];
+			}
+			if (j < firstArtificial || j == this.mRhsColumn) {
+				for (int i = 0; i < rowCount; i++) {
+					final int basic = this.mBasis[i];
+					if (basic < variableCount) {
+						reducedCost += objective[basic] * this.mTableau[i * this.mWidth + j];
+					}
+				}
+			}
+			this.mTableau[objectiveOffset + j] = reducedCost;
+		}
+		if (!runSimplex(firstArtificial)) {
+			return null;
+		}
+
+		final double[] solution = new double[variableCount];
+		for (int i = 0; i < rowCount; i++) {
+			final int basic = this.mBasis[i];
+			if (basic < variableCount) {
+				solution[basic] = Math.max(0, this.mTableau[i * this.mWidth + this.mRhsColumn]);
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Solves the best response system of a protagonist against the support
+	 * set of an antagonist. The protagonist maximizes his expected utility
+	 * <tt>u</tt> such that every response of the antagonist yields at least
+	 * <tt>u</tt>, given a probability distribution over the actions of the
+	 * protagonist. Like the default bounds of <i>lp_solve</i>, the expected
+	 * utility is bounded to be non-negative.
+	 * 
+	 * @param payoffs
+	 *            Payoffs of the protagonist in row-major order, one row of
+	 *            <tt>responseCount</tt> payoffs per action of the protagonist
+	 * @param actionCount
+	 *            Amount of actions in the support set of the protagonist
+	 * @param responseCount
+	 *            Amount of actions in the support set of the antagonist
+	 * @return The probabilities of the actions of the protagonist, followed
+	 *         by his expected utility, or <tt>null</tt> if the system has no
+	 *         solution
+	 */
+	public double[] solveBestResponseSystem(final double[] payoffs, final int actionCount, final int responseCount) {
+		final int variableCount = actionCount + 1;
+		final int rowCount = responseCount + 1;
+		final double[] constraints = new double[rowCount * variableCount];
+		final ERelation[] relations = new ERelation[rowCount];
+		final double[] rightHandSides = new double[rowCount];
+
+		// Best response constraints
+		for (int response = 0; response < responseCount; response++) {
+			final int rowOffset = response * variableCount;
+			for (int action = 0; action < actionCount; action++) {
+				constraints[rowOffset + action] = payoffs[action * responseCount + response];
+			}
+			constraints[rowOffset + actionCount] = -1;
+			relations[response] = ERelation.GREATER_EQUAL;
+		}
+
+		// Correct chance distribution
+		final int rowOffset = responseCount * variableCount;
+		for (int action = 0; action < actionCount; action++) {
+			constraints[rowOffset + action] = 1;
+		}
+		relations[responseCount] = ERelation.EQUAL;
+		rightHandSides[responseCount] = 1;
+
+		final double[] objective = new double[variableCount];
+		objective[actionCount] = 1;
+		return maximize(objective, constraints, relations, rightHandSides, rowCount, variableCount);
+	}
+
+	/**
+	 * Pivots artificial variables, that are still basic after phase 1, out of
+	 * the basis. Rows where this is not possible are redundant and keep their
+	 * artificial variable at zero.
+	 * 
+	 * @param firstArtificial
+	 *            Index of the first artificial column
+	 */
+	private void driveOutArtificials(final int firstArtificial) {
+		for (int i = 0; i < this.mRowCount; i++) {
+			if (this.mBasis[i] < firstArtificial) {
+				continue;
+			}
+			final int rowOffset = i * this.mWidth;
+			for (int j = 0; j < firstArtificial; j++) {
+				if (Math.abs(this.mTableau[rowOffset + j]) > EPSILON) {
+					pivot(i, j);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Prepares the tableau for a program of the given size. All values are
+	 * reset to zero.
+	 * 
+	 * @param rowCount
+	 *            Amount of constraint rows
+	 * @param width
+	 *            Amount of columns, including the right hand side
+	 */
+	private void initTableau(final int rowCount, final int width) {
+		final int size = (rowCount + 1) * width;
+		if (this.mTableau.length < size) {
+			this.mTableau = new double[size];
+		} else {
+			Arrays.fill(this.mTableau, 0, size, 0);
+		}
+		if (this.mBasis.length < rowCount) {
+			this.mBasis = new int[rowCount];
+		}
+		this.mRowCount = rowCount;
+		this.mWidth = width;
+		this.mRhsColumn = width - 1;
+	}
+
+	/**
+	 * Pivots the tableau on the given element, the column becomes basic for
+	 * the given row.
+	 * 
+	 * @param row
+	 *            Row of the pivot element
+	 * @param column
+	 *            Column of the pivot element
+	 */
+	private void pivot(final int row, final int column) {
+		final int pivotOffset = row * this.mWidth;
+		final double pivotValue = this.mTableau[pivotOffset + column];
+		for (int j = 0; j < this.mWidth; j++) {
+			this.mTableau[pivotOffset + j] /= pivotValue;
+		}
+		for (int i = 0; i <= this.mRowCount; i++) {
+			if (i == row) {
+				continue;
+			}
+			final int rowOffset = i * this.mWidth;
+			final double factor = this.mTableau[rowOffset + column];
+			if (factor == 0) {
+				continue;
+			}
+			for (int j = 0; j < this.mWidth; j++) {
+				this.mTableau[rowOffset + j] -= factor * this.mTableau[pivotOffset + j];
+			}
+		}
+		this.mBasis[row] = column;
+	}
+
+	/**
+	 * Runs the simplex method on the current tableau until the objective row
+	 * has no negative reduced cost anymore.
+	 * 
+	 * @param columnLimit
+	 *            Exclusive upper bound of the columns that may enter the basis
+	 * @return <tt>True</tt> if an optimum was reached, <tt>false</tt> if the
+	 *         program is unbounded or the pivot limit was exceeded
+	 */
+	private boolean runSimplex(final int columnLimit) {
+		final int objectiveOffset = this.mRowCount * this.mWidth;
+		final int pivotLimit = PIVOT_LIMIT_FACTOR * (this.mRowCount + this.mWidth);
+		for (int pivots = 0; pivots < pivotLimit; pivots++) {
+			// Bland's rule, the first improving column enters
+			int entering = -1;
+			for (int j = 0; j < columnLimit; j++) {
+				if (this.mTableau[objectiveOffset + j] < -EPSILON) {
+					entering = j;
+					break;
+				}
+			}
+			if (entering == -1) {
+				return true;
+			}
+
+			// Ratio test, ties are broken by the smallest basic column
+			int leaving = -1;
+			double bestRatio = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < this.mRowCount; i++) {
+				final double coefficient = this.mTableau[i * this.mWidth + entering];
+				if (coefficient <= EPSILON) {
+					continue;
+				}
+				final double ratio = this.mTableau[i * this.mWidth + this.mRhsColumn] / coefficient;
+				if (leaving == -1 || ratio < bestRatio - EPSILON
+						|| (ratio <= bestRatio + EPSILON && this.mBasis[i] < this.mBasis[leaving])) {
+					leaving = i;
+					bestRatio = ratio;
+				}
+			}
+			if (leaving == -1) {
+				return false;
+			}
+			pivot(leaving, entering);
+		}
+		return false;
+	}
+}
@@ -0,0 +1,23 @@
+package de.tischner.nashfinder.solver;
+
+/**
+ * Specifies the relation between the left and the right hand side of a
+ * constraint in a <i>linear program</i> (LP).
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum ERelation {
+	/**
+	 * The left hand side equals the right hand side.
+	 */
+	EQUAL,
+	/**
+	 * The left hand side is greater than or equal to the right hand side.
+	 */
+	GREATER_EQUAL,
+	/**
+	 * The left hand side is less than or equal to the right hand side.
+	 */
+	LESS_EQUAL
+}
@@ -0,0 +1,20 @@
+package de.tischner.nashfinder.solver;
+
+/**
+ * Specifies the backends that can be used to solve the <i>linear programs</i>
+ * (LP) of support set constellations.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum ESolverBackend {
+	/**
+	 * Pure Java solver that works on dense primitive arrays, see
+	 * {@link DenseLpSolver}. It does not need any native library.
+	 */
+	DENSE,
+	/**
+	 * The native <i>lp_solve</i> library, accessed by <i>JavaILP</i>.
+	 */
+	LP_SOLVE
+}
@@ -0,0 +1,317 @@
+package de.tischner.nashfinder.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.PlayerAction;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.metrics.EPhase;
+import de.tischner.nashfinder.metrics.ESupportOutcome;
+import de.tischner.nashfinder.metrics.SolverMetrics;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.EExpectedUtilty;
+import net.sf.javailp.Linear;
+import net.sf.javailp.OptType;
+import net.sf.javailp.Problem;
+import net.sf.javailp.Result;
+import net.sf.javailp.Solver;
+import net.sf.javailp.SolverFactory;
+import net.sf.javailp.SolverFactoryLpSolve;
+
+/**
+ * Context for solving the <i>linear programs</i> (LP) of support set
+ * constellations with the native <i>lp_solve</i> library. The solver is
+ * configured once and the model of the whole game is built once, every
+ * constellation is then only activated by changing bounds.<br/>
+ * <br/>
+ * The model has a variable for the probability of every
+ * {@link PlayerAction} of both players and for both {@link EExpectedUtilty}
+ * keys. Every action of the antagonist has a best response row for the
+ * protagonist, which can be relaxed by its own relaxation variable. Actions
+ * outside of a support set get an upper bound of <tt>0</tt>, relaxations of
+ * rows that belong to actions inside of a support set too. The program of a
+ * constellation is thus equal to the one that only consists of the actions
+ * of the support sets. An instance is not thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class LpSolveSupportContext<PLAYER, ACTION> {
+
+	/**
+	 * The timeout for LCP solving in milliseconds.
+	 */
+	private static final int TIMEOUT_MILLIS = 1000;
+	/**
+	 * If solving the LCP should output detailed information or not.
+	 */
+	private static final int VERBOSE_VALUE = 0;
+
+	/**
+	 * Keys of the probability variables of the actions of the first player,
+	 * in the order of the actions in the game.
+	 */
+	private final List<PlayerAction<PLAYER, ACTION>> mFirstPlayerActions;
+	/**
+	 * Keys of the relaxation variables of the best response rows of the first
+	 * player, one per action of the second player. The keys are compared by
+	 * identity, they thus never collide with other variables.
+	 */
+	private final Object[] mFirstPlayerRelaxations;
+	/**
+	 * Game the model belongs to.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * The model of the whole game.
+	 */
+	private final Problem mProblem;
+	/**
+	 * Keys of the probability variables of the actions of the second player,
+	 * in the order of the actions in the game.
+	 */
+	private final List<PlayerAction<PLAYER, ACTION>> mSecondPlayerActions;
+	/**
+	 * Keys of the relaxation variables of the best response rows of the
+	 * second player, one per action of the first player. The keys are
+	 * compared by identity, they thus never collide with other variables.
+	 */
+	private final Object[] mSecondPlayerRelaxations;
+	/**
+	 * The configured solver.
+	 */
+	private final Solver mSolver;
+
+	/**
+	 * Creates a new context for the given game. It configures the solver and
+	 * builds the model of the whole game.
+	 * 
+	 * @param game
+	 *            Game to solve constellations of, it must have exactly two
+	 *            players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public LpSolveSupportContext(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		this.mFirstPlayerActions = new ArrayList<>();
+		for (final ACTION action : game.getPlayerActions(firstPlayer)) {
+			this.mFirstPlayerActions.add(new PlayerAction<>(firstPlayer, action));
+		}
+		this.mSecondPlayerActions = new ArrayList<>();
+		for (final ACTION action : game.getPlayerActions(secondPlayer)) {
+			this.mSecondPlayerActions.add(new PlayerAction<>(secondPlayer, action));
+		}
+		this.mFirstPlayerRelaxations = createRelaxationKeys(this.mSecondPlayerActions.size());
+		this.mSecondPlayerRelaxations = createRelaxationKeys(this.mFirstPlayerActions.size());
+
+		final SolverFactory factory = new SolverFactoryLpSolve();
+		factory.setParameter(Integer.valueOf(Solver.VERBOSE), Integer.valueOf(VERBOSE_VALUE));
+		factory.setParameter(Integer.valueOf(Solver.TIMEOUT), Integer.valueOf(TIMEOUT_MILLIS));
+		this.mSolver = factory.get();
+
+		this.mProblem = new Problem();
+		final Linear linear = new Linear();
+		linear.add(Integer.valueOf(1), EExpectedUtilty.FIRST_PLAYER);
+		linear.add(Integer.valueOf(1), EExpectedUtilty.SECOND_PLAYER);
+		this.mProblem.setObjective(linear, OptType.MAX);
+		this.mProblem.setVarType(EExpectedUtilty.FIRST_PLAYER, Double.class);
+		this.mProblem.setVarType(EExpectedUtilty.SECOND_PLAYER, Double.class);
+
+		// Player 1 against Player 2
+		final double[][] firstPayoffs = game.getPayoffMatrix(firstPlayer);
+		for (int response = 0; response < this.mSecondPlayerActions.size(); response++) {
+			final Linear row = new Linear();
+			for (int action = 0; action < this.mFirstPlayerActions.size(); action++) {
+				row.add(Double.valueOf(firstPayoffs[action][response]), this.mFirstPlayerActions.get(action));
+			}
+			addBestResponseRow(row, EExpectedUtilty.FIRST_PLAYER, this.mFirstPlayerRelaxations[response]);
+		}
+		addDistributionRow(this.mFirstPlayerActions);
+
+		// Player 2 against Player 1
+		final double[][] secondPayoffs = game.getPayoffMatrix(secondPlayer);
+		for (int response = 0; response < this.mFirstPlayerActions.size(); response++) {
+			final Linear row = new Linear();
+			for (int action = 0; action < this.mSecondPlayerActions.size(); action++) {
+				row.add(Double.valueOf(secondPayoffs[response][action]), this.mSecondPlayerActions.get(action));
+			}
+			addBestResponseRow(row, EExpectedUtilty.SECOND_PLAYER, this.mSecondPlayerRelaxations[response]);
+		}
+		addDistributionRow(this.mSecondPlayerActions);
+	}
+
+	/**
+	 * Solves the LP of the given support set constellation. Every player
+	 * maximizes his expected utility such that every response of the other
+	 * player inside of its support set yields at least this utility, given a
+	 * probability distribution over the actions of his support set.<br/>
+	 * <br/>
+	 * The outcome of the constellation is counted by the given metrics.
+	 * <i>lp_solve</i> does not report why it gave up, an LP without result is
+	 * thus counted as timed out if solving it took at least the timeout.
+	 * 
+	 * @param firstPlayerSet
+	 *            Support set of the first player
+	 * @param secondPlayerSet
+	 *            Support set of the second player
+	 * @param metrics
+	 *            Metrics to record the phases and the outcome of the
+	 *            constellation in
+	 * @return The nash equilibrium for the given constellation or
+	 *         <tt>null</tt> if there is no nash equilibrium
+	 */
+	public NashEquilibrium<PLAYER, ACTION> solve(final SupportSet<PLAYER, ACTION> firstPlayerSet,
+			final SupportSet<PLAYER, ACTION> secondPlayerSet, final SolverMetrics metrics) {
+		long startNanos = metrics.startPhase(EPhase.LP_BUILD);
+		final List<ACTION> firstPlayerSupport = activateSupportSet(firstPlayerSet, this.mFirstPlayerActions,
+				this.mSecondPlayerRelaxations);
+		final List<ACTION> secondPlayerSupport = activateSupportSet(secondPlayerSet, this.mSecondPlayerActions,
+				this.mFirstPlayerRelaxations);
+		metrics.endPhase(EPhase.LP_BUILD, startNanos);
+
+		startNanos = metrics.startPhase(EPhase.LP_SOLVE);
+		final Result result = this.mSolver.solve(this.mProblem);
+		metrics.endPhase(EPhase.LP_SOLVE, startNanos);
+		if (result == null) {
+			if (metrics.isEnabled()
+					&& System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS)) {
+				metrics.endConstellation(ESupportOutcome.TIMED_OUT);
+			} else {
+				metrics.endConstellation(ESupportOutcome.INFEASIBLE);
+			}
+			return null;
+		}
+
+		startNanos = metrics.startPhase(EPhase.EXTRACTION);
+		final NashEquilibrium<PLAYER, ACTION> equilibrium = NashEquilibrium.extractFromDenseResults(
+				collectResults(result, firstPlayerSet.getPlayer(), firstPlayerSupport, EExpectedUtilty.FIRST_PLAYER),
+				firstPlayerSupport, collectResults(result, secondPlayerSet.getPlayer(), secondPlayerSupport,
+						EExpectedUtilty.SECOND_PLAYER),
+				secondPlayerSupport, this.mGame);
+		metrics.endPhase(EPhase.EXTRACTION, startNanos);
+		metrics.endConstellation(ESupportOutcome.SOLVED);
+		return equilibrium;
+	}
+
+	/**
+	 * Activates the given support set by changing the bounds of the model.
+	 * Probabilities of actions outside of the support set are fixed to
+	 * <tt>0</tt>, the best response rows of the other player that belong to
+	 * actions inside of the support set are not relaxed anymore.
+	 * 
+	 * @param supportSet
+	 *            Support set to activate
+	 * @param playerActions
+	 *            Keys of the probability variables of all actions of the
+	 *            player of the support set
+	 * @param responseRelaxations
+	 *            Keys of the relaxation variables of the best response rows of
+	 *            the other player, one per action of the player of the support
+	 *            set
+	 * @return The actions of the support set, in the order of the actions in
+	 *         the game
+	 */
+	private List<ACTION> activateSupportSet(final SupportSet<PLAYER, ACTION> supportSet,
+			final List<PlayerAction<PLAYER, ACTION>> playerActions, final Object[] responseRelaxations) {
+		final List<ACTION> support = new ArrayList<>(supportSet.size());
+		for (int i = 0; i < playerActions.size(); i++) {
+			final PlayerAction<PLAYER, ACTION> playerAction = playerActions.get(i);
+			if (supportSet.hasAction(playerAction.getAction())) {
+				support.add(playerAction.getAction());
+				this.mProblem.setVarUpperBound(playerAction, null);
+				this.mProblem.setVarUpperBound(responseRelaxations[i], Integer.valueOf(0));
+			} else {
+				this.mProblem.setVarUpperBound(playerAction, Integer.valueOf(0));
+				this.mProblem.setVarUpperBound(responseRelaxations[i], null);
+			}
+		}
+		return support;
+	}
+
+	/**
+	 * Adds the given best response row to the model, such that the row yields
+	 * at least the expected utility of the protagonist unless it is relaxed.
+	 * 
+	 * @param row
+	 *            Payoffs of the protagonist against a response, by the
+	 *            probability variables of his actions
+	 * @param protagonistExpectedUtiltyVar
+	 *            Key of the expected utility of the protagonist
+	 * @param relaxation
+	 *            Key of the relaxation variable of the row
+	 */
+	private void addBestResponseRow(final Linear row, final EExpectedUtilty protagonistExpectedUtiltyVar,
+			final Object relaxation) {
+		row.add(Integer.valueOf(-1), protagonistExpectedUtiltyVar);
+		row.add(Integer.valueOf(1), relaxation);
+		this.mProblem.add(row, ">=", Integer.valueOf(0));
+		this.mProblem.setVarLowerBound(relaxation, Integer.valueOf(0));
+	}
+
+	/**
+	 * Adds the correct chance distribution row of the given actions to the
+	 * model and bounds their probabilities to be non-negative.
+	 * 
+	 * @param playerActions
+	 *            Keys of the probability variables of all actions of a player
+	 */
+	private void addDistributionRow(final List<PlayerAction<PLAYER, ACTION>> playerActions) {
+		final Linear linear = new Linear();
+		for (final PlayerAction<PLAYER, ACTION> playerAction : playerActions) {
+			linear.add(Integer.valueOf(1), playerAction);
+			this.mProblem.setVarLowerBound(playerAction, Integer.valueOf(0));
+		}
+		this.mProblem.add(linear, "=", Integer.valueOf(1));
+	}
+
+	/**
+	 * Collects the results of the given player in the form of
+	 * {@link NashEquilibrium#extractFromDenseResults(double[], List, double[], List, StrategicGame)}.
+	 * 
+	 * @param result
+	 *            Results of the solved LP
+	 * @param player
+	 *            Player to collect the results of
+	 * @param support
+	 *            Actions of the support set of the player
+	 * @param expectedUtilityVar
+	 *            Key of the expected utility of the player
+	 * @return The probabilities of the actions in the support set followed by
+	 *         the expected utility
+	 */
+	private double[] collectResults(final Result result, final PLAYER player, final List<ACTION> support,
+			final EExpectedUtilty expectedUtilityVar) {
+		final double[] values = new double[support.size() + 1];
+		for (int i = 0; i < support.size(); i++) {
+			values[i] = result.getPrimalValue(new PlayerAction<>(player, support.get(i))).doubleValue();
+		}
+		values[support.size()] = result.getPrimalValue(expectedUtilityVar).doubleValue();
+		return values;
+	}
+
+	/**
+	 * Creates the given amount of relaxation keys, which are compared by
+	 * identity.
+	 * 
+	 * @param count
+	 *            Amount of keys to create
+	 * @return The created keys
+	 */
+	private Object[] createRelaxationKeys(final int count) {
+		final Object[] keys = new Object[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = new Object();
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,442 @@
+package de.tischner.nashfinder.solver;
+
+import java.util.Arrays;
+
+/**
+ * Solver for the best response systems of a protagonist that keeps its
+ * simplex tableau alive between calls, such that consecutive systems of
+ * similar support sets are solved from the previous optimal basis.<br/>
+ * <br/>
+ * The tableau always holds the system of the full game: every action of the
+ * protagonist has a probability column and every response of the antagonist
+ * has a best response row. A response row can be relaxed by its own
+ * relaxation column. Support sets only decide which columns are penalized,
+ * the probabilities of actions outside of the support and the relaxations of
+ * responses inside of it. Changing support sets thus only changes the
+ * objective, the previous basis stays feasible. A solve first minimizes the
+ * penalized columns and then maximizes the expected utility without
+ * increasing them again, which needs few pivots if the support sets changed
+ * only slightly, for example by one action when they are visited in
+ * Gray-code order.<br/>
+ * <br/>
+ * Like {@link DenseLpSolver#solveBestResponseSystem(double[], int, int)}, the
+ * expected utility is bounded to be non-negative. If the optimum is not
+ * unique, the vertex that is reached depends on the previous basis. Such a
+ * system is solved again by a {@link DenseLpSolver}, which breaks the tie the
+ * same way as if the support sets were solved on their own. An instance is not
+ * thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WarmStartBestResponseSolver {
+
+	/**
+	 * Tolerance for comparing values of the tableau against zero.
+	 */
+	private static final double EPSILON = 1e-9;
+	/**
+	 * Factor that, multiplied with the size of the tableau, gives the maximal
+	 * amount of pivot steps of a single phase until solving is aborted.
+	 */
+	private static final int PIVOT_LIMIT_FACTOR = 50;
+	/**
+	 * Factor that, multiplied with the size of the tableau, gives the amount
+	 * of pivot steps after which the tableau is rebuilt to get rid of
+	 * accumulated rounding errors.
+	 */
+	private static final int REBUILD_LIMIT_FACTOR = 500;
+
+	/**
+	 * Amount of actions of the protagonist.
+	 */
+	private final int mActionCount;
+	/**
+	 * The basic column of every constraint row of the tableau.
+	 */
+	private final int[] mBasis;
+	/**
+	 * Whether the column with the given index is currently penalized.
+	 */
+	private final boolean[] mIsPenalized;
+	/**
+	 * Payoffs of the protagonist in row-major order, one row of
+	 * <tt>responseCount</tt> payoffs per action of the protagonist.
+	 */
+	private final double[] mPayoffs;
+	/**
+	 * Solver for systems whose optimum is not unique.
+	 */
+	private final DenseLpSolver mTieBreakingSolver;
+	/**
+	 * Amount of pivot steps since the tableau was built.
+	 */
+	private int mPivotsSinceBuild;
+	/**
+	 * Amount of responses of the antagonist.
+	 */
+	private final int mResponseCount;
+	/**
+	 * Index of the column that holds the right hand sides.
+	 */
+	private final int mRhsColumn;
+	/**
+	 * Amount of constraint rows of the tableau. The penalty objective row and
+	 * the utility objective row are stored directly after them.
+	 */
+	private final int mRowCount;
+	/**
+	 * The tableau in row-major order.
+	 */
+	private final double[] mTableau;
+	/**
+	 * Amount of columns of the tableau, including the right hand side.
+	 */
+	private final int mWidth;
+
+	/**
+	 * Creates a new solver for the best response systems of a protagonist
+	 * with the given payoffs.
+	 * 
+	 * @param payoffs
+	 *            Payoffs of the protagonist in row-major order, one row of
+	 *            <tt>responseCount</tt> payoffs per action of the protagonist
+	 * @param actionCount
+	 *            Amount of actions of the protagonist
+	 * @param responseCount
+	 *            Amount of actions of the antagonist
+	 */
+	public WarmStartBestResponseSolver(final double[] payoffs, final int actionCount, final int responseCount) {
+		this.mPayoffs = payoffs;
+		this.mActionCount = actionCount;
+		this.mResponseCount = responseCount;
+		this.mRowCount = responseCount + 1;
+		// Probabilities, utility, surplus and relaxation per response,
+		// artificial of the distribution row and right hand side
+		this.mWidth = actionCount + 2 * responseCount + 3;
+		this.mRhsColumn = this.mWidth - 1;
+		this.mTableau = new double[(this.mRowCount + 2) * this.mWidth];
+		this.mBasis = new int[this.mRowCount];
+		this.mIsPenalized = new boolean[this.mWidth];
+		this.mTieBreakingSolver = new DenseLpSolver();
+		buildTableau();
+	}
+
+	/**
+	 * Solves the best response system of the protagonist for the given support
+	 * sets, starting at the optimal basis of the previous call. The
+	 * protagonist maximizes his expected utility <tt>u</tt> such that every
+	 * response in the support set of the antagonist yields at least
+	 * <tt>u</tt>, given a probability distribution over the actions in his
+	 * support set.
+	 * 
+	 * @param actions
+	 *            Bitmask of the support set of the protagonist, bit <tt>i</tt>
+	 *            is set if the action with index <tt>i</tt> is contained
+	 * @param responses
+	 *            Bitmask of the support set of the antagonist
+	 * @return The probabilities of the actions in the support set of the
+	 *         protagonist, by ascending index, followed by his expected
+	 *         utility, or <tt>null</tt> if the system has no solution. If the
+	 *         optimum is not unique, it is the one that
+	 *         {@link DenseLpSolver#solveBestResponseSystem(double[], int, int)}
+	 *         finds for the support sets.
+	 */
+	public double[] solve(final long actions, final long responses) {
+		if (actions == 0 || responses == 0) {
+			return null;
+		}
+		if (this.mPivotsSinceBuild > REBUILD_LIMIT_FACTOR * (this.mRowCount + this.mWidth)) {
+			buildTableau();
+		}
+		updatePenalties(actions, responses);
+
+		Boolean isFeasible = optimize();
+		if (isFeasible == null) {
+			// Numerical problems, retry from the initial basis
+			buildTableau();
+			updatePenalties(actions, responses);
+			isFeasible = optimize();
+		}
+		if (isFeasible == null || !isFeasible.booleanValue()) {
+			return null;
+		}
+		if (hasAlternativeOptimum()) {
+			return solveSupportSets(actions, responses);
+		}
+
+		final double[] solution = new double[Long.bitCount(actions) + 1];
+		for (int i = 0; i < this.mRowCount; i++) {
+			final int basic = this.mBasis[i];
+			final double value = Math.max(0, this.mTableau[i * this.mWidth + this.mRhsColumn]);
+			// Actions outside of the support set may stay basic with a
+			// probability of zero
+			if (basic < this.mActionCount && (actions & (1L << basic)) != 0) {
+				solution[Long.bitCount(actions & ((1L << basic) - 1))] = value;
+			} else if (basic == this.mActionCount) {
+				solution[solution.length - 1] = value;
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Builds the tableau of the full system in its initial basis, which
+	 * consists of the relaxation columns and the artificial column of the
+	 * distribution row.
+	 */
+	private void buildTableau() {
+		Arrays.fill(this.mTableau, 0);
+		final int utilityColumn = this.mActionCount;
+		final int firstSurplusColumn = utilityColumn + 1;
+		final int firstRelaxationColumn = firstSurplusColumn + this.mResponseCount;
+
+		// Best response rows, the expected payoff of every response minus the
+		// utility, the surplus and a relaxation
+		for (int response = 0; response < this.mResponseCount; response++) {
+			final int rowOffset = response * this.mWidth;
+			for (int action = 0; action < this.mActionCount; action++) {
+				this.mTableau[rowOffset + action] = this.mPayoffs[action * this.mResponseCount + response];
+			}
+			this.mTableau[rowOffset + utilityColumn] = -1;
+			this.mTableau[rowOffset + firstSurplusColumn + response] = -1;
+			this.mTableau[rowOffset + firstRelaxationColumn + response] = 1;
+			this.mBasis[response] = firstRelaxationColumn + response;
+		}
+
+		// Correct chance distribution, with an artificial column
+		final int rowOffset = this.mResponseCount * this.mWidth;
+		for (int action = 0; action < this.mActionCount; action++) {
+			this.mTableau[rowOffset + action] = 1;
+		}
+		this.mTableau[rowOffset + this.mRhsColumn - 1] = 1;
+		this.mTableau[rowOffset + this.mRhsColumn] = 1;
+		this.mBasis[this.mResponseCount] = this.mRhsColumn - 1;
+
+		this.mPivotsSinceBuild = 0;
+	}
+
+	/**
+	 * Whether the current optimum may not be unique in the probabilities or
+	 * the expected utility. This is the case if a column that may enter
+	 * without increasing the penalized columns has no reduced cost and
+	 * entering it would change the probabilities or the utility.
+	 * 
+	 * @return <tt>True</tt> if there may be another optimum with different
+	 *         probabilities or utility, <tt>false</tt> if the optimum is
+	 *         unique in them
+	 */
+	private boolean hasAlternativeOptimum() {
+		final int penaltyOffset = this.mRowCount * this.mWidth;
+		final int utilityOffset = penaltyOffset + this.mWidth;
+		final boolean[] isBasic = new boolean[this.mWidth];
+		for (int i = 0; i < this.mRowCount; i++) {
+			isBasic[this.mBasis[i]] = true;
+		}
+
+		for (int j = 0; j < this.mRhsColumn; j++) {
+			if (isBasic[j] || this.mIsPenalized[j] || this.mTableau[penaltyOffset + j] > EPSILON
+					|| Math.abs(this.mTableau[utilityOffset + j]) > EPSILON) {
+				continue;
+			}
+			if (j <= this.mActionCount) {
+				return true;
+			}
+			// The column changes the probabilities or the utility if one of
+			// them is basic in a row it has a coefficient in
+			for (int i = 0; i < this.mRowCount; i++) {
+				if (this.mBasis[i] <= this.mActionCount && Math.abs(this.mTableau[i * this.mWidth + j]) > EPSILON) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * First minimizes the penalized columns and then maximizes the expected
+	 * utility without increasing them again.
+	 * 
+	 * @return <tt>True</tt> if the system is feasible and an optimum was
+	 *         reached, <tt>false</tt> if it is infeasible or unbounded and
+	 *         <tt>null</tt> if the pivot limit was exceeded
+	 */
+	private Boolean optimize() {
+		final int penaltyOffset = this.mRowCount * this.mWidth;
+		final Boolean penaltyOutcome = runSimplex(penaltyOffset, false);
+		if (penaltyOutcome == null) {
+			return null;
+		}
+		if (this.mTableau[penaltyOffset + this.mRhsColumn] < -EPSILON * (1 + this.mRowCount)) {
+			return Boolean.FALSE;
+		}
+		return runSimplex(penaltyOffset + this.mWidth, true);
+	}
+
+	/**
+	 * Pivots the tableau, including both objective rows, on the given element.
+	 * The column becomes basic for the given row.
+	 * 
+	 * @param row
+	 *            Row of the pivot element
+	 * @param column
+	 *            Column of the pivot element
+	 */
+	private void pivot(final int row, final int column) {
+		final int pivotOffset = row * this.mWidth;
+		final double pivotValue = this.mTableau[pivotOffset + column];
+		for (int j = 0; j < this.mWidth; j++) {
+			this.mTableau[pivotOffset + j] /= pivotValue;
+		}
+		for (int i = 0; i < this.mRowCount + 2; i++) {
+			if (i == row) {
+				continue;
+			}
+			final int rowOffset = i * this.mWidth;
+			final double factor = this.mTableau[rowOffset + column];
+			if (factor == 0) {
+				continue;
+			}
+			for (int j = 0; j < this.mWidth; j++) {
+				this.mTableau[rowOffset + j] -= factor * this.mTableau[pivotOffset + j];
+			}
+		}
+		this.mBasis[row] = column;
+		this.mPivotsSinceBuild++;
+	}
+
+	/**
+	 * Runs the simplex method on the given objective row until it has no
+	 * negative reduced cost anymore. Ties are broken by <i>Bland's rule</i>.
+	 * 
+	 * @param objectiveOffset
+	 *            Offset of the objective row in the tableau
+	 * @param keepPenalties
+	 *            Whether only columns may enter that do not increase the
+	 *            penalized columns
+	 * @return <tt>True</tt> if an optimum was reached, <tt>false</tt> if the
+	 *         objective is unbounded and <tt>null</tt> if the pivot limit was
+	 *         exceeded
+	 */
+	private Boolean runSimplex(final int objectiveOffset, final boolean keepPenalties) {
+		final int penaltyOffset = this.mRowCount * this.mWidth;
+		final int pivotLimit = PIVOT_LIMIT_FACTOR * (this.mRowCount + this.mWidth);
+		for (int pivots = 0; pivots < pivotLimit; pivots++) {
+			int entering = -1;
+			for (int j = 0; j < this.mRhsColumn; j++) {
+				if (this.mTableau[objectiveOffset + j] >= -EPSILON) {
+					continue;
+				}
+				if (keepPenalties && (this.mIsPenalized[j] || this.mTableau[penaltyOffset + j] > EPSILON)) {
+					continue;
+				}
+				entering = j;
+				break;
+			}
+			if (entering == -1) {
+				return Boolean.TRUE;
+			}
+
+			// Ratio test, ties are broken by the smallest basic column
+			int leaving = -1;
+			double bestRatio = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < this.mRowCount; i++) {
+				final double coefficient = this.mTableau[i * this.mWidth + entering];
+				if (coefficient <= EPSILON) {
+					continue;
+				}
+				final double ratio = this.mTableau[i * this.mWidth + this.mRhsColumn] / coefficient;
+				if (leaving == -1 || ratio < bestRatio - EPSILON
+						|| (ratio <= bestRatio + EPSILON && this.mBasis[i] < this.mBasis[leaving])) {
+					leaving = i;
+					bestRatio = ratio;
+				}
+			}
+			if (leaving == -1) {
+				return Boolean.FALSE;
+			}
+			pivot(leaving, entering);
+		}
+		return null;
+	}
+
+	/**
+	 * Solves the best response system of the given support sets on its own,
+	 * without the tableau of the full system.
+	 * 
+	 * @param actions
+	 *            Bitmask of the support set of the protagonist
+	 * @param responses
+	 *            Bitmask of the support set of the antagonist
+	 * @return The probabilities of the actions in the support set of the
+	 *         protagonist, by ascending index, followed by his expected
+	 *         utility, or <tt>null</tt> if the system has no solution
+	 */
+	private double[] solveSupportSets(final long actions, final long responses) {
+		final int supportActionCount = Long.bitCount(actions);
+		final int supportResponseCount = Long.bitCount(responses);
+		final double[] payoffs = new double[supportActionCount * supportResponseCount];
+		int index = 0;
+		for (int action = 0; action < this.mActionCount; action++) {
+			if ((actions & (1L << action)) == 0) {
+				continue;
+			}
+			for (int response = 0; response < this.mResponseCount; response++) {
+				if ((responses & (1L << response)) != 0) {
+					payoffs[index] = this.mPayoffs[action * this.mResponseCount + response];
+					index++;
+				}
+			}
+		}
+		return this.mTieBreakingSolver.solveBestResponseSystem(payoffs, supportActionCount, supportResponseCount);
+	}
+
+	/**
+	 * Penalizes the columns for the given support sets and expresses both
+	 * objective rows in the current basis.
+	 * 
+	 * @param actions
+	 *            Bitmask of the support set of the protagonist
+	 * @param responses
+	 *            Bitmask of the support set of the antagonist
+	 */
+	private void updatePenalties(final long actions, final long responses) {
+		final int firstRelaxationColumn = this.mActionCount + 1 + this.mResponseCount;
+		for (int action = 0; action < this.mActionCount; action++) {
+			this.mIsPenalized[action] = (actions & (1L << action)) == 0;
+		}
+		for (int response = 0; response < this.mResponseCount; response++) {
+			this.mIsPenalized[firstRelaxationColumn + response] = (responses & (1L << response)) != 0;
+		}
+		this.mIsPenalized[this.mRhsColumn - 1] = true;
+
+		// The penalty objective maximizes the negated sum of the penalized
+		// columns, the utility objective maximizes the utility
+		final int penaltyOffset = this.mRowCount * this.mWidth;
+		final int utilityOffset = penaltyOffset + this.mWidth;
+		for (int j = 0; j < this.mWidth; j++) {
+			double penaltyCost = 0;
+			double utilityCost = 0;
+			if (j < this.mRhsColumn) {
+				if (this.mIsPenalized[j]) {
+					penaltyCost = 1;
+				}
+				if (j == this.mActionCount) {
+					utilityCost = -1;
+				}
+			}
+			for (int i = 0; i < this.mRowCount; i++) {
+				final int basic = this.mBasis[i];
+				final double value = this.mTableau[i * this.mWidth + j];
+				if (this.mIsPenalized[basic]) {
+					penaltyCost -= value;
+				}
+				if (basic == this.mActionCount) {
+					utilityCost += value;
+				}
+			}
+			this.mTableau[penaltyOffset + j] = penaltyCost;
+			this.mTableau[utilityOffset + j] = utilityCost;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This is the package for solvers of the linear programs that arise while
+ * finding nash equilibria.
+ */
+package de.tischner.nashfinder.solver;
\ No newline at end of file
@@ -0,0 +1,280 @@
+package de.tischner.nashfinder.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Prunes support set constellations of games with two players that can not
+ * hold a nash equilibrium. An action of a support set is <i>conditionally
+ * dominated</i> if another action of the same player is strictly better
+ * against every action of the antagonist support set. Such an action is never
+ * played in an equilibrium with that antagonist support set.<br/>
+ * <br/>
+ * Support sets are given as bitmasks where bit <tt>i</tt> stands for the
+ * action with index <tt>i</tt>, in the order the actions were added to the
+ * game. For every pair of actions the pruner precomputes the largest antagonist
+ * support set under which the one dominates the other. A single test against it
+ * discards the whole subtree of constellations that contain the dominated
+ * action and any subset of that antagonist support set. If the antagonist has
+ * at most {@value #MAX_CACHED_ACTIONS} actions, results of earlier checks are
+ * cached in an array indexed by the antagonist support set, otherwise they are
+ * recomputed. The pruner is thread-safe. If a player has more than
+ * {@value Long#SIZE} actions, nothing is pruned.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ConditionalDominancePruner {
+
+	/**
+	 * Maximal amount of actions of an antagonist for which the results are
+	 * cached, the cache has an entry for every support set.
+	 */
+	private static final int MAX_CACHED_ACTIONS = 12;
+
+	/**
+	 * Creates the cache of the results of a protagonist, if the antagonist
+	 * has few enough actions.
+	 * 
+	 * @param antagonistActionCount
+	 *            Amount of actions of the antagonist
+	 * @return The cache, indexed by the support set of the antagonist, where
+	 *         <tt>0</tt> stands for a result that was not computed yet, or
+	 *         <tt>null</tt> if the antagonist has too many actions
+	 */
+	private static AtomicLongArray createCache(final int antagonistActionCount) {
+		if (antagonistActionCount > MAX_CACHED_ACTIONS) {
+			return null;
+		}
+		return new AtomicLongArray(1 << antagonistActionCount);
+	}
+
+	/**
+	 * Computes, for every ordered pair of actions of a protagonist, the bitmask
+	 * of antagonist actions against which the second action is strictly
+	 * better than the first.
+	 * 
+	 * @param payoffs
+	 *            Payoffs of the protagonist, indexed by protagonist action and
+	 *            then by antagonist action
+	 * @return The bitmasks in row-major order, indexed by the dominated action
+	 *         and then by the dominating action
+	 */
+	private static long[] computeDominatingMasks(final double[][] payoffs) {
+		final int actionCount = payoffs.length;
+		final long[] masks = new long[actionCount * actionCount];
+		for (int action = 0; action < actionCount; action++) {
+			for (int other = 0; other < actionCount; other++) {
+				if (other == action) {
+					continue;
+				}
+				long mask = 0L;
+				for (int response = 0; response < payoffs[action].length; response++) {
+					if (payoffs[other][response] > payoffs[action][response]) {
+						mask |= 1L << response;
+					}
+				}
+				masks[action * actionCount + other] = mask;
+			}
+		}
+		return masks;
+	}
+
+	/**
+	 * Transposes the given matrix.
+	 * 
+	 * @param matrix
+	 *            Matrix to transpose
+	 * @return The transposed matrix
+	 */
+	private static double[][] transpose(final double[][] matrix) {
+		final int columnCount;
+		if (matrix.length == 0) {
+			columnCount = 0;
+		} else {
+			columnCount = matrix[0].length;
+		}
+		final double[][] transposed = new double[columnCount][matrix.length];
+		for (int row = 0; row < matrix.length; row++) {
+			for (int column = 0; column < columnCount; column++) {
+				transposed[column][row] = matrix[row][column];
+			}
+		}
+		return transposed;
+	}
+
+	/**
+	 * Amount of actions of the first player.
+	 */
+	private final int mFirstPlayerActionCount;
+	/**
+	 * Cache of the undominated actions of the first player, by the support
+	 * set of the second player, see {@link #createCache(int)}.
+	 */
+	private final AtomicLongArray mFirstPlayerCache;
+	/**
+	 * Dominating masks of the first player, see
+	 * {@link #computeDominatingMasks(double[][])}.
+	 */
+	private final long[] mFirstPlayerMasks;
+	/**
+	 * Whether the game is small enough to represent support sets as bitmasks.
+	 */
+	private final boolean mIsActive;
+	/**
+	 * Amount of actions of the second player.
+	 */
+	private final int mSecondPlayerActionCount;
+	/**
+	 * Cache of the undominated actions of the second player, by the support
+	 * set of the first player, see {@link #createCache(int)}.
+	 */
+	private final AtomicLongArray mSecondPlayerCache;
+	/**
+	 * Dominating masks of the second player, see
+	 * {@link #computeDominatingMasks(double[][])}.
+	 */
+	private final long[] mSecondPlayerMasks;
+
+	/**
+	 * Creates a new pruner for the game with the given payoff matrices.
+	 * 
+	 * @param firstPlayerPayoffs
+	 *            Payoff matrix of the first player, indexed by the action of
+	 *            the first player and then by the action of the second player
+	 * @param secondPlayerPayoffs
+	 *            Payoff matrix of the second player, indexed like the matrix of
+	 *            the first player
+	 */
+	public ConditionalDominancePruner(final double[][] firstPlayerPayoffs, final double[][] secondPlayerPayoffs) {
+		this.mFirstPlayerActionCount = firstPlayerPayoffs.length;
+		if (this.mFirstPlayerActionCount == 0) {
+			this.mSecondPlayerActionCount = 0;
+		} else {
+			this.mSecondPlayerActionCount = firstPlayerPayoffs[0].length;
+		}
+		this.mIsActive = this.mFirstPlayerActionCount <= Long.SIZE && this.mSecondPlayerActionCount <= Long.SIZE;
+		if (this.mIsActive) {
+			this.mFirstPlayerMasks = computeDominatingMasks(firstPlayerPayoffs);
+			this.mSecondPlayerMasks = computeDominatingMasks(transpose(secondPlayerPayoffs));
+			this.mFirstPlayerCache = createCache(this.mSecondPlayerActionCount);
+			this.mSecondPlayerCache = createCache(this.mFirstPlayerActionCount);
+		} else {
+			this.mFirstPlayerMasks = null;
+			this.mSecondPlayerMasks = null;
+			this.mFirstPlayerCache = null;
+			this.mSecondPlayerCache = null;
+		}
+	}
+
+	/**
+	 * Gets the actions of the first player that are not conditionally
+	 * dominated, given the support set of the second player.
+	 * 
+	 * @param secondPlayerSupport
+	 *            Bitmask of the support set of the second player, not empty
+	 * @return Bitmask of the actions of the first player that are not
+	 *         conditionally dominated
+	 */
+	public long getUndominatedFirstPlayerActions(final long secondPlayerSupport) {
+		if (!this.mIsActive) {
+			return -1L;
+		}
+		return getUndominatedActions(secondPlayerSupport, this.mFirstPlayerMasks, this.mFirstPlayerActionCount,
+				this.mFirstPlayerCache);
+	}
+
+	/**
+	 * Gets the actions of the second player that are not conditionally
+	 * dominated, given the support set of the first player.
+	 * 
+	 * @param firstPlayerSupport
+	 *            Bitmask of the support set of the first player, not empty
+	 * @return Bitmask of the actions of the second player that are not
+	 *         conditionally dominated
+	 */
+	public long getUndominatedSecondPlayerActions(final long firstPlayerSupport) {
+		if (!this.mIsActive) {
+			return -1L;
+		}
+		return getUndominatedActions(firstPlayerSupport, this.mSecondPlayerMasks, this.mSecondPlayerActionCount,
+				this.mSecondPlayerCache);
+	}
+
+	/**
+	 * Whether support sets are represented as bitmasks, which requires both
+	 * players to have at most {@value Long#SIZE} actions. Inactive pruners do
+	 * not prune anything.
+	 * 
+	 * @return <tt>True</tt> if the pruner is active, <tt>false</tt> otherwise
+	 */
+	public boolean isActive() {
+		return this.mIsActive;
+	}
+
+	/**
+	 * Whether the given support set constellation can be pruned since one of
+	 * its actions is conditionally dominated. No nash equilibrium plays
+	 * exactly the actions of such a constellation.
+	 * 
+	 * @param firstPlayerSupport
+	 *            Bitmask of the support set of the first player, not empty
+	 * @param secondPlayerSupport
+	 *            Bitmask of the support set of the second player, not empty
+	 * @return <tt>True</tt> if the constellation can not be the support of a
+	 *         nash equilibrium, <tt>false</tt> if it needs to be solved
+	 */
+	public boolean isPrunable(final long firstPlayerSupport, final long secondPlayerSupport) {
+		if (!this.mIsActive) {
+			return false;
+		}
+		return (firstPlayerSupport & ~getUndominatedFirstPlayerActions(secondPlayerSupport)) != 0
+				|| (secondPlayerSupport & ~getUndominatedSecondPlayerActions(firstPlayerSupport)) != 0;
+	}
+
+	/**
+	 * Gets the actions of a protagonist that are not conditionally dominated,
+	 * given the support set of the antagonist.
+	 * 
+	 * @param antagonistSupport
+	 *            Bitmask of the support set of the antagonist
+	 * @param masks
+	 *            Dominating masks of the protagonist
+	 * @param actionCount
+	 *            Amount of actions of the protagonist
+	 * @param cache
+	 *            Cache of earlier results of the protagonist or <tt>null</tt>
+	 *            if there is none
+	 * @return Bitmask of the actions of the protagonist that are not
+	 *         conditionally dominated
+	 */
+	private long getUndominatedActions(final long antagonistSupport, final long[] masks, final int actionCount,
+			final AtomicLongArray cache) {
+		if (cache != null) {
+			final long cached = cache.get((int) antagonistSupport);
+			if (cached != 0L) {
+				return cached;
+			}
+		}
+
+		long undominated = 0L;
+		for (int action = 0; action < actionCount; action++) {
+			boolean isDominated = false;
+			for (int other = 0; other < actionCount; other++) {
+				if (other != action && (antagonistSupport & ~masks[action * actionCount + other]) == 0) {
+					isDominated = true;
+					break;
+				}
+			}
+			if (!isDominated) {
+				undominated |= 1L << action;
+			}
+		}
+
+		// An action that is best against the antagonist is never dominated,
+		// such that results are never 0
+		if (cache != null) {
+			cache.set((int) antagonistSupport, undominated);
+		}
+		return undominated;
+	}
+}
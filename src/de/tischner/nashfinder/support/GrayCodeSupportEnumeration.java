@@ -0,0 +1,219 @@
+package de.tischner.nashfinder.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.metrics.EPhase;
+import de.tischner.nashfinder.metrics.ESupportOutcome;
+import de.tischner.nashfinder.metrics.SolverMetrics;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.WarmStartBestResponseSolver;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * Enumeration of all support set constellations of a game with two players in
+ * Gray-code order, where consecutive constellations differ by exactly one
+ * action. Every player has a {@link WarmStartBestResponseSolver} that stays
+ * alive during the enumeration, its best response system is thus re-solved
+ * from the previous basis within a few pivots.<br/>
+ * <br/>
+ * The constellation with Gray-code index <tt>i</tt> is given by the bitmask
+ * <tt>g = i ^ (i &gt;&gt;&gt; 1)</tt>, whose high bits are the support set of
+ * the first player and whose low bits the one of the second player. Ranges of
+ * indices can be solved independently, for example in parallel. Results are
+ * identified by the position of their constellation in the order of
+ * {@link SupportSetSpliterator}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class GrayCodeSupportEnumeration<PLAYER, ACTION> {
+
+	/**
+	 * Maximal amount of actions of both players together, such that the
+	 * amount of constellations fits into a <tt>long</tt>.
+	 */
+	private static final int MAX_TOTAL_ACTIONS = Long.SIZE - 2;
+
+	/**
+	 * The actions of the first player, by index.
+	 */
+	private final List<ACTION> mFirstActions;
+	/**
+	 * Payoffs of the first player in row-major order, one row per action of
+	 * the first player.
+	 */
+	private final double[] mFirstPayoffs;
+	/**
+	 * Game to enumerate the constellations of.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Metrics to record the visited constellations and their phases in.
+	 */
+	private final SolverMetrics mMetrics;
+	/**
+	 * Pruner that skips constellations with conditionally dominated actions or
+	 * <tt>null</tt> if no constellation is skipped.
+	 */
+	private final ConditionalDominancePruner mPruner;
+	/**
+	 * The actions of the second player, by index.
+	 */
+	private final List<ACTION> mSecondActions;
+	/**
+	 * Payoffs of the second player in row-major order, one row per action of
+	 * the second player.
+	 */
+	private final double[] mSecondPayoffs;
+
+	/**
+	 * Creates a new enumeration over the constellations of the given game.
+	 * 
+	 * @param game
+	 *            Game to enumerate the constellations of, it must have exactly
+	 *            two players
+	 * @param pruner
+	 *            Pruner that skips constellations with conditionally dominated
+	 *            actions or <tt>null</tt> if no constellation should be
+	 *            skipped
+	 * @param metrics
+	 *            Metrics to record the visited constellations in, the warm
+	 *            started solving of both players is recorded as
+	 *            {@link EPhase#LP_SOLVE} since it updates the LP in place
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 * @throws IllegalArgumentException
+	 *             If the players have too many actions to enumerate their
+	 *             constellations
+	 */
+	public GrayCodeSupportEnumeration(final StrategicGame<PLAYER, ACTION> game,
+			final ConditionalDominancePruner pruner, final SolverMetrics metrics) {
+		this.mGame = game;
+		this.mPruner = pruner;
+		this.mMetrics = metrics;
+		this.mFirstActions = new ArrayList<>(game.getPlayerActions(game.getFirstPlayer()));
+		this.mSecondActions = new ArrayList<>(game.getPlayerActions(game.getSecondPlayer()));
+		final int firstActionCount = this.mFirstActions.size();
+		final int secondActionCount = this.mSecondActions.size();
+		if (firstActionCount + secondActionCount > MAX_TOTAL_ACTIONS) {
+			throw new IllegalArgumentException(ErrorMessages.SUPPORT_ENUMERATION_TOO_LARGE + " Got: "
+					+ firstActionCount + " and " + secondActionCount);
+		}
+
+		this.mFirstPayoffs = new double[firstActionCount * secondActionCount];
+		this.mSecondPayoffs = new double[firstActionCount * secondActionCount];
+		for (int first = 0; first < firstActionCount; first++) {
+			for (int second = 0; second < secondActionCount; second++) {
+				this.mFirstPayoffs[first * secondActionCount + second] = game.getPayoff(0, first, second);
+				this.mSecondPayoffs[second * firstActionCount + first] = game.getPayoff(1, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Gets the amount of constellations, which is the exclusive upper bound of
+	 * the Gray-code indices.
+	 * 
+	 * @return The amount of constellations
+	 */
+	public long getConstellationCount() {
+		return 1L << (this.mFirstActions.size() + this.mSecondActions.size());
+	}
+
+	/**
+	 * Solves the constellations of the given range of Gray-code indices. The
+	 * solvers are created once per call and warm-started between consecutive
+	 * constellations.
+	 * 
+	 * @param fromIndex
+	 *            Inclusive first Gray-code index to solve
+	 * @param toIndex
+	 *            Exclusive last Gray-code index to solve
+	 * @param deadline
+	 *            Deadline at which solving stops, it is checked before every
+	 *            constellation
+	 * @return The found nash equilibria by the position of their
+	 *         constellation in the order of {@link SupportSetSpliterator},
+	 *         constellations without nash equilibrium are not contained
+	 */
+	public Map<Long, NashEquilibrium<PLAYER, ACTION>> solve(final long fromIndex, final long toIndex,
+			final Deadline deadline) {
+		final int firstActionCount = this.mFirstActions.size();
+		final int secondActionCount = this.mSecondActions.size();
+		final WarmStartBestResponseSolver firstSolver = new WarmStartBestResponseSolver(this.mFirstPayoffs,
+				firstActionCount, secondActionCount);
+		final WarmStartBestResponseSolver secondSolver = new WarmStartBestResponseSolver(this.mSecondPayoffs,
+				secondActionCount, firstActionCount);
+		final long secondFullSet = (1L << secondActionCount) - 1;
+		final long fullConstellation = getConstellationCount() - 1;
+
+		final Map<Long, NashEquilibrium<PLAYER, ACTION>> equilibria = new HashMap<>();
+		for (long index = fromIndex; index < toIndex; index++) {
+			if (deadline.isExpired()) {
+				break;
+			}
+			final long constellation = index ^ (index >>> 1);
+			final long firstSupport = constellation >>> secondActionCount;
+			final long secondSupport = constellation & secondFullSet;
+			this.mMetrics.startConstellation(Long.bitCount(firstSupport), Long.bitCount(secondSupport));
+			if (this.mPruner != null && this.mPruner.isPrunable(firstSupport, secondSupport)) {
+				this.mMetrics.endConstellation(ESupportOutcome.PRUNED);
+				continue;
+			}
+
+			// Player 1 against Player 2
+			long startNanos = this.mMetrics.startPhase(EPhase.LP_SOLVE);
+			final double[] firstResult = firstSolver.solve(firstSupport, secondSupport);
+			this.mMetrics.endPhase(EPhase.LP_SOLVE, startNanos);
+			if (firstResult == null) {
+				this.mMetrics.endConstellation(ESupportOutcome.INFEASIBLE);
+				continue;
+			}
+			// Player 2 against Player 1
+			startNanos = this.mMetrics.startPhase(EPhase.LP_SOLVE);
+			final double[] secondResult = secondSolver.solve(secondSupport, firstSupport);
+			this.mMetrics.endPhase(EPhase.LP_SOLVE, startNanos);
+			if (secondResult == null) {
+				this.mMetrics.endConstellation(ESupportOutcome.INFEASIBLE);
+				continue;
+			}
+
+			startNanos = this.mMetrics.startPhase(EPhase.EXTRACTION);
+			final NashEquilibrium<PLAYER, ACTION> equilibrium = NashEquilibrium.extractFromDenseResults(firstResult,
+					toActions(firstSupport, this.mFirstActions), secondResult,
+					toActions(secondSupport, this.mSecondActions), this.mGame);
+			this.mMetrics.endPhase(EPhase.EXTRACTION, startNanos);
+			this.mMetrics.endConstellation(ESupportOutcome.SOLVED);
+			equilibria.put(Long.valueOf(fullConstellation ^ constellation), equilibrium);
+		}
+		return equilibria;
+	}
+
+	/**
+	 * Gets the actions that are contained in the given support set.
+	 * 
+	 * @param supportSet
+	 *            Bitmask of the support set
+	 * @param actions
+	 *            The actions of the player, by index
+	 * @return The contained actions, by ascending index
+	 */
+	private List<ACTION> toActions(final long supportSet, final List<ACTION> actions) {
+		final List<ACTION> supportActions = new ArrayList<>(Long.bitCount(supportSet));
+		for (int i = 0; i < actions.size(); i++) {
+			if ((supportSet & (1L << i)) != 0) {
+				supportActions.add(actions.get(i));
+			}
+		}
+		return supportActions;
+	}
+}
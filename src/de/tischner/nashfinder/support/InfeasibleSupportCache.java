@@ -0,0 +1,141 @@
+package de.tischner.nashfinder.support;
+
+/**
+ * Remembers support set constellations of games with two players whose best
+ * response system of a player is infeasible, in order to skip constellations
+ * that are infeasible for the same reason without solving them.<br/>
+ * <br/>
+ * The best response system of a protagonist asks for a probability
+ * distribution over the protagonist support set that yields a non-negative
+ * expected utility against every action of the antagonist support set. If
+ * there is no such distribution, there is none over any subset of the
+ * protagonist support set against any superset of the antagonist support
+ * set either. A single record thus resolves all those constellations.<br/>
+ * <br/>
+ * Support sets are given as bitmasks where bit <tt>i</tt> stands for the
+ * action with index <tt>i</tt>, in the order the actions were added to the
+ * game. Every player keeps a bounded amount of records, the oldest record is
+ * replaced once it is exceeded. Records that are resolved by another record
+ * are not added. The cache is not thread-safe, every worker thread should use
+ * its own cache.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InfeasibleSupportCache {
+
+	/**
+	 * Bitmasks of the antagonist support sets of the records, indexed by the
+	 * protagonist player and then by the record.
+	 */
+	private final long[][] mAntagonistSets;
+	/**
+	 * Index of the record of every player that is replaced next, once the
+	 * capacity is reached.
+	 */
+	private final int[] mNextRecords;
+	/**
+	 * Bitmasks of the protagonist support sets of the records, indexed by the
+	 * protagonist player and then by the record.
+	 */
+	private final long[][] mProtagonistSets;
+	/**
+	 * Amount of records of every player.
+	 */
+	private final int[] mRecordCounts;
+
+	/**
+	 * Creates a new empty cache.
+	 * 
+	 * @param capacity
+	 *            Maximal amount of records per player
+	 */
+	public InfeasibleSupportCache(final int capacity) {
+		this.mProtagonistSets = new long[2][capacity];
+		this.mAntagonistSets = new long[2][capacity];
+		this.mRecordCounts = new int[2];
+		this.mNextRecords = new int[2];
+	}
+
+	/**
+	 * Adds the record that the best response system of the given player is
+	 * infeasible for the given constellation. Against an empty antagonist
+	 * support set, the system is unbounded instead of infeasible, such records
+	 * are ignored.
+	 * 
+	 * @param player
+	 *            Index of the protagonist player, <tt>0</tt> for the first and
+	 *            <tt>1</tt> for the second player
+	 * @param protagonistSet
+	 *            Bitmask of the support set of the protagonist
+	 * @param antagonistSet
+	 *            Bitmask of the support set of the antagonist
+	 */
+	public void addInfeasible(final int player, final long protagonistSet, final long antagonistSet) {
+		final int capacity = this.mProtagonistSets[player].length;
+		if (capacity == 0 || antagonistSet == 0L || isResolved(player, protagonistSet, antagonistSet)) {
+			return;
+		}
+		final int record;
+		if (this.mRecordCounts[player] < capacity) {
+			record = this.mRecordCounts[player];
+			this.mRecordCounts[player]++;
+		} else {
+			record = this.mNextRecords[player];
+			this.mNextRecords[player] = (record + 1) % capacity;
+		}
+		this.mProtagonistSets[player][record] = protagonistSet;
+		this.mAntagonistSets[player][record] = antagonistSet;
+	}
+
+	/**
+	 * Removes all records.
+	 */
+	public void clear() {
+		this.mRecordCounts[0] = 0;
+		this.mRecordCounts[1] = 0;
+		this.mNextRecords[0] = 0;
+		this.mNextRecords[1] = 0;
+	}
+
+	/**
+	 * Whether the best response system of a player is known to be infeasible
+	 * for the given constellation.
+	 * 
+	 * @param firstSet
+	 *            Bitmask of the support set of the first player
+	 * @param secondSet
+	 *            Bitmask of the support set of the second player
+	 * @return <tt>True</tt> if the constellation is resolved by a record and
+	 *         has no nash equilibrium, <tt>false</tt> if it is unknown
+	 */
+	public boolean isInfeasible(final long firstSet, final long secondSet) {
+		return isResolved(0, firstSet, secondSet) || isResolved(1, secondSet, firstSet);
+	}
+
+	/**
+	 * Whether a record of the given player resolves the given constellation,
+	 * i.e. whether its protagonist support set is a superset and its
+	 * antagonist support set a subset of the given ones.
+	 * 
+	 * @param player
+	 *            Index of the protagonist player
+	 * @param protagonistSet
+	 *            Bitmask of the support set of the protagonist
+	 * @param antagonistSet
+	 *            Bitmask of the support set of the antagonist
+	 * @return <tt>True</tt> if a record resolves the constellation,
+	 *         <tt>false</tt> otherwise
+	 */
+	private boolean isResolved(final int player, final long protagonistSet, final long antagonistSet) {
+		final long[] protagonistSets = this.mProtagonistSets[player];
+		final long[] antagonistSets = this.mAntagonistSets[player];
+		for (int record = 0; record < this.mRecordCounts[player]; record++) {
+			if ((protagonistSet & ~protagonistSets[record]) == 0L
+					&& (antagonistSets[record] & ~antagonistSet) == 0L) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,243 @@
+package de.tischner.nashfinder.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * Finds nash equilibria of games with two players by the support enumeration
+ * order of <i>Porter, Nudelman and Shoham</i>. Support sets are visited by the
+ * difference of their sizes first and by their total size second, such that
+ * balanced and small support sets, which hold equilibria most often, are
+ * checked first. Constellations with a conditionally dominated action are
+ * pruned before they are solved. Constellations of single actions are not
+ * enumerated, the pure equilibria are found by a
+ * {@link PureEquilibriumScanner} instead. The search stops once a given
+ * amount of equilibria was found.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class PorterNudelmanShohamSearch<PLAYER, ACTION> {
+
+	/**
+	 * Creates the first combination of the given size, which consists of the
+	 * smallest indices.
+	 * 
+	 * @param size
+	 *            Size of the combination
+	 * @return The first combination of the given size
+	 */
+	private static int[] firstCombination(final int size) {
+		final int[] combination = new int[size];
+		for (int i = 0; i < size; i++) {
+			combination[i] = i;
+		}
+		return combination;
+	}
+
+	/**
+	 * Advances the given combination to its lexicographic successor.
+	 * 
+	 * @param combination
+	 *            Combination of ascending indices to advance in place
+	 * @param elementCount
+	 *            Amount of elements the indices are chosen from
+	 * @return <tt>True</tt> if the combination was advanced, <tt>false</tt> if
+	 *         it was the last one
+	 */
+	private static boolean nextCombination(final int[] combination, final int elementCount) {
+		final int size = combination.length;
+		int position = size - 1;
+		while (position >= 0 && combination[position] == elementCount - size + position) {
+			position--;
+		}
+		if (position < 0) {
+			return false;
+		}
+		combination[position]++;
+		for (int i = position + 1; i < size; i++) {
+			combination[i] = combination[i - 1] + 1;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the bitmask of the given indices.
+	 * 
+	 * @param indices
+	 *            Indices to set in the bitmask, each smaller than
+	 *            {@value Long#SIZE}
+	 * @return The bitmask with the bits of the given indices set
+	 */
+	private static long toBitmask(final int[] indices) {
+		long mask = 0L;
+		for (final int index : indices) {
+			mask |= 1L << index;
+		}
+		return mask;
+	}
+
+	/**
+	 * Pruner that discards constellations with conditionally dominated
+	 * actions.
+	 */
+	private final ConditionalDominancePruner mPruner;
+	/**
+	 * Scanner that finds the constellations of single actions that hold a pure
+	 * nash equilibrium.
+	 */
+	private final PureEquilibriumScanner<PLAYER, ACTION> mScanner;
+	/**
+	 * Solver that checks single support set constellations.
+	 */
+	private final SupportFeasibilitySolver<PLAYER, ACTION> mSolver;
+
+	/**
+	 * Creates a new search for the given game.
+	 * 
+	 * @param game
+	 *            Game to solve, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public PorterNudelmanShohamSearch(final StrategicGame<PLAYER, ACTION> game) {
+		this.mSolver = new SupportFeasibilitySolver<>(game);
+		this.mPruner = new ConditionalDominancePruner(this.mSolver.getFirstPlayerPayoffs(),
+				this.mSolver.getSecondPlayerPayoffs());
+		this.mScanner = new PureEquilibriumScanner<>(game);
+	}
+
+	/**
+	 * Searches nash equilibria in the order of <i>Porter, Nudelman and
+	 * Shoham</i>.
+	 * 
+	 * @param maxEquilibria
+	 *            Maximal amount of equilibria to find, the search stops once it
+	 *            is reached
+	 * @param deadline
+	 *            Deadline at which the search stops, it is checked before
+	 *            every constellation
+	 * @return The equilibria that were found, in the order they were found
+	 * @throws IllegalArgumentException
+	 *             If the maximal amount is smaller than <tt>1</tt>
+	 */
+	public List<NashEquilibrium<PLAYER, ACTION>> solve(final int maxEquilibria, final Deadline deadline) {
+		if (maxEquilibria < 1) {
+			throw new IllegalArgumentException(ErrorMessages.MAX_EQUILIBRIA_ILLEGAL + " Got: " + maxEquilibria);
+		}
+		final int firstPlayerActionCount = this.mSolver.getFirstPlayerActionCount();
+		final int secondPlayerActionCount = this.mSolver.getSecondPlayerActionCount();
+		final Set<NashEquilibrium<PLAYER, ACTION>> equilibria = new LinkedHashSet<>();
+
+		// Pure equilibria come first, only the scanned profiles are solved
+		for (final int profile : this.mScanner.scan(maxEquilibria)) {
+			if (deadline.isExpired()) {
+				return new ArrayList<>(equilibria);
+			}
+			final NashEquilibrium<PLAYER, ACTION> equilibrium = this.mSolver.solve(
+					new int[] { profile / secondPlayerActionCount }, new int[] { profile % secondPlayerActionCount });
+			if (equilibrium != null) {
+				equilibria.add(equilibrium);
+			}
+		}
+		if (equilibria.size() >= maxEquilibria) {
+			return new ArrayList<>(equilibria);
+		}
+
+		// Sizes are visited by their difference and then by their total
+		final int maxDifference = Math.max(firstPlayerActionCount, secondPlayerActionCount) - 1;
+		for (int difference = 0; difference <= maxDifference; difference++) {
+			for (int total = 2; total <= firstPlayerActionCount + secondPlayerActionCount; total++) {
+				if ((total + difference) % 2 != 0) {
+					continue;
+				}
+				final int largerSize = (total + difference) / 2;
+				final int smallerSize = total - largerSize;
+				if (smallerSize < 1 || largerSize == 1) {
+					continue;
+				}
+				if (!solveSizes(largerSize, smallerSize, maxEquilibria, deadline, equilibria)) {
+					return new ArrayList<>(equilibria);
+				}
+				if (difference != 0 && !solveSizes(smallerSize, largerSize, maxEquilibria, deadline, equilibria)) {
+					return new ArrayList<>(equilibria);
+				}
+			}
+		}
+		return new ArrayList<>(equilibria);
+	}
+
+	/**
+	 * Solves all support set constellations with the given sizes.
+	 * 
+	 * @param firstPlayerSize
+	 *            Size of the support sets of the first player
+	 * @param secondPlayerSize
+	 *            Size of the support sets of the second player
+	 * @param maxEquilibria
+	 *            Maximal amount of equilibria to find
+	 * @param deadline
+	 *            Deadline at which the search stops
+	 * @param equilibria
+	 *            Equilibria that were found so far, new ones are added
+	 * @return <tt>True</tt> if the search should continue, <tt>false</tt> if
+	 *         the maximal amount of equilibria was reached or the deadline
+	 *         expired
+	 */
+	private boolean solveSizes(final int firstPlayerSize, final int secondPlayerSize, final int maxEquilibria,
+			final Deadline deadline, final Set<NashEquilibrium<PLAYER, ACTION>> equilibria) {
+		final int firstPlayerActionCount = this.mSolver.getFirstPlayerActionCount();
+		final int secondPlayerActionCount = this.mSolver.getSecondPlayerActionCount();
+		if (firstPlayerSize > firstPlayerActionCount || secondPlayerSize > secondPlayerActionCount) {
+			return true;
+		}
+
+		final int[] firstPlayerSupport = firstCombination(firstPlayerSize);
+		do {
+			// Actions of the second player that are dominated given the support
+			// set of the first player discard all of their constellations
+			long allowedSecondPlayerActions = -1L;
+			if (this.mPruner.isActive()) {
+				allowedSecondPlayerActions = this.mPruner
+						.getUndominatedSecondPlayerActions(toBitmask(firstPlayerSupport));
+				if (Long.bitCount(allowedSecondPlayerActions) < secondPlayerSize) {
+					continue;
+				}
+			}
+
+			final int[] secondPlayerSupport = firstCombination(secondPlayerSize);
+			do {
+				if (this.mPruner.isActive()) {
+					final long secondPlayerMask = toBitmask(secondPlayerSupport);
+					if ((secondPlayerMask & ~allowedSecondPlayerActions) != 0 || this.mPruner
+							.isPrunable(toBitmask(firstPlayerSupport), secondPlayerMask)) {
+						continue;
+					}
+				}
+				if (deadline.isExpired()) {
+					return false;
+				}
+				final NashEquilibrium<PLAYER, ACTION> equilibrium = this.mSolver.solve(firstPlayerSupport,
+						secondPlayerSupport);
+				if (equilibrium != null) {
+					equilibria.add(equilibrium);
+					if (equilibria.size() >= maxEquilibria) {
+						return false;
+					}
+				}
+			} while (nextCombination(secondPlayerSupport, secondPlayerActionCount));
+		} while (nextCombination(firstPlayerSupport, firstPlayerActionCount));
+		return true;
+	}
+}
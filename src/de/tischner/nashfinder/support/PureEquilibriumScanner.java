@@ -0,0 +1,147 @@
+package de.tischner.nashfinder.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Finds all pure nash equilibria of a game with two players by scanning its
+ * payoffs for mutual best responses. A first pass computes the best payoff of
+ * the first player against every action of the second player and vice versa,
+ * a second pass collects the action profiles where both players play a best
+ * response. Both passes visit the payoffs of the game in row-major order,
+ * without solving any <i>linear program</i> and without copying the payoffs,
+ * which takes <tt>O(m*n)</tt> time for <tt>m</tt> and <tt>n</tt> actions.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class PureEquilibriumScanner<PLAYER, ACTION> {
+
+	/**
+	 * Actions of the first player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mFirstPlayerActions;
+	/**
+	 * Game to scan.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Actions of the second player, in the order they were added to the game.
+	 */
+	private final List<ACTION> mSecondPlayerActions;
+
+	/**
+	 * Creates a new scanner for the given game.
+	 * 
+	 * @param game
+	 *            Game to scan, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public PureEquilibriumScanner(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		this.mFirstPlayerActions = new ArrayList<>(game.getPlayerActions(firstPlayer));
+		this.mSecondPlayerActions = new ArrayList<>(game.getPlayerActions(secondPlayer));
+	}
+
+	/**
+	 * Scans the game for action profiles that are pure nash equilibria. The
+	 * profiles are returned by their index in row-major order, which is
+	 * <tt>firstPlayerAction * n + secondPlayerAction</tt> for <tt>n</tt>
+	 * actions of the second player.
+	 * 
+	 * @param maxEquilibria
+	 *            Maximal amount of equilibria to find, the scan stops once it
+	 *            is reached
+	 * @return The indices of the action profiles that are pure nash
+	 *         equilibria, in ascending order
+	 * @throws IllegalArgumentException
+	 *             If the maximal amount is smaller than <tt>1</tt>
+	 */
+	public int[] scan(final int maxEquilibria) {
+		if (maxEquilibria < 1) {
+			throw new IllegalArgumentException(ErrorMessages.MAX_EQUILIBRIA_ILLEGAL + " Got: " + maxEquilibria);
+		}
+		final int rowCount = this.mFirstPlayerActions.size();
+		final int columnCount = this.mSecondPlayerActions.size();
+
+		// Best payoff of the first player per column and of the second player
+		// per row
+		final int[] bestFirstPayoffs = new int[columnCount];
+		Arrays.fill(bestFirstPayoffs, Integer.MIN_VALUE);
+		final int[] bestSecondPayoffs = new int[rowCount];
+		for (int row = 0; row < rowCount; row++) {
+			int bestSecondPayoff = Integer.MIN_VALUE;
+			for (int column = 0; column < columnCount; column++) {
+				final int firstPayoff = this.mGame.getPayoff(0, row, column);
+				if (firstPayoff > bestFirstPayoffs[column]) {
+					bestFirstPayoffs[column] = firstPayoff;
+				}
+				final int secondPayoff = this.mGame.getPayoff(1, row, column);
+				if (secondPayoff > bestSecondPayoff) {
+					bestSecondPayoff = secondPayoff;
+				}
+			}
+			bestSecondPayoffs[row] = bestSecondPayoff;
+		}
+
+		// Collect the mutual best responses
+		int[] profiles = new int[Math.max(1, Math.min(Math.min(rowCount, columnCount), maxEquilibria))];
+		int profileCount = 0;
+		for (int row = 0; row < rowCount; row++) {
+			for (int column = 0; column < columnCount; column++) {
+				if (this.mGame.getPayoff(1, row, column) != bestSecondPayoffs[row]
+						|| this.mGame.getPayoff(0, row, column) != bestFirstPayoffs[column]) {
+					continue;
+				}
+				if (profileCount == profiles.length) {
+					profiles = Arrays.copyOf(profiles, 2 * profiles.length);
+				}
+				profiles[profileCount] = row * columnCount + column;
+				profileCount++;
+				if (profileCount >= maxEquilibria) {
+					return Arrays.copyOf(profiles, profileCount);
+				}
+			}
+		}
+		return Arrays.copyOf(profiles, profileCount);
+	}
+
+	/**
+	 * Finds the pure nash equilibria of the game. The strategies of the
+	 * equilibria only consist of the played actions.
+	 * 
+	 * @param maxEquilibria
+	 *            Maximal amount of equilibria to find, the scan stops once it
+	 *            is reached
+	 * @return The pure nash equilibria, in row-major order of their action
+	 *         profiles
+	 * @throws IllegalArgumentException
+	 *             If the maximal amount is smaller than <tt>1</tt>
+	 */
+	public List<NashEquilibrium<PLAYER, ACTION>> solve(final int maxEquilibria) {
+		final int columnCount = this.mSecondPlayerActions.size();
+		final int[] profiles = scan(maxEquilibria);
+		final List<NashEquilibrium<PLAYER, ACTION>> equilibria = new ArrayList<>(profiles.length);
+		for (final int profile : profiles) {
+			final int row = profile / columnCount;
+			final int column = profile % columnCount;
+			equilibria.add(NashEquilibrium.createFromPureStrategies(this.mFirstPlayerActions.get(row),
+					this.mGame.getPayoff(0, row, column), this.mSecondPlayerActions.get(column),
+					this.mGame.getPayoff(1, row, column), this.mGame));
+		}
+		return equilibria;
+	}
+}
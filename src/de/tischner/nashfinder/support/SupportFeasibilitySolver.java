@@ -0,0 +1,416 @@
+package de.tischner.nashfinder.support;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.DenseLpSolver;
+import de.tischner.nashfinder.solver.ERelation;
+import de.tischner.nashfinder.util.MathUtil;
+
+/**
+ * Checks whether a support set constellation of a game with two players holds
+ * a nash equilibrium. For every player a feasibility program is solved which
+ * makes the player indifferent between the actions of his support set and not
+ * better off with any other action, given a strategy of the antagonist that
+ * plays every action of the antagonist support set with a positive
+ * probability.<br/>
+ * <br/>
+ * If both support sets have the same size, which is always the case for
+ * equilibria of nondegenerate games, the indifference conditions form a square
+ * linear system. It is solved directly by Gaussian elimination and its unique
+ * solution is checked against the remaining conditions. The feasibility
+ * program is only used if the system is singular, or if the support sets
+ * differ in size.<br/>
+ * <br/>
+ * Support sets are given as indices of actions, in the order the actions were
+ * added to the game. The solver reuses its LP tableau and is thus not
+ * thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class SupportFeasibilitySolver<PLAYER, ACTION> {
+
+	/**
+	 * Minimal probability every action of a support set must be played with.
+	 */
+	private static final double MIN_PROBABILITY = 1e-9;
+	/**
+	 * Result of {@link #solveSquareIndifference(int[], int, int[], boolean)}
+	 * if the square system has a unique solution that violates the
+	 * conditions.
+	 */
+	private static final double[] NO_SOLUTION = new double[0];
+	/**
+	 * Tolerance, relative to the largest payoff, below which a pivot of the
+	 * square system counts as zero.
+	 */
+	private static final double SINGULAR_TOLERANCE = 1e-9;
+	/**
+	 * Tolerance, relative to the expected utility, for the best response
+	 * conditions of the square system.
+	 */
+	private static final double UTILITY_TOLERANCE = 1e-9;
+
+	/**
+	 * Payoff matrix of the first player.
+	 */
+	private final double[][] mFirstPayoffs;
+	/**
+	 * Amount of actions of the first player.
+	 */
+	private final int mFirstPlayerActionCount;
+	/**
+	 * Shift that makes all payoffs of the first player positive.
+	 */
+	private final double mFirstShift;
+	/**
+	 * Game to solve.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Payoff matrix of the second player.
+	 */
+	private final double[][] mSecondPayoffs;
+	/**
+	 * Amount of actions of the second player.
+	 */
+	private final int mSecondPlayerActionCount;
+	/**
+	 * Shift that makes all payoffs of the second player positive.
+	 */
+	private final double mSecondShift;
+	/**
+	 * Solver for the feasibility programs.
+	 */
+	private final DenseLpSolver mSolver;
+
+	/**
+	 * Creates a new solver for the given game.
+	 * 
+	 * @param game
+	 *            Game to solve, it must have exactly two players
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public SupportFeasibilitySolver(final StrategicGame<PLAYER, ACTION> game) {
+		this.mGame = game;
+		final PLAYER firstPlayer = game.getFirstPlayer();
+		final PLAYER secondPlayer = game.getSecondPlayer();
+
+		this.mFirstPayoffs = game.getPayoffMatrix(firstPlayer);
+		this.mSecondPayoffs = game.getPayoffMatrix(secondPlayer);
+		this.mFirstPlayerActionCount = game.getPlayerActions(firstPlayer).size();
+		this.mSecondPlayerActionCount = game.getPlayerActions(secondPlayer).size();
+		this.mFirstShift = MathUtil.computePositiveShift(this.mFirstPayoffs);
+		this.mSecondShift = MathUtil.computePositiveShift(this.mSecondPayoffs);
+		this.mSolver = new DenseLpSolver();
+	}
+
+	/**
+	 * Gets the amount of actions of the first player.
+	 * 
+	 * @return The amount of actions of the first player
+	 */
+	public int getFirstPlayerActionCount() {
+		return this.mFirstPlayerActionCount;
+	}
+
+	/**
+	 * Gets the amount of actions of the second player.
+	 * 
+	 * @return The amount of actions of the second player
+	 */
+	public int getSecondPlayerActionCount() {
+		return this.mSecondPlayerActionCount;
+	}
+
+	/**
+	 * Solves the given support set constellation.
+	 * 
+	 * @param firstPlayerSupport
+	 *            Indices of the actions in the support set of the first player,
+	 *            not empty
+	 * @param secondPlayerSupport
+	 *            Indices of the actions in the support set of the second
+	 *            player, not empty
+	 * @return The nash equilibrium whose support sets are exactly the given
+	 *         ones or <tt>null</tt> if there is no such equilibrium
+	 */
+	public NashEquilibrium<PLAYER, ACTION> solve(final int[] firstPlayerSupport, final int[] secondPlayerSupport) {
+		// The strategy of the second player makes the first player indifferent
+		final double[] secondPlayerResult = solveIndifference(firstPlayerSupport, this.mFirstPlayerActionCount,
+				secondPlayerSupport, false);
+		if (secondPlayerResult == null) {
+			return null;
+		}
+		// The strategy of the first player makes the second player indifferent
+		final double[] firstPlayerResult = solveIndifference(secondPlayerSupport, this.mSecondPlayerActionCount,
+				firstPlayerSupport, true);
+		if (firstPlayerResult == null) {
+			return null;
+		}
+
+		final double[] firstPlayerStrategy = new double[this.mFirstPlayerActionCount];
+		for (int i = 0; i < firstPlayerSupport.length; i++) {
+			firstPlayerStrategy[firstPlayerSupport[i]] = firstPlayerResult[i];
+		}
+		final double[] secondPlayerStrategy = new double[this.mSecondPlayerActionCount];
+		for (int i = 0; i < secondPlayerSupport.length; i++) {
+			secondPlayerStrategy[secondPlayerSupport[i]] = secondPlayerResult[i];
+		}
+		final double firstPlayerUtility = secondPlayerResult[secondPlayerSupport.length] - this.mFirstShift;
+		final double secondPlayerUtility = firstPlayerResult[firstPlayerSupport.length] - this.mSecondShift;
+
+		return NashEquilibrium.createFromMixedStrategies(firstPlayerStrategy, firstPlayerUtility, secondPlayerStrategy,
+				secondPlayerUtility, this.mGame);
+	}
+
+	/**
+	 * Gets the payoff matrix of the first player.
+	 * 
+	 * @return The payoff matrix of the first player, indexed by the action of
+	 *         the first player and then by the action of the second player
+	 */
+	double[][] getFirstPlayerPayoffs() {
+		return this.mFirstPayoffs;
+	}
+
+	/**
+	 * Gets the payoff matrix of the second player.
+	 * 
+	 * @return The payoff matrix of the second player, indexed by the action
+	 *         of the first player and then by the action of the second player
+	 */
+	double[][] getSecondPlayerPayoffs() {
+		return this.mSecondPayoffs;
+	}
+
+	/**
+	 * Gets the shifted payoff of a protagonist if he plays a given action and
+	 * the antagonist the given response.
+	 * 
+	 * @param action
+	 *            Index of the action of the protagonist
+	 * @param response
+	 *            Index of the action of the antagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return The shifted payoff of the protagonist
+	 */
+	private double getShiftedPayoff(final int action, final int response, final boolean isSecondPlayerProtagonist) {
+		if (isSecondPlayerProtagonist) {
+			return this.mSecondPayoffs[response][action] + this.mSecondShift;
+		}
+		return this.mFirstPayoffs[action][response] + this.mFirstShift;
+	}
+
+	/**
+	 * Solves the feasibility program for a strategy of the antagonist on his
+	 * support set that makes the protagonist indifferent between the actions
+	 * of his support set and not better off with any other action. The
+	 * minimal probability of the antagonist strategy is maximized, the program
+	 * is only accepted if it is positive.
+	 * 
+	 * @param protagonistSupport
+	 *            Indices of the actions in the support set of the protagonist
+	 * @param protagonistActionCount
+	 *            Amount of actions of the protagonist
+	 * @param antagonistSupport
+	 *            Indices of the actions in the support set of the antagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return The probabilities of the actions in the support set of the
+	 *         antagonist, followed by the shifted expected utility of the
+	 *         protagonist, or <tt>null</tt> if there is no such strategy
+	 */
+	private double[] solveIndifference(final int[] protagonistSupport, final int protagonistActionCount,
+			final int[] antagonistSupport, final boolean isSecondPlayerProtagonist) {
+		if (protagonistSupport.length == antagonistSupport.length) {
+			final double[] solution = solveSquareIndifference(protagonistSupport, protagonistActionCount,
+					antagonistSupport, isSecondPlayerProtagonist);
+			if (solution == NO_SOLUTION) {
+				return null;
+			}
+			if (solution != null) {
+				return solution;
+			}
+			// The system is singular, the game is degenerate
+		}
+
+		final int supportSize = antagonistSupport.length;
+		// Probabilities, followed by the utility and the minimal probability
+		final int utilityVar = supportSize;
+		final int minProbabilityVar = supportSize + 1;
+		final int variableCount = supportSize + 2;
+		final int rowCount = protagonistActionCount + 1 + supportSize;
+		final double[] constraints = new double[rowCount * variableCount];
+		final ERelation[] relations = new ERelation[rowCount];
+		final double[] rightHandSides = new double[rowCount];
+
+		// Indifference on the support set, no better action outside of it
+		final boolean[] isInSupport = new boolean[protagonistActionCount];
+		for (final int action : protagonistSupport) {
+			isInSupport[action] = true;
+		}
+		for (int action = 0; action < protagonistActionCount; action++) {
+			final int rowOffset = action * variableCount;
+			for (int i = 0; i < supportSize; i++) {
+				constraints[rowOffset + i] = getShiftedPayoff(action, antagonistSupport[i], isSecondPlayerProtagonist);
+			}
+			constraints[rowOffset + utilityVar] = -1;
+			if (isInSupport[action]) {
+				relations[action] = ERelation.EQUAL;
+			} else {
+				relations[action] = ERelation.LESS_EQUAL;
+			}
+		}
+
+		// Correct chance distribution
+		int row = protagonistActionCount;
+		for (int i = 0; i < supportSize; i++) {
+			constraints[row * variableCount + i] = 1;
+		}
+		relations[row] = ERelation.EQUAL;
+		rightHandSides[row] = 1;
+		row++;
+
+		// Every action of the support set is played
+		for (int i = 0; i < supportSize; i++) {
+			constraints[row * variableCount + i] = 1;
+			constraints[row * variableCount + minProbabilityVar] = -1;
+			relations[row] = ERelation.GREATER_EQUAL;
+			row++;
+		}
+
+		final double[] objective = new double[variableCount];
+		objective[minProbabilityVar] = 1;
+		final double[] solution = this.mSolver.maximize(objective, constraints, relations, rightHandSides, rowCount,
+				variableCount);
+		if (solution == null || solution[minProbabilityVar] < MIN_PROBABILITY) {
+			return null;
+		}
+		return solution;
+	}
+
+	/**
+	 * Solves the indifference conditions for support sets of equal size
+	 * directly. The probabilities of the antagonist support set and the
+	 * utility of the protagonist are the unique solution of the square system
+	 * that makes the protagonist indifferent between the actions of his
+	 * support set, together with the correct chance distribution. The system
+	 * is solved by Gaussian elimination with partial pivoting, afterwards the
+	 * probabilities are checked to be positive and no other action of the
+	 * protagonist to be better.
+	 * 
+	 * @param protagonistSupport
+	 *            Indices of the actions in the support set of the protagonist
+	 * @param protagonistActionCount
+	 *            Amount of actions of the protagonist
+	 * @param antagonistSupport
+	 *            Indices of the actions in the support set of the antagonist,
+	 *            as many as in the support set of the protagonist
+	 * @param isSecondPlayerProtagonist
+	 *            Whether the second player is the protagonist
+	 * @return The probabilities of the actions in the support set of the
+	 *         antagonist, followed by the shifted expected utility of the
+	 *         protagonist, {@link #NO_SOLUTION} if the unique solution
+	 *         violates the conditions or <tt>null</tt> if the system is
+	 *         singular
+	 */
+	private double[] solveSquareIndifference(final int[] protagonistSupport, final int protagonistActionCount,
+			final int[] antagonistSupport, final boolean isSecondPlayerProtagonist) {
+		final int supportSize = antagonistSupport.length;
+		final int size = supportSize + 1;
+		final int width = size + 1;
+		// Augmented matrix, probabilities followed by the utility and the
+		// right hand side
+		final double[] system = new double[size * width];
+		double largestPayoff = 1;
+		for (int row = 0; row < supportSize; row++) {
+			final int rowOffset = row * width;
+			for (int i = 0; i < supportSize; i++) {
+				final double payoff = getShiftedPayoff(protagonistSupport[row], antagonistSupport[i],
+						isSecondPlayerProtagonist);
+				system[rowOffset + i] = payoff;
+				largestPayoff = Math.max(largestPayoff, payoff);
+			}
+			system[rowOffset + supportSize] = -1;
+		}
+		final int distributionOffset = supportSize * width;
+		for (int i = 0; i < supportSize; i++) {
+			system[distributionOffset + i] = 1;
+		}
+		system[distributionOffset + size] = 1;
+
+		// Forward elimination with partial pivoting
+		for (int column = 0; column < size; column++) {
+			int pivotRow = column;
+			for (int row = column + 1; row < size; row++) {
+				if (Math.abs(system[row * width + column]) > Math.abs(system[pivotRow * width + column])) {
+					pivotRow = row;
+				}
+			}
+			if (Math.abs(system[pivotRow * width + column]) < SINGULAR_TOLERANCE * largestPayoff) {
+				return null;
+			}
+			if (pivotRow != column) {
+				for (int j = column; j < width; j++) {
+					final double value = system[column * width + j];
+					system[column * width + j] = system[pivotRow * width + j];
+					system[pivotRow * width + j] = value;
+				}
+			}
+			final double pivot = system[column * width + column];
+			for (int row = column + 1; row < size; row++) {
+				final double factor = system[row * width + column] / pivot;
+				if (factor == 0) {
+					continue;
+				}
+				for (int j = column; j < width; j++) {
+					system[row * width + j] -= factor * system[column * width + j];
+				}
+			}
+		}
+
+		// Back substitution
+		final double[] solution = new double[size];
+		for (int row = size - 1; row >= 0; row--) {
+			double value = system[row * width + size];
+			for (int j = row + 1; j < size; j++) {
+				value -= system[row * width + j] * solution[j];
+			}
+			solution[row] = value / system[row * width + row];
+		}
+
+		// Every action of the support set is played
+		for (int i = 0; i < supportSize; i++) {
+			if (solution[i] < MIN_PROBABILITY) {
+				return NO_SOLUTION;
+			}
+		}
+		// No action outside of the support set is better
+		final double utility = solution[supportSize];
+		final boolean[] isInSupport = new boolean[protagonistActionCount];
+		for (final int action : protagonistSupport) {
+			isInSupport[action] = true;
+		}
+		for (int action = 0; action < protagonistActionCount; action++) {
+			if (isInSupport[action]) {
+				continue;
+			}
+			double expectedPayoff = 0;
+			for (int i = 0; i < supportSize; i++) {
+				expectedPayoff += getShiftedPayoff(action, antagonistSupport[i], isSecondPlayerProtagonist)
+						* solution[i];
+			}
+			if (expectedPayoff > utility + UTILITY_TOLERANCE * Math.abs(utility)) {
+				return NO_SOLUTION;
+			}
+		}
+		return solution;
+	}
+}
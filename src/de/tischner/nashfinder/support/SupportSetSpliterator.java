@@ -0,0 +1,244 @@
+package de.tischner.nashfinder.support;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+import de.tischner.nashfinder.locale.ErrorMessages;
+
+/**
+ * Lazy spliterator over all support set constellations of a game with two
+ * players. Every constellation consists of the support set of the first
+ * player followed by the one of the second player, in compact bitmask form.
+ * The constellations are not materialized, each is computed from its position
+ * in constant time and memory. Splitting halves the remaining range, which
+ * allows to solve constellations in parallel.<br/>
+ * <br/>
+ * The constellations come in the order of the cartesian product of the power
+ * sets of both players, support sets are visited from the full set down to
+ * the empty set by descending bitmask. Spliterators over the symmetric
+ * constellations of a game instead visit the power set of the actions once,
+ * every constellation then consists of the same support set for both
+ * players.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SupportSetSpliterator implements Spliterator<CompactSupportSet[]> {
+
+	/**
+	 * Maximal amount of actions of both players together, such that the
+	 * amount of constellations fits into a <tt>long</tt>.
+	 */
+	private static final int MAX_TOTAL_ACTIONS = Long.SIZE - 2;
+
+	/**
+	 * Creates a spliterator over all support set constellations of a game with
+	 * the given amount of actions.
+	 * 
+	 * @param firstPlayerActionCount
+	 *            Amount of actions of the first player
+	 * @param secondPlayerActionCount
+	 *            Amount of actions of the second player
+	 * @return A spliterator over all constellations
+	 * @throws IllegalArgumentException
+	 *             If the players have too many actions to enumerate their
+	 *             constellations
+	 */
+	public static SupportSetSpliterator allConstellations(final int firstPlayerActionCount,
+			final int secondPlayerActionCount) {
+		if (firstPlayerActionCount + secondPlayerActionCount > MAX_TOTAL_ACTIONS) {
+			throw new IllegalArgumentException(ErrorMessages.SUPPORT_ENUMERATION_TOO_LARGE + " Got: "
+					+ firstPlayerActionCount + " and " + secondPlayerActionCount);
+		}
+		return new SupportSetSpliterator(secondPlayerActionCount, (1L << firstPlayerActionCount) - 1,
+				(1L << secondPlayerActionCount) - 1, 0L, 1L << (firstPlayerActionCount + secondPlayerActionCount),
+				false);
+	}
+
+	/**
+	 * Creates a spliterator over the symmetric support set constellations of a
+	 * game where both players have the given amount of actions. Both players
+	 * use the same support set in every constellation.
+	 * 
+	 * @param actionCount
+	 *            Amount of actions of every player
+	 * @return A spliterator over all symmetric constellations
+	 * @throws IllegalArgumentException
+	 *             If the players have too many actions to enumerate their
+	 *             constellations
+	 */
+	public static SupportSetSpliterator symmetricConstellations(final int actionCount) {
+		if (actionCount > MAX_TOTAL_ACTIONS) {
+			throw new IllegalArgumentException(
+					ErrorMessages.SUPPORT_ENUMERATION_TOO_LARGE + " Got: " + actionCount + " and " + actionCount);
+		}
+		final long fullSet = (1L << actionCount) - 1;
+		return new SupportSetSpliterator(actionCount, fullSet, fullSet, 0L, 1L << actionCount, true);
+	}
+
+	/**
+	 * Exclusive end position of the range of this spliterator.
+	 */
+	private final long mEnd;
+	/**
+	 * Bitmask of all actions of the first player.
+	 */
+	private final long mFirstPlayerFullSet;
+	/**
+	 * Whether both players use the same support set in every constellation.
+	 */
+	private final boolean mIsSymmetric;
+	/**
+	 * Position of the next constellation.
+	 */
+	private long mPosition;
+	/**
+	 * Amount of actions of the second player.
+	 */
+	private final int mSecondPlayerActionCount;
+	/**
+	 * Bitmask of all actions of the second player.
+	 */
+	private final long mSecondPlayerFullSet;
+
+	/**
+	 * Creates a new spliterator over the given range of constellations.
+	 * 
+	 * @param secondPlayerActionCount
+	 *            Amount of actions of the second player
+	 * @param firstPlayerFullSet
+	 *            Bitmask of all actions of the first player
+	 * @param secondPlayerFullSet
+	 *            Bitmask of all actions of the second player
+	 * @param start
+	 *            Inclusive start position of the range
+	 * @param end
+	 *            Exclusive end position of the range
+	 * @param isSymmetric
+	 *            Whether both players use the same support set in every
+	 *            constellation
+	 */
+	private SupportSetSpliterator(final int secondPlayerActionCount, final long firstPlayerFullSet,
+			final long secondPlayerFullSet, final long start, final long end, final boolean isSymmetric) {
+		this.mSecondPlayerActionCount = secondPlayerActionCount;
+		this.mFirstPlayerFullSet = firstPlayerFullSet;
+		this.mSecondPlayerFullSet = secondPlayerFullSet;
+		this.mPosition = start;
+		this.mEnd = end;
+		this.mIsSymmetric = isSymmetric;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return this.mEnd - this.mPosition;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super CompactSupportSet[]> action) {
+		while (this.mPosition < this.mEnd) {
+			action.accept(getConstellation(this.mPosition));
+			this.mPosition++;
+		}
+	}
+
+	/**
+	 * Computes the constellation at the given position, independent of the
+	 * range of this spliterator.
+	 * 
+	 * @param position
+	 *            Position of the constellation
+	 * @return The support set of the first player followed by the one of the
+	 *         second player
+	 */
+	public CompactSupportSet[] getConstellation(final long position) {
+		if (this.mIsSymmetric) {
+			final CompactSupportSet supportSet = new CompactSupportSet(this.mFirstPlayerFullSet - position);
+			return new CompactSupportSet[] { supportSet, supportSet };
+		}
+		final long firstPlayerSet = this.mFirstPlayerFullSet - (position >>> this.mSecondPlayerActionCount);
+		final long secondPlayerSet = this.mSecondPlayerFullSet - (position & this.mSecondPlayerFullSet);
+		return new CompactSupportSet[] { new CompactSupportSet(firstPlayerSet),
+				new CompactSupportSet(secondPlayerSet) };
+	}
+
+	/**
+	 * Gets the position of the next constellation of this spliterator.
+	 * 
+	 * @return The position of the next constellation
+	 */
+	public long getPosition() {
+		return this.mPosition;
+	}
+
+	/**
+	 * Computes the position of the given constellation, independent of the
+	 * range of this spliterator. It is the inverse of
+	 * {@link #getConstellation(long)}.
+	 * 
+	 * @param constellation
+	 *            The support set of the first player followed by the one of
+	 *            the second player
+	 * @return The position of the constellation
+	 */
+	public long getPositionOf(final CompactSupportSet[] constellation) {
+		final long firstPlayerOffset = this.mFirstPlayerFullSet - constellation[0].getBitmask();
+		if (this.mIsSymmetric) {
+			return firstPlayerOffset;
+		}
+		return (firstPlayerOffset << this.mSecondPlayerActionCount)
+				| (this.mSecondPlayerFullSet - constellation[1].getBitmask());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super CompactSupportSet[]> action) {
+		if (this.mPosition >= this.mEnd) {
+			return false;
+		}
+		action.accept(getConstellation(this.mPosition));
+		this.mPosition++;
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public SupportSetSpliterator trySplit() {
+		final long middle = (this.mPosition + this.mEnd) >>> 1;
+		if (middle <= this.mPosition) {
+			return null;
+		}
+		final SupportSetSpliterator prefix = new SupportSetSpliterator(this.mSecondPlayerActionCount,
+				this.mFirstPlayerFullSet, this.mSecondPlayerFullSet, this.mPosition, middle, this.mIsSymmetric);
+		this.mPosition = middle;
+		return prefix;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * This is the package for search strategies over the support sets of games,
+ * which solve a support set constellation by checking whether it holds a nash
+ * equilibrium.
+ */
+package de.tischner.nashfinder.support;
\ No newline at end of file
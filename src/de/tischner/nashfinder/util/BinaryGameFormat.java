@@ -0,0 +1,347 @@
+package de.tischner.nashfinder.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+
+/**
+ * Utility class that provides methods for the compact binary format of
+ * {@link de.tischner.nashfinder.game.StrategicGame StrategicGames} with two
+ * players. All values are stored in little-endian byte order:
+ * <ul>
+ * <li>Header of {@link #HEADER_SIZE} bytes: the magic number
+ * {@link #MAGIC}, the version {@link #VERSION} as <tt>int</tt> and the offset
+ * of the first payoff block as <tt>long</tt>.</li>
+ * <li>The amount of players as <tt>int</tt>, followed by every player: its
+ * name, the amount of its actions as <tt>int</tt> and the name of every
+ * action. Names are stored as <tt>int</tt> length followed by their
+ * <tt>UTF-8</tt> bytes.</li>
+ * <li>Padding up to the payoff offset, which is a multiple of
+ * {@link #PAYOFF_ALIGNMENT}.</li>
+ * <li>One payoff block per player, holding an <tt>int</tt> for every action
+ * profile in row-major order. The actions of the second player vary
+ * fastest.</li>
+ * </ul>
+ * Loaded games memory-map the payoff blocks, payoffs are thus read through
+ * the page cache of the operating system and stay off the heap.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class BinaryGameFormat {
+
+	/**
+	 * Size of the buffer that is used for writing payoffs, in bytes.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/**
+	 * Size of the fixed header, in bytes.
+	 */
+	private static final int HEADER_SIZE = 16;
+	/**
+	 * Magic number that identifies the format, the bytes <tt>NFGB</tt>.
+	 */
+	private static final int MAGIC = 0x4247464E;
+	/**
+	 * Alignment of the payoff blocks, in bytes.
+	 */
+	private static final int PAYOFF_ALIGNMENT = 8;
+	/**
+	 * Amount of players the format supports.
+	 */
+	private static final int PLAYER_COUNT = 2;
+	/**
+	 * Version of the format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Converts a game from a json file into a binary game file.
+	 * 
+	 * @param jsonFile
+	 *            File in the json format that contains the game to convert
+	 * @param binaryFile
+	 *            File to write the game to in the binary format, it is
+	 *            replaced if it already exists
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the binary file
+	 * @throws IllegalArgumentException
+	 *             If the json file contains no valid game
+	 */
+	public static void convertJsonToBinary(final File jsonFile, final File binaryFile) throws IOException {
+		writeStrategicGameBinary(StrategicGameParser.parseStrategicGameJson(jsonFile), binaryFile);
+	}
+
+	/**
+	 * Whether the given file starts with the magic number of the binary
+	 * format.
+	 * 
+	 * @param file
+	 *            File in question
+	 * @return <tt>True</tt> if the file is in the binary format, <tt>false</tt>
+	 *         if not or if it could not be read
+	 */
+	public static boolean isBinaryGame(final File file) {
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while (magic.hasRemaining()) {
+				if (channel.read(magic) == -1) {
+					return false;
+				}
+			}
+			return magic.getInt(0) == MAGIC;
+		} catch (final IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Loads a strategic game out of a binary game file. The payoffs are
+	 * memory-mapped read-only, they are copied onto the heap only if payoffs
+	 * are added to the game afterwards.
+	 * 
+	 * @param file
+	 *            File in the binary format that contains the game to load
+	 * @return The loaded game
+	 * @throws IllegalArgumentException
+	 *             If the file could not be read or contains no valid game
+	 */
+	public static StrategicGame<String, String> loadStrategicGameBinary(final File file) {
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long fileSize = channel.size();
+			final ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+			final long payoffOffset = header.getLong(2 * Integer.BYTES);
+			if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION || payoffOffset < HEADER_SIZE
+					|| payoffOffset > fileSize || payoffOffset > Integer.MAX_VALUE) {
+				exitBinaryParseError();
+			}
+
+			// Players and actions
+			final ByteBuffer description = readFully(channel, HEADER_SIZE, (int) payoffOffset - HEADER_SIZE);
+			final StrategicGame<String, String> game = new StrategicGame<>();
+			if (description.getInt() != PLAYER_COUNT) {
+				exitBinaryParseError();
+			}
+			final long[] actionCounts = new long[PLAYER_COUNT];
+			for (int player = 0; player < PLAYER_COUNT; player++) {
+				final String playerName = readString(description);
+				if (!game.addPlayer(playerName)) {
+					exitBinaryParseError();
+				}
+				actionCounts[player] = description.getInt();
+				if (actionCounts[player] < 0) {
+					exitBinaryParseError();
+				}
+				for (int action = 0; action < actionCounts[player]; action++) {
+					if (!game.addAction(readString(description), playerName)) {
+						exitBinaryParseError();
+					}
+				}
+			}
+
+			// Payoff blocks, one mapping per player
+			final long profileCount = actionCounts[0] * actionCounts[1];
+			final long blockSize = profileCount * Integer.BYTES;
+			if (profileCount > Integer.MAX_VALUE / Integer.BYTES
+					|| fileSize != payoffOffset + PLAYER_COUNT * blockSize) {
+				exitBinaryParseError();
+			}
+			final IntBuffer[] payoffs = new IntBuffer[PLAYER_COUNT];
+			for (int player = 0; player < PLAYER_COUNT; player++) {
+				payoffs[player] = channel.map(FileChannel.MapMode.READ_ONLY, payoffOffset + player * blockSize, blockSize)
+						.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			}
+			game.setPayoffBuffers(payoffs);
+			return game;
+		} catch (final IOException | BufferUnderflowException e) {
+			exitBinaryParseError();
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a strategic game with two players into a binary game file.
+	 * Action profiles without payoff are written with a payoff of
+	 * <tt>0</tt>.
+	 * 
+	 * @param game
+	 *            Game to write
+	 * @param file
+	 *            File to write the game to, it is replaced if it already
+	 *            exists
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the file
+	 * @throws IllegalStateException
+	 *             If the game does not have exactly two players
+	 */
+	public static void writeStrategicGameBinary(final StrategicGame<String, String> game, final File file)
+			throws IOException {
+		final List<String> players = Arrays.asList(game.getFirstPlayer(), game.getSecondPlayer());
+
+		// Encode players and actions
+		final List<byte[]> names = new ArrayList<>();
+		final int[] actionCounts = new int[PLAYER_COUNT];
+		int descriptionSize = Integer.BYTES;
+		for (int player = 0; player < PLAYER_COUNT; player++) {
+			final String playerName = players.get(player);
+			names.add(playerName.getBytes(StandardCharsets.UTF_8));
+			actionCounts[player] = game.getPlayerActions(playerName).size();
+			for (final String action : game.getPlayerActions(playerName)) {
+				names.add(action.getBytes(StandardCharsets.UTF_8));
+			}
+			descriptionSize += Integer.BYTES;
+		}
+		for (final byte[] name : names) {
+			descriptionSize += Integer.BYTES + name.length;
+		}
+		final int unalignedOffset = HEADER_SIZE + descriptionSize;
+		final int payoffOffset = (unalignedOffset + PAYOFF_ALIGNMENT - 1) / PAYOFF_ALIGNMENT * PAYOFF_ALIGNMENT;
+
+		final ByteBuffer description = ByteBuffer.allocate(payoffOffset).order(ByteOrder.LITTLE_ENDIAN);
+		description.putInt(MAGIC);
+		description.putInt(VERSION);
+		description.putLong(payoffOffset);
+		description.putInt(PLAYER_COUNT);
+		final Iterator<byte[]> nameIter = names.iterator();
+		for (int player = 0; player < PLAYER_COUNT; player++) {
+			writeString(description, nameIter.next());
+			description.putInt(actionCounts[player]);
+			for (int action = 0; action < actionCounts[player]; action++) {
+				writeString(description, nameIter.next());
+			}
+		}
+		description.position(0);
+
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeFully(channel, description);
+
+			final ByteBuffer payoffs = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			for (int player = 0; player < PLAYER_COUNT; player++) {
+				for (int row = 0; row < actionCounts[0]; row++) {
+					for (int column = 0; column < actionCounts[1]; column++) {
+						if (!payoffs.hasRemaining()) {
+							payoffs.flip();
+							writeFully(channel, payoffs);
+							payoffs.clear();
+						}
+						payoffs.putInt(game.getPayoff(player, row, column));
+					}
+				}
+			}
+			payoffs.flip();
+			writeFully(channel, payoffs);
+		}
+	}
+
+	/**
+	 * Exits the method by throwing an {@link IllegalArgumentException} because
+	 * there occurred a parse error.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             This method always throws this exception
+	 */
+	private static void exitBinaryParseError() {
+		throw new IllegalArgumentException(ErrorMessages.BINARY_GAME_PARSE_ERROR);
+	}
+
+	/**
+	 * Reads the given region of a channel into a buffer on the heap.
+	 * 
+	 * @param channel
+	 *            Channel to read from
+	 * @param position
+	 *            Position in the channel to start reading at
+	 * @param length
+	 *            Amount of bytes to read
+	 * @return A little-endian buffer that contains the read bytes, positioned
+	 *         at its start
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading
+	 * @throws IllegalArgumentException
+	 *             If the channel ends before the region
+	 */
+	private static ByteBuffer readFully(final FileChannel channel, final long position, final int length)
+			throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				exitBinaryParseError();
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Reads a name, stored as length followed by its <tt>UTF-8</tt> bytes.
+	 * 
+	 * @param buffer
+	 *            Buffer to read from
+	 * @return The read name
+	 * @throws IllegalArgumentException
+	 *             If the length is negative or exceeds the remaining bytes
+	 *             of the buffer
+	 * @throws BufferUnderflowException
+	 *             If the buffer ends before the length
+	 */
+	private static String readString(final ByteBuffer buffer) {
+		final int length = buffer.getInt();
+		// Checked before allocating, a corrupt length may be huge
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException(ErrorMessages.BINARY_GAME_NAME_LENGTH_ILLEGAL + " Got: " + length);
+		}
+		final byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes the remaining bytes of a buffer into a channel.
+	 * 
+	 * @param channel
+	 *            Channel to write to
+	 * @param buffer
+	 *            Buffer to write
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing
+	 */
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Writes a name as length followed by its <tt>UTF-8</tt> bytes.
+	 * 
+	 * @param buffer
+	 *            Buffer to write to
+	 * @param bytes
+	 *            <tt>UTF-8</tt> bytes of the name
+	 */
+	private static void writeString(final ByteBuffer buffer, final byte[] bytes) {
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private BinaryGameFormat() {
+
+	}
+}
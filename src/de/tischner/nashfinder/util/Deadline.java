@@ -0,0 +1,107 @@
+package de.tischner.nashfinder.util;
+
+import java.util.concurrent.TimeUnit;
+
+import de.tischner.nashfinder.locale.ErrorMessages;
+
+/**
+ * Point in time at which a computation should stop, measured by
+ * {@link System#nanoTime()}. Deadlines are immutable and may be shared
+ * between threads.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class Deadline {
+
+	/**
+	 * Deadline that never expires.
+	 */
+	private static final Deadline NONE = new Deadline(0L, false);
+
+	/**
+	 * Creates a deadline that expires after the given time budget, starting
+	 * now. Budgets that do not fit into the range of {@link System#nanoTime()}
+	 * never expire.
+	 * 
+	 * @param timeBudgetMillis
+	 *            The time budget in milliseconds
+	 * @return The deadline that expires after the given time budget
+	 * @throws IllegalArgumentException
+	 *             If the time budget is smaller than <tt>1</tt>
+	 */
+	public static Deadline after(final long timeBudgetMillis) {
+		if (timeBudgetMillis < 1) {
+			throw new IllegalArgumentException(ErrorMessages.TIME_BUDGET_ILLEGAL + " Got: " + timeBudgetMillis);
+		}
+		if (timeBudgetMillis >= TimeUnit.NANOSECONDS.toMillis(Long.MAX_VALUE / 2)) {
+			return NONE;
+		}
+		return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis), true);
+	}
+
+	/**
+	 * Gets the deadline that never expires.
+	 * 
+	 * @return The deadline that never expires
+	 */
+	public static Deadline none() {
+		return NONE;
+	}
+
+	/**
+	 * The point in time at which the deadline expires, in nanoseconds.
+	 */
+	private final long mDeadlineNanos;
+	/**
+	 * Whether the deadline expires at all.
+	 */
+	private final boolean mIsBounded;
+
+	/**
+	 * Creates a new deadline.
+	 * 
+	 * @param deadlineNanos
+	 *            The point in time at which the deadline expires, in
+	 *            nanoseconds
+	 * @param isBounded
+	 *            Whether the deadline expires at all
+	 */
+	private Deadline(final long deadlineNanos, final boolean isBounded) {
+		this.mDeadlineNanos = deadlineNanos;
+		this.mIsBounded = isBounded;
+	}
+
+	/**
+	 * Gets the time that remains until the deadline expires.
+	 * 
+	 * @return The remaining time in milliseconds, <tt>0</tt> if the deadline
+	 *         expired and {@link Long#MAX_VALUE} if it never expires
+	 */
+	public long getRemainingMillis() {
+		if (!this.mIsBounded) {
+			return Long.MAX_VALUE;
+		}
+		return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(this.mDeadlineNanos - System.nanoTime()));
+	}
+
+	/**
+	 * Whether the deadline expires at all.
+	 * 
+	 * @return <tt>True</tt> if the deadline expires at some point,
+	 *         <tt>false</tt> if it never expires
+	 */
+	public boolean isBounded() {
+		return this.mIsBounded;
+	}
+
+	/**
+	 * Whether the deadline has expired.
+	 * 
+	 * @return <tt>True</tt> if the deadline has expired, <tt>false</tt>
+	 *         otherwise
+	 */
+	public boolean isExpired() {
+		return this.mIsBounded && System.nanoTime() - this.mDeadlineNanos >= 0;
+	}
+}
@@ -0,0 +1,642 @@
+package de.tischner.nashfinder.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.locale.ErrorMessages;
+
+/**
+ * Streaming reader for {@link StrategicGame StrategicGames} in the json format
+ * with the keys <tt>Agents</tt>, <tt>Actions</tt> and <tt>Values</tt>. The
+ * input is tokenized character by character, without building a document
+ * tree. If the players and actions precede the payoffs, every payoff is put
+ * into the game as soon as it was read. Otherwise the payoffs are buffered in
+ * a primitive array until the actions are known. Unknown keys are skipped.
+ * <br/>
+ * <br/>
+ * A reader can only be used once and is not thread-safe.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class JsonGameReader {
+
+	/**
+	 * Size of the character buffer.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/**
+	 * Value that marks the end of the input.
+	 */
+	private static final int END_OF_INPUT = -1;
+	/**
+	 * Key in the json format for the actions.
+	 */
+	private static final String JSON_KEY_ACTIONS = "Actions";
+	/**
+	 * Key in the json format for the payoffs.
+	 */
+	private static final String JSON_KEY_PAYOFFS = "Values";
+	/**
+	 * Key in the json format for the players.
+	 */
+	private static final String JSON_KEY_PLAYERS = "Agents";
+	/**
+	 * Amount of players the format supports.
+	 */
+	private static final int PLAYER_COUNT = 2;
+
+	/**
+	 * Exits the method by throwing an {@link IllegalArgumentException} because
+	 * there occurred a parse error.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             This method always throws this exception
+	 */
+	private static void exitJsonParseError() {
+		throw new IllegalArgumentException(ErrorMessages.JSON_PARSE_ERROR);
+	}
+
+	/**
+	 * The actions of every player as read from the input or <tt>null</tt> if
+	 * they were not read yet.
+	 */
+	private List<List<String>> mActions;
+	/**
+	 * Buffer of characters read from the input.
+	 */
+	private final char[] mBuffer;
+	/**
+	 * Amount of valid characters in the buffer.
+	 */
+	private int mBufferLength;
+	/**
+	 * Position of the next character in the buffer.
+	 */
+	private int mBufferPosition;
+	/**
+	 * Payoff entry that is currently read.
+	 */
+	private final int[] mEntry;
+	/**
+	 * Index in the game of every action of the first player, by position in
+	 * the input, or <tt>null</tt> if the game has no actions yet.
+	 */
+	private int[] mFirstActionIndices;
+	/**
+	 * Game that is read.
+	 */
+	private final StrategicGame<String, String> mGame;
+	/**
+	 * Amount of payoff columns of the buffered payoffs or <tt>-1</tt> if no
+	 * row was read yet.
+	 */
+	private int mPendingColumnCount;
+	/**
+	 * Amount of values in the buffer of payoffs.
+	 */
+	private int mPendingCount;
+	/**
+	 * Payoffs that were read before the actions were known, entry after entry
+	 * in row-major order.
+	 */
+	private int[] mPendingPayoffs;
+	/**
+	 * The players as read from the input or <tt>null</tt> if they were not
+	 * read yet.
+	 */
+	private List<String> mPlayers;
+	/**
+	 * Source of the input.
+	 */
+	private final Reader mReader;
+	/**
+	 * Amount of payoff rows that were read or <tt>-1</tt> if the payoffs were
+	 * not read yet.
+	 */
+	private int mRowCount;
+	/**
+	 * Index in the game of every action of the second player, by position in
+	 * the input, or <tt>null</tt> if the game has no actions yet.
+	 */
+	private int[] mSecondActionIndices;
+
+	/**
+	 * Creates a new reader that reads a game from the given source.
+	 * 
+	 * @param reader
+	 *            Source of the input, it is not closed by this reader
+	 */
+	public JsonGameReader(final Reader reader) {
+		this.mReader = reader;
+		this.mBuffer = new char[BUFFER_SIZE];
+		this.mEntry = new int[PLAYER_COUNT];
+		this.mGame = new StrategicGame<>();
+		this.mPendingColumnCount = -1;
+		this.mPendingPayoffs = new int[0];
+		this.mRowCount = -1;
+	}
+
+	/**
+	 * Reads the game from the source.
+	 * 
+	 * @return The read game
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the input is no valid game in the json format
+	 */
+	public StrategicGame<String, String> read() throws IOException {
+		expect('{');
+		if (peekToken() == '}') {
+			exitJsonParseError();
+		}
+		do {
+			final String key = readString();
+			expect(':');
+			if (JSON_KEY_PLAYERS.equals(key)) {
+				if (this.mPlayers != null) {
+					exitJsonParseError();
+				}
+				this.mPlayers = readStringArray();
+				addPlayersAndActions();
+			} else if (JSON_KEY_ACTIONS.equals(key)) {
+				if (this.mActions != null) {
+					exitJsonParseError();
+				}
+				this.mActions = new ArrayList<>();
+				expect('[');
+				if (!consumeIf(']')) {
+					do {
+						this.mActions.add(readStringArray());
+					} while (readSeparator(']'));
+				}
+				addPlayersAndActions();
+			} else if (JSON_KEY_PAYOFFS.equals(key)) {
+				if (this.mRowCount != -1) {
+					exitJsonParseError();
+				}
+				readPayoffs();
+			} else {
+				skipValue();
+			}
+		} while (readSeparator('}'));
+		if (peekToken() != END_OF_INPUT || this.mFirstActionIndices == null || this.mRowCount == -1) {
+			exitJsonParseError();
+		}
+
+		addPendingPayoffs();
+		return this.mGame;
+	}
+
+	/**
+	 * Puts the buffered payoffs into the game, after validating that they
+	 * match the actions of the players.
+	 */
+	private void addPendingPayoffs() {
+		final int columnCount = this.mSecondActionIndices.length;
+		if (this.mRowCount != this.mFirstActionIndices.length
+				|| (this.mPendingColumnCount != -1 && this.mPendingColumnCount != columnCount)) {
+			exitJsonParseError();
+		}
+		int offset = 0;
+		for (int row = 0; offset < this.mPendingCount; row++) {
+			for (int column = 0; column < columnCount; column++) {
+				this.mEntry[0] = this.mPendingPayoffs[offset];
+				this.mEntry[1] = this.mPendingPayoffs[offset + 1];
+				this.mGame.addPayoff(this.mEntry, this.mFirstActionIndices[row], this.mSecondActionIndices[column]);
+				offset += PLAYER_COUNT;
+			}
+		}
+		this.mPendingPayoffs = null;
+	}
+
+	/**
+	 * Adds the players and their actions to the game, once both were read.
+	 */
+	private void addPlayersAndActions() {
+		if (this.mPlayers == null || this.mActions == null) {
+			return;
+		}
+		// The format only represents payoffs of games with two players
+		if (this.mPlayers.size() != PLAYER_COUNT || this.mActions.size() != PLAYER_COUNT) {
+			exitJsonParseError();
+		}
+		for (final String player : this.mPlayers) {
+			this.mGame.addPlayer(player);
+		}
+		if (this.mGame.getPlayerCount() != PLAYER_COUNT) {
+			exitJsonParseError();
+		}
+		for (int i = 0; i < PLAYER_COUNT; i++) {
+			for (final String action : this.mActions.get(i)) {
+				// Duplicate actions would shift the indices of the payoffs
+				if (!this.mGame.addAction(action, this.mPlayers.get(i))) {
+					exitJsonParseError();
+				}
+			}
+		}
+		this.mFirstActionIndices = toActionIndices(this.mPlayers.get(0), this.mActions.get(0));
+		this.mSecondActionIndices = toActionIndices(this.mPlayers.get(1), this.mActions.get(1));
+	}
+
+	/**
+	 * Consumes the next token if it is the given character.
+	 * 
+	 * @param expected
+	 *            Character in question
+	 * @return <tt>True</tt> if the next token was the given character and got
+	 *         consumed, <tt>false</tt> otherwise
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private boolean consumeIf(final char expected) throws IOException {
+		if (peekToken() != expected) {
+			return false;
+		}
+		this.mBufferPosition++;
+		return true;
+	}
+
+	/**
+	 * Consumes the next token, which must be the given character.
+	 * 
+	 * @param expected
+	 *            Character to expect
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the next token is a different character
+	 */
+	private void expect(final char expected) throws IOException {
+		if (!consumeIf(expected)) {
+			exitJsonParseError();
+		}
+	}
+
+	/**
+	 * Gets the next character of the input without consuming it.
+	 * 
+	 * @return The next character or {@link #END_OF_INPUT}
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private int peek() throws IOException {
+		if (this.mBufferPosition == this.mBufferLength) {
+			final int length = this.mReader.read(this.mBuffer, 0, this.mBuffer.length);
+			if (length <= 0) {
+				return END_OF_INPUT;
+			}
+			this.mBufferLength = length;
+			this.mBufferPosition = 0;
+		}
+		return this.mBuffer[this.mBufferPosition];
+	}
+
+	/**
+	 * Skips whitespace and gets the next character of the input without
+	 * consuming it.
+	 * 
+	 * @return The next character that is no whitespace or
+	 *         {@link #END_OF_INPUT}
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private int peekToken() throws IOException {
+		int next = peek();
+		while (next == ' ' || next == '\t' || next == '\n' || next == '\r') {
+			this.mBufferPosition++;
+			next = peek();
+		}
+		return next;
+	}
+
+	/**
+	 * Consumes and gets the next character of the input.
+	 * 
+	 * @return The next character
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the input has ended
+	 */
+	private char readChar() throws IOException {
+		if (peek() == END_OF_INPUT) {
+			exitJsonParseError();
+		}
+		final char next = this.mBuffer[this.mBufferPosition];
+		this.mBufferPosition++;
+		return next;
+	}
+
+	/**
+	 * Reads a number that must be an integer.
+	 * 
+	 * @return The read integer
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the next token is no integer
+	 */
+	private int readInteger() throws IOException {
+		peekToken();
+		final boolean isNegative = consumeIf('-');
+		long value = 0;
+		int digits = 0;
+		int next = peek();
+		while (next >= '0' && next <= '9') {
+			value = value * 10 + (next - '0');
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				exitJsonParseError();
+			}
+			this.mBufferPosition++;
+			digits++;
+			next = peek();
+		}
+		if (isNegative) {
+			value = -value;
+		}
+		// Only integer payoffs are allowed
+		if (digits == 0 || next == '.' || next == 'e' || next == 'E' || value > Integer.MAX_VALUE) {
+			exitJsonParseError();
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Reads the payoff entry of one action profile into {@link #mEntry}.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the entry does not consist of one integer per player
+	 */
+	private void readPayoffEntry() throws IOException {
+		expect('[');
+		for (int i = 0; i < PLAYER_COUNT; i++) {
+			if (i > 0) {
+				expect(',');
+			}
+			this.mEntry[i] = readInteger();
+		}
+		expect(']');
+	}
+
+	/**
+	 * Reads one row of payoff entries, which belongs to an action of the first
+	 * player. The entries are put into the game if the actions are already
+	 * known, otherwise they are buffered.
+	 * 
+	 * @param row
+	 *            Index of the row in the input
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private void readPayoffRow(final int row) throws IOException {
+		final boolean hasActions = this.mFirstActionIndices != null;
+		if (hasActions && row >= this.mFirstActionIndices.length) {
+			exitJsonParseError();
+		}
+
+		int column = 0;
+		expect('[');
+		if (!consumeIf(']')) {
+			do {
+				readPayoffEntry();
+				if (hasActions) {
+					if (column >= this.mSecondActionIndices.length) {
+						exitJsonParseError();
+					}
+					this.mGame.addPayoff(this.mEntry, this.mFirstActionIndices[row], this.mSecondActionIndices[column]);
+				} else {
+					if (this.mPendingCount + PLAYER_COUNT > this.mPendingPayoffs.length) {
+						this.mPendingPayoffs = Arrays.copyOf(this.mPendingPayoffs,
+								Math.max(2 * this.mPendingPayoffs.length, BUFFER_SIZE));
+					}
+					System.arraycopy(this.mEntry, 0, this.mPendingPayoffs, this.mPendingCount, PLAYER_COUNT);
+					this.mPendingCount += PLAYER_COUNT;
+				}
+				column++;
+			} while (readSeparator(']'));
+		}
+
+		if (hasActions) {
+			if (column != this.mSecondActionIndices.length) {
+				exitJsonParseError();
+			}
+		} else if (this.mPendingColumnCount == -1) {
+			this.mPendingColumnCount = column;
+		} else if (this.mPendingColumnCount != column) {
+			exitJsonParseError();
+		}
+	}
+
+	/**
+	 * Reads the payoff matrix, which has one row per action of the first
+	 * player and one entry per action of the second player in each row.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private void readPayoffs() throws IOException {
+		int row = 0;
+		expect('[');
+		if (!consumeIf(']')) {
+			do {
+				readPayoffRow(row);
+				row++;
+			} while (readSeparator(']'));
+		}
+		if (this.mFirstActionIndices != null && row != this.mFirstActionIndices.length) {
+			exitJsonParseError();
+		}
+		this.mRowCount = row;
+	}
+
+	/**
+	 * Reads the token that follows an element of an array or object.
+	 * 
+	 * @param closing
+	 *            Character that closes the array or object
+	 * @return <tt>True</tt> if another element follows, <tt>false</tt> if the
+	 *         array or object was closed
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the token is neither a comma nor the closing character
+	 */
+	private boolean readSeparator(final char closing) throws IOException {
+		if (consumeIf(',')) {
+			return true;
+		}
+		expect(closing);
+		return false;
+	}
+
+	/**
+	 * Reads a string and resolves its escape sequences.
+	 * 
+	 * @return The read string
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the next token is no valid string
+	 */
+	private String readString() throws IOException {
+		expect('"');
+		final StringBuilder text = new StringBuilder();
+		while (true) {
+			final char next = readChar();
+			if (next == '"') {
+				return text.toString();
+			}
+			if (next < ' ') {
+				exitJsonParseError();
+			}
+			if (next != '\\') {
+				text.append(next);
+				continue;
+			}
+
+			final char escaped = readChar();
+			switch (escaped) {
+			case '"':
+			case '\\':
+			case '/':
+				text.append(escaped);
+				break;
+			case 'b':
+				text.append('\b');
+				break;
+			case 'f':
+				text.append('\f');
+				break;
+			case 'n':
+				text.append('\n');
+				break;
+			case 'r':
+				text.append('\r');
+				break;
+			case 't':
+				text.append('\t');
+				break;
+			case 'u':
+				int codeUnit = 0;
+				for (int i = 0; i < 4; i++) {
+					final int digit = Character.digit(readChar(), 16);
+					if (digit == -1) {
+						exitJsonParseError();
+					}
+					codeUnit = codeUnit * 16 + digit;
+				}
+				text.append((char) codeUnit);
+				break;
+			default:
+				exitJsonParseError();
+			}
+		}
+	}
+
+	/**
+	 * Reads an array of strings.
+	 * 
+	 * @return The read strings
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 */
+	private List<String> readStringArray() throws IOException {
+		final List<String> strings = new ArrayList<>();
+		expect('[');
+		if (!consumeIf(']')) {
+			do {
+				strings.add(readString());
+			} while (readSeparator(']'));
+		}
+		return strings;
+	}
+
+	/**
+	 * Skips the given literal.
+	 * 
+	 * @param literal
+	 *            Literal to skip
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the input does not continue with the literal
+	 */
+	private void skipLiteral(final String literal) throws IOException {
+		for (int i = 0; i < literal.length(); i++) {
+			if (readChar() != literal.charAt(i)) {
+				exitJsonParseError();
+			}
+		}
+	}
+
+	/**
+	 * Skips the next value, which may be of any json type.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the source
+	 * @throws IllegalArgumentException
+	 *             If the next token is no valid value
+	 */
+	private void skipValue() throws IOException {
+		final int next = peekToken();
+		if (next == '{') {
+			this.mBufferPosition++;
+			if (!consumeIf('}')) {
+				do {
+					readString();
+					expect(':');
+					skipValue();
+				} while (readSeparator('}'));
+			}
+		} else if (next == '[') {
+			this.mBufferPosition++;
+			if (!consumeIf(']')) {
+				do {
+					skipValue();
+				} while (readSeparator(']'));
+			}
+		} else if (next == '"') {
+			readString();
+		} else if (next == 't') {
+			skipLiteral("true");
+		} else if (next == 'f') {
+			skipLiteral("false");
+		} else if (next == 'n') {
+			skipLiteral("null");
+		} else if (next == '-' || (next >= '0' && next <= '9')) {
+			int current = peek();
+			while (current == '-' || current == '+' || current == '.' || current == 'e' || current == 'E'
+					|| (current >= '0' && current <= '9')) {
+				this.mBufferPosition++;
+				current = peek();
+			}
+		} else {
+			exitJsonParseError();
+		}
+	}
+
+	/**
+	 * Gets the index in the game of every given action of the given player.
+	 * 
+	 * @param player
+	 *            Player the actions belong to
+	 * @param actions
+	 *            Actions in the order of the input
+	 * @return The index in the game of every action, by position in the input
+	 */
+	private int[] toActionIndices(final String player, final List<String> actions) {
+		final int[] actionIndices = new int[actions.size()];
+		for (int i = 0; i < actionIndices.length; i++) {
+			actionIndices[i] = this.mGame.getActionIndex(player, actions.get(i));
+		}
+		return actionIndices;
+	}
+}
@@ -0,0 +1,182 @@
+package de.tischner.nashfinder.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.nash.EquilibriumListener;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.nash.NashStrategy;
+
+/**
+ * Listener that writes every received nash equilibrium as one line of json,
+ * in the <i>JSON Lines</i> format. A line is flushed as soon as it is
+ * written, such that consumers see equilibria while the computation is still
+ * running. For example:
+ * 
+ * <pre>
+ * {"supportSets":{"A":["H","T"],"B":["H","T"]},"strategies":{"A":{"H":0.5,"T":0.5},"B":{"H":0.5,"T":0.5}},"expectedUtilities":{"A":0.0,"B":0.0}}
+ * </pre>
+ * 
+ * Strategies hold every action of the game, actions that are not played get
+ * probability <tt>0</tt>. The writer is not closed.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ * @param <PLAYER>
+ *            Class of the players
+ * @param <ACTION>
+ *            Class of the actions
+ */
+public final class JsonLinesEquilibriumWriter<PLAYER, ACTION> implements EquilibriumListener<PLAYER, ACTION> {
+
+	/**
+	 * Appends the given text as json string to the given line, escaping
+	 * quotes, backslashes and control characters.
+	 * 
+	 * @param line
+	 *            Line to append to
+	 * @param text
+	 *            Text to append
+	 */
+	public static void appendJsonString(final StringBuilder line, final String text) {
+		line.append('"');
+		for (int i = 0; i < text.length(); i++) {
+			final char character = text.charAt(i);
+			if (character == '"' || character == '\\') {
+				line.append('\\').append(character);
+			} else if (character < ' ') {
+				line.append(String.format("\\u%04x", Integer.valueOf(character)));
+			} else {
+				line.append(character);
+			}
+		}
+		line.append('"');
+	}
+
+	/**
+	 * Game the equilibria belong to.
+	 */
+	private final StrategicGame<PLAYER, ACTION> mGame;
+	/**
+	 * Writer to write the lines to.
+	 */
+	private final Writer mWriter;
+
+	/**
+	 * Creates a new writer of equilibria of the given game.
+	 * 
+	 * @param writer
+	 *            Writer to write the lines to, it is not closed
+	 * @param game
+	 *            Game the equilibria belong to
+	 */
+	public JsonLinesEquilibriumWriter(final Writer writer, final StrategicGame<PLAYER, ACTION> game) {
+		this.mWriter = writer;
+		this.mGame = game;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.tischner.nashfinder.nash.EquilibriumListener#onComplete()
+	 */
+	@Override
+	public void onComplete() {
+		try {
+			this.mWriter.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.tischner.nashfinder.nash.EquilibriumListener#onEquilibrium(java.util.
+	 * List, de.tischner.nashfinder.nash.NashEquilibrium)
+	 */
+	@Override
+	public void onEquilibrium(final List<SupportSet<PLAYER, ACTION>> supportSets,
+			final NashEquilibrium<PLAYER, ACTION> equilibrium) {
+		final StringBuilder line = new StringBuilder();
+		line.append("{\"supportSets\":{");
+		for (int i = 0; i < supportSets.size(); i++) {
+			final SupportSet<PLAYER, ACTION> supportSet = supportSets.get(i);
+			if (i > 0) {
+				line.append(',');
+			}
+			appendJsonString(line, String.valueOf(supportSet.getPlayer()));
+			line.append(":[");
+			final Iterator<ACTION> actionIter = supportSet.getActions();
+			while (actionIter.hasNext()) {
+				appendJsonString(line, String.valueOf(actionIter.next()));
+				if (actionIter.hasNext()) {
+					line.append(',');
+				}
+			}
+			line.append(']');
+		}
+
+		line.append("},\"strategies\":{");
+		Iterator<PLAYER> playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			final PLAYER player = playerIter.next();
+			final NashStrategy<ACTION> strategy = equilibrium.getNashStrategyOfPlayer(player);
+			appendJsonString(line, String.valueOf(player));
+			line.append(":{");
+			final Iterator<ACTION> actionIter = this.mGame.getPlayerActions(player).iterator();
+			while (actionIter.hasNext()) {
+				final ACTION action = actionIter.next();
+				Number probability = null;
+				if (strategy != null) {
+					probability = strategy.getActionProbability(action);
+				}
+				appendJsonString(line, String.valueOf(action));
+				line.append(':');
+				if (probability == null) {
+					line.append(0.0);
+				} else {
+					line.append(probability.doubleValue());
+				}
+				if (actionIter.hasNext()) {
+					line.append(',');
+				}
+			}
+			line.append('}');
+			if (playerIter.hasNext()) {
+				line.append(',');
+			}
+		}
+
+		line.append("},\"expectedUtilities\":{");
+		playerIter = this.mGame.getPlayers();
+		while (playerIter.hasNext()) {
+			final PLAYER player = playerIter.next();
+			final Number utility = equilibrium.getExpectedUtilityOfPlayer(player);
+			appendJsonString(line, String.valueOf(player));
+			line.append(':');
+			if (utility == null) {
+				line.append("null");
+			} else {
+				line.append(utility.doubleValue());
+			}
+			if (playerIter.hasNext()) {
+				line.append(',');
+			}
+		}
+		line.append("}}\n");
+
+		try {
+			this.mWriter.write(line.toString());
+			this.mWriter.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -9,6 +9,25 @@ import java.math.BigDecimal;
  *
  */
 public final class MathUtil {
+	/**
+	 * Computes the shift that makes all entries of the given matrix at least
+	 * <tt>1</tt>. Shifting the payoffs of a player does not change the
+	 * equilibria of a game.
+	 * 
+	 * @param matrix
+	 *            Matrix to compute the shift for
+	 * @return The shift to add to every entry
+	 */
+	public static double computePositiveShift(final double[][] matrix) {
+		double minimum = Double.POSITIVE_INFINITY;
+		for (final double[] row : matrix) {
+			for (final double value : row) {
+				minimum = Math.min(minimum, value);
+			}
+		}
+		return 1 - minimum;
+	}
+
 	/**
 	 * Rounds a given number to a given decimal scale by using the
 	 * {@link BigDecimal#ROUND_HALF_DOWN} strategy.
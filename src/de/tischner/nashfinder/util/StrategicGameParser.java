@@ -2,24 +2,23 @@ package de.tischner.nashfinder.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
+import java.util.Iterator;
 
 import de.tischner.nashfinder.game.StrategicGame;
-import de.tischner.nashfinder.game.util.ActionProfile;
 import de.tischner.nashfinder.locale.ErrorMessages;
-import jdk.nashorn.internal.runtime.JSONListAdapter;
+import de.tischner.nashfinder.metrics.ParseEvent;
 
 /**
  * Utility class that provides methods for parsing
  * {@link de.tischner.nashfinder.game.StrategicGame StrategicGames} out of
- * various sources.
+ * various sources. The json format is read in a streaming fashion, payoffs
+ * are put into the game while they are read. Parsing is recorded as
+ * {@link ParseEvent} by the <i>JDK Flight Recorder</i>.
  * 
  * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
  *
@@ -27,150 +26,93 @@ import jdk.nashorn.internal.runtime.JSONListAdapter;
 public final class StrategicGameParser {
 
 	/**
-	 * Key in the json format for the actions.
+	 * Format of binary game files, as recorded by {@link ParseEvent}.
 	 */
-	private static final String JSON_KEY_ACTIONS = "Actions";
+	private static final String FORMAT_BINARY = "binary";
 	/**
-	 * Key in the json format for the payoffs.
+	 * Format of json content, as recorded by {@link ParseEvent}.
 	 */
-	private static final String JSON_KEY_PAYOFFS = "Values";
+	private static final String FORMAT_JSON = "json";
 	/**
-	 * Key in the json format for the players.
+	 * Source of games that are parsed from a reader, as recorded by
+	 * {@link ParseEvent}.
 	 */
-	private static final String JSON_KEY_PLAYERS = "Agents";
+	private static final String SOURCE_READER = "reader";
+
 	/**
-	 * Scripting engine command to convert the given object to a java usable
-	 * json object.
+	 * Parses a strategic game out of a file, which is either a binary game
+	 * file as described by {@link BinaryGameFormat} or a json file. Binary
+	 * game files are memory-mapped.
+	 * 
+	 * @param file
+	 *            File that contains the game to parse
+	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the file could not be read or contains no valid game
 	 */
-	private static final String SCRIPT_CMD_TO_JAVA_JSON = "Java.asJSONCompatible";
+	public static StrategicGame<String, String> parseStrategicGame(final File file) {
+		if (BinaryGameFormat.isBinaryGame(file)) {
+			final ParseEvent event = new ParseEvent(file.getPath(), FORMAT_BINARY);
+			event.begin();
+			return commitParseEvent(event, BinaryGameFormat.loadStrategicGameBinary(file));
+		}
+		return parseStrategicGameJson(file);
+	}
+
 	/**
-	 * Script engine to use for parsing json objects.
+	 * Parses a strategic game out of a file, which is either a binary game
+	 * file or a json file.
+	 * 
+	 * @param filePath
+	 *            Path to the file that contains the game to parse
+	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the file could not be read or contains no valid game
 	 */
-	private static final String SCRIPT_ENGINE = "javascript";
+	public static StrategicGame<String, String> parseStrategicGame(final String filePath) {
+		return parseStrategicGame(new File(filePath));
+	}
 
 	/**
-	 * Parses a strategic game out of a json file.
+	 * Parses a strategic game out of a json file, encoded in <tt>UTF-8</tt>.
 	 * 
 	 * @param file
 	 *            File in the json format that contains the game to parse
 	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the file could not be read or contains no valid game
 	 */
-	@SuppressWarnings("unchecked")
 	public static StrategicGame<String, String> parseStrategicGameJson(final File file) {
-		final ScriptEngineManager sem = new ScriptEngineManager();
-		final ScriptEngine engine = sem.getEngineByName(SCRIPT_ENGINE);
-
-		Map<String, Object> contents = null;
-		try {
-			final String json = new String(Files.readAllBytes(file.toPath()));
-			final String script = SCRIPT_CMD_TO_JAVA_JSON + "(" + json + ")";
-			final Object result = engine.eval(script);
-			if (result instanceof Map<?, ?>) {
-				contents = (Map<String, Object>) result;
-			}
-		} catch (IOException | ScriptException e) {
-			exitJsonParseError();
-		}
-		if (contents == null || contents.isEmpty()) {
+		final ParseEvent event = new ParseEvent(file.getPath(), FORMAT_JSON);
+		event.begin();
+		try (final Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()),
+				StandardCharsets.UTF_8)) {
+			return commitParseEvent(event, new JsonGameReader(reader).read());
+		} catch (final IOException e) {
 			exitJsonParseError();
+			return null;
 		}
-
-		return parseStrategicGameJson(contents);
 	}
 
 	/**
-	 * Parses a strategic game out of a json object, created by the javascript
-	 * engine nashorn.
+	 * Parses a strategic game out of a source of json content. The source is
+	 * not closed.
 	 * 
-	 * @param json
-	 *            Json object, created by the javascript engine nashorn, that
-	 *            contains the game to parse
+	 * @param reader
+	 *            Source of json content that contains the game to parse
 	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the source could not be read or contains no valid game
 	 */
-	public static StrategicGame<String, String> parseStrategicGameJson(final Map<String, Object> json) {
-		if (json == null || json.isEmpty() || !json.containsKey(JSON_KEY_PLAYERS) || !json.containsKey(JSON_KEY_ACTIONS)
-				|| !json.containsKey(JSON_KEY_PAYOFFS) || !(json.get(JSON_KEY_PLAYERS) instanceof JSONListAdapter)
-				|| !(json.get(JSON_KEY_ACTIONS) instanceof JSONListAdapter)
-				|| !(json.get(JSON_KEY_PAYOFFS) instanceof JSONListAdapter)) {
+	public static StrategicGame<String, String> parseStrategicGameJson(final Reader reader) {
+		final ParseEvent event = new ParseEvent(SOURCE_READER, FORMAT_JSON);
+		event.begin();
+		try {
+			return commitParseEvent(event, new JsonGameReader(reader).read());
+		} catch (final IOException e) {
 			exitJsonParseError();
 			return null;
 		}
-
-		final StrategicGame<String, String> game = new StrategicGame<>();
-
-		// Add players
-		final JSONListAdapter players = (JSONListAdapter) json.get(JSON_KEY_PLAYERS);
-		for (final Object player : players) {
-			if (!(player instanceof String)) {
-				exitJsonParseError();
-			}
-			final String playerAsString = (String) player;
-			game.addPlayer(playerAsString);
-		}
-
-		// Add actions
-		final JSONListAdapter actions = (JSONListAdapter) json.get(JSON_KEY_ACTIONS);
-		if (actions.size() != players.size()) {
-			exitJsonParseError();
-		}
-		for (int i = 0; i < actions.size(); i++) {
-			final Object actionsForPlayer = actions.get(i);
-			if (!(actionsForPlayer instanceof JSONListAdapter)) {
-				exitJsonParseError();
-			}
-			final JSONListAdapter actionsForPlayerAsList = (JSONListAdapter) actionsForPlayer;
-
-			final String currentPlayer = (String) players.get(i);
-			for (final Object actionForPlayer : actionsForPlayerAsList) {
-				if (!(actionForPlayer instanceof String)) {
-					exitJsonParseError();
-				}
-				final String actionForPlayerAsString = (String) actionForPlayer;
-
-				game.addAction(actionForPlayerAsString, currentPlayer);
-			}
-		}
-
-		// Add payoffs
-		if (actions.size() != 2) {
-			// At this point, we only allow a player size of two.
-			// This is because the payoff matrix for greater values would not be
-			// representable by the given format (2x2).
-			exitJsonParseError();
-		}
-		final JSONListAdapter values = (JSONListAdapter) json.get(JSON_KEY_PAYOFFS);
-		final JSONListAdapter actionsOfFirstPlayer = (JSONListAdapter) actions.get(0);
-		final JSONListAdapter actionsOfSecondPlayer = (JSONListAdapter) actions.get(1);
-		for (int i = 0; i < actionsOfFirstPlayer.size(); i++) {
-			for (int j = 0; j < actionsOfSecondPlayer.size(); j++) {
-				final Object matrixRow = values.get(i);
-				if (!(matrixRow instanceof JSONListAdapter)) {
-					exitJsonParseError();
-				}
-				final JSONListAdapter matrixRowAsList = (JSONListAdapter) matrixRow;
-				final Object matrixEntry = matrixRowAsList.get(j);
-				if (!(matrixEntry instanceof JSONListAdapter)) {
-					exitJsonParseError();
-				}
-				final JSONListAdapter matrixEntryAsList = (JSONListAdapter) matrixEntry;
-
-				final List<Integer> payoffAsList = new LinkedList<>();
-				for (final Object singlePayoff : matrixEntryAsList) {
-					if (!(singlePayoff instanceof Integer)) {
-						exitJsonParseError();
-					}
-					payoffAsList.add((Integer) singlePayoff);
-				}
-
-				final ActionProfile<String> actionProfile = new ActionProfile<>();
-				actionProfile.addAction((String) actionsOfFirstPlayer.get(i));
-				actionProfile.addAction((String) actionsOfSecondPlayer.get(j));
-
-				game.addPayoff(payoffAsList, actionProfile);
-			}
-		}
-
-		return game;
 	}
 
 	/**
@@ -180,11 +122,50 @@ public final class StrategicGameParser {
 	 *            Path to the file in the json format that contains the game to
 	 *            parse
 	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the file could not be read or contains no valid game
 	 */
 	public static StrategicGame<String, String> parseStrategicGameJson(final String filePath) {
 		return parseStrategicGameJson(new File(filePath));
 	}
 
+	/**
+	 * Parses a strategic game out of the given json content.
+	 * 
+	 * @param json
+	 *            Json content that contains the game to parse
+	 * @return The parsed game
+	 * @throws IllegalArgumentException
+	 *             If the content contains no valid game
+	 */
+	public static StrategicGame<String, String> parseStrategicGameJsonContent(final String json) {
+		return parseStrategicGameJson(new StringReader(json));
+	}
+
+	/**
+	 * Commits the given event of parsing the given game, if it is recorded.
+	 * 
+	 * @param event
+	 *            Event of parsing the game, which was begun before parsing
+	 * @param game
+	 *            The parsed game
+	 * @return The parsed game
+	 */
+	private static StrategicGame<String, String> commitParseEvent(final ParseEvent event,
+			final StrategicGame<String, String> game) {
+		event.end();
+		if (event.shouldCommit()) {
+			int actionCount = 0;
+			final Iterator<String> playerIter = game.getPlayers();
+			while (playerIter.hasNext()) {
+				actionCount += game.getPlayerActions(playerIter.next()).size();
+			}
+			event.setGameSize(game.getPlayerCount(), actionCount);
+			event.commit();
+		}
+		return game;
+	}
+
 	/**
 	 * Exits the method by throwing an {@link IllegalArgumentException} because
 	 * there occurred a parse error.
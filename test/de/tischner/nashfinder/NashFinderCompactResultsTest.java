@@ -0,0 +1,137 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests the compact results of a game, which list every distinct
+ * equilibrium once under its actual support sets.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderCompactResultsTest {
+
+
+	/**
+	 * Pattern that matches an action and its probability in a strategy, the
+	 * action is accessible by the first and the probability by the second
+	 * grouping.
+	 */
+	private static final Pattern ACTION_PROBABILITY = Pattern.compile("(\\w+)=(\\d+\\.\\d+)");
+
+	/**
+	 * Solves the given game with compact results.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @return The compact results of the game, one entry per equilibrium
+	 */
+	private static List<String> solveCompact(final String gamePath, final int parallelism) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setUseCompactResults(true);
+		finder.setParallelism(parallelism);
+		finder.computeNashEquilibria();
+		return splitResults(finder.toString());
+	}
+
+	/**
+	 * Splits the results of a game into its entries.
+	 * 
+	 * @param results
+	 *            The results of a game
+	 * @return The entries of the results, each starting with its support
+	 *         sets
+	 */
+	private static List<String> splitResults(final String results) {
+		final String lineSeparator = System.lineSeparator();
+		final List<String> entries = new ArrayList<>();
+		for (final String line : results.split(lineSeparator)) {
+			if (line.startsWith("[")) {
+				entries.add(line);
+			} else {
+				final int last = entries.size() - 1;
+				entries.set(last, entries.get(last) + lineSeparator + line);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Every equilibrium is listed once, under the support sets of the actions
+	 * that are played with a positive probability.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testEquilibriaAreDistinct() throws IOException {
+		for (long seed = 0; seed < 5; seed++) {
+			final List<String> entries = solveCompact(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4), 1);
+			assertEquals(entries.size(), new HashSet<>(entries).size());
+			for (final String entry : entries) {
+				final String[] lines = entry.split(System.lineSeparator());
+				assertEquals(entry, 3, lines.length);
+				final List<String> supportSets = new ArrayList<>();
+				for (int i = 1; i < lines.length; i++) {
+					final List<String> supportSet = new ArrayList<>();
+					final Matcher matcher = ACTION_PROBABILITY.matcher(lines[i].substring(lines[i].indexOf('{')));
+					while (matcher.find()) {
+						if (Double.parseDouble(matcher.group(2)) > 0) {
+							supportSet.add(matcher.group(1));
+						}
+					}
+					supportSets.add(supportSet.toString());
+				}
+				assertEquals(entry, "[p1: " + supportSets.get(0) + ", p2: " + supportSets.get(1) + "]", lines[0]);
+			}
+		}
+	}
+
+	/**
+	 * Several worker threads yield the distinct equilibria of sequential
+	 * solving, in the same order.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testParallelAgreesWithSequential() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		gamePaths.add(TestGames.PICNIC_GAME);
+		for (long seed = 0; seed < 5; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			final List<String> entries = solveCompact(gamePath, 1);
+			assertTrue(gamePath, !entries.isEmpty());
+			for (final int parallelism : new int[] { 2, 3, 8 }) {
+				assertEquals(gamePath + " with " + parallelism + " threads", entries,
+						solveCompact(gamePath, parallelism));
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.nash.EquilibriumStore;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Tests enumerating support set constellations in Gray-code order with
+ * warm-started solvers.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderGrayCodeTest {
+
+	/**
+	 * Maximal difference of two probabilities that are considered equal. It
+	 * covers one step of the precision that equilibria are rounded to.
+	 */
+	private static final double TOLERANCE = 0.015;
+
+	/**
+	 * Asserts that the Gray-code order yields the results of the sequential
+	 * enumeration for the same constellations, in the same order.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads to use for the Gray-code order
+	 */
+	private static void assertAgreesWithSequential(final String gamePath, final int parallelism) {
+		final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGame(gamePath);
+		final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> expected = solve(gamePath,
+				false, 1);
+		final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> results = solve(gamePath,
+				true, parallelism);
+		assertEquals(gamePath, new ArrayList<>(expected.keySet()), new ArrayList<>(results.keySet()));
+		for (final Entry<List<SupportSet<String, String>>, NashEquilibrium<String, String>> entry : results
+				.entrySet()) {
+			final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+			assertNotNull(store.add(expected.get(entry.getKey())));
+			assertNull(gamePath + " " + entry.getKey(), store.add(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Solves the given game with the {@link ESolverBackend#DENSE} backend.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param useGrayCodeOrder
+	 *            Whether the Gray-code order should be used
+	 * @param parallelism
+	 *            Amount of worker threads to use
+	 * @return The equilibria of the results, keyed by their constellation, in
+	 *         the order of the results
+	 */
+	private static Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> solve(
+			final String gamePath, final boolean useGrayCodeOrder, final int parallelism) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setUseGrayCodeOrder(useGrayCodeOrder);
+		finder.setParallelism(parallelism);
+		finder.computeNashEquilibria();
+		final Map<List<SupportSet<String, String>>, NashEquilibrium<String, String>> equilibria = new LinkedHashMap<>();
+		finder.publishResults((supportSets, equilibrium) -> equilibria.put(supportSets, equilibrium));
+		return equilibria;
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * The constellations of game03 have LPs with several optima, the results
+	 * must still be the ones of the sequential enumeration.
+	 */
+	@Test
+	public void testGame03() {
+		assertAgreesWithSequential(TestGames.GAME03, 1);
+	}
+
+	/**
+	 * Enumerating ranges of the Gray code in parallel yields the same results
+	 * in the same order.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testParallelRanges() throws IOException {
+		final String gamePath = TestGames.writeRandomGame(this.mFolder.getRoot(), 0, 5);
+		assertAgreesWithSequential(gamePath, 3);
+	}
+
+	/**
+	 * The results of random games, whose payoffs often tie, are the ones of
+	 * the sequential enumeration.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testRandomGames() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.MATCHING_PENNIES);
+		gamePaths.add(TestGames.PICNIC_GAME);
+		for (long seed = 0; seed < 10; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			assertAgreesWithSequential(gamePath, 1);
+		}
+	}
+
+}
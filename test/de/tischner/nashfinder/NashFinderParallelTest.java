@@ -0,0 +1,91 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests solving the support set constellations of a game with several worker
+ * threads.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderParallelTest {
+
+	/**
+	 * Solves the given game with the given amount of worker threads.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @return The results of the game
+	 */
+	private static String solve(final String gamePath, final int parallelism) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setParallelism(parallelism);
+		finder.computeNashEquilibria();
+		return finder.toString();
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * A parallelism smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalParallelism() {
+		new NashFinder(TestGames.GAME03).setParallelism(0);
+	}
+
+	/**
+	 * The results of several worker threads are the results of sequential
+	 * solving, in the same order.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testResultsAgreeWithSequential() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		gamePaths.add(TestGames.PICNIC_GAME);
+		for (long seed = 0; seed < 5; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			final String results = solve(gamePath, 1);
+			for (final int parallelism : new int[] { 2, 3, 8 }) {
+				assertEquals(gamePath + " with " + parallelism + " threads", results, solve(gamePath, parallelism));
+			}
+		}
+	}
+
+	/**
+	 * Solving a game twice with the same nash finder gives the same results.
+	 */
+	@Test
+	public void testRepeatedComputation() {
+		final NashFinder finder = new NashFinder(TestGames.PICNIC_GAME);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setParallelism(4);
+		finder.computeNashEquilibria();
+		final String results = finder.toString();
+		finder.computeNashEquilibria();
+		assertEquals(results, finder.toString());
+	}
+}
@@ -0,0 +1,138 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests pruning support set constellations with conditionally dominated
+ * actions in the support enumeration.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderPruningTest {
+
+	/**
+	 * Splits the given compact results into the entries of their equilibria,
+	 * without expected utilities. They are reported for the first
+	 * constellation that an equilibrium is found for, which may be pruned.
+	 * 
+	 * @param results
+	 *            Results to split
+	 * @return The entries of the results, in their order, every entry starts
+	 *         with its support sets and is followed by the strategies
+	 */
+	private static List<String> splitStrategies(final String results) {
+		final List<String> entries = new ArrayList<>();
+		final String lineSeparator = System.lineSeparator();
+		StringBuilder entry = null;
+		for (final String line : results.split(lineSeparator)) {
+			if (line.startsWith("[")) {
+				if (entry != null) {
+					entries.add(entry.toString());
+				}
+				entry = new StringBuilder(line);
+			} else {
+				entry.append(lineSeparator).append(line.replaceFirst(": \\S+ \\{", ": {"));
+			}
+		}
+		if (entry != null) {
+			entries.add(entry.toString());
+		}
+		return entries;
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Pruning is not used for the results of every constellation, since
+	 * pruned constellations may still have a result.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testConstellationResultsAreKept() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		gamePaths.add(TestGames.PICNIC_GAME);
+		for (long seed = 0; seed < 5; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			assertEquals(gamePath, solve(gamePath, false, false), solve(gamePath, false, true));
+		}
+	}
+
+	/**
+	 * The compact results of pruning have the strategies of compact results
+	 * without pruning.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testPrunedCompactResults() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		gamePaths.add(TestGames.PICNIC_GAME);
+		for (long seed = 0; seed < 5; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			final List<String> entries = splitStrategies(solve(gamePath, true, false));
+			final List<String> prunedEntries = splitStrategies(solve(gamePath, true, true));
+			assertTrue(gamePath, !prunedEntries.isEmpty());
+			for (final String prunedEntry : prunedEntries) {
+				assertTrue(prunedEntry, entries.contains(prunedEntry));
+			}
+		}
+	}
+
+	/**
+	 * The pure equilibrium of game03 survives pruning, although the
+	 * constellations where the first player also has other actions are pruned.
+	 */
+	@Test
+	public void testPureEquilibriumOfGame03() {
+		final String lineSeparator = System.lineSeparator();
+		assertTrue(splitStrategies(solve(TestGames.GAME03, true, true))
+				.contains("[player1: [r1], player2: [r3]]" + lineSeparator + "\tplayer1: {r1=1.0, r2=0.0, r3=0.0}"
+						+ lineSeparator + "\tplayer2: {r1=0.0, r2=0.0, r3=1.0}"));
+	}
+
+	/**
+	 * Solves the given game with the {@link ESolverBackend#DENSE} backend.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param useCompactResults
+	 *            Whether compact results should be used
+	 * @param useDominancePruning
+	 *            Whether pruning should be used
+	 * @return The results of the game
+	 */
+	private String solve(final String gamePath, final boolean useCompactResults,
+			final boolean useDominancePruning) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setUseCompactResults(useCompactResults);
+		finder.setUseDominancePruning(useDominancePruning);
+		finder.computeNashEquilibria();
+		return finder.toString();
+	}
+}
@@ -0,0 +1,102 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests solving games for specific support sets with the
+ * {@link ESolverBackend#DENSE} backend.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderSpecificSupportSetsTest {
+
+	/**
+	 * Creates all support sets of the given actions in the format of
+	 * specific support sets.
+	 * 
+	 * @param actions
+	 *            Actions to create the support sets of
+	 * @return All non-empty support sets of the actions, like <tt>[r1,r2]</tt>
+	 */
+	private static List<String> createSupportSets(final String... actions) {
+		final List<String> supportSets = new ArrayList<>();
+		for (int mask = 1; mask < 1 << actions.length; mask++) {
+			final StringBuilder supportSet = new StringBuilder("[");
+			for (int i = 0; i < actions.length; i++) {
+				if ((mask & 1 << i) != 0) {
+					if (supportSet.length() > 1) {
+						supportSet.append(",");
+					}
+					supportSet.append(actions[i]);
+				}
+			}
+			supportSets.add(supportSet.append("]").toString());
+		}
+		return supportSets;
+	}
+
+	/**
+	 * Solves the given game with the {@link ESolverBackend#DENSE} backend.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param specificSupportSets
+	 *            Specific support sets to solve the game for or <tt>null</tt>
+	 *            for all support sets
+	 * @return The results of the game
+	 */
+	private static String solveDense(final String gamePath, final String specificSupportSets) {
+		final NashFinder finder = new NashFinder(gamePath, specificSupportSets);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.computeNashEquilibria();
+		return finder.toString();
+	}
+
+	/**
+	 * Every constellation of a game is solved like in the enumeration of all
+	 * constellations.
+	 */
+	@Test
+	public void testEveryConstellationAgreesWithEnumeration() {
+		final String results = solveDense(TestGames.GAME03, null);
+		final List<String> supportSets = createSupportSets("r1", "r2", "r3");
+		for (final String firstPlayerSet : supportSets) {
+			for (final String secondPlayerSet : supportSets) {
+				final String specificResults = solveDense(TestGames.GAME03, firstPlayerSet + secondPlayerSet);
+				assertTrue(specificResults, results.contains(specificResults));
+			}
+		}
+	}
+
+	/**
+	 * The mixed equilibrium of matching pennies is found for its support sets.
+	 */
+	@Test
+	public void testMatchingPennies() {
+		final String lineSeparator = System.lineSeparator();
+		assertEquals(
+				"[player1: [H, T], player2: [H, T]]" + lineSeparator + "\tplayer1: 0.0 {H=0.5, T=0.5}" + lineSeparator
+						+ "\tplayer2: 0.0 {H=0.5, T=0.5}",
+				solveDense(TestGames.MATCHING_PENNIES, "[H,T][H,T]"));
+	}
+
+	/**
+	 * Specific support sets are solved with the dense backend, which uses
+	 * their bitmasks, without pruning or compact results.
+	 */
+	@Test
+	public void testSupportSetsOfGame03() {
+		final String lineSeparator = System.lineSeparator();
+		assertEquals("[player1: [r1, r2], player2: [r1, r3]]" + lineSeparator + "\tplayer1: 1.0 {r1=0.0, r2=1.0}"
+				+ lineSeparator + "\tplayer2: 3.0 {r1=0.0, r3=1.0}", solveDense(TestGames.GAME03, "[r1,r2][r1,r3]"));
+	}
+}
@@ -0,0 +1,220 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.game.util.SupportSet;
+import de.tischner.nashfinder.nash.EquilibriumListener;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests streaming the nash equilibria of a game to a listener.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderStreamingTest {
+
+	/**
+	 * Listener that records the received equilibria, each in the format
+	 * <tt>supportSets=equilibrium</tt>, and counts its completions.
+	 * 
+	 * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class RecordingListener implements EquilibriumListener<String, String> {
+		/**
+		 * Amount of times the listener was completed.
+		 */
+		private int mCompletions;
+		/**
+		 * The received equilibria, in the order they were received.
+		 */
+		private final List<String> mEquilibria = new ArrayList<>();
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see de.tischner.nashfinder.nash.EquilibriumListener#onComplete()
+		 */
+		@Override
+		public void onComplete() {
+			this.mCompletions++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * de.tischner.nashfinder.nash.EquilibriumListener#onEquilibrium(java.
+		 * util.List, de.tischner.nashfinder.nash.NashEquilibrium)
+		 */
+		@Override
+		public void onEquilibrium(final List<SupportSet<String, String>> supportSets,
+				final NashEquilibrium<String, String> equilibrium) {
+			this.mEquilibria.add(supportSets + "=" + equilibrium);
+		}
+	}
+
+	/**
+	 * Creates a nash finder for the given game that uses the dense solver
+	 * backend.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @param useCompactResults
+	 *            Whether to use the compact results
+	 * @return The created nash finder
+	 */
+	private static NashFinder createFinder(final String gamePath, final int parallelism,
+			final boolean useCompactResults) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setParallelism(parallelism);
+		finder.setUseCompactResults(useCompactResults);
+		return finder;
+	}
+
+	/**
+	 * Gets the equilibria that are published after computing all results of
+	 * the given game.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param useCompactResults
+	 *            Whether to use the compact results
+	 * @return The published equilibria, in the order of the results
+	 */
+	private static List<String> publish(final String gamePath, final boolean useCompactResults) {
+		final NashFinder finder = createFinder(gamePath, 1, useCompactResults);
+		finder.computeNashEquilibria();
+		final RecordingListener listener = new RecordingListener();
+		finder.publishResults(listener);
+		return listener.mEquilibria;
+	}
+
+	/**
+	 * Streams the equilibria of the given game.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @param useCompactResults
+	 *            Whether to use the compact results
+	 * @return The listener that received the equilibria
+	 */
+	private static RecordingListener stream(final String gamePath, final int parallelism,
+			final boolean useCompactResults) {
+		final RecordingListener listener = new RecordingListener();
+		createFinder(gamePath, parallelism, useCompactResults).streamNashEquilibria(listener);
+		return listener;
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * A failing listener stops the stream and its failure is passed to the
+	 * caller.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testListenerFailurePropagates() {
+		final NashFinder finder = createFinder(TestGames.PICNIC_GAME, 3, false);
+		finder.streamNashEquilibria((supportSets, equilibrium) -> {
+			throw new UnsupportedOperationException();
+		});
+	}
+
+	/**
+	 * The stream stops after the maximal amount of equilibria.
+	 */
+	@Test
+	public void testMaxEquilibria() {
+		final NashFinder finder = createFinder(TestGames.PICNIC_GAME, 1, false);
+		finder.setMaxEquilibria(2);
+		final RecordingListener listener = new RecordingListener();
+		finder.streamNashEquilibria(listener);
+		assertEquals(publish(TestGames.PICNIC_GAME, false).subList(0, 2), listener.mEquilibria);
+		assertEquals(1, listener.mCompletions);
+	}
+
+	/**
+	 * Streaming with several worker threads publishes the same equilibria as
+	 * computing the results, possibly in a different order.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testParallelStreamAgreesWithResults() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		for (long seed = 0; seed < 3; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			final List<String> expected = publish(gamePath, false);
+			final RecordingListener listener = stream(gamePath, 3, false);
+			Collections.sort(expected);
+			Collections.sort(listener.mEquilibria);
+			assertEquals(gamePath, expected, listener.mEquilibria);
+			assertEquals(1, listener.mCompletions);
+		}
+	}
+
+	/**
+	 * Sequential streaming of a game that is not symmetric publishes the
+	 * equilibria of the results in the order of the constellations, with and
+	 * without the compact results.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testSequentialStreamAgreesWithResults() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		for (long seed = 0; seed < 3; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			for (final boolean useCompactResults : new boolean[] { false, true }) {
+				final RecordingListener listener = stream(gamePath, 1, useCompactResults);
+				assertEquals(gamePath, publish(gamePath, useCompactResults), listener.mEquilibria);
+				assertEquals(1, listener.mCompletions);
+			}
+		}
+	}
+
+	/**
+	 * Streaming a symmetric game publishes the same equilibria as computing
+	 * the results. Mirrored constellations are published once their
+	 * counterpart is solved, the order thus differs.
+	 */
+	@Test
+	public void testSymmetricStreamAgreesWithResults() {
+		final List<String> expected = publish(TestGames.PICNIC_GAME, false);
+		Collections.sort(expected);
+		for (final int parallelism : new int[] { 1, 3 }) {
+			final RecordingListener listener = stream(TestGames.PICNIC_GAME, parallelism, false);
+			Collections.sort(listener.mEquilibria);
+			assertEquals(parallelism + " threads", expected, listener.mEquilibria);
+			assertEquals(1, listener.mCompletions);
+		}
+	}
+}
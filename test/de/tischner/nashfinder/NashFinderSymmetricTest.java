@@ -0,0 +1,188 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests solving symmetric games, whose mirrored support set constellations
+ * are not solved again.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderSymmetricTest {
+
+	/**
+	 * Pattern that matches the constellation a result belongs to, the support
+	 * sets of both players are accessible by the first and second grouping.
+	 */
+	private static final Pattern CONSTELLATION = Pattern.compile("^\\[p1: (\\[.*\\]), p2: (\\[.*\\])\\]$");
+	/**
+	 * Amount of random symmetric games to solve.
+	 */
+	private static final int RANDOM_GAME_COUNT = 5;
+	/**
+	 * Exclusive upper bound of the payoffs of random games.
+	 */
+	private static final int RANDOM_PAYOFF_BOUND = 10;
+
+	/**
+	 * Creates a random symmetric game, the payoff matrix of the second player
+	 * is the transpose of the one of the first player.
+	 * 
+	 * @param seed
+	 *            Seed of the random payoffs
+	 * @param actionCount
+	 *            Amount of actions of both players
+	 * @return The random symmetric game
+	 */
+	private static StrategicGame<String, String> createRandomSymmetricGame(final long seed, final int actionCount) {
+		final Random random = new Random(seed);
+		final int[][] firstPlayerPayoffs = new int[actionCount][actionCount];
+		final int[][] secondPlayerPayoffs = new int[actionCount][actionCount];
+		for (int row = 0; row < actionCount; row++) {
+			for (int column = 0; column < actionCount; column++) {
+				firstPlayerPayoffs[row][column] = random.nextInt(RANDOM_PAYOFF_BOUND);
+				secondPlayerPayoffs[column][row] = firstPlayerPayoffs[row][column];
+			}
+		}
+		return TestGames.createGame(firstPlayerPayoffs, secondPlayerPayoffs);
+	}
+
+	/**
+	 * Solves the given game with the {@link ESolverBackend#DENSE} backend.
+	 * 
+	 * @param game
+	 *            Game to solve
+	 * @param specificSupportSets
+	 *            Specific support sets to solve the game for or <tt>null</tt>
+	 *            for all support sets
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @param symmetricOnly
+	 *            Whether only symmetric equilibria should be searched
+	 * @return The results of the game
+	 */
+	private static String solve(final StrategicGame<String, String> game, final String specificSupportSets,
+			final int parallelism, final boolean symmetricOnly) {
+		final NashFinder finder = new NashFinder(game, specificSupportSets);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setParallelism(parallelism);
+		finder.setUseSymmetricEquilibriaOnly(symmetricOnly);
+		finder.computeNashEquilibria();
+		return finder.toString();
+	}
+
+	/**
+	 * Splits the results of a game into the results of its constellations.
+	 * 
+	 * @param results
+	 *            The results of a game
+	 * @return The results of every constellation, each starting with its
+	 *         support sets
+	 */
+	private static List<String> splitResults(final String results) {
+		final String lineSeparator = System.lineSeparator();
+		final List<String> constellationResults = new ArrayList<>();
+		for (final String line : results.split(lineSeparator)) {
+			if (line.startsWith("[")) {
+				constellationResults.add(line);
+			} else {
+				final int last = constellationResults.size() - 1;
+				constellationResults.set(last, constellationResults.get(last) + lineSeparator + line);
+			}
+		}
+		return constellationResults;
+	}
+
+	/**
+	 * Every constellation, also the mirrored ones that are not solved again,
+	 * has the results of solving it for its specific support sets.
+	 */
+	@Test
+	public void testConstellationsAgreeWithSpecificSupportSets() {
+		for (long seed = 0; seed < RANDOM_GAME_COUNT; seed++) {
+			final StrategicGame<String, String> game = createRandomSymmetricGame(seed, 3);
+			assertTrue(game.isSymmetric());
+			for (final String constellationResults : splitResults(solve(game, null, 1, false))) {
+				final Matcher matcher = CONSTELLATION.matcher(constellationResults.split(System.lineSeparator())[0]);
+				assertTrue(constellationResults, matcher.matches());
+				if (matcher.group(1).equals("[]") || matcher.group(2).equals("[]")) {
+					continue;
+				}
+				assertEquals("Seed " + seed, constellationResults,
+						solve(game, matcher.group(1) + matcher.group(2), 1, false));
+			}
+		}
+	}
+
+	/**
+	 * Games are symmetric if both players have the same actions and the
+	 * payoff matrices are transposes of each other.
+	 */
+	@Test
+	public void testIsSymmetric() {
+		assertTrue(TestGames.createCoordinationGame().isSymmetric());
+		assertTrue(TestGames.createPrisonersDilemma().isSymmetric());
+		assertFalse(TestGames.createMatchingPennies().isSymmetric());
+		assertFalse(TestGames.createGame(new int[][] { { 1, 2 }, { 3, 4 } }, new int[][] { { 1, 2 }, { 3, 4 } })
+				.isSymmetric());
+		assertFalse(TestGames.createGame(new int[][] { { 1, 2, 3 }, { 4, 5, 6 } },
+				new int[][] { { 1, 4, 0 }, { 2, 5, 0 } }).isSymmetric());
+	}
+
+	/**
+	 * Mirroring constellations gives the same results with several worker
+	 * threads.
+	 */
+	@Test
+	public void testParallelAgreesWithSequential() {
+		for (long seed = 0; seed < RANDOM_GAME_COUNT; seed++) {
+			final StrategicGame<String, String> game = createRandomSymmetricGame(seed, 4);
+			assertEquals("Seed " + seed, solve(game, null, 1, false), solve(game, null, 3, false));
+		}
+	}
+
+	/**
+	 * Searching only symmetric equilibria of a game that is not symmetric is
+	 * rejected.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testSymmetricOnlyNotSymmetric() {
+		solve(TestGames.createGame(new int[][] { { 1, 2 }, { 3, 4 } }, new int[][] { { 1, 2 }, { 3, 4 } }), null, 1,
+				true);
+	}
+
+	/**
+	 * Searching only symmetric equilibria yields the results of the
+	 * constellations with the same support set for both players.
+	 */
+	@Test
+	public void testSymmetricOnlyResults() {
+		for (long seed = 0; seed < RANDOM_GAME_COUNT; seed++) {
+			final StrategicGame<String, String> game = createRandomSymmetricGame(seed, 4);
+			final List<String> results = splitResults(solve(game, null, 1, false));
+			final List<String> symmetricResults = splitResults(solve(game, null, 1, true));
+			assertEquals(1 << 4, symmetricResults.size());
+			for (final String constellationResults : symmetricResults) {
+				final Matcher matcher = CONSTELLATION.matcher(constellationResults.split(System.lineSeparator())[0]);
+				assertTrue(constellationResults, matcher.matches());
+				assertEquals(matcher.group(1), matcher.group(2));
+				assertTrue("Seed " + seed, results.contains(constellationResults));
+			}
+			assertEquals(symmetricResults, splitResults(solve(game, null, 3, true)));
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests bounding the computation of a game by a time budget or a maximal
+ * amount of equilibria.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NashFinderTimeBudgetTest {
+
+	/**
+	 * Time budget in milliseconds that stops the computation of a large game
+	 * early.
+	 */
+	private static final long SHORT_TIME_BUDGET = 100;
+	/**
+	 * Time in milliseconds that a stopped computation may take at most, it
+	 * covers slow machines.
+	 */
+	private static final long STOP_TIMEOUT = 10_000;
+
+	/**
+	 * Creates a nash finder for the given game with the
+	 * {@link ESolverBackend#DENSE} backend and compact results.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @return The nash finder
+	 */
+	private static NashFinder createCompactFinder(final String gamePath, final int parallelism) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setUseCompactResults(true);
+		finder.setParallelism(parallelism);
+		return finder;
+	}
+
+	/**
+	 * Splits the results of a game into its entries.
+	 * 
+	 * @param results
+	 *            The results of a game
+	 * @return The entries of the results, each starting with its support
+	 *         sets
+	 */
+	private static List<String> splitResults(final String results) {
+		final String lineSeparator = System.lineSeparator();
+		final List<String> entries = new ArrayList<>();
+		for (final String line : results.split(lineSeparator)) {
+			if (line.startsWith("[")) {
+				entries.add(line);
+			} else {
+				final int last = entries.size() - 1;
+				entries.set(last, entries.get(last) + lineSeparator + line);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * A computation that finishes within its budget tracks the best
+	 * candidate, which is an exact equilibrium.
+	 */
+	@Test
+	public void testBestCandidate() {
+		final NashFinder finder = createCompactFinder(TestGames.GAME03, 1);
+		finder.setTimeBudget(60_000);
+		finder.computeNashEquilibria();
+		assertFalse(finder.isTimeBudgetExceeded());
+		assertNotNull(finder.getBestCandidate());
+		assertEquals(0, finder.getBestCandidateEpsilon(), 0.01);
+	}
+
+	/**
+	 * A time budget smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalTimeBudget() {
+		new NashFinder(TestGames.GAME03).setTimeBudget(0);
+	}
+
+	/**
+	 * The maximal amount of equilibria yields the first distinct equilibria
+	 * of the unbounded computation, also with several worker threads.
+	 */
+	@Test
+	public void testMaxEquilibria() {
+		final NashFinder unboundedFinder = createCompactFinder(TestGames.PICNIC_GAME, 1);
+		unboundedFinder.computeNashEquilibria();
+		final List<String> entries = splitResults(unboundedFinder.toString());
+		assertTrue(entries.size() > 2);
+
+		for (final int parallelism : new int[] { 1, 3 }) {
+			final NashFinder finder = createCompactFinder(TestGames.PICNIC_GAME, parallelism);
+			finder.setMaxEquilibria(2);
+			finder.computeNashEquilibria();
+			assertEquals("With " + parallelism + " threads", entries.subList(0, 2),
+					splitResults(finder.toString()));
+		}
+	}
+
+	/**
+	 * Without a time budget, no best candidate is tracked.
+	 */
+	@Test
+	public void testNoTimeBudget() {
+		final NashFinder finder = createCompactFinder(TestGames.GAME03, 1);
+		finder.computeNashEquilibria();
+		assertFalse(finder.isTimeBudgetExceeded());
+		assertNull(finder.getBestCandidate());
+		assertTrue(Double.isNaN(finder.getBestCandidateEpsilon()));
+	}
+
+	/**
+	 * Every enumeration of a large game stops once the budget is exceeded and
+	 * reports the best candidate it has seen so far.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the game
+	 */
+	@Test
+	public void testTimeBudgetExceeded() throws IOException {
+		final String gamePath = TestGames.writeRandomGame(this.mFolder.getRoot(), 1, 12);
+		for (final int parallelism : new int[] { 1, 3 }) {
+			for (final boolean useGrayCodeOrder : new boolean[] { false, true }) {
+				final NashFinder finder = new NashFinder(gamePath);
+				finder.setSolverBackend(ESolverBackend.DENSE);
+				finder.setParallelism(parallelism);
+				finder.setUseGrayCodeOrder(useGrayCodeOrder);
+				finder.setTimeBudget(SHORT_TIME_BUDGET);
+
+				final long start = System.currentTimeMillis();
+				finder.computeNashEquilibria();
+				assertTrue(System.currentTimeMillis() - start < STOP_TIMEOUT);
+				assertTrue(finder.isTimeBudgetExceeded());
+				assertNotNull(finder.getBestCandidate());
+				assertTrue(finder.getBestCandidateEpsilon() >= 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Tests solving a batch of games by {@link SolveGames}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolveGamesTest {
+
+	/**
+	 * Reads the content of the given file.
+	 * 
+	 * @param file
+	 *            The file to read
+	 * @return The content of the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the file
+	 */
+	private static String read(final File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Gets the results of the given game, as written to its result file.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param specificSupportSets
+	 *            Support sets to solve the game for or <tt>null</tt> to solve
+	 *            all constellations
+	 * @return The results of the game
+	 */
+	private static String solve(final String gamePath, final String specificSupportSets) {
+		final NashFinder finder = new NashFinder(StrategicGameParser.parseStrategicGame(new File(gamePath)),
+				specificSupportSets);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.computeNashEquilibria();
+		return finder + System.lineSeparator();
+	}
+
+	/**
+	 * Folder for the games and their results.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Every game of a directory is solved into its own result file. Games that
+	 * can not be solved do not stop the others, hidden files are skipped.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game or reading
+	 *             a result
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while solving
+	 */
+	@Test
+	public void testDirectory() throws IOException, InterruptedException {
+		final File games = this.mFolder.newFolder("games");
+		Files.copy(new File(TestGames.GAME03).toPath(), new File(games, "game03.json").toPath());
+		Files.copy(new File(TestGames.MATCHING_PENNIES).toPath(), new File(games, "pennies.json").toPath());
+		Files.write(new File(games, "broken.json").toPath(), "{".getBytes(StandardCharsets.UTF_8));
+		Files.copy(new File(TestGames.GAME03).toPath(), new File(games, ".hidden.json").toPath());
+		final File output = new File(this.mFolder.getRoot(), "results");
+
+		SolveGames.main(new String[] { games.getPath(), "--output=" + output.getPath(), "--solver=dense",
+				"--workers=2" });
+
+		assertEquals(solve(TestGames.GAME03, null), read(new File(output, "game03.txt")));
+		assertEquals(solve(TestGames.MATCHING_PENNIES, null), read(new File(output, "pennies.txt")));
+		assertFalse(new File(output, "broken.txt").exists());
+		assertEquals(2, output.list().length);
+	}
+
+	/**
+	 * A parallelism smaller than one is rejected before solving any game.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while solving
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while solving
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalWorkers() throws IOException, InterruptedException {
+		SolveGames.main(new String[] { TestGames.GAME03, "--workers=0" });
+	}
+
+	/**
+	 * A manifest lists games relative to its directory, optionally with
+	 * support sets to solve them for. Games of the same name get distinct
+	 * result files.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game or reading
+	 *             a result
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while solving
+	 */
+	@Test
+	public void testManifest() throws IOException, InterruptedException {
+		final File first = this.mFolder.newFolder("first");
+		final File second = this.mFolder.newFolder("second");
+		Files.copy(new File(TestGames.GAME03).toPath(), new File(first, "game.json").toPath());
+		Files.copy(new File(TestGames.MATCHING_PENNIES).toPath(), new File(second, "game.json").toPath());
+		final File manifest = this.mFolder.newFile("manifest.txt");
+		Files.write(manifest.toPath(),
+				Arrays.asList("# Games to solve", "first/game.json", "", "second/game.json [H][T] [H,T][H,T]"),
+				StandardCharsets.UTF_8);
+		final File output = new File(this.mFolder.getRoot(), "results");
+
+		SolveGames.main(new String[] { manifest.getPath(), "--output=" + output.getPath(), "--solver=dense",
+				"--workers=2" });
+
+		assertEquals(solve(TestGames.GAME03, null), read(new File(output, "game.txt")));
+		assertEquals(solve(TestGames.MATCHING_PENNIES, "[H][T]") + System.lineSeparator()
+				+ solve(TestGames.MATCHING_PENNIES, "[H,T][H,T]"), read(new File(output, "game-1.txt")));
+	}
+
+	/**
+	 * Unknown options are rejected before solving any game.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while solving
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while solving
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownOption() throws IOException, InterruptedException {
+		SolveGames.main(new String[] { TestGames.GAME03, "--unknown=true" });
+	}
+}
@@ -0,0 +1,233 @@
+package de.tischner.nashfinder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import de.tischner.nashfinder.util.JsonLinesEquilibriumWriter;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Tests solving games sent to the {@link SolveServer}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolveServerTest {
+
+	/**
+	 * Maximal size of request bodies the server accepts, in bytes.
+	 */
+	private static final int MAX_BODY_BYTES = 4096;
+	/**
+	 * Pattern of the address the server prints once it listens.
+	 */
+	private static final Pattern SERVER_ADDRESS_PATTERN = Pattern.compile("http://\\S+/solve");
+	/**
+	 * Address of the solve endpoint of the server.
+	 */
+	private static String sAddress;
+
+	/**
+	 * Reads the content of the given stream.
+	 * 
+	 * @param stream
+	 *            The stream to read, may be <tt>null</tt>
+	 * @return The content of the stream, empty if it is <tt>null</tt>
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the stream
+	 */
+	private static String read(final InputStream stream) throws IOException {
+		if (stream == null) {
+			return "";
+		}
+		try (final InputStream input = stream) {
+			final ByteArrayOutputStream content = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[1024];
+			int readCount = input.read(buffer);
+			while (readCount != -1) {
+				content.write(buffer, 0, readCount);
+				readCount = input.read(buffer);
+			}
+			return new String(content.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Sends a request to the server.
+	 * 
+	 * @param method
+	 *            The method of the request
+	 * @param query
+	 *            Query of the request, without the leading question mark, or
+	 *            <tt>null</tt> for no query
+	 * @param body
+	 *            Body of the request or <tt>null</tt> to send none
+	 * @return The status and the body of the response, separated by a space
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the request
+	 */
+	private static String request(final String method, final String query, final String body) throws IOException {
+		String address = sAddress;
+		if (query != null) {
+			address += "?" + query;
+		}
+		final HttpURLConnection connection = (HttpURLConnection) new URL(address).openConnection();
+		try {
+			connection.setRequestMethod(method);
+			if (body != null) {
+				connection.setDoOutput(true);
+				try (final OutputStream output = connection.getOutputStream()) {
+					output.write(body.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+			final int status = connection.getResponseCode();
+			final InputStream response;
+			if (status == HttpURLConnection.HTTP_OK) {
+				response = connection.getInputStream();
+			} else {
+				response = connection.getErrorStream();
+			}
+			return status + " " + read(response);
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * Gets the response the server sends for a game that was solved for all
+	 * constellations.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @return The expected body of the response
+	 */
+	private static String solve(final String gamePath) {
+		final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGame(new File(gamePath));
+		final NashFinder finder = new NashFinder(game, null);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.computeNashEquilibria();
+		final StringWriter equilibria = new StringWriter();
+		finder.publishResults(new JsonLinesEquilibriumWriter<>(equilibria, game));
+		return "{\"equilibria\":[" + equilibria.toString().trim().replace('\n', ',')
+				+ "],\"timeBudgetExceeded\":false}";
+	}
+
+	/**
+	 * Starts the server on a free port and reads its address.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while starting the server
+	 */
+	@BeforeClass
+	public static void startServer() throws IOException {
+		final PrintStream standardOut = System.out;
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8.name()));
+		try {
+			SolveServer.main(new String[] { "--port=0", "--solver=dense", "--workers=2",
+					"--max-body=" + MAX_BODY_BYTES });
+		} finally {
+			System.setOut(standardOut);
+		}
+		final Matcher addressMatcher = SERVER_ADDRESS_PATTERN.matcher(out.toString(StandardCharsets.UTF_8.name()));
+		if (!addressMatcher.find()) {
+			throw new IllegalStateException(out.toString(StandardCharsets.UTF_8.name()));
+		}
+		sAddress = addressMatcher.group();
+	}
+
+	/**
+	 * Bodies larger than the maximal size are rejected.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the request
+	 */
+	@Test
+	public void testBodyTooLarge() throws IOException {
+		final StringBuilder body = new StringBuilder();
+		while (body.length() <= MAX_BODY_BYTES) {
+			body.append(' ');
+		}
+		assertEquals(413, Integer.parseInt(request("POST", null, body.toString()).split(" ")[0]));
+	}
+
+	/**
+	 * Games that can not be parsed are rejected.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the request
+	 */
+	@Test
+	public void testMalformedGame() throws IOException {
+		assertEquals(400, Integer.parseInt(request("POST", null, "{").split(" ")[0]));
+	}
+
+	/**
+	 * Only posted games are solved.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the request
+	 */
+	@Test
+	public void testMethodNotAllowed() throws IOException {
+		assertEquals(405, Integer.parseInt(request("GET", null, null).split(" ")[0]));
+	}
+
+	/**
+	 * A posted game is answered with its equilibria.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the game or
+	 *             sending the request
+	 */
+	@Test
+	public void testSolve() throws IOException {
+		final String game = new String(Files.readAllBytes(new File(TestGames.PICNIC_GAME).toPath()),
+				StandardCharsets.UTF_8);
+		assertEquals("200 " + solve(TestGames.PICNIC_GAME), request("POST", null, game));
+	}
+
+	/**
+	 * A posted game is only solved for the support sets of the query.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while reading the game or
+	 *             sending the request
+	 */
+	@Test
+	public void testSupportSets() throws IOException {
+		final String game = new String(Files.readAllBytes(new File(TestGames.MATCHING_PENNIES).toPath()),
+				StandardCharsets.UTF_8);
+		assertEquals("200 {\"equilibria\":[],\"timeBudgetExceeded\":false}",
+				request("POST", "support-sets=%5BH%5D%5BT%5D", game));
+	}
+
+	/**
+	 * Options that requests may not set are rejected.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while sending the request
+	 */
+	@Test
+	public void testUnknownParameter() throws IOException {
+		assertEquals(400, Integer.parseInt(request("POST", "solver=lp-solve", "{}").split(" ")[0]));
+	}
+}
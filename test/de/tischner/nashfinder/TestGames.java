@@ -0,0 +1,170 @@
+package de.tischner.nashfinder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.ActionProfile;
+
+/**
+ * Games that tests solve, the example games of the repository, random games
+ * that are written to the json-format and small games that are created
+ * directly. Paths are relative to the root of the repository.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TestGames {
+
+	/**
+	 * Path to the example game with three actions per player.
+	 */
+	public static final String GAME03 = "examples/game03.json";
+	/**
+	 * Path to the example game of matching pennies.
+	 */
+	public static final String MATCHING_PENNIES = "examples/matching-pennies.json";
+	/**
+	 * Path to the example game with five actions per player.
+	 */
+	public static final String PICNIC_GAME = "examples/picnic-game.json";
+	/**
+	 * Exclusive upper bound of the payoffs of random games.
+	 */
+	private static final int RANDOM_PAYOFF_BOUND = 10;
+
+	/**
+	 * Creates a coordination game with two actions per player. Both players
+	 * prefer to play the same action, <tt>a1</tt> more than <tt>a2</tt>. Its
+	 * equilibria are both pure profiles where the players play the same
+	 * action and the mixed one where both players play <tt>a1</tt> with
+	 * probability <tt>1/3</tt>.
+	 * 
+	 * @return The coordination game
+	 */
+	public static StrategicGame<String, String> createCoordinationGame() {
+		return createGame(new int[][] { { 2, 0 }, { 0, 1 } }, new int[][] { { 2, 0 }, { 0, 1 } });
+	}
+
+	/**
+	 * Creates a game with two players from the given payoff matrices. Players
+	 * are named <tt>p1</tt> and <tt>p2</tt> and actions <tt>a1</tt> to
+	 * <tt>an</tt>.
+	 * 
+	 * @param firstPlayerPayoffs
+	 *            Payoffs of the first player, indexed by the action of the
+	 *            first player and then by the action of the second player
+	 * @param secondPlayerPayoffs
+	 *            Payoffs of the second player, indexed like the payoffs of the
+	 *            first player
+	 * @return The created game
+	 */
+	public static StrategicGame<String, String> createGame(final int[][] firstPlayerPayoffs,
+			final int[][] secondPlayerPayoffs) {
+		final StrategicGame<String, String> game = new StrategicGame<>();
+		game.addPlayer("p1");
+		game.addPlayer("p2");
+		for (int row = 0; row < firstPlayerPayoffs.length; row++) {
+			game.addAction("a" + (row + 1), "p1");
+		}
+		for (int column = 0; column < firstPlayerPayoffs[0].length; column++) {
+			game.addAction("a" + (column + 1), "p2");
+		}
+		for (int row = 0; row < firstPlayerPayoffs.length; row++) {
+			for (int column = 0; column < firstPlayerPayoffs[row].length; column++) {
+				final ActionProfile<String> actionProfile = new ActionProfile<>();
+				actionProfile.addAction("a" + (row + 1));
+				actionProfile.addAction("a" + (column + 1));
+				game.addPayoff(Arrays.asList(Integer.valueOf(firstPlayerPayoffs[row][column]),
+						Integer.valueOf(secondPlayerPayoffs[row][column])), actionProfile);
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Creates the game of matching pennies, whose only equilibrium is the
+	 * mixed one where both players play both actions with probability
+	 * <tt>1/2</tt>.
+	 * 
+	 * @return The game of matching pennies
+	 */
+	public static StrategicGame<String, String> createMatchingPennies() {
+		return createGame(new int[][] { { 1, -1 }, { -1, 1 } }, new int[][] { { -1, 1 }, { 1, -1 } });
+	}
+
+	/**
+	 * Creates the prisoner's dilemma, whose only equilibrium is the pure one
+	 * where both players play <tt>a2</tt>, which strictly dominates
+	 * <tt>a1</tt>.
+	 * 
+	 * @return The prisoner's dilemma
+	 */
+	public static StrategicGame<String, String> createPrisonersDilemma() {
+		return createGame(new int[][] { { 3, 0 }, { 5, 1 } }, new int[][] { { 3, 5 }, { 0, 1 } });
+	}
+
+	/**
+	 * Writes a random game with two players to a new file in the given folder.
+	 * Both players have the same amount of actions, players are named
+	 * <tt>p1</tt> and <tt>p2</tt> and actions <tt>a1</tt> to <tt>an</tt>.
+	 * 
+	 * @param folder
+	 *            Folder to write the game to
+	 * @param seed
+	 *            Seed of the payoffs, equal seeds give equal games
+	 * @param actionCount
+	 *            Amount of actions of every player
+	 * @return Path to the written game file
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the file
+	 */
+	public static String writeRandomGame(final File folder, final long seed, final int actionCount)
+			throws IOException {
+		final Random random = new Random(seed);
+
+		final StringBuilder actions = new StringBuilder();
+		for (int action = 1; action <= actionCount; action++) {
+			if (action > 1) {
+				actions.append(", ");
+			}
+			actions.append("\"a" + action + "\"");
+		}
+
+		final StringBuilder json = new StringBuilder();
+		json.append("{\"Agents\": [\"p1\", \"p2\"], ");
+		json.append("\"Actions\": [[" + actions + "], [" + actions + "]], ");
+		json.append("\"Values\": [");
+		for (int row = 0; row < actionCount; row++) {
+			if (row > 0) {
+				json.append(", ");
+			}
+			json.append("[");
+			for (int column = 0; column < actionCount; column++) {
+				if (column > 0) {
+					json.append(", ");
+				}
+				json.append("[" + random.nextInt(RANDOM_PAYOFF_BOUND) + ", " + random.nextInt(RANDOM_PAYOFF_BOUND)
+						+ "]");
+			}
+			json.append("]");
+		}
+		json.append("]}");
+
+		final File file = new File(folder, "random-" + seed + "-" + actionCount + ".json");
+		Files.write(file.toPath(), Collections.singletonList(json.toString()), StandardCharsets.UTF_8);
+		return file.getPath();
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private TestGames() {
+
+	}
+}
@@ -0,0 +1,98 @@
+package de.tischner.nashfinder.benchmark;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Tests the {@link GameGenerator}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class GameGeneratorTest {
+
+	/**
+	 * Amount of actions of every player in the generated games.
+	 */
+	private static final int ACTION_COUNT = 6;
+
+	/**
+	 * Whether two games have the same payoffs.
+	 * 
+	 * @param first
+	 *            The first game
+	 * @param second
+	 *            The second game
+	 * @return <tt>True</tt> if both games have the same payoffs,
+	 *         <tt>false</tt> otherwise
+	 */
+	private static boolean haveSamePayoffs(final StrategicGame<String, String> first,
+			final StrategicGame<String, String> second) {
+		return Arrays.deepEquals(first.getPayoffMatrix("p1"), second.getPayoffMatrix("p1"))
+				&& Arrays.deepEquals(first.getPayoffMatrix("p2"), second.getPayoffMatrix("p2"));
+	}
+
+	/**
+	 * Every family has the properties it is named after, both players of a
+	 * coordination game have the same payoffs.
+	 */
+	@Test
+	public void testFamilies() {
+		final GameGenerator generator = new GameGenerator(0);
+		assertTrue(generator.createGame(EGameFamily.ZERO_SUM, ACTION_COUNT).isConstantSum());
+		assertTrue(generator.createGame(EGameFamily.SYMMETRIC, ACTION_COUNT).isSymmetric());
+		assertFalse(generator.createGame(EGameFamily.RANDOM, ACTION_COUNT).isConstantSum());
+
+		final StrategicGame<String, String> coordinationGame = generator.createGame(EGameFamily.COORDINATION,
+				ACTION_COUNT);
+		assertTrue(Arrays.deepEquals(coordinationGame.getPayoffMatrix("p1"), coordinationGame.getPayoffMatrix("p2")));
+	}
+
+	/**
+	 * Games are derived from the seed, generators with the same seed create
+	 * the same games.
+	 */
+	@Test
+	public void testGenerationIsDeterministic() {
+		for (final EGameFamily family : EGameFamily.values()) {
+			final StrategicGame<String, String> game = new GameGenerator(7).createGame(family, ACTION_COUNT);
+			assertEquals(2, game.getPlayerCount());
+			assertEquals(ACTION_COUNT, game.getPlayerActions("p1").size());
+			assertTrue(family.name(), haveSamePayoffs(game, new GameGenerator(7).createGame(family, ACTION_COUNT)));
+			assertFalse(family.name(),
+					haveSamePayoffs(game, new GameGenerator(8).createGame(family, ACTION_COUNT)));
+		}
+	}
+
+	/**
+	 * An amount of actions smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalActionCount() {
+		new GameGenerator(0).createGame(EGameFamily.RANDOM, 0);
+	}
+
+	/**
+	 * The json content describes the same game as the created game.
+	 */
+	@Test
+	public void testJsonDescribesSameGame() {
+		final GameGenerator generator = new GameGenerator(3);
+		for (final EGameFamily family : EGameFamily.values()) {
+			final StrategicGame<String, String> game = generator.createGame(family, ACTION_COUNT);
+			final StrategicGame<String, String> parsedGame = StrategicGameParser
+					.parseStrategicGameJsonContent(generator.createGameJson(family, ACTION_COUNT));
+			assertTrue(family.name(), haveSamePayoffs(game, parsedGame));
+			assertArrayEquals(game.getPlayerActions("p2").toArray(), parsedGame.getPlayerActions("p2").toArray());
+		}
+	}
+}
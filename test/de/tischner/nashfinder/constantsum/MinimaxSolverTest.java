@@ -0,0 +1,101 @@
+package de.tischner.nashfinder.constantsum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Tests the {@link MinimaxSolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class MinimaxSolverTest {
+
+	/**
+	 * Maximal difference of probabilities that are considered equal, it
+	 * covers the rounding of equilibria.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * Gets the probability that the given player plays the given action in
+	 * the given equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to get the probability of
+	 * @param player
+	 *            Player that plays the action
+	 * @param action
+	 *            Action to get the probability of
+	 * @return The probability of the action, zero if it is not listed
+	 */
+	private static double getProbability(final NashEquilibrium<String, String> equilibrium, final String player,
+			final String action) {
+		final Number probability = equilibrium.getNashStrategyOfPlayer(player).getActionProbability(action);
+		if (probability == null) {
+			return 0;
+		}
+		return probability.doubleValue();
+	}
+
+	/**
+	 * The minimax strategies of a constant-sum game whose payoffs do not sum
+	 * up to zero form its equilibrium, the values are the utilities.
+	 */
+	@Test
+	public void testConstantSum() {
+		final StrategicGame<String, String> game = TestGames.createGame(new int[][] { { 3, 1 }, { 2, 4 } },
+				new int[][] { { 2, 4 }, { 3, 1 } });
+		assertTrue(game.isConstantSum());
+
+		final NashEquilibrium<String, String> equilibrium = new MinimaxSolver<>(game).solve();
+		assertEquals(0.5, getProbability(equilibrium, "p1", "a1"), TOLERANCE);
+		assertEquals(0.75, getProbability(equilibrium, "p2", "a1"), TOLERANCE);
+		assertEquals(2.5, equilibrium.getExpectedUtilityOfPlayer("p1").doubleValue(), TOLERANCE);
+		assertEquals(2.5, equilibrium.getExpectedUtilityOfPlayer("p2").doubleValue(), TOLERANCE);
+	}
+
+	/**
+	 * The equilibrium of matching pennies is uniform with a value of zero,
+	 * although the payoffs are negative.
+	 */
+	@Test
+	public void testMatchingPennies() {
+		final NashEquilibrium<String, String> equilibrium = new MinimaxSolver<>(TestGames.createMatchingPennies())
+				.solve();
+		assertEquals(0.5, getProbability(equilibrium, "p1", "a1"), TOLERANCE);
+		assertEquals(0.5, getProbability(equilibrium, "p2", "a2"), TOLERANCE);
+		assertEquals(0, equilibrium.getExpectedUtilityOfPlayer("p1").doubleValue(), TOLERANCE);
+		assertEquals(0, equilibrium.getExpectedUtilityOfPlayer("p2").doubleValue(), TOLERANCE);
+	}
+
+	/**
+	 * Games that are not constant-sum are rejected.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testNotConstantSum() {
+		final StrategicGame<String, String> game = TestGames.createPrisonersDilemma();
+		assertFalse(game.isConstantSum());
+		new MinimaxSolver<>(game);
+	}
+
+	/**
+	 * Zero-sum games with a saddle point have a pure equilibrium.
+	 */
+	@Test
+	public void testSaddlePoint() {
+		final NashEquilibrium<String, String> equilibrium = new MinimaxSolver<>(
+				TestGames.createGame(new int[][] { { 1, 2 }, { 0, 3 } }, new int[][] { { -1, -2 }, { 0, -3 } }))
+						.solve();
+		assertEquals(1, getProbability(equilibrium, "p1", "a1"), TOLERANCE);
+		assertEquals(1, getProbability(equilibrium, "p2", "a1"), TOLERANCE);
+		assertEquals(1, equilibrium.getExpectedUtilityOfPlayer("p1").doubleValue(), TOLERANCE);
+	}
+}
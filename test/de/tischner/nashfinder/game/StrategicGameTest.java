@@ -0,0 +1,120 @@
+package de.tischner.nashfinder.game;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.util.ActionProfile;
+
+/**
+ * Tests the {@link StrategicGame}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class StrategicGameTest {
+
+
+	/**
+	 * Creates an action profile of the given actions.
+	 * 
+	 * @param firstPlayerAction
+	 *            Action of the first player
+	 * @param secondPlayerAction
+	 *            Action of the second player
+	 * @return The action profile
+	 */
+	private static ActionProfile<String> createProfile(final String firstPlayerAction,
+			final String secondPlayerAction) {
+		final ActionProfile<String> actionProfile = new ActionProfile<>();
+		actionProfile.addAction(firstPlayerAction);
+		actionProfile.addAction(secondPlayerAction);
+		return actionProfile;
+	}
+
+	/**
+	 * Actions are indexed in the order they were added, unknown actions and
+	 * players have no index.
+	 */
+	@Test
+	public void testActionIndex() {
+		final StrategicGame<String, String> game = TestGames.createGame(new int[][] { { 1, 2, 3 }, { 4, 5, 6 } },
+				new int[][] { { 6, 5, 4 }, { 3, 2, 1 } });
+		assertEquals(0, game.getActionIndex("p1", "a1"));
+		assertEquals(1, game.getActionIndex("p1", "a2"));
+		assertEquals(-1, game.getActionIndex("p1", "a3"));
+		assertEquals(2, game.getActionIndex("p2", "a3"));
+		assertEquals(-1, game.getActionIndex("p3", "a1"));
+		assertEquals(0, game.getPlayerIndex("p1"));
+		assertEquals(1, game.getPlayerIndex("p2"));
+		assertEquals(2, game.getPlayerCount());
+	}
+
+	/**
+	 * Actions that are added after payoffs keep the payoffs of the existing
+	 * action profiles.
+	 */
+	@Test
+	public void testAddActionAfterPayoffs() {
+		final StrategicGame<String, String> game = TestGames.createPrisonersDilemma();
+		game.addAction("a3", "p2");
+		game.addPayoff(Arrays.asList(Integer.valueOf(7), Integer.valueOf(8)), createProfile("a1", "a3"));
+
+		assertEquals(Arrays.asList(Integer.valueOf(3), Integer.valueOf(3)), game.getPayoff(createProfile("a1", "a1")));
+		assertEquals(Arrays.asList(Integer.valueOf(5), Integer.valueOf(0)), game.getPayoff(createProfile("a2", "a1")));
+		assertEquals(Arrays.asList(Integer.valueOf(1), Integer.valueOf(1)), game.getPayoff(createProfile("a2", "a2")));
+		assertEquals(Arrays.asList(Integer.valueOf(7), Integer.valueOf(8)), game.getPayoff(createProfile("a1", "a3")));
+		assertNull(game.getPayoff(createProfile("a2", "a3")));
+		assertEquals(7, game.getPayoff(0, 0, 2));
+		assertEquals(8, game.getPayoff(1, 0, 2));
+	}
+
+	/**
+	 * Payoffs of action profiles with unknown actions are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddPayoffUnknownAction() {
+		TestGames.createPrisonersDilemma().addPayoff(Arrays.asList(Integer.valueOf(0), Integer.valueOf(0)),
+				createProfile("a1", "a3"));
+	}
+
+	/**
+	 * Players can not be added after the first payoff.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testAddPlayerAfterPayoffs() {
+		TestGames.createPrisonersDilemma().addPlayer("p3");
+	}
+
+	/**
+	 * The index based access yields the same payoffs as the access by action
+	 * profiles and the payoff matrices.
+	 */
+	@Test
+	public void testPayoffByIndex() {
+		final int[][] firstPlayerPayoffs = new int[][] { { 1, 2, 3 }, { 4, 5, 6 } };
+		final int[][] secondPlayerPayoffs = new int[][] { { 6, 5, 4 }, { 3, 2, 1 } };
+		final StrategicGame<String, String> game = TestGames.createGame(firstPlayerPayoffs, secondPlayerPayoffs);
+		final double[][] firstPlayerMatrix = game.getPayoffMatrix("p1");
+		final double[][] secondPlayerMatrix = game.getPayoffMatrix("p2");
+
+		for (int row = 0; row < firstPlayerPayoffs.length; row++) {
+			assertArrayEquals(Arrays.stream(firstPlayerPayoffs[row]).asDoubleStream().toArray(),
+					firstPlayerMatrix[row], 0.0);
+			assertArrayEquals(Arrays.stream(secondPlayerPayoffs[row]).asDoubleStream().toArray(),
+					secondPlayerMatrix[row], 0.0);
+			for (int column = 0; column < firstPlayerPayoffs[row].length; column++) {
+				final ActionProfile<String> actionProfile = createProfile("a" + (row + 1), "a" + (column + 1));
+				assertEquals(firstPlayerPayoffs[row][column], game.getPayoff(0, row, column));
+				assertEquals(secondPlayerPayoffs[row][column], game.getPayoff(1, row, column));
+				assertEquals(firstPlayerPayoffs[row][column], game.getPayoffForPlayer(actionProfile, "p1"));
+				assertEquals(secondPlayerPayoffs[row][column], game.getPayoffForPlayer(actionProfile, "p2"));
+			}
+		}
+	}
+}
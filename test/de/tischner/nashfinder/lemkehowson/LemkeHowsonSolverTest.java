@@ -0,0 +1,104 @@
+package de.tischner.nashfinder.lemkehowson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Tests the {@link LemkeHowsonSolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LemkeHowsonSolverTest {
+
+	/**
+	 * Maximal difference of probabilities that are considered equal, it
+	 * covers the rounding of equilibria.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * Gets the probability that the given player plays the given action in
+	 * the given equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to get the probability of
+	 * @param player
+	 *            Player that plays the action
+	 * @param action
+	 *            Action to get the probability of
+	 * @return The probability of the action, zero if it is not listed
+	 */
+	private static double getProbability(final NashEquilibrium<String, String> equilibrium, final String player,
+			final String action) {
+		final Number probability = equilibrium.getNashStrategyOfPlayer(player).getActionProbability(action);
+		if (probability == null) {
+			return 0;
+		}
+		return probability.doubleValue();
+	}
+
+	/**
+	 * Every path of the coordination game ends at one of its three
+	 * equilibria, where both players play <tt>a1</tt> with the same
+	 * probability.
+	 */
+	@Test
+	public void testCoordinationGame() {
+		final LemkeHowsonSolver<String, String> solver = new LemkeHowsonSolver<>(TestGames.createCoordinationGame());
+		for (int label = 0; label < solver.getLabelCount(); label++) {
+			final NashEquilibrium<String, String> equilibrium = solver.solve(label);
+			final double probability = getProbability(equilibrium, "p1", "a1");
+			assertEquals(equilibrium.toString(), probability, getProbability(equilibrium, "p2", "a1"), TOLERANCE);
+			assertTrue(equilibrium.toString(), Math.abs(probability) < TOLERANCE
+					|| Math.abs(probability - 1.0 / 3) < TOLERANCE || Math.abs(probability - 1) < TOLERANCE);
+		}
+	}
+
+	/**
+	 * Labels outside of the actions of both players are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalLabel() {
+		final LemkeHowsonSolver<String, String> solver = new LemkeHowsonSolver<>(TestGames.createMatchingPennies());
+		solver.solve(solver.getLabelCount());
+	}
+
+	/**
+	 * Every path of matching pennies ends at its only equilibrium, which is
+	 * mixed.
+	 */
+	@Test
+	public void testMatchingPennies() {
+		final LemkeHowsonSolver<String, String> solver = new LemkeHowsonSolver<>(TestGames.createMatchingPennies());
+		assertEquals(4, solver.getLabelCount());
+		for (int label = 0; label < solver.getLabelCount(); label++) {
+			final NashEquilibrium<String, String> equilibrium = solver.solve(label);
+			for (final String player : new String[] { "p1", "p2" }) {
+				assertEquals(0.5, getProbability(equilibrium, player, "a1"), TOLERANCE);
+				assertEquals(0.5, getProbability(equilibrium, player, "a2"), TOLERANCE);
+			}
+		}
+	}
+
+	/**
+	 * The path of the prisoner's dilemma ends at its only equilibrium, which
+	 * is pure.
+	 */
+	@Test
+	public void testPrisonersDilemma() {
+		final StrategicGame<String, String> game = TestGames.createPrisonersDilemma();
+		final NashEquilibrium<String, String> equilibrium = new LemkeHowsonSolver<>(game).solve(0);
+		for (final String player : new String[] { "p1", "p2" }) {
+			assertEquals(0, getProbability(equilibrium, player, "a1"), TOLERANCE);
+			assertEquals(1, getProbability(equilibrium, player, "a2"), TOLERANCE);
+		}
+		assertEquals(1, equilibrium.getExpectedUtilityOfPlayer("p1").doubleValue(), TOLERANCE);
+	}
+}
@@ -0,0 +1,68 @@
+package de.tischner.nashfinder.lemkehowson;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.Deadline;
+import de.tischner.nashfinder.util.StrategicGameParser;
+
+/**
+ * Tests the {@link MultiStartLemkeHowsonSolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class MultiStartLemkeHowsonSolverTest {
+
+	/**
+	 * Chaining the paths from the pure equilibria of the coordination game
+	 * reaches its mixed equilibrium too.
+	 */
+	@Test
+	public void testAllEquilibriaOfCoordinationGame() {
+		final List<NashEquilibrium<String, String>> equilibria = new MultiStartLemkeHowsonSolver<>(
+				TestGames.createCoordinationGame(), 1).solve(Integer.MAX_VALUE, Deadline.none());
+		assertEquals(equilibria.toString(), 3, equilibria.size());
+	}
+
+	/**
+	 * A parallelism smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalParallelism() {
+		new MultiStartLemkeHowsonSolver<>(TestGames.createCoordinationGame(), 0);
+	}
+
+	/**
+	 * The search stops once the maximal amount of equilibria is found.
+	 */
+	@Test
+	public void testMaxEquilibria() {
+		final List<NashEquilibrium<String, String>> equilibria = new MultiStartLemkeHowsonSolver<>(
+				TestGames.createCoordinationGame(), 2).solve(1, Deadline.none());
+		assertEquals(1, equilibria.size());
+	}
+
+	/**
+	 * Several worker threads find the equilibria of sequential following, in
+	 * the same order.
+	 */
+	@Test
+	public void testParallelAgreesWithSequential() {
+		for (final String gamePath : new String[] { TestGames.GAME03, TestGames.PICNIC_GAME }) {
+			final StrategicGame<String, String> game = StrategicGameParser.parseStrategicGameJson(gamePath);
+			final List<NashEquilibrium<String, String>> equilibria = new MultiStartLemkeHowsonSolver<>(game, 1)
+					.solve(Integer.MAX_VALUE, Deadline.none());
+			for (int run = 0; run < 5; run++) {
+				assertEquals(gamePath, equilibria, new MultiStartLemkeHowsonSolver<>(game, 4)
+						.solve(Integer.MAX_VALUE, Deadline.none()));
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package de.tischner.nashfinder.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.NashFinder;
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.solver.ESolverBackend;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the JDK Flight Recorder events of parsing and solving a game.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class FlightRecorderEventsTest {
+
+	/**
+	 * Name of the event of a run of the support enumeration.
+	 */
+	private static final String ENUMERATION_EVENT = "de.tischner.nashfinder.Enumeration";
+	/**
+	 * Name of the event of parsing a game.
+	 */
+	private static final String PARSE_EVENT = "de.tischner.nashfinder.Parse";
+	/**
+	 * Name of the event of solving a support set constellation.
+	 */
+	private static final String SUPPORT_SOLVE_EVENT = "de.tischner.nashfinder.SupportSolve";
+
+	/**
+	 * Gets the recorded events with the given name.
+	 * 
+	 * @param events
+	 *            All recorded events
+	 * @param name
+	 *            Name of the events to get
+	 * @return The recorded events with the given name
+	 */
+	private static List<RecordedEvent> getEvents(final List<RecordedEvent> events, final String name) {
+		final List<RecordedEvent> namedEvents = new ArrayList<>();
+		for (final RecordedEvent event : events) {
+			if (event.getEventType().getName().equals(name)) {
+				namedEvents.add(event);
+			}
+		}
+		return namedEvents;
+	}
+
+	/**
+	 * Folder for the recording.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Parsing and solving a game emits one event for parsing, one for the run
+	 * and one for every solved constellation, which is also counted by the
+	 * metrics.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing or reading the
+	 *             recording
+	 */
+	@Test
+	public void testEvents() throws IOException {
+		final SolverMetrics metrics = new SolverMetrics();
+		final Path recordingPath = this.mFolder.getRoot().toPath().resolve("recording.jfr");
+		try (final Recording recording = new Recording()) {
+			recording.enable(ENUMERATION_EVENT).withoutThreshold();
+			recording.enable(PARSE_EVENT).withoutThreshold();
+			recording.enable(SUPPORT_SOLVE_EVENT).withoutThreshold();
+			recording.start();
+
+			final NashFinder finder = new NashFinder(TestGames.GAME03);
+			finder.setSolverBackend(ESolverBackend.DENSE);
+			finder.setMetrics(metrics);
+			finder.computeNashEquilibria();
+
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+
+		final List<RecordedEvent> parseEvents = getEvents(events, PARSE_EVENT);
+		assertEquals(1, parseEvents.size());
+		assertEquals(TestGames.GAME03, parseEvents.get(0).getString("source"));
+		assertEquals(2, parseEvents.get(0).getInt("playerCount"));
+
+		final List<RecordedEvent> enumerationEvents = getEvents(events, ENUMERATION_EVENT);
+		assertEquals(1, enumerationEvents.size());
+		final RecordedEvent enumerationEvent = enumerationEvents.get(0);
+		assertEquals(ESolverBackend.DENSE.name(), enumerationEvent.getString("backend"));
+		assertEquals(1, enumerationEvent.getInt("parallelism"));
+		assertTrue(enumerationEvent.getInt("equilibriumCount") > 0);
+		assertFalse(enumerationEvent.getBoolean("timeBudgetExceeded"));
+
+		final List<RecordedEvent> supportSolveEvents = getEvents(events, SUPPORT_SOLVE_EVENT);
+		assertEquals(metrics.getSupportsVisited(), supportSolveEvents.size());
+		for (final RecordedEvent event : supportSolveEvents) {
+			assertTrue(event.getInt("firstSupportSize") <= 3);
+			assertTrue(event.getInt("secondSupportSize") <= 3);
+		}
+	}
+}
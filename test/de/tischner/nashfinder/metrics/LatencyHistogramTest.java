@@ -0,0 +1,92 @@
+package de.tischner.nashfinder.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link LatencyHistogram}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LatencyHistogramTest {
+
+
+	/**
+	 * Latencies that are recorded concurrently are all counted.
+	 * 
+	 * @throws InterruptedException
+	 *             If the thread was interrupted while waiting for the
+	 *             recording threads
+	 */
+	@Test
+	public void testConcurrentRecording() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			final Thread thread = new Thread(() -> {
+				for (int latency = 1; latency <= 10_000; latency++) {
+					histogram.record(latency);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40_000, histogram.getCount());
+		assertEquals(4 * 10_000L * 10_001L / 2, histogram.getTotalNanos());
+		assertEquals(10_000, histogram.getMaxNanos());
+	}
+
+	/**
+	 * An empty histogram yields zero for all statistics.
+	 */
+	@Test
+	public void testEmpty() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMaxNanos());
+		assertEquals(0.0, histogram.getMeanNanos(), 0.0);
+		assertEquals(0, histogram.getPercentileNanos(0.5));
+	}
+
+	/**
+	 * Negative latencies are recorded as zero and resetting removes all
+	 * latencies.
+	 */
+	@Test
+	public void testNegativeLatencyAndReset() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		assertEquals(1, histogram.getCount());
+		assertEquals(0, histogram.getTotalNanos());
+		assertEquals(0, histogram.getPercentileNanos(1));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+	}
+
+	/**
+	 * Percentiles are estimated by the upper bound of their bucket, which
+	 * does not exceed the largest latency.
+	 */
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int latency = 1; latency <= 100; latency++) {
+			histogram.record(latency);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(100, histogram.getMaxNanos());
+		assertEquals(50.5, histogram.getMeanNanos(), 1e-9);
+		assertEquals(63, histogram.getPercentileNanos(0.5));
+		assertEquals(100, histogram.getPercentileNanos(0.99));
+		assertEquals(1, histogram.getPercentileNanos(0));
+	}
+}
@@ -0,0 +1,124 @@
+package de.tischner.nashfinder.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.NashFinder;
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests the {@link SolverMetrics} that the support enumeration records.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SolverMetricsTest {
+
+	/**
+	 * Solves the given game with the {@link ESolverBackend#DENSE} backend and
+	 * records the given metrics.
+	 * 
+	 * @param gamePath
+	 *            Path to the game to solve
+	 * @param metrics
+	 *            Metrics to record
+	 * @param parallelism
+	 *            Amount of worker threads
+	 * @param useDominancePruning
+	 *            Whether support sets with dominated actions are pruned,
+	 *            together with compact results
+	 */
+	private static void solve(final String gamePath, final SolverMetrics metrics, final int parallelism,
+			final boolean useDominancePruning) {
+		final NashFinder finder = new NashFinder(gamePath);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setMetrics(metrics);
+		finder.setParallelism(parallelism);
+		finder.setUseCompactResults(useDominancePruning);
+		finder.setUseDominancePruning(useDominancePruning);
+		finder.computeNashEquilibria();
+	}
+
+	/**
+	 * Folder for generated games.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Disabled metrics record nothing.
+	 */
+	@Test
+	public void testNone() {
+		final SolverMetrics metrics = SolverMetrics.none();
+		assertFalse(metrics.isEnabled());
+		solve(TestGames.GAME03, metrics, 1, false);
+		assertEquals(0, metrics.getSupportsVisited());
+		assertEquals(0, metrics.getSupportsSolved());
+	}
+
+	/**
+	 * Every visited constellation has exactly one outcome, sequential and
+	 * parallel solving visit the same constellations.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing a game
+	 */
+	@Test
+	public void testOutcomesSumToVisited() throws IOException {
+		final List<String> gamePaths = new ArrayList<>();
+		gamePaths.add(TestGames.GAME03);
+		for (long seed = 0; seed < 3; seed++) {
+			gamePaths.add(TestGames.writeRandomGame(this.mFolder.getRoot(), seed, 4));
+		}
+		for (final String gamePath : gamePaths) {
+			for (final boolean useDominancePruning : new boolean[] { false, true }) {
+				final SolverMetrics sequentialMetrics = new SolverMetrics();
+				solve(gamePath, sequentialMetrics, 1, useDominancePruning);
+				final SolverMetrics parallelMetrics = new SolverMetrics();
+				solve(gamePath, parallelMetrics, 3, useDominancePruning);
+
+				for (final SolverMetrics metrics : new SolverMetrics[] { sequentialMetrics, parallelMetrics }) {
+					assertTrue(metrics.isEnabled());
+					assertTrue(gamePath, metrics.getSupportsVisited() > 0);
+					assertEquals(gamePath, metrics.getSupportsVisited(),
+							metrics.getSupportsSolved() + metrics.getSupportsInfeasible()
+									+ metrics.getSupportsPruned() + metrics.getSupportsTimedOut());
+				}
+				assertEquals(gamePath, sequentialMetrics.getSupportsVisited(), parallelMetrics.getSupportsVisited());
+				assertEquals(gamePath, sequentialMetrics.getSupportsSolved(), parallelMetrics.getSupportsSolved());
+			}
+		}
+	}
+
+	/**
+	 * The phases of solving constellations are measured and resetting the
+	 * metrics removes all records.
+	 */
+	@Test
+	public void testPhasesAndReset() {
+		final SolverMetrics metrics = new SolverMetrics();
+		solve(TestGames.GAME03, metrics, 1, false);
+		for (final EPhase phase : new EPhase[] { EPhase.SUPPORT_GENERATION, EPhase.LP_BUILD, EPhase.LP_SOLVE }) {
+			assertTrue(phase.name(), metrics.getPhaseStatistics().get(phase.name()).getCount() > 0);
+		}
+		assertTrue(metrics.getSummary().startsWith("{\"supports\":{\"visited\":"));
+
+		metrics.reset();
+		assertEquals(0, metrics.getSupportsVisited());
+		assertEquals(0, metrics.getSupportsSolved());
+		for (final PhaseStatistics statistics : metrics.getPhaseStatistics().values()) {
+			assertEquals(0, statistics.getCount());
+		}
+	}
+}
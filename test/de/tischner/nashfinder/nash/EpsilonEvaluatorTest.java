@@ -0,0 +1,62 @@
+package de.tischner.nashfinder.nash;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+
+/**
+ * Tests the {@link EpsilonEvaluator}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class EpsilonEvaluatorTest {
+
+	/**
+	 * Maximal difference of epsilons that are considered equal, it covers
+	 * the rounding of equilibria.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * The equilibria of the coordination game have an epsilon of zero.
+	 */
+	@Test
+	public void testEquilibria() {
+		final StrategicGame<String, String> game = TestGames.createCoordinationGame();
+		final EpsilonEvaluator<String, String> evaluator = new EpsilonEvaluator<>(game);
+		assertEquals(0, evaluator.computeEpsilon(NashEquilibrium.createFromMixedStrategies(new double[] { 1, 0 }, 2,
+				new double[] { 1, 0 }, 2, game)), TOLERANCE);
+		assertEquals(0, evaluator.computeEpsilon(NashEquilibrium.createFromMixedStrategies(
+				new double[] { 1.0 / 3, 2.0 / 3 }, 2.0 / 3, new double[] { 1.0 / 3, 2.0 / 3 }, 2.0 / 3, game)),
+				TOLERANCE);
+	}
+
+	/**
+	 * The epsilon of a profile that is no equilibrium is the largest gain a
+	 * player gets by deviating.
+	 */
+	@Test
+	public void testNoEquilibrium() {
+		final StrategicGame<String, String> game = TestGames.createPrisonersDilemma();
+		final EpsilonEvaluator<String, String> evaluator = new EpsilonEvaluator<>(game);
+		assertEquals(2, evaluator.computeEpsilon(NashEquilibrium.createFromMixedStrategies(new double[] { 1, 0 }, 3,
+				new double[] { 1, 0 }, 3, game)), TOLERANCE);
+		assertEquals(1, evaluator.computeEpsilon(NashEquilibrium.createFromMixedStrategies(new double[] { 0, 1 }, 5,
+				new double[] { 1, 0 }, 0, game)), TOLERANCE);
+	}
+
+	/**
+	 * Strategies without a positive probability have an infinite epsilon.
+	 */
+	@Test
+	public void testNoPositiveProbability() {
+		final StrategicGame<String, String> game = TestGames.createPrisonersDilemma();
+		assertEquals(Double.POSITIVE_INFINITY, new EpsilonEvaluator<>(game).computeEpsilon(
+				NashEquilibrium.createFromMixedStrategies(new double[] { 0, 0 }, 0, new double[] { 1, 0 }, 0, game)),
+				0.0);
+	}
+}
@@ -0,0 +1,104 @@
+package de.tischner.nashfinder.nash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+
+/**
+ * Tests the {@link EquilibriumStore}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class EquilibriumStoreTest {
+
+	/**
+	 * Maximal difference of two probabilities that are considered equal, one
+	 * rounding step of the equilibria.
+	 */
+	private static final double TOLERANCE = 0.015;
+
+	/**
+	 * Creates an equilibrium of the coordination game.
+	 * 
+	 * @param game
+	 *            The coordination game
+	 * @param firstPlayerProbability
+	 *            Probability of the first player to play <tt>a1</tt>
+	 * @param secondPlayerProbability
+	 *            Probability of the second player to play <tt>a1</tt>
+	 * @return The equilibrium with the given strategies and utilities of
+	 *         zero
+	 */
+	private static NashEquilibrium<String, String> createEquilibrium(final StrategicGame<String, String> game,
+			final double firstPlayerProbability, final double secondPlayerProbability) {
+		return NashEquilibrium.createFromMixedStrategies(
+				new double[] { firstPlayerProbability, 1 - firstPlayerProbability }, 0,
+				new double[] { secondPlayerProbability, 1 - secondPlayerProbability }, 0, game);
+	}
+
+	/**
+	 * Clearing the store removes all equilibria, they can be added again.
+	 */
+	@Test
+	public void testClear() {
+		final StrategicGame<String, String> game = TestGames.createCoordinationGame();
+		final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+		assertNotNull(store.add(createEquilibrium(game, 1, 1)));
+		store.clear();
+		assertEquals(0, store.size());
+		assertEquals(0, store.getEquilibria().size());
+		assertNotNull(store.add(createEquilibrium(game, 1, 1)));
+	}
+
+	/**
+	 * Equilibria whose probabilities are within the tolerance of a stored
+	 * equilibrium with the same support sets are duplicates.
+	 */
+	@Test
+	public void testDuplicates() {
+		final StrategicGame<String, String> game = TestGames.createCoordinationGame();
+		final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+		final NashEquilibrium<String, String> canonical = store.add(createEquilibrium(game, 0.33, 0.33));
+		assertNotNull(canonical);
+		assertNull(store.add(createEquilibrium(game, 0.34, 0.33)));
+		assertNull(store.add(null));
+		assertEquals(1, store.size());
+		assertSame(canonical, store.getEquilibria().get(0));
+		assertNotNull(store.add(createEquilibrium(game, 0.4, 0.33)));
+		assertEquals(2, store.size());
+	}
+
+	/**
+	 * Equilibria that only differ by actions played with probability zero
+	 * have the same support sets and are duplicates.
+	 */
+	@Test
+	public void testExplicitZeroProbabilities() {
+		final StrategicGame<String, String> game = TestGames.createCoordinationGame();
+		final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+		assertNotNull(store.add(NashEquilibrium.createFromPureStrategies("a1", 2, "a1", 2, game)));
+		assertNull(store.add(createEquilibrium(game, 1, 1)));
+		assertNotNull(store.add(createEquilibrium(game, 0, 0)));
+		assertEquals(2, store.size());
+	}
+
+	/**
+	 * Equilibria with close probabilities but different support sets are
+	 * distinct.
+	 */
+	@Test
+	public void testSupportSetsAreDistinct() {
+		final StrategicGame<String, String> game = TestGames.createCoordinationGame();
+		final EquilibriumStore<String, String> store = new EquilibriumStore<>(game, TOLERANCE);
+		assertNotNull(store.add(createEquilibrium(game, 1, 1)));
+		assertNotNull(store.add(createEquilibrium(game, 0.99, 1)));
+		assertEquals(2, store.size());
+	}
+}
@@ -0,0 +1,89 @@
+package de.tischner.nashfinder.reduction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.NashFinder;
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.lemkehowson.LemkeHowsonSolver;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.solver.ESolverBackend;
+
+/**
+ * Tests the {@link DominanceReduction}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DominanceReductionTest {
+
+	/**
+	 * Eliminated actions are played with probability zero in the expanded
+	 * equilibria of the reduced game.
+	 */
+	@Test
+	public void testExpandEquilibrium() {
+		final DominanceReduction<String, String> reduction = new DominanceReduction<>(
+				TestGames.createPrisonersDilemma());
+		final NashEquilibrium<String, String> equilibrium = reduction
+				.expandEquilibrium(new LemkeHowsonSolver<>(reduction.reduce()).solve(0));
+		for (final String player : new String[] { "p1", "p2" }) {
+			assertEquals(0, equilibrium.getNashStrategyOfPlayer(player).getActionProbability("a1").doubleValue(), 0);
+			assertEquals(1, equilibrium.getNashStrategyOfPlayer(player).getActionProbability("a2").doubleValue(), 0);
+		}
+	}
+
+	/**
+	 * An action that is only dominated by a mixture of other actions is
+	 * eliminated too.
+	 */
+	@Test
+	public void testMixedDominance() {
+		final StrategicGame<String, String> game = TestGames.createGame(new int[][] { { 3, 0 }, { 0, 3 }, { 1, 1 } },
+				new int[][] { { 1, 0 }, { 0, 1 }, { 0, 0 } });
+		final DominanceReduction<String, String> reduction = new DominanceReduction<>(game);
+		final StrategicGame<String, String> reducedGame = reduction.reduce();
+		assertEquals(1, reduction.getRemovedActionCount());
+		assertEquals(Arrays.asList("a1", "a2"), new ArrayList<>(reducedGame.getPlayerActions("p1")));
+		assertEquals(Arrays.asList("a1", "a2"), new ArrayList<>(reducedGame.getPlayerActions("p2")));
+	}
+
+	/**
+	 * A game without dominated actions is not reduced.
+	 */
+	@Test
+	public void testNothingDominated() {
+		final DominanceReduction<String, String> reduction = new DominanceReduction<>(
+				TestGames.createCoordinationGame());
+		assertEquals(2, reduction.reduce().getPlayerActions("p1").size());
+		assertEquals(0, reduction.getRemovedActionCount());
+	}
+
+	/**
+	 * The prisoner's dilemma is reduced to its only equilibrium, the nash
+	 * finder reports it under the remaining actions.
+	 */
+	@Test
+	public void testPrisonersDilemma() {
+		final DominanceReduction<String, String> reduction = new DominanceReduction<>(
+				TestGames.createPrisonersDilemma());
+		final StrategicGame<String, String> reducedGame = reduction.reduce();
+		assertEquals(2, reduction.getRemovedActionCount());
+		assertEquals(Arrays.asList("a2"), new ArrayList<>(reducedGame.getPlayerActions("p1")));
+		assertEquals(Arrays.asList("a2"), new ArrayList<>(reducedGame.getPlayerActions("p2")));
+
+		final NashFinder finder = new NashFinder(TestGames.createPrisonersDilemma(), null);
+		finder.setSolverBackend(ESolverBackend.DENSE);
+		finder.setUseDominanceReduction(true);
+		finder.computeNashEquilibria();
+		final String results = finder.toString();
+		assertTrue(results, results.startsWith("[p1: [a2], p2: [a2]]" + System.lineSeparator()));
+		assertEquals(results, 1, results.split("\\[p1: ").length - 1);
+	}
+}
@@ -0,0 +1,83 @@
+package de.tischner.nashfinder.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Tests the pure Java {@link DenseLpSolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DenseLpSolverTest {
+
+	/**
+	 * Maximal difference of values that are considered equal.
+	 */
+	private static final double TOLERANCE = 1e-9;
+
+	/**
+	 * The best response system of matching pennies, with payoffs shifted to
+	 * be non-negative, mixes both actions equally.
+	 */
+	@Test
+	public void testBestResponseSystemOfMatchingPennies() {
+		final double[] result = new DenseLpSolver().solveBestResponseSystem(new double[] { 2, 0, 0, 2 }, 2, 2);
+		assertArrayEquals(new double[] { 0.5, 0.5, 1 }, result, TOLERANCE);
+	}
+
+	/**
+	 * A pure best response plays a dominating action with probability one.
+	 */
+	@Test
+	public void testBestResponseSystemWithDominatingAction() {
+		final double[] result = new DenseLpSolver().solveBestResponseSystem(new double[] { 1, 2, 3, 4 }, 2, 2);
+		assertArrayEquals(new double[] { 0, 1, 3 }, result, TOLERANCE);
+	}
+
+	/**
+	 * A program whose constraints contradict each other has no solution.
+	 */
+	@Test
+	public void testInfeasibleProgram() {
+		final double[] result = new DenseLpSolver().maximize(new double[] { 1 }, new double[] { 1, 1 },
+				new ERelation[] { ERelation.GREATER_EQUAL, ERelation.LESS_EQUAL }, new double[] { 2, 1 }, 2, 1);
+		assertNull(result);
+	}
+
+	/**
+	 * A program with inequalities of both directions is maximized at the
+	 * vertex of its feasible region.
+	 */
+	@Test
+	public void testMaximize() {
+		final double[] result = new DenseLpSolver().maximize(new double[] { 1, 1 }, new double[] { 1, 2, 3, 1, 1, 0 },
+				new ERelation[] { ERelation.LESS_EQUAL, ERelation.LESS_EQUAL, ERelation.GREATER_EQUAL },
+				new double[] { 4, 6, 1 }, 3, 2);
+		assertArrayEquals(new double[] { 1.6, 1.2 }, result, TOLERANCE);
+	}
+
+	/**
+	 * The expected utility is bounded to be non-negative like by
+	 * <i>lp_solve</i>, a system with negative payoffs only has no solution.
+	 */
+	@Test
+	public void testNegativeUtilityIsInfeasible() {
+		assertNull(new DenseLpSolver().solveBestResponseSystem(new double[] { -1, -2 }, 1, 2));
+	}
+
+	/**
+	 * A solver can be reused for programs of different sizes.
+	 */
+	@Test
+	public void testReuse() {
+		final DenseLpSolver solver = new DenseLpSolver();
+		assertArrayEquals(new double[] { 0.5, 0.5, 1 },
+				solver.solveBestResponseSystem(new double[] { 2, 0, 0, 2 }, 2, 2), TOLERANCE);
+		assertNull(solver.solveBestResponseSystem(new double[] { -1, -2 }, 1, 2));
+		assertArrayEquals(new double[] { 1, 5 }, solver.solveBestResponseSystem(new double[] { 5, 7, 6 }, 1, 3),
+				TOLERANCE);
+	}
+}
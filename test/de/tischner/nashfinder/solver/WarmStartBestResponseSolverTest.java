@@ -0,0 +1,115 @@
+package de.tischner.nashfinder.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link WarmStartBestResponseSolver} against solving every system
+ * on its own with the {@link DenseLpSolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WarmStartBestResponseSolverTest {
+
+	/**
+	 * Maximal difference of two values that are considered equal.
+	 */
+	private static final double TOLERANCE = 1e-6;
+
+	/**
+	 * Solves every constellation of the given payoffs with a warm-started
+	 * solver, in Gray-code order, and on its own and asserts that the results
+	 * are equal.
+	 * 
+	 * @param payoffs
+	 *            Payoffs of the protagonist in row-major order
+	 * @param actionCount
+	 *            Amount of actions of the protagonist
+	 * @param responseCount
+	 *            Amount of actions of the antagonist
+	 */
+	private static void assertAgreesWithDenseSolver(final double[] payoffs, final int actionCount,
+			final int responseCount) {
+		final WarmStartBestResponseSolver warmSolver = new WarmStartBestResponseSolver(payoffs, actionCount,
+				responseCount);
+		final DenseLpSolver denseSolver = new DenseLpSolver();
+		final long constellationCount = 1L << (actionCount + responseCount);
+		for (long index = 0; index < constellationCount; index++) {
+			final long constellation = index ^ (index >>> 1);
+			final long actions = constellation >>> responseCount;
+			final long responses = constellation & ((1L << responseCount) - 1);
+			final double[] result = warmSolver.solve(actions, responses);
+			if (actions == 0 || responses == 0) {
+				assertNull(result);
+				continue;
+			}
+			final double[] expected = denseSolver.solveBestResponseSystem(
+					subPayoffs(payoffs, responseCount, actions, responses), Long.bitCount(actions),
+					Long.bitCount(responses));
+			if (expected == null) {
+				assertNull(result);
+			} else {
+				assertArrayEquals("Constellation: " + constellation, expected, result, TOLERANCE);
+			}
+		}
+	}
+
+	/**
+	 * Gets the payoffs of the given support sets.
+	 * 
+	 * @param payoffs
+	 *            Payoffs of the protagonist in row-major order
+	 * @param responseCount
+	 *            Amount of actions of the antagonist
+	 * @param actions
+	 *            Bitmask of the support set of the protagonist
+	 * @param responses
+	 *            Bitmask of the support set of the antagonist
+	 * @return The payoffs of the support sets in row-major order
+	 */
+	private static double[] subPayoffs(final double[] payoffs, final int responseCount, final long actions,
+			final long responses) {
+		final double[] subPayoffs = new double[Long.bitCount(actions) * Long.bitCount(responses)];
+		int index = 0;
+		for (int action = 0; action < payoffs.length / responseCount; action++) {
+			for (int response = 0; response < responseCount; response++) {
+				if ((actions & (1L << action)) != 0 && (responses & (1L << response)) != 0) {
+					subPayoffs[index] = payoffs[action * responseCount + response];
+					index++;
+				}
+			}
+		}
+		return subPayoffs;
+	}
+
+	/**
+	 * Payoffs that are all equal give every system infinitely many optima.
+	 */
+	@Test
+	public void testEqualPayoffs() {
+		final double[] payoffs = new double[4 * 3];
+		Arrays.fill(payoffs, 2);
+		assertAgreesWithDenseSolver(payoffs, 4, 3);
+	}
+
+	/**
+	 * Random payoffs out of few values, such that they often tie.
+	 */
+	@Test
+	public void testTiedPayoffs() {
+		final Random random = new Random(0);
+		for (int game = 0; game < 20; game++) {
+			final double[] payoffs = new double[4 * 4];
+			for (int i = 0; i < payoffs.length; i++) {
+				payoffs[i] = random.nextInt(4);
+			}
+			assertAgreesWithDenseSolver(payoffs, 4, 4);
+		}
+	}
+}
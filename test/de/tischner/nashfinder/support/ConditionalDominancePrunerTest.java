@@ -0,0 +1,75 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConditionalDominancePruner}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ConditionalDominancePrunerTest {
+
+
+	/**
+	 * Creates a pruner for the coordination game, where both players prefer
+	 * to play the same action.
+	 * 
+	 * @return The pruner for the coordination game
+	 */
+	private static ConditionalDominancePruner createCoordinationPruner() {
+		final double[][] payoffs = new double[][] { { 2, 0 }, { 0, 1 } };
+		return new ConditionalDominancePruner(payoffs, payoffs);
+	}
+
+	/**
+	 * Actions are only dominated given some supports of the antagonist in the
+	 * coordination game.
+	 */
+	@Test
+	public void testConditionalDominance() {
+		final ConditionalDominancePruner pruner = createCoordinationPruner();
+		assertTrue(pruner.isActive());
+		assertEquals(0b01L, pruner.getUndominatedFirstPlayerActions(0b01L));
+		assertEquals(0b10L, pruner.getUndominatedFirstPlayerActions(0b10L));
+		assertEquals(0b11L, pruner.getUndominatedFirstPlayerActions(0b11L));
+		assertEquals(0b01L, pruner.getUndominatedSecondPlayerActions(0b01L));
+		assertEquals(0b11L, pruner.getUndominatedSecondPlayerActions(0b11L));
+	}
+
+	/**
+	 * Only the constellation of the pure equilibrium of the prisoner's
+	 * dilemma is not pruned, since its first action is always dominated.
+	 */
+	@Test
+	public void testPrisonersDilemma() {
+		final ConditionalDominancePruner pruner = new ConditionalDominancePruner(
+				new double[][] { { 3, 0 }, { 5, 1 } }, new double[][] { { 3, 5 }, { 0, 1 } });
+		for (long firstPlayerSupport = 1; firstPlayerSupport <= 0b11L; firstPlayerSupport++) {
+			for (long secondPlayerSupport = 1; secondPlayerSupport <= 0b11L; secondPlayerSupport++) {
+				assertEquals(firstPlayerSupport + " " + secondPlayerSupport,
+						firstPlayerSupport != 0b10L || secondPlayerSupport != 0b10L,
+						pruner.isPrunable(firstPlayerSupport, secondPlayerSupport));
+			}
+		}
+	}
+
+	/**
+	 * Constellations are pruned if a player has an action that is dominated
+	 * given the support of the antagonist.
+	 */
+	@Test
+	public void testPrunedConstellations() {
+		final ConditionalDominancePruner pruner = createCoordinationPruner();
+		assertTrue(pruner.isPrunable(0b11L, 0b01L));
+		assertTrue(pruner.isPrunable(0b01L, 0b11L));
+		assertTrue(pruner.isPrunable(0b01L, 0b10L));
+		assertFalse(pruner.isPrunable(0b01L, 0b01L));
+		assertFalse(pruner.isPrunable(0b10L, 0b10L));
+		assertFalse(pruner.isPrunable(0b11L, 0b11L));
+	}
+}
@@ -0,0 +1,85 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link InfeasibleSupportCache}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InfeasibleSupportCacheTest {
+
+	/**
+	 * Once the capacity is reached, the oldest record of a player is
+	 * replaced.
+	 */
+	@Test
+	public void testCapacity() {
+		final InfeasibleSupportCache cache = new InfeasibleSupportCache(1);
+		cache.addInfeasible(0, 0b01L, 0b01L);
+		assertTrue(cache.isInfeasible(0b01L, 0b01L));
+		cache.addInfeasible(0, 0b10L, 0b10L);
+		assertFalse(cache.isInfeasible(0b01L, 0b01L));
+		assertTrue(cache.isInfeasible(0b10L, 0b10L));
+
+		final InfeasibleSupportCache disabledCache = new InfeasibleSupportCache(0);
+		disabledCache.addInfeasible(0, 0b01L, 0b01L);
+		assertFalse(disabledCache.isInfeasible(0b01L, 0b01L));
+	}
+
+	/**
+	 * Clearing the cache removes all records.
+	 */
+	@Test
+	public void testClear() {
+		final InfeasibleSupportCache cache = new InfeasibleSupportCache(4);
+		cache.addInfeasible(0, 0b01L, 0b01L);
+		cache.addInfeasible(1, 0b01L, 0b01L);
+		cache.clear();
+		assertFalse(cache.isInfeasible(0b01L, 0b01L));
+	}
+
+	/**
+	 * Records against an empty antagonist support set are ignored, since that
+	 * system is unbounded instead of infeasible.
+	 */
+	@Test
+	public void testEmptyAntagonistSet() {
+		final InfeasibleSupportCache cache = new InfeasibleSupportCache(4);
+		cache.addInfeasible(0, 0b11L, 0L);
+		assertFalse(cache.isInfeasible(0b01L, 0b01L));
+		assertFalse(cache.isInfeasible(0b11L, 0L));
+	}
+
+	/**
+	 * A record of the first player resolves every subset of its support set
+	 * against every superset of the support set of the second player.
+	 */
+	@Test
+	public void testFirstPlayerRecord() {
+		final InfeasibleSupportCache cache = new InfeasibleSupportCache(4);
+		cache.addInfeasible(0, 0b011L, 0b01L);
+		assertTrue(cache.isInfeasible(0b011L, 0b01L));
+		assertTrue(cache.isInfeasible(0b001L, 0b11L));
+		assertFalse(cache.isInfeasible(0b111L, 0b01L));
+		assertFalse(cache.isInfeasible(0b011L, 0b10L));
+	}
+
+	/**
+	 * A record of the second player resolves every superset of the support
+	 * set of the first player against every subset of its support set.
+	 */
+	@Test
+	public void testSecondPlayerRecord() {
+		final InfeasibleSupportCache cache = new InfeasibleSupportCache(4);
+		cache.addInfeasible(1, 0b110L, 0b10L);
+		assertTrue(cache.isInfeasible(0b10L, 0b110L));
+		assertTrue(cache.isInfeasible(0b11L, 0b010L));
+		assertFalse(cache.isInfeasible(0b01L, 0b010L));
+		assertFalse(cache.isInfeasible(0b10L, 0b111L));
+	}
+}
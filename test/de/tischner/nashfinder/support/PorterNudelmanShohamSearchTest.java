@@ -0,0 +1,99 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+import de.tischner.nashfinder.util.Deadline;
+
+/**
+ * Tests the {@link PorterNudelmanShohamSearch}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PorterNudelmanShohamSearchTest {
+
+	/**
+	 * Maximal difference of probabilities that are considered equal, it
+	 * covers the rounding of equilibria.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * Gets the probability that the given player plays the given action in
+	 * the given equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to get the probability of
+	 * @param player
+	 *            Player that plays the action
+	 * @param action
+	 *            Action to get the probability of
+	 * @return The probability of the action, zero if it is not listed
+	 */
+	private static double getProbability(final NashEquilibrium<String, String> equilibrium, final String player,
+			final String action) {
+		final Number probability = equilibrium.getNashStrategyOfPlayer(player).getActionProbability(action);
+		if (probability == null) {
+			return 0;
+		}
+		return probability.doubleValue();
+	}
+
+	/**
+	 * The pure equilibria of the coordination game are found before its mixed
+	 * equilibrium, since small supports are searched first.
+	 */
+	@Test
+	public void testCoordinationGame() {
+		final List<NashEquilibrium<String, String>> equilibria = new PorterNudelmanShohamSearch<>(
+				TestGames.createCoordinationGame()).solve(Integer.MAX_VALUE, Deadline.none());
+		assertEquals(equilibria.toString(), 3, equilibria.size());
+		assertEquals(1, getProbability(equilibria.get(0), "p1", "a1"), TOLERANCE);
+		assertEquals(1, getProbability(equilibria.get(1), "p1", "a2"), TOLERANCE);
+		for (final String player : new String[] { "p1", "p2" }) {
+			assertEquals(1.0 / 3, getProbability(equilibria.get(2), player, "a1"), TOLERANCE);
+			assertEquals(2.0 / 3, getProbability(equilibria.get(2), player, "a2"), TOLERANCE);
+		}
+	}
+
+	/**
+	 * A maximal amount of equilibria smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalMaxEquilibria() {
+		new PorterNudelmanShohamSearch<>(TestGames.createCoordinationGame()).solve(0, Deadline.none());
+	}
+
+	/**
+	 * The only equilibrium of matching pennies is found for the supports with
+	 * both actions.
+	 */
+	@Test
+	public void testMatchingPennies() {
+		final List<NashEquilibrium<String, String>> equilibria = new PorterNudelmanShohamSearch<>(
+				TestGames.createMatchingPennies()).solve(Integer.MAX_VALUE, Deadline.none());
+		assertEquals(1, equilibria.size());
+		for (final String player : new String[] { "p1", "p2" }) {
+			assertEquals(0.5, getProbability(equilibria.get(0), player, "a1"), TOLERANCE);
+			assertEquals(0.5, getProbability(equilibria.get(0), player, "a2"), TOLERANCE);
+		}
+	}
+
+	/**
+	 * The search stops at the first equilibrium if only one is requested.
+	 */
+	@Test
+	public void testStopsAtFirstEquilibrium() {
+		final List<NashEquilibrium<String, String>> equilibria = new PorterNudelmanShohamSearch<>(
+				TestGames.createCoordinationGame()).solve(1, Deadline.none());
+		assertEquals(1, equilibria.size());
+		assertEquals(1, getProbability(equilibria.get(0), "p1", "a1"), TOLERANCE);
+		assertEquals(1, getProbability(equilibria.get(0), "p2", "a1"), TOLERANCE);
+	}
+}
@@ -0,0 +1,81 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Tests the {@link PureEquilibriumScanner}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PureEquilibriumScannerTest {
+
+	/**
+	 * Both pure equilibria of the coordination game are found in row-major
+	 * order.
+	 */
+	@Test
+	public void testCoordinationGame() {
+		final PureEquilibriumScanner<String, String> scanner = new PureEquilibriumScanner<>(
+				TestGames.createCoordinationGame());
+		assertArrayEquals(new int[] { 0, 3 }, scanner.scan(Integer.MAX_VALUE));
+
+		final List<NashEquilibrium<String, String>> equilibria = scanner.solve(Integer.MAX_VALUE);
+		assertEquals(2, equilibria.size());
+		assertEquals(1.0, equilibria.get(0).getNashStrategyOfPlayer("p1").getActionProbability("a1").doubleValue(),
+				0.0);
+		assertEquals(2, equilibria.get(0).getExpectedUtilityOfPlayer("p2").intValue());
+		assertEquals(1.0, equilibria.get(1).getNashStrategyOfPlayer("p2").getActionProbability("a2").doubleValue(),
+				0.0);
+		assertEquals(1, equilibria.get(1).getExpectedUtilityOfPlayer("p1").intValue());
+	}
+
+	/**
+	 * A maximal amount of equilibria smaller than one is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalMaxEquilibria() {
+		new PureEquilibriumScanner<>(TestGames.createCoordinationGame()).scan(0);
+	}
+
+	/**
+	 * Matching pennies has no pure equilibrium.
+	 */
+	@Test
+	public void testMatchingPennies() {
+		final PureEquilibriumScanner<String, String> scanner = new PureEquilibriumScanner<>(
+				TestGames.createMatchingPennies());
+		assertEquals(0, scanner.scan(Integer.MAX_VALUE).length);
+		assertEquals(0, scanner.solve(Integer.MAX_VALUE).size());
+	}
+
+	/**
+	 * The scan stops once the maximal amount of equilibria was found.
+	 */
+	@Test
+	public void testMaxEquilibria() {
+		final PureEquilibriumScanner<String, String> scanner = new PureEquilibriumScanner<>(
+				TestGames.createCoordinationGame());
+		assertArrayEquals(new int[] { 0 }, scanner.scan(1));
+		assertEquals(1, scanner.solve(1).size());
+	}
+
+	/**
+	 * Ties of best responses yield every profile where both players play one
+	 * of their best responses.
+	 */
+	@Test
+	public void testTies() {
+		final PureEquilibriumScanner<String, String> scanner = new PureEquilibriumScanner<>(TestGames
+				.createGame(new int[][] { { 1, 1, 0 }, { 1, 1, 0 } }, new int[][] { { 2, 2, 2 }, { 0, 1, 1 } }));
+		assertArrayEquals(new int[] { 0, 1, 2, 4, 5 }, scanner.scan(Integer.MAX_VALUE));
+	}
+}
@@ -0,0 +1,110 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.nash.NashEquilibrium;
+
+/**
+ * Tests the {@link SupportFeasibilitySolver}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SupportFeasibilitySolverTest {
+
+	/**
+	 * Maximal difference of probabilities that are considered equal, it
+	 * covers the rounding of equilibria.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * Gets the probability that the given player plays the given action in
+	 * the given equilibrium.
+	 * 
+	 * @param equilibrium
+	 *            Equilibrium to get the probability of
+	 * @param player
+	 *            Player that plays the action
+	 * @param action
+	 *            Action to get the probability of
+	 * @return The probability of the action, zero if it is not listed
+	 */
+	private static double getProbability(final NashEquilibrium<String, String> equilibrium, final String player,
+			final String action) {
+		final Number probability = equilibrium.getNashStrategyOfPlayer(player).getActionProbability(action);
+		if (probability == null) {
+			return 0;
+		}
+		return probability.doubleValue();
+	}
+
+	/**
+	 * The square system of the full supports of the coordination game yields
+	 * its mixed equilibrium.
+	 */
+	@Test
+	public void testCoordinationGame() {
+		final SupportFeasibilitySolver<String, String> solver = new SupportFeasibilitySolver<>(
+				TestGames.createCoordinationGame());
+		final NashEquilibrium<String, String> equilibrium = solver.solve(new int[] { 0, 1 }, new int[] { 0, 1 });
+		assertNotNull(equilibrium);
+		assertEquals(1.0 / 3, getProbability(equilibrium, "p1", "a1"), TOLERANCE);
+		assertEquals(1.0 / 3, getProbability(equilibrium, "p2", "a1"), TOLERANCE);
+		assertEquals(2.0 / 3, equilibrium.getExpectedUtilityOfPlayer("p1").doubleValue(), TOLERANCE);
+	}
+
+	/**
+	 * Supports of different size are solved by the feasibility program.
+	 */
+	@Test
+	public void testDifferentSupportSizes() {
+		final StrategicGame<String, String> game = TestGames.createGame(new int[][] { { 1, 0 }, { 1, 0 } },
+				new int[][] { { 1, 0 }, { 1, 0 } });
+		final SupportFeasibilitySolver<String, String> solver = new SupportFeasibilitySolver<>(game);
+		final NashEquilibrium<String, String> equilibrium = solver.solve(new int[] { 0, 1 }, new int[] { 0 });
+		assertNotNull(equilibrium);
+		assertEquals(1, getProbability(equilibrium, "p1", "a1") + getProbability(equilibrium, "p1", "a2"),
+				TOLERANCE);
+		assertEquals(1, getProbability(equilibrium, "p2", "a1"), TOLERANCE);
+
+		assertNull(solver.solve(new int[] { 0 }, new int[] { 1 }));
+	}
+
+	/**
+	 * Square systems whose solution has negative probabilities hold no
+	 * equilibrium.
+	 */
+	@Test
+	public void testNegativeProbabilities() {
+		final SupportFeasibilitySolver<String, String> solver = new SupportFeasibilitySolver<>(
+				TestGames.createPrisonersDilemma());
+		assertNull(solver.solve(new int[] { 0, 1 }, new int[] { 0, 1 }));
+	}
+
+	/**
+	 * Pure supports only hold an equilibrium if no action outside of them is
+	 * better.
+	 */
+	@Test
+	public void testPureSupports() {
+		final SupportFeasibilitySolver<String, String> solver = new SupportFeasibilitySolver<>(
+				TestGames.createPrisonersDilemma());
+		assertEquals(2, solver.getFirstPlayerActionCount());
+		assertEquals(2, solver.getSecondPlayerActionCount());
+		assertNull(solver.solve(new int[] { 0 }, new int[] { 0 }));
+		assertNull(solver.solve(new int[] { 0 }, new int[] { 1 }));
+
+		final NashEquilibrium<String, String> equilibrium = solver.solve(new int[] { 1 }, new int[] { 1 });
+		assertNotNull(equilibrium);
+		assertEquals(1, getProbability(equilibrium, "p1", "a2"), TOLERANCE);
+		assertEquals(1, getProbability(equilibrium, "p2", "a2"), TOLERANCE);
+		assertEquals(1, equilibrium.getExpectedUtilityOfPlayer("p2").doubleValue(), TOLERANCE);
+	}
+}
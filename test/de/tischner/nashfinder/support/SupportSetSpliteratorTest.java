@@ -0,0 +1,131 @@
+package de.tischner.nashfinder.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.game.util.CompactSupportSet;
+
+/**
+ * Tests the {@link SupportSetSpliterator}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SupportSetSpliteratorTest {
+
+	/**
+	 * Collects the remaining constellations of a spliterator, each in the
+	 * format <tt>first/second</tt> of both bitmasks.
+	 * 
+	 * @param spliterator
+	 *            The spliterator to collect
+	 * @return The remaining constellations in the order of the spliterator
+	 */
+	private static List<String> collect(final SupportSetSpliterator spliterator) {
+		final List<String> constellations = new ArrayList<>();
+		spliterator.forEachRemaining(constellation -> constellations.add(toText(constellation)));
+		return constellations;
+	}
+
+	/**
+	 * Recursively splits a spliterator and collects the constellations of all
+	 * parts, the prefix of every split first.
+	 * 
+	 * @param spliterator
+	 *            The spliterator to split and collect
+	 * @param constellations
+	 *            List to add the constellations to
+	 */
+	private static void collectSplit(final SupportSetSpliterator spliterator, final List<String> constellations) {
+		final SupportSetSpliterator prefix = spliterator.trySplit();
+		if (prefix == null) {
+			constellations.addAll(collect(spliterator));
+			return;
+		}
+		collectSplit(prefix, constellations);
+		collectSplit(spliterator, constellations);
+	}
+
+	/**
+	 * Gets the text format <tt>first/second</tt> of a constellation.
+	 * 
+	 * @param constellation
+	 *            The constellation
+	 * @return The bitmasks of both support sets, separated by a slash
+	 */
+	private static String toText(final CompactSupportSet[] constellation) {
+		return Long.toBinaryString(constellation[0].getBitmask()) + "/"
+				+ Long.toBinaryString(constellation[1].getBitmask());
+	}
+
+	/**
+	 * All constellations are visited as the cartesian product of the power
+	 * sets, from the full sets down to the empty sets.
+	 */
+	@Test
+	public void testAllConstellations() {
+		final SupportSetSpliterator spliterator = SupportSetSpliterator.allConstellations(2, 3);
+		assertEquals(32, spliterator.estimateSize());
+
+		final List<String> constellations = collect(spliterator);
+		assertEquals(32, constellations.size());
+		assertEquals("11/111", constellations.get(0));
+		assertEquals("11/110", constellations.get(1));
+		assertEquals("11/0", constellations.get(7));
+		assertEquals("10/111", constellations.get(8));
+		assertEquals("0/0", constellations.get(31));
+		assertEquals(0, spliterator.estimateSize());
+	}
+
+	/**
+	 * Splitting the spliterator recursively keeps the order of the
+	 * constellations.
+	 */
+	@Test
+	public void testSplitKeepsOrder() {
+		final List<String> expected = collect(SupportSetSpliterator.allConstellations(3, 4));
+		final List<String> split = new ArrayList<>();
+		collectSplit(SupportSetSpliterator.allConstellations(3, 4), split);
+		assertEquals(expected, split);
+	}
+
+	/**
+	 * A spliterator over a single constellation can not be split.
+	 */
+	@Test
+	public void testSplitSingleConstellation() {
+		final SupportSetSpliterator spliterator = SupportSetSpliterator.allConstellations(0, 0);
+		assertEquals(1, spliterator.estimateSize());
+		assertNull(spliterator.trySplit());
+	}
+
+	/**
+	 * Symmetric constellations visit the power set of the actions once, with
+	 * the same support set for both players.
+	 */
+	@Test
+	public void testSymmetricConstellations() {
+		final SupportSetSpliterator spliterator = SupportSetSpliterator.symmetricConstellations(3);
+		assertEquals(8, spliterator.estimateSize());
+
+		final List<String> constellations = collect(spliterator);
+		assertEquals(8, constellations.size());
+		assertEquals("111/111", constellations.get(0));
+		assertEquals("110/110", constellations.get(1));
+		assertEquals("0/0", constellations.get(7));
+	}
+
+	/**
+	 * Games whose constellations do not fit into the positions of the
+	 * spliterator are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooManyActions() {
+		SupportSetSpliterator.allConstellations(40, 30);
+	}
+}
@@ -0,0 +1,133 @@
+package de.tischner.nashfinder.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+import de.tischner.nashfinder.game.util.ActionProfile;
+
+/**
+ * Tests the {@link BinaryGameFormat}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class BinaryGameFormatTest {
+
+	/**
+	 * Asserts that two games with two players have the same players, actions
+	 * and payoffs.
+	 * 
+	 * @param expected
+	 *            The expected game
+	 * @param actual
+	 *            The actual game
+	 */
+	private static void assertSameGame(final StrategicGame<String, String> expected,
+			final StrategicGame<String, String> actual) {
+		assertEquals(expected.toString(), actual.toString());
+		final Iterator<String> players = expected.getPlayers();
+		final int firstPlayerActionCount = expected.getPlayerActions(players.next()).size();
+		final int secondPlayerActionCount = expected.getPlayerActions(players.next()).size();
+		for (int row = 0; row < firstPlayerActionCount; row++) {
+			for (int column = 0; column < secondPlayerActionCount; column++) {
+				assertEquals(expected.getPayoff(0, row, column), actual.getPayoff(0, row, column));
+				assertEquals(expected.getPayoff(1, row, column), actual.getPayoff(1, row, column));
+			}
+		}
+	}
+
+	/**
+	 * Temporary folder for the binary game files.
+	 */
+	@Rule
+	public final TemporaryFolder mFolder = new TemporaryFolder();
+
+	/**
+	 * Payoffs can be added to a loaded game without changing its file.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the game
+	 */
+	@Test
+	public void testAddPayoffAfterLoading() throws IOException {
+		final File file = this.mFolder.newFile("game03.nfg");
+		BinaryGameFormat.convertJsonToBinary(new File(TestGames.GAME03), file);
+
+		final StrategicGame<String, String> game = BinaryGameFormat.loadStrategicGameBinary(file);
+		final ActionProfile<String> actionProfile = new ActionProfile<>();
+		actionProfile.addAction("r1");
+		actionProfile.addAction("r2");
+		game.addPayoff(Arrays.asList(Integer.valueOf(7), Integer.valueOf(8)), actionProfile);
+		assertEquals(7, game.getPayoff(0, 0, 1));
+		assertEquals(8, game.getPayoff(1, 0, 1));
+
+		final StrategicGame<String, String> reloaded = BinaryGameFormat.loadStrategicGameBinary(file);
+		assertEquals(3, reloaded.getPayoff(0, 0, 1));
+		assertEquals(1, reloaded.getPayoff(1, 0, 1));
+	}
+
+	/**
+	 * Binary files are recognized by their magic number, also when parsing
+	 * games of unknown format.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the game
+	 */
+	@Test
+	public void testIsBinaryGame() throws IOException {
+		final File file = this.mFolder.newFile("game03.nfg");
+		BinaryGameFormat.convertJsonToBinary(new File(TestGames.GAME03), file);
+
+		assertTrue(BinaryGameFormat.isBinaryGame(file));
+		assertFalse(BinaryGameFormat.isBinaryGame(new File(TestGames.GAME03)));
+		assertFalse(BinaryGameFormat.isBinaryGame(this.mFolder.newFile("empty.nfg")));
+		assertSameGame(StrategicGameParser.parseStrategicGameJson(TestGames.GAME03),
+				StrategicGameParser.parseStrategicGame(file));
+	}
+
+	/**
+	 * Games keep their players, actions and payoffs when written and loaded
+	 * again.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the game
+	 */
+	@Test
+	public void testRoundTrip() throws IOException {
+		final StrategicGame<String, String> game = TestGames.createGame(new int[][] { { 1, -2, 3 }, { -4, 5, -6 } },
+				new int[][] { { 6, 5, 4 }, { 3, 2, Integer.MIN_VALUE } });
+		final File file = this.mFolder.newFile("game.nfg");
+		BinaryGameFormat.writeStrategicGameBinary(game, file);
+
+		assertSameGame(game, BinaryGameFormat.loadStrategicGameBinary(file));
+	}
+
+	/**
+	 * Files that end within the game are rejected.
+	 * 
+	 * @throws IOException
+	 *             If an I/O-Exception occurred while writing the game
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTruncatedFile() throws IOException {
+		final File file = this.mFolder.newFile("game03.nfg");
+		BinaryGameFormat.convertJsonToBinary(new File(TestGames.GAME03), file);
+		final byte[] content = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(content, content.length - Integer.BYTES));
+
+		BinaryGameFormat.loadStrategicGameBinary(file);
+	}
+}
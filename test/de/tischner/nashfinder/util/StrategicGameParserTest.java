@@ -0,0 +1,109 @@
+package de.tischner.nashfinder.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.TestGames;
+import de.tischner.nashfinder.game.StrategicGame;
+
+/**
+ * Tests the {@link StrategicGameParser}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class StrategicGameParserTest {
+
+	/**
+	 * The content of the matching pennies example.
+	 */
+	private static final String MATCHING_PENNIES = "{\"Agents\": [\"player1\", \"player2\"], "
+			+ "\"Actions\": [[\"H\", \"T\"], [\"H\", \"T\"]], "
+			+ "\"Values\": [[[1,-1], [-1,1]], [[-1,1], [1,-1]]]}";
+
+	/**
+	 * Asserts that a game has the payoffs of matching pennies.
+	 * 
+	 * @param game
+	 *            The game to check
+	 */
+	private static void assertMatchingPennies(final StrategicGame<String, String> game) {
+		assertEquals(2, game.getPlayerCount());
+		assertEquals(0, game.getPlayerIndex("player1"));
+		assertEquals(1, game.getActionIndex("player2", "T"));
+		for (int row = 0; row < 2; row++) {
+			for (int column = 0; column < 2; column++) {
+				final int expected = row == column ? 1 : -1;
+				assertEquals(expected, game.getPayoff(0, row, column));
+				assertEquals(-expected, game.getPayoff(1, row, column));
+			}
+		}
+	}
+
+	/**
+	 * Actions that a player lists twice are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateActions() {
+		StrategicGameParser
+				.parseStrategicGameJsonContent(MATCHING_PENNIES.replace("[\"H\", \"T\"]]", "[\"H\", \"H\"]]"));
+	}
+
+	/**
+	 * Files and their content yield the same game.
+	 */
+	@Test
+	public void testFileEqualsContent() {
+		final StrategicGame<String, String> game = StrategicGameParser
+				.parseStrategicGameJson(TestGames.MATCHING_PENNIES);
+		assertMatchingPennies(game);
+		assertEquals(StrategicGameParser.parseStrategicGameJsonContent(MATCHING_PENNIES).toString(),
+				game.toString());
+	}
+
+	/**
+	 * Payoffs that are not integers are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalPayoff() {
+		StrategicGameParser
+				.parseStrategicGameJsonContent(MATCHING_PENNIES.replace("[1,-1], [-1,1]]", "[1,-1], [-1,x]]"));
+	}
+
+	/**
+	 * Json content that ends early is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedJson() {
+		StrategicGameParser.parseStrategicGameJsonContent(MATCHING_PENNIES.substring(0, MATCHING_PENNIES.length() - 2));
+	}
+
+	/**
+	 * Games with other than two players are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testOnePlayer() {
+		StrategicGameParser.parseStrategicGameJsonContent(
+				"{\"Agents\": [\"player1\"], \"Actions\": [[\"H\", \"T\"]], \"Values\": [[1], [2]]}");
+	}
+
+	/**
+	 * The content of a game is parsed with its payoffs.
+	 */
+	@Test
+	public void testParseContent() {
+		assertMatchingPennies(StrategicGameParser.parseStrategicGameJsonContent(MATCHING_PENNIES));
+	}
+
+	/**
+	 * Payoffs that are listed before the players and actions are assigned
+	 * once the actions are known.
+	 */
+	@Test
+	public void testPayoffsBeforeActions() {
+		assertMatchingPennies(StrategicGameParser
+				.parseStrategicGameJsonContent("{\"Values\": [[[1,-1], [-1,1]], [[-1,1], [1,-1]]], "
+						+ "\"Agents\": [\"player1\", \"player2\"], \"Actions\": [[\"H\", \"T\"], [\"H\", \"T\"]]}"));
+	}
+}
@@ -0,0 +1,75 @@
+package de.tischner.nashfinder.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.tischner.nashfinder.game.util.SupportSet;
+
+/**
+ * Tests the {@link SupportSetParser}.
+ * 
+ * @author Daniel Tischner {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SupportSetParserTest {
+
+	/**
+	 * Support sets with missing actions are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptySupportSet() {
+		SupportSetParser.parseSupportSets("[H][]", Arrays.asList("p1", "p2").iterator());
+	}
+
+	/**
+	 * Missing support sets yield an empty list.
+	 */
+	@Test
+	public void testMissingSupportSets() {
+		assertTrue(SupportSetParser.parseSupportSets(null, Arrays.asList("p1", "p2").iterator()).isEmpty());
+		assertTrue(SupportSetParser.parseSupportSets("", Arrays.asList("p1", "p2").iterator()).isEmpty());
+	}
+
+	/**
+	 * Every support set is assigned to the next player, the actions are
+	 * trimmed.
+	 */
+	@Test
+	public void testParseSupportSets() {
+		final List<SupportSet<String, String>> supportSets = SupportSetParser.parseSupportSets(" [H, T] [T] ",
+				Arrays.asList("p1", "p2").iterator());
+		assertEquals(2, supportSets.size());
+
+		final SupportSet<String, String> first = supportSets.get(0);
+		assertEquals("p1", first.getPlayer());
+		assertTrue(first.hasAction("H"));
+		assertTrue(first.hasAction("T"));
+
+		final SupportSet<String, String> second = supportSets.get(1);
+		assertEquals("p2", second.getPlayer());
+		assertFalse(second.hasAction("H"));
+		assertTrue(second.hasAction("T"));
+	}
+
+	/**
+	 * More support sets than players are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooFewPlayers() {
+		SupportSetParser.parseSupportSets("[H][T][H]", Arrays.asList("p1", "p2").iterator());
+	}
+
+	/**
+	 * Less support sets than players are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooFewSupportSets() {
+		SupportSetParser.parseSupportSets("[H]", Arrays.asList("p1", "p2").iterator());
+	}
+}